@@ -0,0 +1,110 @@
+package pl.myc22ka.mathapp.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import pl.myc22ka.mathapp.model.expression.EvaluatorPool;
+import pl.myc22ka.mathapp.model.expression.ParseCache;
+import pl.myc22ka.mathapp.model.expression.SymjaGuard;
+import pl.myc22ka.mathapp.model.expression.SymjaOperation;
+import pl.myc22ka.mathapp.model.function.analysis.AnalysisPipeline;
+import pl.myc22ka.mathapp.model.function.analysis.FunctionAnalysisCache;
+import pl.myc22ka.mathapp.model.set.SetBatchOps;
+
+/**
+ * Symja configuration for the application.
+ * <p>
+ * Applies {@code spring.symja.*} properties to the shared {@link EvaluatorPool},
+ * {@link ParseCache}, {@link FunctionAnalysisCache}, {@link AnalysisPipeline}, {@link SetBatchOps} and {@link SymjaGuard}
+ * used by sets and functions.
+ *
+ * @author Myc22Ka
+ * @version 1.0.5
+ * @since 18.10.2026
+ */
+@Configuration
+public class SymjaConfig {
+
+    @Value("${spring.symja.evaluator-pool.size:16}")
+    private int evaluatorPoolSize;
+
+    @Value("${spring.symja.evaluator-pool.borrow-timeout-ms:100}")
+    private long evaluatorBorrowTimeoutMillis;
+
+    @Value("${spring.symja.parse-cache.enabled:true}")
+    private boolean parseCacheEnabled;
+
+    @Value("${spring.symja.parse-cache.max-size:1024}")
+    private int parseCacheMaxSize;
+
+    @Value("${spring.symja.analysis-cache.max-size:512}")
+    private int analysisCacheMaxSize;
+
+    @Value("${spring.symja.analysis-pipeline.parallelism:16}")
+    private int analysisPipelineParallelism;
+
+    @Value("${spring.symja.set-batch.threads:4}")
+    private int setBatchThreads;
+
+    @Value("${spring.symja.set-batch.queue-capacity:64}")
+    private int setBatchQueueCapacity;
+
+    @Value("${spring.symja.guard.threads:8}")
+    private int guardThreads;
+
+    @Value("${spring.symja.guard.queue-capacity:64}")
+    private int guardQueueCapacity;
+
+    @Value("${spring.symja.guard.recursion-limit:0}")
+    private int recursionLimit;
+
+    @Value("${spring.symja.guard.iteration-limit:0}")
+    private int iterationLimit;
+
+    @Value("${spring.symja.guard.budget-ms.solve:5000}")
+    private long solveBudgetMillis;
+
+    @Value("${spring.symja.guard.budget-ms.derivative:1000}")
+    private long derivativeBudgetMillis;
+
+    @Value("${spring.symja.guard.budget-ms.domain:2000}")
+    private long domainBudgetMillis;
+
+    @Value("${spring.symja.guard.budget-ms.range:3000}")
+    private long rangeBudgetMillis;
+
+    @Value("${spring.symja.guard.budget-ms.integral:3000}")
+    private long integralBudgetMillis;
+
+    @Value("${spring.symja.guard.budget-ms.factor:2000}")
+    private long factorBudgetMillis;
+
+    @Value("${spring.symja.guard.budget-ms.set-parse:2000}")
+    private long setParseBudgetMillis;
+
+    @Value("${spring.symja.guard.budget-ms.evaluate:2000}")
+    private long evaluateBudgetMillis;
+
+    /**
+     * Configures the shared evaluator pool, caches and Symja guard on startup.
+     */
+    @PostConstruct
+    public void configure() {
+        EvaluatorPool.configure(evaluatorPoolSize, evaluatorBorrowTimeoutMillis);
+        ParseCache.configure(parseCacheEnabled, parseCacheMaxSize);
+        FunctionAnalysisCache.configure(analysisCacheMaxSize);
+        AnalysisPipeline.configure(analysisPipelineParallelism);
+        SetBatchOps.configure(setBatchThreads, setBatchQueueCapacity);
+
+        EvaluatorPool.configureLimits(recursionLimit, iterationLimit);
+        SymjaGuard.configure(guardThreads, guardQueueCapacity);
+        SymjaGuard.setBudget(SymjaOperation.SOLVE, solveBudgetMillis);
+        SymjaGuard.setBudget(SymjaOperation.DERIVATIVE, derivativeBudgetMillis);
+        SymjaGuard.setBudget(SymjaOperation.DOMAIN, domainBudgetMillis);
+        SymjaGuard.setBudget(SymjaOperation.RANGE, rangeBudgetMillis);
+        SymjaGuard.setBudget(SymjaOperation.INTEGRAL, integralBudgetMillis);
+        SymjaGuard.setBudget(SymjaOperation.FACTOR, factorBudgetMillis);
+        SymjaGuard.setBudget(SymjaOperation.SET_PARSE, setParseBudgetMillis);
+        SymjaGuard.setBudget(SymjaOperation.EVALUATE, evaluateBudgetMillis);
+    }
+}
@@ -13,7 +13,8 @@ public enum ServerErrorMessages {
     ALL_SOLUTIONS("All solutions found"),
     UNSUPPORTED_OPERATION("This operation is not supported by system"),
     UNSUPPORTED_CONSTRUCTION_BUILD("Construction was build incorrectly"),
-    CHAIN_ERROR("You cannot chain this operation");
+    CHAIN_ERROR("You cannot chain this operation"),
+    EVALUATION_TIMEOUT("Calculation took too long and was cancelled");
 
     private final String message;
 
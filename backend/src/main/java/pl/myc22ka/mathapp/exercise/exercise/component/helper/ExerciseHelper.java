@@ -21,9 +21,9 @@ import pl.myc22ka.mathapp.exercise.variant.model.TemplateExerciseVariant;
 import pl.myc22ka.mathapp.model.expression.ExpressionFactory;
 import pl.myc22ka.mathapp.model.expression.MathExpression;
 import pl.myc22ka.mathapp.model.expression.TemplatePrefix;
-import pl.myc22ka.mathapp.step.model.StepWrapper;
-import pl.myc22ka.mathapp.step.service.StepExecutorRegistry;
-import pl.myc22ka.mathapp.step.service.StepMemoryService;
+import pl.myc22ka.mathapp.step.component.program.StepScheduler;
+import pl.myc22ka.mathapp.step.model.StepContext;
+import pl.myc22ka.mathapp.step.service.StepProgramCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -33,7 +33,7 @@ import java.util.List;
  * Provides methods to fetch, build, and verify exercises.
  *
  * @author Myc22Ka
- * @version 1.0.4
+ * @version 1.0.7
  * @since 13.09.2025
  */
 @Component
@@ -44,8 +44,8 @@ public class ExerciseHelper {
     private final TemplateResolver templateResolver;
     private final PromptHelper promptHelper;
     private final ExpressionFactory expressionFactory;
-    private final StepMemoryService stepMemoryService;
-    private final StepExecutorRegistry registry;
+    private final StepProgramCache stepProgramCache;
+    private final StepScheduler stepScheduler;
     private final TemplateExerciseHelper templateExerciseHelper;
     private final VariantExerciseHelper variantExerciseHelper;
 
@@ -263,23 +263,15 @@ public class ExerciseHelper {
     }
 
     /**
-     * Calculate answer string.
+     * Calculates the answer by running the compiled step program of the template.
+     * Independent steps of the program run concurrently.
      *
      * @param template the template
      * @param context  the context
-     * @return the string
+     * @return the result of the last step
      */
     public String calculateAnswer(@NotNull TemplateLike template, List<ContextRecord> context) {
-        stepMemoryService.clear();
-        stepMemoryService.putAll(context);
-
-        List<ContextRecord> contextList = new ArrayList<>(stepMemoryService.getMemory().values());
-
-        for (StepWrapper step : template.getSteps()) {
-            registry.executeStep(step, contextList);
-        }
-
-        return contextList.getLast().value();
+        return stepScheduler.run(stepProgramCache.getProgram(template), StepContext.of(context)).text();
     }
 
     public TemplateLike resolveTemplate(Long templateId, Long variantId) {
@@ -1,18 +1,58 @@
 package pl.myc22ka.mathapp.exercise.exercise.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 import pl.myc22ka.mathapp.exercise.exercise.model.Exercise;
 
+import java.util.List;
+
 /**
  * Repository for Exercise entities.
  * Provides CRUD operations and query methods for Exercise.
  *
  * @author Myc22Ka
- * @version 1.0.1
+ * @version 1.0.2
  * @since 13.09.2025
  */
 @Repository
 public interface ExerciseRepository extends JpaRepository<Exercise, Long>, JpaSpecificationExecutor<Exercise> {
+
+    /**
+     * Counts the exercises created from a template.
+     *
+     * @param templateExerciseId the template ID
+     * @return number of exercises
+     */
+    long countByTemplateExerciseId(Long templateExerciseId);
+
+    /**
+     * Counts the exercises created from a variant.
+     *
+     * @param templateExerciseVariantId the variant ID
+     * @return number of exercises
+     */
+    long countByTemplateExerciseVariantId(Long templateExerciseVariantId);
+
+    /**
+     * Finds the next exercises of a template after a given exercise ID, in ID order.
+     *
+     * @param templateExerciseId the template ID
+     * @param id                 the last ID already seen
+     * @param limit              maximum number of exercises
+     * @return the exercises
+     */
+    List<Exercise> findByTemplateExerciseIdAndIdGreaterThanOrderByIdAsc(Long templateExerciseId, Long id, Limit limit);
+
+    /**
+     * Finds the next exercises of a variant after a given exercise ID, in ID order.
+     *
+     * @param templateExerciseVariantId the variant ID
+     * @param id                        the last ID already seen
+     * @param limit                     maximum number of exercises
+     * @return the exercises
+     */
+    List<Exercise> findByTemplateExerciseVariantIdAndIdGreaterThanOrderByIdAsc(Long templateExerciseVariantId, Long id,
+                                                                              Limit limit);
 }
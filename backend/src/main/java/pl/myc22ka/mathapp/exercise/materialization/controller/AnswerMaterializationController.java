@@ -0,0 +1,68 @@
+package pl.myc22ka.mathapp.exercise.materialization.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import pl.myc22ka.mathapp.exercise.materialization.dto.AnswerMaterializationDTO;
+import pl.myc22ka.mathapp.exercise.materialization.service.AnswerMaterializationService;
+
+/**
+ * REST controller for recomputing the stored answers of exercises in the background.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@RestController
+@RequestMapping("/api/answer-materializations")
+@RequiredArgsConstructor
+@Tag(name = "Answer Materializations", description = "Background recomputation of exercise answers after step changes")
+public class AnswerMaterializationController {
+
+    private final AnswerMaterializationService materializationService;
+
+    /**
+     * Schedules the recomputation of all answers of a template or variant.
+     */
+    @PostMapping
+    @Operation(
+            summary = "Recompute answers",
+            description = "Schedules a background job recomputing the answers of all exercises of the template or variant."
+    )
+    public ResponseEntity<AnswerMaterializationDTO> schedule(
+            @RequestParam(required = false) Long templateId,
+            @RequestParam(required = false) Long variantId
+    ) {
+        return ResponseEntity.accepted()
+                .body(AnswerMaterializationDTO.fromEntity(materializationService.schedule(templateId, variantId)));
+    }
+
+    /**
+     * Retrieves the progress of a job.
+     */
+    @GetMapping("/{id}")
+    @Operation(
+            summary = "Get job status",
+            description = "Returns the progress of the answer materialization job with the given ID."
+    )
+    public ResponseEntity<AnswerMaterializationDTO> getById(@PathVariable Long id) {
+        return ResponseEntity.ok(AnswerMaterializationDTO.fromEntity(materializationService.getById(id)));
+    }
+
+    /**
+     * Retrieves the progress of the latest job of a template or variant.
+     */
+    @GetMapping("/latest")
+    @Operation(
+            summary = "Get latest job status",
+            description = "Returns the progress of the latest answer materialization job of the template or variant."
+    )
+    public ResponseEntity<AnswerMaterializationDTO> getLatest(
+            @RequestParam(required = false) Long templateId,
+            @RequestParam(required = false) Long variantId
+    ) {
+        return ResponseEntity.ok(AnswerMaterializationDTO.fromEntity(materializationService.getLatest(templateId, variantId)));
+    }
+}
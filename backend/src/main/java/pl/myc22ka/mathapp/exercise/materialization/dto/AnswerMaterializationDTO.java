@@ -0,0 +1,90 @@
+package pl.myc22ka.mathapp.exercise.materialization.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.jetbrains.annotations.NotNull;
+import pl.myc22ka.mathapp.exercise.materialization.model.AnswerMaterialization;
+import pl.myc22ka.mathapp.exercise.materialization.model.MaterializationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO with the progress of an answer materialization job.
+ *
+ * @param id                        unique identifier of the job
+ * @param templateExerciseId        id of the template, null for variant jobs
+ * @param templateExerciseVariantId id of the variant, null for template jobs
+ * @param status                    state of the job
+ * @param total                     number of exercises when the job was scheduled
+ * @param processed                 number of exercises processed so far
+ * @param failed                    number of exercises whose answer could not be recomputed
+ * @param lastExerciseId            checkpoint, id of the last processed exercise
+ * @param message                   reason of a failure or supersession
+ * @param createdAt                 when the job was scheduled
+ * @param updatedAt                 when the last batch was stored
+ * @param finishedAt                when the job finished
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@Schema(description = "Progress of recomputing the answers of a template or variant")
+public record AnswerMaterializationDTO(
+        @Schema(description = "Unique identifier of the job", example = "1")
+        Long id,
+
+        @Schema(description = "Template ID, null for variant jobs", example = "10")
+        Long templateExerciseId,
+
+        @Schema(description = "Variant ID, null for template jobs", example = "3")
+        Long templateExerciseVariantId,
+
+        @Schema(description = "State of the job", example = "RUNNING")
+        MaterializationStatus status,
+
+        @Schema(description = "Number of exercises when the job was scheduled", example = "2500")
+        long total,
+
+        @Schema(description = "Number of exercises processed so far", example = "1200")
+        long processed,
+
+        @Schema(description = "Number of exercises whose answer could not be recomputed", example = "0")
+        long failed,
+
+        @Schema(description = "ID of the last processed exercise", example = "4711")
+        Long lastExerciseId,
+
+        @Schema(description = "Reason of a failure or supersession")
+        String message,
+
+        @Schema(description = "When the job was scheduled")
+        LocalDateTime createdAt,
+
+        @Schema(description = "When the last batch was stored")
+        LocalDateTime updatedAt,
+
+        @Schema(description = "When the job finished")
+        LocalDateTime finishedAt
+) {
+    /**
+     * Maps an {@link AnswerMaterialization} entity to this response DTO.
+     *
+     * @param job entity to convert
+     * @return corresponding response DTO
+     */
+    @NotNull
+    public static AnswerMaterializationDTO fromEntity(@NotNull AnswerMaterialization job) {
+        return new AnswerMaterializationDTO(
+                job.getId(),
+                job.getTemplateExerciseId(),
+                job.getTemplateExerciseVariantId(),
+                job.getStatus(),
+                job.getTotal(),
+                job.getProcessed(),
+                job.getFailed(),
+                job.getLastExerciseId(),
+                job.getMessage(),
+                job.getCreatedAt(),
+                job.getUpdatedAt(),
+                job.getFinishedAt()
+        );
+    }
+}
@@ -0,0 +1,82 @@
+package pl.myc22ka.mathapp.exercise.materialization.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Background job recomputing the answers of all exercises of a template or variant after its steps changed.
+ * <p>
+ * Exercises are processed in batches in id order. After each batch the job stores the id of the last
+ * processed exercise as a checkpoint, so an interrupted job continues where it stopped.
+ * The template and variant are kept as plain ids, so deleting them does not touch the job history.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@Entity
+@Table(name = "answer_materializations")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnswerMaterialization {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "template_exercise_id")
+    private Long templateExerciseId;
+
+    @Column(name = "template_exercise_variant_id")
+    private Long templateExerciseVariantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    @Builder.Default
+    private MaterializationStatus status = MaterializationStatus.PENDING;
+
+    @Column(name = "total", nullable = false)
+    private long total;
+
+    @Column(name = "processed", nullable = false)
+    private long processed;
+
+    @Column(name = "failed", nullable = false)
+    private long failed;
+
+    @Column(name = "last_exercise_id", nullable = false)
+    @Builder.Default
+    private Long lastExerciseId = 0L;
+
+    @Column(name = "message")
+    private String message;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /**
+     * Marks the job as finished with the given status.
+     *
+     * @param status  the final status
+     * @param message optional reason, may be null
+     */
+    public void finish(MaterializationStatus status, String message) {
+        this.status = status;
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        this.updatedAt = this.finishedAt;
+    }
+}
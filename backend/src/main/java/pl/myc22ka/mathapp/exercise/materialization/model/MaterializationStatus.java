@@ -0,0 +1,45 @@
+package pl.myc22ka.mathapp.exercise.materialization.model;
+
+/**
+ * State of an {@link AnswerMaterialization} job.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+public enum MaterializationStatus {
+
+    /**
+     * Waiting for a worker.
+     */
+    PENDING,
+
+    /**
+     * Some batches are done, the checkpoint tells where to continue.
+     */
+    RUNNING,
+
+    /**
+     * All exercises were processed.
+     */
+    DONE,
+
+    /**
+     * Stopped because the template or variant could not be loaded.
+     */
+    FAILED,
+
+    /**
+     * Replaced by a newer job for the same template or variant.
+     */
+    SUPERSEDED;
+
+    /**
+     * Checks if the job will not process any more exercises.
+     *
+     * @return true for finished jobs
+     */
+    public boolean isFinished() {
+        return this == DONE || this == FAILED || this == SUPERSEDED;
+    }
+}
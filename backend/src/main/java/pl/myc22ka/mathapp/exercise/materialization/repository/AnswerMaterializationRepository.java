@@ -0,0 +1,63 @@
+package pl.myc22ka.mathapp.exercise.materialization.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import pl.myc22ka.mathapp.exercise.materialization.model.AnswerMaterialization;
+import pl.myc22ka.mathapp.exercise.materialization.model.MaterializationStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for {@link AnswerMaterialization} jobs.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@Repository
+public interface AnswerMaterializationRepository extends JpaRepository<AnswerMaterialization, Long> {
+
+    /**
+     * Finds jobs in the given states, oldest first.
+     *
+     * @param statuses the states
+     * @return the jobs
+     */
+    List<AnswerMaterialization> findByStatusInOrderByIdAsc(Collection<MaterializationStatus> statuses);
+
+    /**
+     * Checks if a template has a job newer than the given one.
+     *
+     * @param templateExerciseId the template ID
+     * @param id                 the job ID
+     * @return true if a newer job exists
+     */
+    boolean existsByTemplateExerciseIdAndIdGreaterThan(Long templateExerciseId, Long id);
+
+    /**
+     * Checks if a variant has a job newer than the given one.
+     *
+     * @param templateExerciseVariantId the variant ID
+     * @param id                        the job ID
+     * @return true if a newer job exists
+     */
+    boolean existsByTemplateExerciseVariantIdAndIdGreaterThan(Long templateExerciseVariantId, Long id);
+
+    /**
+     * Finds the latest job of a template.
+     *
+     * @param templateExerciseId the template ID
+     * @return the job, if any
+     */
+    Optional<AnswerMaterialization> findFirstByTemplateExerciseIdOrderByIdDesc(Long templateExerciseId);
+
+    /**
+     * Finds the latest job of a variant.
+     *
+     * @param templateExerciseVariantId the variant ID
+     * @return the job, if any
+     */
+    Optional<AnswerMaterialization> findFirstByTemplateExerciseVariantIdOrderByIdDesc(Long templateExerciseVariantId);
+}
@@ -0,0 +1,310 @@
+package pl.myc22ka.mathapp.exercise.materialization.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.myc22ka.mathapp.exercise.exercise.component.helper.ExerciseHelper;
+import pl.myc22ka.mathapp.exercise.exercise.component.helper.ValidationHelper;
+import pl.myc22ka.mathapp.exercise.exercise.model.Exercise;
+import pl.myc22ka.mathapp.exercise.exercise.repository.ExerciseRepository;
+import pl.myc22ka.mathapp.exercise.materialization.model.AnswerMaterialization;
+import pl.myc22ka.mathapp.exercise.materialization.model.MaterializationStatus;
+import pl.myc22ka.mathapp.exercise.materialization.repository.AnswerMaterializationRepository;
+import pl.myc22ka.mathapp.exercise.template.component.TemplateLike;
+import pl.myc22ka.mathapp.exercise.template.model.TemplateExercise;
+import pl.myc22ka.mathapp.exercise.variant.model.TemplateExerciseVariant;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service recomputing the stored answers of exercises in the background after the steps of their
+ * template or variant changed.
+ * <p>
+ * {@link #schedule(TemplateLike)} records an {@link AnswerMaterialization} job in the caller's transaction and
+ * hands it to a bounded worker pool once that transaction commits. A worker processes the exercises in batches,
+ * each batch in its own transaction that also stores the checkpoint. Jobs that could not be started (full queue,
+ * restart) are picked up again by a periodic sweep and continue from their checkpoint. A newer job for the same
+ * template or variant supersedes the older one: the older job sees it before its next batch and stops, the user's
+ * transaction never writes to a running job.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@Slf4j
+@Service
+public class AnswerMaterializationService {
+
+    private static final List<MaterializationStatus> ACTIVE = List.of(MaterializationStatus.PENDING,
+            MaterializationStatus.RUNNING);
+
+    private final AnswerMaterializationRepository materializationRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final ExerciseHelper exerciseHelper;
+    private final ValidationHelper validationHelper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final ThreadPoolExecutor executor;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    /**
+     * Creates the service.
+     *
+     * @param materializationRepository repository of the jobs
+     * @param exerciseRepository        repository of the exercises
+     * @param exerciseHelper            helper calculating the answers
+     * @param validationHelper          helper validating template and variant IDs
+     * @param transactionTemplate       template running each batch in a transaction
+     * @param threads                   number of workers
+     * @param queueCapacity             number of jobs waiting for a worker
+     * @param batchSize                 number of exercises per batch
+     * @throws IllegalArgumentException if some size is not positive
+     */
+    public AnswerMaterializationService(AnswerMaterializationRepository materializationRepository,
+                                        ExerciseRepository exerciseRepository,
+                                        ExerciseHelper exerciseHelper,
+                                        ValidationHelper validationHelper,
+                                        TransactionTemplate transactionTemplate,
+                                        @Value("${spring.exercise.materialization.threads:2}") int threads,
+                                        @Value("${spring.exercise.materialization.queue-capacity:32}") int queueCapacity,
+                                        @Value("${spring.exercise.materialization.batch-size:100}") int batchSize) {
+        if (threads <= 0 || queueCapacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Answer materialization threads, queue capacity and batch size must be positive");
+        }
+
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "answer-materialization-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        this.materializationRepository = materializationRepository;
+        this.exerciseRepository = exerciseRepository;
+        this.exerciseHelper = exerciseHelper;
+        this.validationHelper = validationHelper;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), factory, new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Schedules the recomputation of all answers of a template or variant.
+     * Active jobs of the same template or variant stop at their next batch.
+     *
+     * @param template the template or variant whose steps changed
+     * @return the new job
+     * @throws IllegalArgumentException if the template is neither a saved template nor a saved variant
+     */
+    @Transactional
+    public AnswerMaterialization schedule(@NotNull TemplateLike template) {
+        AnswerMaterialization.AnswerMaterializationBuilder builder = AnswerMaterialization.builder()
+                .createdAt(LocalDateTime.now());
+
+        if (template instanceof TemplateExercise exercise && exercise.getId() != null) {
+            builder.templateExerciseId(exercise.getId())
+                    .total(exerciseRepository.countByTemplateExerciseId(exercise.getId()));
+        } else if (template instanceof TemplateExerciseVariant variant && variant.getId() != null) {
+            builder.templateExerciseVariantId(variant.getId())
+                    .total(exerciseRepository.countByTemplateExerciseVariantId(variant.getId()));
+        } else {
+            throw new IllegalArgumentException("Answers can be materialized only for a saved template or variant");
+        }
+
+        AnswerMaterialization job = materializationRepository.save(builder.build());
+        submitAfterCommit(job.getId());
+
+        return job;
+    }
+
+    /**
+     * Schedules the recomputation of all answers of a template or variant given by ID.
+     *
+     * @param templateId the template ID (nullable if variantId provided)
+     * @param variantId  the variant ID (nullable if templateId provided)
+     * @return the new job
+     * @throws IllegalArgumentException if both or neither IDs are provided, or the template or variant is not found
+     */
+    @Transactional
+    public AnswerMaterialization schedule(Long templateId, Long variantId) {
+        validationHelper.validateTemplateOrVariant(templateId, variantId);
+
+        return schedule(exerciseHelper.resolveTemplate(templateId, variantId));
+    }
+
+    /**
+     * Retrieves a job by its ID.
+     *
+     * @param id the job ID
+     * @return the job
+     * @throws IllegalArgumentException if the job is not found
+     */
+    public AnswerMaterialization getById(Long id) {
+        return materializationRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Answer materialization not found with id " + id));
+    }
+
+    /**
+     * Retrieves the latest job of a template or variant.
+     *
+     * @param templateId the template ID (nullable if variantId provided)
+     * @param variantId  the variant ID (nullable if templateId provided)
+     * @return the job
+     * @throws IllegalArgumentException if both or neither IDs are provided, or there is no job
+     */
+    public AnswerMaterialization getLatest(Long templateId, Long variantId) {
+        validationHelper.validateTemplateOrVariant(templateId, variantId);
+
+        return (templateId != null
+                ? materializationRepository.findFirstByTemplateExerciseIdOrderByIdDesc(templateId)
+                : materializationRepository.findFirstByTemplateExerciseVariantIdOrderByIdDesc(variantId))
+                .orElseThrow(() -> new IllegalArgumentException("No answer materialization found for " +
+                        (templateId != null ? "template " + templateId : "variant " + variantId)));
+    }
+
+    /**
+     * Resubmits jobs that are not finished, e.g. after a restart or when the queue was full.
+     * Runs on startup and then periodically.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${spring.exercise.materialization.sweep-ms:30000}",
+            initialDelayString = "${spring.exercise.materialization.sweep-ms:30000}")
+    public void resumeUnfinished() {
+        for (AnswerMaterialization job : materializationRepository.findByStatusInOrderByIdAsc(ACTIVE)) {
+            submit(job.getId());
+        }
+    }
+
+    /**
+     * Stops the workers when the application shuts down. Unfinished jobs continue from their checkpoint.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submitAfterCommit(Long jobId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(jobId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(jobId);
+            }
+        });
+    }
+
+    private void submit(Long jobId) {
+        if (!inFlight.add(jobId)) return;
+
+        try {
+            executor.execute(() -> run(jobId));
+        } catch (RejectedExecutionException e) {
+            // The job stays pending and the next sweep submits it again
+            inFlight.remove(jobId);
+            log.debug("Answer materialization {} postponed, worker queue is full", jobId);
+        }
+    }
+
+    private void run(Long jobId) {
+        try {
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> processBatch(jobId)))) {
+                if (Thread.currentThread().isInterrupted()) return;
+            }
+        } catch (RuntimeException e) {
+            log.error("Answer materialization {} failed", jobId, e);
+            transactionTemplate.executeWithoutResult(status -> materializationRepository.findById(jobId)
+                    .filter(job -> !job.getStatus().isFinished())
+                    .ifPresent(job -> {
+                        job.finish(MaterializationStatus.FAILED, e.getMessage());
+                        materializationRepository.save(job);
+                    }));
+        } finally {
+            inFlight.remove(jobId);
+        }
+    }
+
+    /**
+     * Recomputes the answers of the next batch and stores the checkpoint.
+     *
+     * @return true if more exercises may follow
+     */
+    private boolean processBatch(Long jobId) {
+        AnswerMaterialization job = materializationRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus().isFinished()) return false;
+
+        boolean superseded = job.getTemplateExerciseId() != null
+                ? materializationRepository.existsByTemplateExerciseIdAndIdGreaterThan(job.getTemplateExerciseId(), jobId)
+                : materializationRepository.existsByTemplateExerciseVariantIdAndIdGreaterThan(
+                        job.getTemplateExerciseVariantId(), jobId);
+        if (superseded) {
+            job.finish(MaterializationStatus.SUPERSEDED, "Steps changed again");
+            materializationRepository.save(job);
+            return false;
+        }
+
+        TemplateLike template;
+        try {
+            template = exerciseHelper.resolveTemplate(job.getTemplateExerciseId(), job.getTemplateExerciseVariantId());
+        } catch (IllegalArgumentException e) {
+            job.finish(MaterializationStatus.FAILED, e.getMessage());
+            materializationRepository.save(job);
+            return false;
+        }
+
+        List<Exercise> batch = job.getTemplateExerciseId() != null
+                ? exerciseRepository.findByTemplateExerciseIdAndIdGreaterThanOrderByIdAsc(
+                        job.getTemplateExerciseId(), job.getLastExerciseId(), Limit.of(batchSize))
+                : exerciseRepository.findByTemplateExerciseVariantIdAndIdGreaterThanOrderByIdAsc(
+                        job.getTemplateExerciseVariantId(), job.getLastExerciseId(), Limit.of(batchSize));
+
+        for (Exercise exercise : batch) {
+            try {
+                exercise.setAnswer(exerciseHelper.calculateAnswer(template,
+                        exerciseHelper.deserializeContext(exercise.getContextJson())));
+            } catch (RuntimeException e) {
+                // The exercise keeps its previous answer
+                job.setFailed(job.getFailed() + 1);
+                log.debug("Answer of exercise {} could not be recomputed: {}", exercise.getId(), e.getMessage());
+            }
+            job.setProcessed(job.getProcessed() + 1);
+            job.setLastExerciseId(exercise.getId());
+        }
+        exerciseRepository.saveAll(batch);
+
+        if (batch.size() < batchSize) {
+            job.finish(MaterializationStatus.DONE, null);
+        } else {
+            job.setStatus(MaterializationStatus.RUNNING);
+            job.setUpdatedAt(LocalDateTime.now());
+        }
+        materializationRepository.save(job);
+
+        return !job.getStatus().isFinished();
+    }
+}
@@ -16,6 +16,7 @@ import pl.myc22ka.mathapp.exercise.template.model.TemplateExercise;
 import pl.myc22ka.mathapp.exercise.template.repository.TemplateExerciseRepository;
 import pl.myc22ka.mathapp.model.expression.TemplatePrefix;
 import pl.myc22ka.mathapp.step.repository.StepDefinitionRepository;
+import pl.myc22ka.mathapp.step.service.StepProgramCache;
 import pl.myc22ka.mathapp.utils.resolver.component.TemplateResolver;
 
 /**
@@ -24,7 +25,7 @@ import pl.myc22ka.mathapp.utils.resolver.component.TemplateResolver;
  * Delegates validation and preparation logic to {@link TemplateExerciseHelper}.
  *
  * @author Myc22Ka
- * @version 1.0.4
+ * @version 1.0.5
  * @since 13.09.2025
  */
 @Service
@@ -35,6 +36,7 @@ public class TemplateExerciseService {
     private final TemplateExerciseHelper templateExerciseHelper;
     private final StepDefinitionRepository stepDefinitionRepository;
     private final TemplateResolver templateResolver;
+    private final StepProgramCache stepProgramCache;
 
     /**
      * Creates a new template exercise.
@@ -109,6 +111,7 @@ public class TemplateExerciseService {
         }
 
         templateRepository.save(existing);
+        stepProgramCache.invalidateTemplate(id);
     }
 
     /**
@@ -118,5 +121,6 @@ public class TemplateExerciseService {
      */
     public void delete(Long id) {
         templateRepository.deleteById(id);
+        stepProgramCache.invalidateTemplate(id);
     }
 }
\ No newline at end of file
@@ -17,14 +17,16 @@ import pl.myc22ka.mathapp.step.model.StepDefinition;
 import pl.myc22ka.mathapp.step.model.StepWrapper;
 import pl.myc22ka.mathapp.step.repository.StepDefinitionRepository;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Helper component for handling operations on {@link TemplateExerciseVariant}.
  * Encapsulates validation, preparation, and update logic separate from the service layer.
  *
  * @author Myc22Ka
- * @version 1.0.0
+ * @version 1.0.1
  * @since 13.09.2025
  */
 @Component
@@ -119,6 +121,34 @@ public class VariantExerciseHelper {
         }
     }
 
+    /**
+     * Checks if the request changes how the answers of the variant's exercises are computed,
+     * i.e. the steps (definitions, order and prefixes) or the template answer.
+     *
+     * @param existing the variant before the update
+     * @param request  the update request
+     * @return true if the stored answers may be stale after the update
+     */
+    public boolean changesAnswers(@NotNull TemplateExerciseVariant existing,
+                                  @NotNull TemplateExerciseVariantRequest request) {
+        if (!Objects.equals(existing.getTemplateAnswer(), request.templateAnswer())) return true;
+
+        List<StepWrapper> current = existing.getSteps();
+        List<StepDTO> requested = request.steps() != null ? request.steps() : List.of();
+        if (current.size() != requested.size()) return true;
+
+        for (int i = 0; i < current.size(); i++) {
+            StepWrapper step = current.get(i);
+            StepDTO dto = requested.get(i);
+
+            if (!Objects.equals(step.getStepDefinition().getId(), dto.stepDefinitionId())) return true;
+
+            List<String> prefixes = step.getPrefixes() != null ? new ArrayList<>(step.getPrefixes()) : List.of();
+            if (!prefixes.equals(dto.prefixes() != null ? dto.prefixes() : List.of())) return true;
+        }
+        return false;
+    }
+
     /**
      * Performs a hard update on an existing variant using the given request.
      * Replaces all fields and steps with the new values.
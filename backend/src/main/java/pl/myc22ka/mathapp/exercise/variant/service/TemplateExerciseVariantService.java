@@ -9,6 +9,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import pl.myc22ka.mathapp.exercise.materialization.service.AnswerMaterializationService;
 import pl.myc22ka.mathapp.exercise.template.component.helper.TemplateExerciseHelper;
 import pl.myc22ka.mathapp.exercise.template.model.TemplateExercise;
 import pl.myc22ka.mathapp.exercise.variant.component.filter.TemplateExerciseVariantSpecification;
@@ -18,6 +19,7 @@ import pl.myc22ka.mathapp.exercise.variant.dto.TemplateExerciseVariantResponse;
 import pl.myc22ka.mathapp.exercise.variant.model.TemplateExerciseVariant;
 import pl.myc22ka.mathapp.exercise.variant.repository.TemplateExerciseVariantRepository;
 import pl.myc22ka.mathapp.model.expression.TemplatePrefix;
+import pl.myc22ka.mathapp.step.service.StepProgramCache;
 
 /**
  * Service layer for managing {@link TemplateExerciseVariant} entities.
@@ -25,7 +27,7 @@ import pl.myc22ka.mathapp.model.expression.TemplatePrefix;
  * Delegates validation and preparation logic to {@link VariantExerciseHelper}.
  *
  * @author Myc22Ka
- * @version 1.0.1
+ * @version 1.0.4
  * @since 13.09.2025
  */
 @Service
@@ -34,6 +36,8 @@ public class TemplateExerciseVariantService {
     private final VariantExerciseHelper variantExerciseHelper;
     private final TemplateExerciseVariantRepository variantRepository;
     private final TemplateExerciseHelper templateExerciseHelper;
+    private final StepProgramCache stepProgramCache;
+    private final AnswerMaterializationService answerMaterializationService;
 
     /**
      * Creates a new template exercise variant for a given template.
@@ -106,6 +110,8 @@ public class TemplateExerciseVariantService {
     /**
      * Updates an existing template exercise variant.
      * Validates that the clean text is not changed, then applies a hard update.
+     * Exercises of the variant keep their rows, so when the steps or the template answer change,
+     * their answers are recomputed in the background.
      *
      * @param id      the variant ID
      * @param request the updated variant data
@@ -116,9 +122,14 @@ public class TemplateExerciseVariantService {
         TemplateExerciseVariant existing = variantExerciseHelper.getVariant(id);
 
         variantExerciseHelper.validateCleanTextVariant(existing, request.templateText());
+        boolean answersChanged = variantExerciseHelper.changesAnswers(existing, request);
         variantExerciseHelper.applyHardUpdateVariant(existing, request);
+        stepProgramCache.invalidateVariant(id);
 
-        return variantRepository.save(existing);
+        TemplateExerciseVariant saved = variantRepository.save(existing);
+        if (answersChanged) answerMaterializationService.schedule(saved);
+
+        return saved;
     }
 
     /**
@@ -128,5 +139,6 @@ public class TemplateExerciseVariantService {
      */
     public void delete(Long id) {
         variantRepository.deleteById(id);
+        stepProgramCache.invalidateVariant(id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package pl.myc22ka.mathapp.function.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import pl.myc22ka.mathapp.function.dto.FunctionAnalysisDTO;
+import pl.myc22ka.mathapp.function.dto.FunctionAnalysisRequest;
+import pl.myc22ka.mathapp.function.dto.FunctionSampleDTO;
+import pl.myc22ka.mathapp.function.service.FunctionService;
+
+/**
+ * REST controller for function graphs and analysis.
+ * <p>
+ * Provides endpoints returning a sampled graph of a function, ready to draw, and the analysis of
+ * several functions at once.
+ *
+ * @author Myc22Ka
+ * @version 1.0.1
+ * @since 18.10.2026
+ */
+@RestController
+@RequestMapping("/api/functions")
+@RequiredArgsConstructor
+@Tag(name = "Functions", description = "Endpoints for function graphs and analysis")
+public class FunctionController {
+
+    private final FunctionService functionService;
+
+    /**
+     * Samples the graph of a function on an interval.
+     *
+     * @param expression the function expression
+     * @param min        lower end of the interval
+     * @param max        upper end of the interval
+     * @param width      graph width in pixels
+     * @param height     graph height in pixels
+     * @return sampled graph
+     */
+    @Operation(summary = "Sample function graph",
+            description = "Samples a function adaptively and downsamples it to the width of the graph. "
+                    + "Points are returned as Base64 encoded little-endian float32 pairs.")
+    @GetMapping("/sample")
+    public ResponseEntity<FunctionSampleDTO> sample(
+            @Parameter(description = "Function expression", example = "1/(x-2)")
+            @RequestParam String expression,
+
+            @Parameter(description = "Lower end of the interval", example = "-10")
+            @RequestParam(defaultValue = "-10") double min,
+
+            @Parameter(description = "Upper end of the interval", example = "10")
+            @RequestParam(defaultValue = "10") double max,
+
+            @Parameter(description = "Graph width in pixels", example = "800")
+            @RequestParam(defaultValue = "800") int width,
+
+            @Parameter(description = "Graph height in pixels", example = "400")
+            @RequestParam(defaultValue = "400") int height
+    ) {
+        return ResponseEntity.ok(functionService.sample(expression, min, max, width, height));
+    }
+
+    /**
+     * Analyses several functions in parallel.
+     *
+     * @param request the functions, operations and deadline
+     * @return analysis of every function, partial if the deadline passed first
+     */
+    @Operation(summary = "Analyse functions",
+            description = "Runs the requested operations (roots, derivative, domain, ...) for every function in parallel. "
+                    + "Operations still running when the deadline passes are reported as TIMED_OUT.")
+    @PostMapping("/analyze")
+    public ResponseEntity<FunctionAnalysisDTO> analyze(@RequestBody FunctionAnalysisRequest request) {
+        return ResponseEntity.ok(functionService.analyze(request));
+    }
+}
@@ -0,0 +1,48 @@
+package pl.myc22ka.mathapp.function.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.jetbrains.annotations.NotNull;
+import pl.myc22ka.mathapp.model.function.analysis.AnalysisReport;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Data Transfer Object with the analysis of several functions.
+ *
+ * @param functions analysis of every function, in request order
+ * @param complete  false if some operation timed out or failed, the results are then partial
+ * @param elapsedMs wall-clock time of the analysis
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@Schema(description = "Analysis of several functions")
+public record FunctionAnalysisDTO(
+        @Schema(description = "Analysis of every function, in request order")
+        List<FunctionAnalysisResultDTO> functions,
+
+        @Schema(description = "False if some operation timed out or failed", example = "true")
+        boolean complete,
+
+        @Schema(description = "Wall-clock time of the analysis in milliseconds", example = "120")
+        long elapsedMs
+) {
+
+    /**
+     * Creates the DTO from an analysis report.
+     *
+     * @param report the report
+     * @return corresponding FunctionAnalysisDTO
+     */
+    @NotNull
+    public static FunctionAnalysisDTO of(@NotNull AnalysisReport report) {
+        return new FunctionAnalysisDTO(
+                IntStream.range(0, report.functions().size())
+                        .mapToObj(i -> FunctionAnalysisResultDTO.of(report, i))
+                        .toList(),
+                report.isComplete(),
+                report.elapsedMillis()
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package pl.myc22ka.mathapp.function.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import pl.myc22ka.mathapp.model.function.analysis.AnalysisOperation;
+
+import java.util.List;
+
+/**
+ * Request DTO for analysing several functions at once.
+ *
+ * @param expressions the function expressions
+ * @param operations  operations to run for every function
+ * @param deadlineMs  how long to wait for the results, the default is used when null
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@Schema(description = "Functions to analyse in parallel",
+        example = """
+                {
+                  "expressions": ["x^2-4", "2*x+1", "Sin(x)", "1/(x-2)"],
+                  "operations": ["SOLVE", "DERIVATIVE", "DOMAIN"],
+                  "deadlineMs": 3000
+                }
+                """)
+public record FunctionAnalysisRequest(
+        @Schema(description = "Function expressions", example = "[\"x^2-4\", \"2*x+1\"]")
+        List<String> expressions,
+
+        @Schema(description = "Operations to run for every function", example = "[\"SOLVE\", \"DERIVATIVE\", \"DOMAIN\"]")
+        List<AnalysisOperation> operations,
+
+        @Schema(description = "How long to wait for the results in milliseconds", example = "3000")
+        Long deadlineMs
+) {
+}
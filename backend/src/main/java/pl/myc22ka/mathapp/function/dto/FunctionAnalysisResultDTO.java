@@ -0,0 +1,65 @@
+package pl.myc22ka.mathapp.function.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.interfaces.IExpr;
+import pl.myc22ka.mathapp.model.function.FunctionType;
+import pl.myc22ka.mathapp.model.function.analysis.AnalysisOperation;
+import pl.myc22ka.mathapp.model.function.analysis.AnalysisReport;
+import pl.myc22ka.mathapp.model.function.analysis.AnalysisStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Data Transfer Object with the analysis of one function.
+ *
+ * @param expression the analysed expression
+ * @param type       detected function type
+ * @param results    results of the finished operations
+ * @param statuses   outcome of every requested operation
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@Schema(description = "Analysis of one function")
+public record FunctionAnalysisResultDTO(
+        @Schema(description = "Analysed expression", example = "x^2-4")
+        String expression,
+
+        @Schema(description = "Detected function type", example = "QUADRATIC")
+        FunctionType type,
+
+        @Schema(description = "Results of the finished operations", example = "{\"SOLVE\": \"{-2,2}\", \"DERIVATIVE\": \"2*x\"}")
+        Map<AnalysisOperation, String> results,
+
+        @Schema(description = "Outcome of every requested operation", example = "{\"SOLVE\": \"DONE\", \"DERIVATIVE\": \"DONE\"}")
+        Map<AnalysisOperation, AnalysisStatus> statuses
+) {
+
+    /**
+     * Creates the DTO from one row of an analysis report.
+     *
+     * @param report   the report
+     * @param function index of the function in the report
+     * @return corresponding FunctionAnalysisResultDTO
+     */
+    @NotNull
+    public static FunctionAnalysisResultDTO of(@NotNull AnalysisReport report, int function) {
+        Map<AnalysisOperation, String> results = new EnumMap<>(AnalysisOperation.class);
+        Map<AnalysisOperation, AnalysisStatus> statuses = new EnumMap<>(AnalysisOperation.class);
+
+        for (AnalysisOperation operation : report.operations()) {
+            IExpr result = report.result(function, operation);
+            if (result != null) results.put(operation, result.toString());
+            statuses.put(operation, report.status(function, operation));
+        }
+
+        return new FunctionAnalysisResultDTO(
+                report.functions().get(function).getRawExpression(),
+                report.functions().get(function).getType(),
+                results,
+                statuses
+        );
+    }
+}
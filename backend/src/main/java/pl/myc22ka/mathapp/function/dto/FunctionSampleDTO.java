@@ -0,0 +1,108 @@
+package pl.myc22ka.mathapp.function.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.jetbrains.annotations.NotNull;
+import pl.myc22ka.mathapp.model.function.Function;
+import pl.myc22ka.mathapp.model.function.FunctionType;
+import pl.myc22ka.mathapp.model.function.sampling.SampledCurve;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Data Transfer Object with a sampled function graph.
+ * <p>
+ * The points are sent as one Base64 string of little-endian 32-bit floats {@code x0, y0, x1, y1, ...},
+ * which is several times smaller than a JSON array of numbers and decodes directly into a
+ * {@code Float32Array}. A point with {@code y = NaN} marks a break in the curve.
+ *
+ * @param expression the sampled expression
+ * @param type       detected function type
+ * @param min        lower end of the sampled interval
+ * @param max        upper end of the sampled interval
+ * @param count      number of points, breaks included
+ * @param viewMin    suggested lower bound of the y axis, ignoring values near poles
+ * @param viewMax    suggested upper bound of the y axis, ignoring values near poles
+ * @param points     Base64 encoded points
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@Schema(description = "Sampled graph of a function")
+public record FunctionSampleDTO(
+        @Schema(description = "Sampled expression", example = "1/(x-2)")
+        String expression,
+
+        @Schema(description = "Detected function type", example = "RATIONAL")
+        FunctionType type,
+
+        @Schema(description = "Lower end of the sampled interval", example = "-10")
+        double min,
+
+        @Schema(description = "Upper end of the sampled interval", example = "10")
+        double max,
+
+        @Schema(description = "Number of points, breaks included", example = "412")
+        int count,
+
+        @Schema(description = "Suggested lower bound of the y axis", example = "-3.5")
+        double viewMin,
+
+        @Schema(description = "Suggested upper bound of the y axis", example = "3.5")
+        double viewMax,
+
+        @Schema(description = "Base64 of little-endian float32 pairs x, y; y = NaN marks a break in the curve")
+        String points
+) {
+    private static final double VIEW_LOWER_PERCENTILE = 0.02;
+    private static final double VIEW_UPPER_PERCENTILE = 0.98;
+    private static final double VIEW_MARGIN = 0.1;
+
+    /**
+     * Creates the DTO from a sampled curve.
+     *
+     * @param function the sampled function
+     * @param min      lower end of the sampled interval
+     * @param max      upper end of the sampled interval
+     * @param curve    the sampled points
+     * @return corresponding FunctionSampleDTO
+     */
+    @NotNull
+    public static FunctionSampleDTO of(@NotNull Function function, double min, double max, @NotNull SampledCurve curve) {
+        double[] view = view(curve.y());
+
+        return new FunctionSampleDTO(
+                function.getRawExpression(),
+                function.getType(),
+                min,
+                max,
+                curve.size(),
+                view[0],
+                view[1],
+                encode(curve)
+        );
+    }
+
+    private static String encode(@NotNull SampledCurve curve) {
+        ByteBuffer buffer = ByteBuffer.allocate(curve.size() * 2 * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+        for (int i = 0; i < curve.size(); i++) {
+            buffer.putFloat((float) curve.x()[i]);
+            buffer.putFloat((float) curve.y()[i]);
+        }
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    private static double[] view(double[] values) {
+        double[] finite = Arrays.stream(values).filter(Double::isFinite).sorted().toArray();
+        if (finite.length == 0) return new double[]{-1, 1};
+
+        double low = finite[(int) (VIEW_LOWER_PERCENTILE * (finite.length - 1))];
+        double high = finite[(int) (VIEW_UPPER_PERCENTILE * (finite.length - 1))];
+        double margin = Math.max(VIEW_MARGIN * (high - low), 1e-9 + VIEW_MARGIN * Math.abs(low));
+
+        return new double[]{low - margin, high + margin};
+    }
+}
@@ -0,0 +1,100 @@
+package pl.myc22ka.mathapp.function.service;
+
+import org.springframework.stereotype.Service;
+import pl.myc22ka.mathapp.function.dto.FunctionAnalysisDTO;
+import pl.myc22ka.mathapp.function.dto.FunctionAnalysisRequest;
+import pl.myc22ka.mathapp.function.dto.FunctionSampleDTO;
+import pl.myc22ka.mathapp.model.expression.SymjaGuard;
+import pl.myc22ka.mathapp.model.expression.SymjaOperation;
+import pl.myc22ka.mathapp.model.function.Function;
+import pl.myc22ka.mathapp.model.function.FunctionFactory;
+import pl.myc22ka.mathapp.model.function.analysis.AnalysisOperation;
+import pl.myc22ka.mathapp.model.function.analysis.AnalysisPipeline;
+import pl.myc22ka.mathapp.model.function.sampling.AdaptiveSampler;
+import pl.myc22ka.mathapp.model.function.sampling.Lttb;
+import pl.myc22ka.mathapp.model.function.sampling.SampledCurve;
+import pl.myc22ka.mathapp.model.function.sampling.SamplingOptions;
+
+import java.util.List;
+
+/**
+ * Service for function graphs and analysis.
+ * <p>
+ * Samples a function adaptively with {@link AdaptiveSampler} and reduces the result to the pixel
+ * budget of the graph with {@link Lttb}, so a curve can be drawn without asking for values point by point.
+ * Analyses several functions at once with {@link AnalysisPipeline}.
+ *
+ * @author Myc22Ka
+ * @version 1.0.1
+ * @since 18.10.2026
+ */
+@Service
+public class FunctionService {
+
+    private static final int MIN_SIZE = 16;
+    private static final int MAX_SIZE = 4096;
+    private static final int MAX_FUNCTIONS = 16;
+    private static final long DEFAULT_DEADLINE_MS = 3000;
+    private static final long MAX_DEADLINE_MS = 30000;
+
+    /**
+     * Samples the graph of a function.
+     *
+     * @param expression the function expression, e.g. {@code 1/(x-2)}
+     * @param min        lower end of the interval
+     * @param max        upper end of the interval
+     * @param width      graph width in pixels, also the point budget of the result
+     * @param height     graph height in pixels
+     * @return sampled graph
+     * @throws IllegalArgumentException if the interval or graph size is invalid
+     */
+    public FunctionSampleDTO sample(String expression, double min, double max, int width, int height) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Expression must not be empty");
+        }
+        if (width < MIN_SIZE || width > MAX_SIZE || height < MIN_SIZE || height > MAX_SIZE) {
+            throw new IllegalArgumentException("Graph size must be between " + MIN_SIZE + " and " + MAX_SIZE + " pixels: "
+                    + width + "x" + height);
+        }
+
+        return SymjaGuard.call(SymjaOperation.EVALUATE, () -> {
+            Function function = FunctionFactory.create(expression);
+            SampledCurve curve = AdaptiveSampler.sample(function, min, max, SamplingOptions.forGraph(width, height));
+
+            return FunctionSampleDTO.of(function, min, max, Lttb.downsample(curve, width));
+        });
+    }
+
+    /**
+     * Analyses several functions in parallel. Every operation is run for every function and the results
+     * are collected until the deadline; operations still running then are reported as timed out.
+     *
+     * @param request the functions, operations and deadline
+     * @return analysis of every function, partial if the deadline passed first
+     * @throws IllegalArgumentException if there are no or too many functions, no operations or the deadline is invalid
+     */
+    public FunctionAnalysisDTO analyze(FunctionAnalysisRequest request) {
+        List<String> expressions = request.expressions();
+        if (expressions == null || expressions.isEmpty() || expressions.size() > MAX_FUNCTIONS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_FUNCTIONS + " functions can be analysed at once");
+        }
+        if (expressions.stream().anyMatch(expression -> expression == null || expression.isBlank())) {
+            throw new IllegalArgumentException("Expression must not be empty");
+        }
+        if (request.operations() == null || request.operations().isEmpty()) {
+            throw new IllegalArgumentException("At least one operation is required");
+        }
+
+        long deadline = request.deadlineMs() != null ? request.deadlineMs() : DEFAULT_DEADLINE_MS;
+        if (deadline <= 0 || deadline > MAX_DEADLINE_MS) {
+            throw new IllegalArgumentException("Deadline must be between 1 and " + MAX_DEADLINE_MS + " ms: " + deadline);
+        }
+
+        List<AnalysisOperation> operations = request.operations().stream().distinct().toList();
+        List<Function> functions = expressions.stream()
+                .map(expression -> SymjaGuard.call(SymjaOperation.EVALUATE, () -> FunctionFactory.create(expression)))
+                .toList();
+
+        return FunctionAnalysisDTO.of(AnalysisPipeline.analyze(functions, operations, deadline));
+    }
+}
@@ -0,0 +1,227 @@
+package pl.myc22ka.mathapp.model.expression;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.eval.ExprEvaluator;
+import org.matheclipse.core.interfaces.IExpr;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Shared, bounded pool of Symja {@link ExprEvaluator}s.
+ * <p>
+ * Creating an evaluator sets up a whole {@code EvalEngine}, so sets and functions borrow one from
+ * this pool instead of allocating their own. Evaluators are created lazily up to the configured size.
+ * When all of them are in use, a borrower waits up to the borrow timeout and then falls back to a
+ * temporary evaluator, which is counted as an exhaustion. The pool uses only {@code java.util.concurrent}
+ * locks, so it is safe to block on from virtual threads.
+ * <p>
+ * Borrowed evaluators get the configured recursion and iteration limits, and no evaluation is started
+ * on an interrupted thread, so a call cancelled by {@link SymjaGuard} stops at its next evaluation.
+ *
+ * @author Myc22Ka
+ * @version 1.0.2
+ * @since 18.10.2026
+ */
+@Slf4j
+@UtilityClass
+public class EvaluatorPool {
+
+    final int DEFAULT_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    final long DEFAULT_BORROW_TIMEOUT_MILLIS = 100;
+
+    private volatile BlockingQueue<ExprEvaluator> idle = new ArrayBlockingQueue<>(DEFAULT_SIZE);
+    private volatile int maxSize = DEFAULT_SIZE;
+    private volatile long borrowTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_BORROW_TIMEOUT_MILLIS);
+    private volatile int recursionLimit;
+    private volatile int iterationLimit;
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final LongAdder borrows = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder exhaustions = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * Changes pool size and borrow timeout. Idle evaluators are kept up to the new size.
+     * Evaluators borrowed while the pool shrinks are dropped when they come back to a full pool,
+     * so the pool never holds more than the new size once they are released.
+     *
+     * @param size                the maximum number of pooled evaluators
+     * @param borrowTimeoutMillis how long a borrower waits for a free evaluator
+     * @throws IllegalArgumentException if size is not positive or timeout is negative
+     */
+    public synchronized void configure(int size, long borrowTimeoutMillis) {
+        if (size <= 0 || borrowTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Invalid evaluator pool configuration: size=" + size
+                    + ", borrowTimeoutMillis=" + borrowTimeoutMillis);
+        }
+
+        BlockingQueue<ExprEvaluator> previous = idle;
+        BlockingQueue<ExprEvaluator> resized = new ArrayBlockingQueue<>(size);
+        previous.drainTo(resized, size);
+
+        idle = resized;
+        maxSize = size;
+        borrowTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMillis);
+
+        int dropped = previous.size();
+        previous.clear();
+        created.addAndGet(-dropped);
+    }
+
+    /**
+     * Changes the recursion and iteration limits of every borrowed evaluator.
+     *
+     * @param recursionLimit maximum recursion depth, or 0 to keep the Symja default
+     * @param iterationLimit maximum number of iterations, or 0 to keep the Symja default
+     */
+    public void configureLimits(int recursionLimit, int iterationLimit) {
+        EvaluatorPool.recursionLimit = recursionLimit;
+        EvaluatorPool.iterationLimit = iterationLimit;
+    }
+
+    /**
+     * Runs the given action with a borrowed evaluator and returns it to the pool afterwards.
+     *
+     * @param action the action using the evaluator
+     * @param <T>    result type
+     * @return result of the action
+     * @throws CancellationException if the current thread was interrupted
+     */
+    public <T> T withEvaluator(@NotNull Function<ExprEvaluator, T> action) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Evaluation was cancelled");
+        }
+
+        Lease lease = borrow();
+        ExprEvaluator evaluator = lease.evaluator();
+        if (recursionLimit > 0) evaluator.getEvalEngine().setRecursionLimit(recursionLimit);
+        if (iterationLimit > 0) evaluator.getEvalEngine().setIterationLimit(iterationLimit);
+
+        try {
+            return action.apply(evaluator);
+        } finally {
+            if (lease.pooled()) release(evaluator);
+        }
+    }
+
+    /**
+     * Evaluates a Symja expression string.
+     *
+     * @param expression the expression to evaluate
+     * @return evaluated expression
+     */
+    public IExpr eval(@NotNull String expression) {
+        return withEvaluator(evaluator -> evaluator.eval(expression));
+    }
+
+    /**
+     * Evaluates a Symja expression.
+     *
+     * @param expression the expression to evaluate
+     * @return evaluated expression
+     */
+    public IExpr eval(@NotNull IExpr expression) {
+        return withEvaluator(evaluator -> evaluator.eval(expression));
+    }
+
+    /**
+     * Parses a Symja expression string without evaluating it.
+     *
+     * @param expression the expression to parse
+     * @return parsed expression
+     */
+    public IExpr parse(@NotNull String expression) {
+        return withEvaluator(evaluator -> evaluator.parse(expression));
+    }
+
+    /**
+     * Returns a snapshot of pool metrics.
+     *
+     * @return current pool statistics
+     */
+    public @NotNull EvaluatorPoolStats stats() {
+        long borrowCount = borrows.sum();
+        long waitNanos = totalWaitNanos.sum();
+
+        return new EvaluatorPoolStats(
+                maxSize,
+                created.get(),
+                idle.size(),
+                borrowCount,
+                waits.sum(),
+                exhaustions.sum(),
+                borrowCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(waitNanos / borrowCount),
+                TimeUnit.NANOSECONDS.toMicros(maxWaitNanos.get())
+        );
+    }
+
+    private @NotNull Lease borrow() {
+        borrows.increment();
+
+        BlockingQueue<ExprEvaluator> queue = idle;
+        ExprEvaluator evaluator = queue.poll();
+        if (evaluator != null) return new Lease(evaluator, true);
+
+        if (created.incrementAndGet() <= maxSize) {
+            return new Lease(new ExprEvaluator(), true);
+        }
+        created.decrementAndGet();
+
+        waits.increment();
+        long start = System.nanoTime();
+
+        try {
+            evaluator = queue.poll(borrowTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        long waited = System.nanoTime() - start;
+        totalWaitNanos.add(waited);
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+
+        if (evaluator != null) return new Lease(evaluator, true);
+
+        exhaustions.increment();
+        log.warn("Evaluator pool exhausted (size {}), using a temporary evaluator", maxSize);
+
+        return new Lease(new ExprEvaluator(), false);
+    }
+
+    /**
+     * Returns a pooled evaluator to the current idle queue. If the pool was resized meanwhile, an
+     * evaluator offered to the replaced queue is moved to the new one; one that does not fit is dropped
+     * and no longer counted as created.
+     */
+    private void release(@NotNull ExprEvaluator evaluator) {
+        BlockingQueue<ExprEvaluator> queue = idle;
+
+        while (true) {
+            if (!queue.offer(evaluator)) {
+                created.decrementAndGet();
+                return;
+            }
+
+            BlockingQueue<ExprEvaluator> current = idle;
+            if (current == queue || !queue.remove(evaluator)) return;
+            queue = current;
+        }
+    }
+
+    /**
+     * Borrowed evaluator; temporary evaluators created on exhaustion are not pooled and are not returned.
+     */
+    private record Lease(@NotNull ExprEvaluator evaluator, boolean pooled) {
+    }
+}
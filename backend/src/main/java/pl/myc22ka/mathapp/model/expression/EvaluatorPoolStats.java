@@ -0,0 +1,28 @@
+package pl.myc22ka.mathapp.model.expression;
+
+/**
+ * Snapshot of {@link EvaluatorPool} metrics.
+ *
+ * @param maxSize            configured maximum number of pooled evaluators
+ * @param created            evaluators currently owned by the pool
+ * @param idle               evaluators waiting to be borrowed
+ * @param borrows            total number of borrows
+ * @param waits              borrows that had to wait for a free evaluator
+ * @param exhaustions        borrows that timed out and used a temporary evaluator
+ * @param averageWaitMicros  average wait per borrow in microseconds
+ * @param maxWaitMicros      longest single wait in microseconds
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+public record EvaluatorPoolStats(
+        int maxSize,
+        int created,
+        int idle,
+        long borrows,
+        long waits,
+        long exhaustions,
+        long averageWaitMicros,
+        long maxWaitMicros
+) {
+}
@@ -2,6 +2,7 @@ package pl.myc22ka.mathapp.model.expression;
 
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
+import pl.myc22ka.mathapp.model.function.FunctionFactory;
 import pl.myc22ka.mathapp.utils.resolver.dto.ContextRecord;
 import pl.myc22ka.mathapp.model.set.SetFactory;
 
@@ -11,17 +12,19 @@ import java.util.List;
  * Factory class responsible for parsing strings into MathExpression objects.
  * <p>
  * It holds a list of expression parsers and delegates the parsing task
- * to the first parser that can handle the given input.
+ * to the first parser that can handle the given input. Parsed expressions
+ * of cacheable parsers are shared through {@link ParseCache}.
  *
  * @author Myc22Ka
- * @version 1.1.0
+ * @version 1.1.3
  * @since 11.08.2025
  */
 @Component
 public class ExpressionFactory {
 
     private final List<IExpressionParser<? extends MathExpression>> parsers = List.of(
-            new SetFactory()
+            new SetFactory(),
+            new FunctionFactory()
             // TODO: I need to add here next parsers if I create them :)
     );
 
@@ -33,15 +36,29 @@ public class ExpressionFactory {
      * @throws IllegalArgumentException if no matching parser can handle the expression
      */
     public MathExpression parse(@NotNull ContextRecord contextRecord) {
-        String trimmedValue = contextRecord.value().replaceAll("\\s+", "");
+        TemplatePrefix prefix = contextRecord.key().prefix();
+        String trimmedValue = ParseCache.normalize(contextRecord.value());
 
+        if (!isCacheable(prefix)) {
+            return parseUncached(prefix, trimmedValue, contextRecord.value());
+        }
+        return ParseCache.get(prefix, trimmedValue, value -> parseUncached(prefix, value, contextRecord.value()));
+    }
+
+    private boolean isCacheable(TemplatePrefix prefix) {
+        return parsers.stream()
+                .filter(parser -> parser.getPrefix() == prefix)
+                .allMatch(IExpressionParser::isCacheable);
+    }
+
+    private @NotNull MathExpression parseUncached(TemplatePrefix prefix, @NotNull String trimmedValue, String rawValue) {
         for (IExpressionParser<?> parser : parsers) {
-            if(parser.getPrefix() == contextRecord.key().prefix() && parser.canHandle(trimmedValue)) {
+            if(parser.getPrefix() == prefix && parser.canHandle(trimmedValue)) {
                 return parser.parse(trimmedValue);
             }
         }
         // TODO: I need to make sure that parser is chosen by prefix not by order in the list
         //       And make sure that when user gives you values all values are parsed by same parser as provided by template string
-        throw new IllegalArgumentException("Unsupported expression: " + contextRecord.value());
+        throw new IllegalArgumentException("Unsupported expression: " + rawValue);
     }
 }
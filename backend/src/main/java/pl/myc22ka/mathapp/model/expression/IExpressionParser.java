@@ -8,7 +8,7 @@ import org.jetbrains.annotations.NotNull;
  * @param <T> the specific type of MathExpression this parser produces
  *
  * @author Myc22Ka
- * @version 1.0.1
+ * @version 1.0.2
  * @since 11.08.2025
  */
 public interface IExpressionParser<T extends MathExpression> {
@@ -36,4 +36,14 @@ public interface IExpressionParser<T extends MathExpression> {
      * @return the supported {@link TemplatePrefix}
      */
     TemplatePrefix getPrefix();
+
+    /**
+     * Determines whether parsed expressions may be shared through {@link ParseCache}.
+     * Parsers producing mutable expressions must return false.
+     *
+     * @return true if the parsed expressions are immutable
+     */
+    default boolean isCacheable() {
+        return true;
+    }
 }
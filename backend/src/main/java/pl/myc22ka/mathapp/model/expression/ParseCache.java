@@ -0,0 +1,167 @@
+package pl.myc22ka.mathapp.model.expression;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Shared LRU cache of parsed {@link MathExpression}s keyed by {@link TemplatePrefix} and normalized text.
+ * <p>
+ * Stored answers, template values and modifier information are parsed again on every request,
+ * so {@link ExpressionFactory} and {@link pl.myc22ka.mathapp.model.set.Set#of(String)} look them up here first.
+ * Parsing happens outside the lock, so two threads may parse the same text once each; the later result wins.
+ * Inputs longer than the maximum key length are parsed but not cached.
+ * <p>
+ * Keys are textual: only whitespace is removed, so {@code {1,2}} and {@code {2,1}} are separate entries
+ * even though the parsed sets are equal. Keying on the canonical form would need the parse the cache saves.
+ * Cached instances are shared between callers and threads, so only immutable expressions may be cached.
+ *
+ * @author Myc22Ka
+ * @version 1.0.1
+ * @since 18.10.2026
+ */
+@UtilityClass
+public class ParseCache {
+
+    private final int MAX_KEY_LENGTH = 512;
+
+    private volatile boolean enabled = true;
+    private volatile int maxSize = 1024;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private final Map<Key, MathExpression> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, MathExpression> eldest) {
+            if (size() > maxSize) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * Enables or disables the cache and changes its capacity. Disabling the cache clears it.
+     *
+     * @param enabled whether parsed expressions are cached
+     * @param maxSize the maximum number of cached expressions
+     * @throws IllegalArgumentException if max size is not positive
+     */
+    public void configure(boolean enabled, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Parse cache size must be positive: " + maxSize);
+        }
+
+        ParseCache.enabled = enabled;
+        ParseCache.maxSize = maxSize;
+
+        synchronized (entries) {
+            if (!enabled) {
+                entries.clear();
+                return;
+            }
+
+            var iterator = entries.entrySet().iterator();
+            while (entries.size() > maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Returns the cached expression for the given prefix and text, parsing and caching it on a miss.
+     *
+     * @param prefix the template prefix the text is parsed for
+     * @param text   the normalized expression text
+     * @param parser the parser used on a miss
+     * @param <T>    type of the parsed expression
+     * @return parsed expression
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends MathExpression> @NotNull T get(@NotNull TemplatePrefix prefix, @NotNull String text,
+                                                     @NotNull Function<String, T> parser) {
+        if (!enabled || text.length() > MAX_KEY_LENGTH) {
+            return parser.apply(text);
+        }
+
+        Key key = new Key(prefix, text);
+        MathExpression cached;
+
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+
+        if (cached != null) {
+            hits.increment();
+            return (T) cached;
+        }
+
+        misses.increment();
+        T parsed = parser.apply(text);
+
+        synchronized (entries) {
+            entries.put(key, parsed);
+        }
+
+        return parsed;
+    }
+
+    /**
+     * Removes all cached expressions. Metrics are kept.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns a snapshot of cache metrics.
+     *
+     * @return current cache statistics
+     */
+    public @NotNull ParseCacheStats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+
+        return new ParseCacheStats(enabled, maxSize, size, hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    /**
+     * Removes whitespace from an expression without using a regex.
+     *
+     * @param text the raw expression
+     * @return the same string if it has no whitespace, otherwise a stripped copy
+     */
+    public @NotNull String normalize(@NotNull String text) {
+        int length = text.length();
+        int i = 0;
+
+        while (i < length && !Character.isWhitespace(text.charAt(i))) i++;
+        if (i == length) return text;
+
+        StringBuilder builder = new StringBuilder(length);
+        builder.append(text, 0, i);
+
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) builder.append(c);
+        }
+
+        return builder.toString();
+    }
+
+    private record Key(TemplatePrefix prefix, String text) {
+    }
+}
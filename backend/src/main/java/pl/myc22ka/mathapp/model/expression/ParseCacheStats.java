@@ -0,0 +1,24 @@
+package pl.myc22ka.mathapp.model.expression;
+
+/**
+ * Snapshot of {@link ParseCache} metrics.
+ *
+ * @param enabled   whether the cache is enabled
+ * @param maxSize   configured maximum number of entries
+ * @param size      current number of entries
+ * @param hits      lookups answered from the cache
+ * @param misses    lookups that had to parse
+ * @param evictions entries dropped to stay within the maximum size
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+public record ParseCacheStats(
+        boolean enabled,
+        int maxSize,
+        int size,
+        long hits,
+        long misses,
+        long evictions
+) {
+}
@@ -0,0 +1,240 @@
+package pl.myc22ka.mathapp.model.expression;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.expression.F;
+import org.matheclipse.core.expression.S;
+import org.matheclipse.core.interfaces.IExpr;
+import pl.myc22ka.mathapp.exceptions.ServerError;
+import pl.myc22ka.mathapp.exceptions.ServerErrorMessages;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs Symja calls with a time budget per {@link SymjaOperation}.
+ * <p>
+ * Expensive operations ({@link SymjaOperation#isOffloaded()}: {@code Solve}, {@code FunctionRange},
+ * {@code Integrate} and set parsing) run on a dedicated, bounded executor. The calling thread waits at most
+ * the budget of the operation; when it runs out the worker is interrupted and {@link EvaluatorPool} refuses
+ * to start new evaluations on it. When all workers are busy and the queue is full, the call runs on the
+ * caller instead of being rejected. Cheap operations always run on the caller.
+ * <p>
+ * Expressions evaluated with {@link #eval(SymjaOperation, IExpr)} or {@link #eval(SymjaOperation, String)} are
+ * wrapped in {@code TimeConstrained} and use the evaluator limits of {@link EvaluatorPool}, wherever they run,
+ * so Symja aborts on its own. The caller gets a {@link ServerError} when a budget runs out.
+ * Symbolic evaluations of sets and functions go through these methods; parsing and numeric {@code evalf}
+ * conversions call Symja directly. Guarded calls made from inside an offloaded call run inline, under the
+ * budget of the outer one.
+ *
+ * @author Myc22Ka
+ * @version 1.0.2
+ * @since 18.10.2026
+ */
+@Slf4j
+@UtilityClass
+public class SymjaGuard {
+
+    final int DEFAULT_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    final int DEFAULT_QUEUE_CAPACITY = 64;
+
+    private final ThreadLocal<Boolean> GUARDED = ThreadLocal.withInitial(() -> false);
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    private volatile ThreadPoolExecutor executor = createExecutor(DEFAULT_THREADS, DEFAULT_QUEUE_CAPACITY);
+    private final long[] budgets = defaultBudgets();
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+
+    /**
+     * Replaces the executor. Calls already running on the old one are allowed to finish.
+     *
+     * @param threads       the number of worker threads
+     * @param queueCapacity how many calls may wait for a free worker
+     * @throws IllegalArgumentException if threads is not positive or queue capacity is negative
+     */
+    public synchronized void configure(int threads, int queueCapacity) {
+        if (threads <= 0 || queueCapacity < 0) {
+            throw new IllegalArgumentException("Invalid Symja guard configuration: threads=" + threads
+                    + ", queueCapacity=" + queueCapacity);
+        }
+
+        ThreadPoolExecutor previous = executor;
+        executor = createExecutor(threads, queueCapacity);
+        previous.shutdown();
+    }
+
+    /**
+     * Changes the time budget of an operation.
+     *
+     * @param operation    the operation
+     * @param budgetMillis the budget in milliseconds
+     * @throws IllegalArgumentException if the budget is not positive
+     */
+    public void setBudget(@NotNull SymjaOperation operation, long budgetMillis) {
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("Budget of " + operation + " must be positive: " + budgetMillis);
+        }
+        budgets[operation.ordinal()] = budgetMillis;
+    }
+
+    /**
+     * Returns the time budget of an operation.
+     *
+     * @param operation the operation
+     * @return budget in milliseconds
+     */
+    public long getBudget(@NotNull SymjaOperation operation) {
+        return budgets[operation.ordinal()];
+    }
+
+    /**
+     * Runs the action within the budget of the operation. Offloaded operations run on the executor,
+     * or on the caller when it is saturated; other operations run on the caller.
+     *
+     * @param operation the kind of call, selects the budget
+     * @param action    the action, usually one or more {@link EvaluatorPool} calls
+     * @param <T>       result type
+     * @return result of the action
+     * @throws ServerError if the budget of an offloaded operation runs out
+     */
+    public <T> T call(@NotNull SymjaOperation operation, @NotNull Supplier<T> action) {
+        if (GUARDED.get() || !operation.isOffloaded()) return action.get();
+
+        calls.increment();
+        Future<T> future = executor.submit(() -> {
+            GUARDED.set(true);
+            try {
+                return action.get();
+            } finally {
+                GUARDED.remove();
+            }
+        });
+
+        try {
+            return future.get(getBudget(operation), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeouts.increment();
+            log.warn("{} exceeded its budget of {} ms and was cancelled", operation, getBudget(operation));
+            throw new ServerError(ServerErrorMessages.EVALUATION_TIMEOUT);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException(operation + " was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Evaluates a Symja expression string within the budget of the operation. The expression is wrapped
+     * in {@code TimeConstrained}, so Symja stops by itself when the budget runs out.
+     *
+     * @param operation  the kind of call, selects the budget
+     * @param expression the expression to evaluate
+     * @return evaluated expression
+     * @throws ServerError if the budget runs out
+     */
+    public IExpr eval(@NotNull SymjaOperation operation, @NotNull String expression) {
+        long seconds = budgetSeconds(operation);
+        return aborted(call(operation, () -> EvaluatorPool.eval("TimeConstrained(" + expression + "," + seconds + ")")));
+    }
+
+    /**
+     * Evaluates a Symja expression within the budget of the operation, wrapped in {@code TimeConstrained}
+     * like {@link #eval(SymjaOperation, String)}.
+     *
+     * @param operation  the kind of call, selects the budget
+     * @param expression the expression to evaluate
+     * @return evaluated expression
+     * @throws ServerError if the budget runs out
+     */
+    public IExpr eval(@NotNull SymjaOperation operation, @NotNull IExpr expression) {
+        IExpr constrained = F.binaryAST2(S.TimeConstrained, expression, F.ZZ(budgetSeconds(operation)));
+        return aborted(call(operation, () -> EvaluatorPool.eval(constrained)));
+    }
+
+    /**
+     * Returns a snapshot of guard metrics.
+     *
+     * @return current guard statistics
+     */
+    public @NotNull SymjaGuardStats stats() {
+        ThreadPoolExecutor current = executor;
+
+        return new SymjaGuardStats(
+                current.getMaximumPoolSize(),
+                current.getActiveCount(),
+                current.getQueue().size(),
+                calls.sum(),
+                timeouts.sum(),
+                callerRuns.sum()
+        );
+    }
+
+    private long budgetSeconds(@NotNull SymjaOperation operation) {
+        return Math.max(1, getBudget(operation) / 1000);
+    }
+
+    private IExpr aborted(IExpr result) {
+        if (result == S.$Aborted) {
+            timeouts.increment();
+            throw new ServerError(ServerErrorMessages.EVALUATION_TIMEOUT);
+        }
+        return result;
+    }
+
+    private @NotNull ThreadPoolExecutor createExecutor(int threads, int queueCapacity) {
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "symja-guard-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        BlockingQueue<Runnable> queue = queueCapacity == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(queueCapacity);
+
+        ThreadPoolExecutor result = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, queue, factory,
+                SymjaGuard::runOnCaller);
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+
+    /**
+     * Runs a call the saturated executor could not take on the calling thread. Unlike
+     * {@link ThreadPoolExecutor.CallerRunsPolicy} it also runs calls submitted to an executor that
+     * {@link #configure(int, int)} just replaced, so their futures always complete. Such a call is not
+     * interrupted, its evaluations are bounded by {@code TimeConstrained} and the evaluator limits.
+     */
+    private void runOnCaller(@NotNull Runnable call, @NotNull ThreadPoolExecutor pool) {
+        callerRuns.increment();
+        log.debug("Symja guard saturated, running on the caller");
+        call.run();
+    }
+
+    private long @NotNull [] defaultBudgets() {
+        SymjaOperation[] operations = SymjaOperation.values();
+        long[] result = new long[operations.length];
+
+        for (SymjaOperation operation : operations) {
+            result[operation.ordinal()] = operation.getDefaultBudgetMillis();
+        }
+        return result;
+    }
+}
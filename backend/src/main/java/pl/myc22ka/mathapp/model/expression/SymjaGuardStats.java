@@ -0,0 +1,24 @@
+package pl.myc22ka.mathapp.model.expression;
+
+/**
+ * Snapshot of {@link SymjaGuard} metrics.
+ *
+ * @param threads    configured number of worker threads
+ * @param active     calls currently running
+ * @param queued     calls waiting for a free worker
+ * @param calls      total number of offloaded calls
+ * @param timeouts   calls cancelled because their budget ran out
+ * @param callerRuns calls run on the caller because the executor was saturated
+ * @author Myc22Ka
+ * @version 1.0.1
+ * @since 18.10.2026
+ */
+public record SymjaGuardStats(
+        int threads,
+        int active,
+        int queued,
+        long calls,
+        long timeouts,
+        long callerRuns
+) {
+}
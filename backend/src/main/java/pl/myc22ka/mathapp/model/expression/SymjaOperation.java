@@ -0,0 +1,52 @@
+package pl.myc22ka.mathapp.model.expression;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Kinds of Symja calls run through {@link SymjaGuard}, each with its own default time budget.
+ * Only the expensive ones are offloaded to the guard's executor, the others run on the caller.
+ *
+ * @author Myc22Ka
+ * @version 1.0.1
+ * @since 18.10.2026
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SymjaOperation {
+    /**
+     * {@code Solve}, with or without generated conditions.
+     */
+    SOLVE(5000, true),
+    /**
+     * {@code D(f, x)}.
+     */
+    DERIVATIVE(1000, false),
+    /**
+     * {@code FunctionDomain(f, x)}.
+     */
+    DOMAIN(2000, false),
+    /**
+     * {@code FunctionRange(f, x, y)}.
+     */
+    RANGE(3000, true),
+    /**
+     * {@code Integrate(f, x)}.
+     */
+    INTEGRAL(3000, true),
+    /**
+     * {@code Factor(f)}.
+     */
+    FACTOR(2000, false),
+    /**
+     * Parsing a logical set expression such as {@code x<-3∨(-3<x∧x<1)}.
+     */
+    SET_PARSE(2000, true),
+    /**
+     * Any other evaluation.
+     */
+    EVALUATE(2000, false);
+
+    private final long defaultBudgetMillis;
+    private final boolean offloaded;
+}
@@ -1,34 +1,67 @@
 package pl.myc22ka.mathapp.model.function;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import org.matheclipse.core.eval.ExprEvaluator;
 import org.matheclipse.core.expression.F;
 import org.matheclipse.core.interfaces.IExpr;
 
+import org.matheclipse.core.interfaces.IRational;
 import org.matheclipse.core.interfaces.ISymbol;
 import pl.myc22ka.mathapp.exceptions.ServerErrorMessages;
 import pl.myc22ka.mathapp.exceptions.ServerError;
+import pl.myc22ka.mathapp.model.expression.EvaluatorPool;
+import pl.myc22ka.mathapp.model.expression.MathExpression;
+import pl.myc22ka.mathapp.model.expression.SymjaGuard;
+import pl.myc22ka.mathapp.model.expression.SymjaOperation;
+import pl.myc22ka.mathapp.model.expression.TemplatePrefix;
+import pl.myc22ka.mathapp.model.function.analysis.AnalysisOperation;
+import pl.myc22ka.mathapp.model.function.analysis.FunctionAnalysis;
+import pl.myc22ka.mathapp.model.function.analysis.FunctionAnalysisCache;
 import pl.myc22ka.mathapp.model.function.functions.Constant;
+import pl.myc22ka.mathapp.model.function.intern.ExpressionInterner;
+import pl.myc22ka.mathapp.model.function.intern.InternedExpression;
+import pl.myc22ka.mathapp.model.function.polynomial.PolynomialExtractor;
+import pl.myc22ka.mathapp.model.function.polynomial.RationalPolynomial;
+import pl.myc22ka.mathapp.model.function.roots.RootFinder;
+import pl.myc22ka.mathapp.model.function.roots.RootFinderOptions;
+import pl.myc22ka.mathapp.model.function.roots.RootInterval;
 import pl.myc22ka.mathapp.utils.math.MathUtils;
 import pl.myc22ka.mathapp.utils.functions.ConditionRoots;
 import pl.myc22ka.mathapp.utils.functions.Point;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.DoubleUnaryOperator;
 
 @Getter
-public class Function implements FunctionInterface {
-    protected final ExprEvaluator evaluator = new ExprEvaluator();
+public class Function implements FunctionInterface, MathExpression {
     private final FunctionType type;
     protected final ISymbol variable;
     protected String rawExpression;
     protected IExpr symjaExpression;
+    @Getter(AccessLevel.NONE)
+    private volatile DoubleUnaryOperator compiled;
+    @Getter(AccessLevel.NONE)
+    private volatile DoubleUnaryOperator compiledDerivative;
+    @Getter(AccessLevel.NONE)
+    private volatile FunctionAnalysis analysis;
+    @Getter(AccessLevel.NONE)
+    private volatile InternedExpression interned;
+    @Getter(AccessLevel.NONE)
+    private volatile Optional<RationalPolynomial> rationalPolynomial;
 
     public Function(String function) {
-        this(FunctionType.FUNCTION, MathUtils.detectFirstVariable(function), function);
+        this(ExpressionInterner.intern(EvaluatorPool.parse(function)), function);
     }
 
     public Function(IExpr function) {
-        this(FunctionType.FUNCTION, MathUtils.detectFirstVariable(function), function);
+        this(ExpressionInterner.intern(function), null);
+    }
+
+    private Function(InternedExpression function, String rawExpression) {
+        this(FunctionType.FUNCTION, function.variable() != null ? function.variable() : F.x);
+        setExpressions(function);
+        if (rawExpression != null) this.rawExpression = rawExpression;
     }
 
     public Function(FunctionType type) {
@@ -50,28 +83,110 @@ public class Function implements FunctionInterface {
         setExpressions(symjaExpression);
     }
 
+    public Function(FunctionType type, ISymbol variable, String rawExpression, IExpr symjaExpression) {
+        this(type, variable);
+        setExpressions(ExpressionInterner.intern(symjaExpression));
+        this.rawExpression = rawExpression;
+    }
+
     public void setExpressions(String rawExpression) {
+        setExpressions(ExpressionInterner.intern(EvaluatorPool.parse(rawExpression)));
         this.rawExpression = rawExpression;
-        this.symjaExpression = evaluator.parse(rawExpression);
     }
 
     public void setExpressions(IExpr symjaExpression) {
-        this.rawExpression = symjaExpression.toString();
-        this.symjaExpression = symjaExpression;
+        setExpressions(ExpressionInterner.intern(symjaExpression));
+    }
+
+    private void setExpressions(InternedExpression expression) {
+        this.interned = expression;
+        this.rawExpression = expression.text();
+        this.symjaExpression = expression.expression();
+        this.compiled = null;
+        this.compiledDerivative = null;
+        this.analysis = null;
+        this.rationalPolynomial = null;
+    }
+
+    /**
+     * Returns the canonical form of the expression, shared by all functions with an equal expression.
+     *
+     * @return interned expression with its precomputed variables
+     */
+    public InternedExpression getInternedExpression() {
+        InternedExpression result = interned;
+        if (result == null) {
+            result = ExpressionInterner.intern(getSymjaExpression());
+            interned = result;
+        }
+        return result;
+    }
+
+    /**
+     * Drops both expressions and everything derived from them. Subclasses that build their
+     * expression on demand override {@link #getSymjaExpression()} and {@link #getRawExpression()}.
+     */
+    protected void clearExpressions() {
+        this.interned = null;
+        this.rawExpression = null;
+        this.symjaExpression = null;
+        this.compiled = null;
+        this.compiledDerivative = null;
+        this.analysis = null;
+        this.rationalPolynomial = null;
+    }
+
+    /**
+     * Returns the exact coefficient form of the function, used to evaluate it by Horner's scheme
+     * instead of Symja substitution.
+     *
+     * @return the polynomial, or null if the function is not a polynomial with rational coefficients
+     */
+    public RationalPolynomial getRationalPolynomial() {
+        Optional<RationalPolynomial> result = rationalPolynomial;
+        if (result == null) {
+            result = Optional.ofNullable(createRationalPolynomial());
+            rationalPolynomial = result;
+        }
+        return result.orElse(null);
+    }
+
+    /**
+     * Creates the exact coefficient form, by default read from the expression. Subclasses that keep
+     * their coefficients build it from them.
+     *
+     * @return the polynomial, or null if the function is not a polynomial with rational coefficients
+     */
+    protected RationalPolynomial createRationalPolynomial() {
+        IExpr expression = getSymjaExpression();
+        return expression != null ? PolynomialExtractor.extract(expression, variable) : null;
+    }
+
+    private FunctionAnalysis analysis() {
+        FunctionAnalysis result = analysis;
+        if (result == null) {
+            result = FunctionAnalysisCache.get(getSymjaExpression(), variable);
+            analysis = result;
+        }
+        return result;
+    }
+
+    private IExpr solve() {
+        IExpr solve = F.Solve(F.Equal(getSymjaExpression(), F.C0), variable);
+
+        return analysis().get(AnalysisOperation.SOLVE, () -> SymjaGuard.eval(SymjaOperation.SOLVE, solve.toString()));
     }
 
     @Override
     public List<IExpr> getRealRoots() {
-        var expr = evaluator.eval(F.Solve(F.Equal(symjaExpression, F.C0), variable).toString());
-        return MathUtils.getRootsFromExpr(expr).stream().filter(root -> !root.isComplex()).toList();
+        return MathUtils.getRootsFromExpr(solve()).stream().filter(root -> !root.isComplex()).toList();
     }
 
     @Override
     public List<ConditionRoots> getRealConditionRoots(ISymbol symbol) {
-        var expr = evaluator
-                .eval(F.Solve(F.Equal(symjaExpression, F.C0), variable, F.Rule(F.GenerateConditions, F.True))
-                        .toString());
-        expr = evaluator.eval(F.ReplaceAll(expr, F.Rule(F.C, symbol)));
+        var expr = SymjaGuard.eval(SymjaOperation.SOLVE,
+                F.Solve(F.Equal(getSymjaExpression(), F.C0), variable, F.Rule(F.GenerateConditions, F.True)).toString());
+        expr = SymjaGuard.eval(SymjaOperation.SOLVE, F.ReplaceAll(expr, F.Rule(F.C, symbol)));
         List<ConditionRoots> rootsAndConditions = MathUtils.getConditionsRootsFromExpr(expr);
         return rootsAndConditions.stream().filter(rootCondition -> !rootCondition.root().toString().contains("I"))
                 .toList();
@@ -79,65 +194,167 @@ public class Function implements FunctionInterface {
 
     @Override
     public List<IExpr> getRealRoots(double min, double max) {
-        var expr = evaluator.eval(F.Solve(F.Equal(symjaExpression, F.C0), variable).toString());
-        List<IExpr> allRoots = MathUtils.getRootsFromExpr(expr).stream()
-                .filter(root -> !root.toString().contains("I"))
-                .toList();
-        return allRoots.stream()
-                .filter(root -> root.isNumber() && root.evalf() >= min && root.evalf() <= max)
+        // Solve returns only principal solutions of periodic functions
+        IExpr solution = FunctionClassifier.isPeriodic(getSymjaExpression()) ? F.NIL : solveOrNil();
+
+        if (solution.isList()) {
+            List<IExpr> allRoots = MathUtils.getRootsFromExpr(solution).stream()
+                    .filter(root -> !root.toString().contains("I"))
+                    .toList();
+
+            // Periodic or conditional solutions (e.g. 2*Pi*C(1)) cannot be filtered by value
+            if (allRoots.stream().allMatch(root -> !Double.isNaN(numericValue(root)))) {
+                return allRoots.stream()
+                        .filter(root -> numericValue(root) >= min && numericValue(root) <= max)
+                        .toList();
+            }
+        }
+
+        return getNumericRoots(min, max).stream()
+                .map(root -> toRootExpr(root.estimate()))
                 .toList();
     }
 
+    private IExpr solveOrNil() {
+        try {
+            return solve();
+        } catch (ServerError e) {
+            // Out of time, the numeric search below still answers bounded queries
+            return F.NIL;
+        }
+    }
+
+    @Override
+    public List<RootInterval> getNumericRoots(double min, double max) {
+        return RootFinder.find(toDoubleFunction(), derivativeFunction(), min, max, RootFinderOptions.DEFAULT);
+    }
+
+    private DoubleUnaryOperator derivativeFunction() {
+        DoubleUnaryOperator result = compiledDerivative;
+        if (result == null) {
+            try {
+                result = NumericCompiler.compile(getDerivative(), variable);
+            } catch (RuntimeException e) {
+                DoubleUnaryOperator function = toDoubleFunction();
+                result = x -> {
+                    double h = 1e-6 * Math.max(1, Math.abs(x));
+                    return (function.applyAsDouble(x + h) - function.applyAsDouble(x - h)) / (2 * h);
+                };
+            }
+            compiledDerivative = result;
+        }
+        return result;
+    }
+
+    private IExpr toRootExpr(double root) {
+        double rounded = Math.rint(root);
+        if (Math.abs(root - rounded) < 1e-9 && evaluate(rounded) == 0) {
+            return F.ZZ((long) rounded);
+        }
+        return F.num(root);
+    }
+
+    private static double numericValue(IExpr root) {
+        try {
+            return root.evalf();
+        } catch (RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+
     @Override
     public List<IExpr> getAllRoots() {
-        var expr = evaluator.eval(F.Solve(F.Equal(symjaExpression, F.C0), variable).toString());
-        return MathUtils.getRootsFromExpr(expr);
+        return MathUtils.getRootsFromExpr(solve());
     }
 
     @Override
     public IExpr getVaraibles() {
-        System.out.println(evaluator.eval(F.Variables(symjaExpression)));
-        return null;
+        return F.List(getInternedExpression().variables().toArray(new IExpr[0]));
     }
 
     @Override
     public IExpr getDerivative() {
-        return evaluator.eval(F.D(symjaExpression, variable).toString());
+        return analysis().get(AnalysisOperation.DERIVATIVE,
+                () -> SymjaGuard.eval(SymjaOperation.DERIVATIVE, F.D(getSymjaExpression(), variable).toString()));
     }
 
     @Override
     public IExpr getRange() {
-        return evaluator.eval(F.FunctionRange(symjaExpression, variable, F.y).toString());
+        return analysis().get(AnalysisOperation.RANGE,
+                () -> SymjaGuard.eval(SymjaOperation.RANGE, F.FunctionRange(getSymjaExpression(), variable, F.y).toString()));
     }
 
     @Override
     public IExpr getDomain() {
-        return evaluator.eval(F.FunctionDomain(symjaExpression, variable).toString());
+        return analysis().get(AnalysisOperation.DOMAIN,
+                () -> SymjaGuard.eval(SymjaOperation.DOMAIN, F.FunctionDomain(getSymjaExpression(), variable).toString()));
     }
 
     @Override
     public IExpr getIntegral() {
-        return evaluator.eval(F.Integrate(symjaExpression, variable).plus(F.C).toString());
+        return analysis().get(AnalysisOperation.INTEGRAL,
+                () -> SymjaGuard.eval(SymjaOperation.INTEGRAL, F.Plus(F.Integrate(getSymjaExpression(), variable), F.C).toString()));
     }
 
     @Override
     public IExpr getFactoredForm() {
-        return evaluator.eval(F.Factor(symjaExpression).toString());
+        return analysis().get(AnalysisOperation.FACTOR,
+                () -> SymjaGuard.eval(SymjaOperation.FACTOR, F.Factor(getSymjaExpression()).toString()));
     }
 
     @Override
     public IExpr getFunctionValue(IExpr x) {
-        return evaluator.eval(symjaExpression.replaceAll(F.Rule(variable, x)).toString());
+        RationalPolynomial polynomial = getRationalPolynomial();
+        if (polynomial != null && x instanceof IRational point) {
+            return polynomial.evaluate(point);
+        }
+        IExpr expression = getSymjaExpression();
+        return SymjaGuard.eval(SymjaOperation.EVALUATE, expression.replaceAll(F.Rule(variable, x)).orElse(expression));
     }
 
     @Override
     public IExpr getFunctionValue(String function, IExpr x) {
-        return evaluator.eval(F.eval(function).replaceAll(F.Rule(variable, x)).toString());
+        IExpr expression = EvaluatorPool.parse(function);
+        return SymjaGuard.eval(SymjaOperation.EVALUATE, expression.replaceAll(F.Rule(variable, x)).orElse(expression));
+    }
+
+    @Override
+    public DoubleUnaryOperator toDoubleFunction() {
+        DoubleUnaryOperator result = compiled;
+        if (result == null) {
+            RationalPolynomial polynomial = getRationalPolynomial();
+            result = polynomial != null ? polynomial::evaluate : NumericCompiler.compile(getSymjaExpression(), variable);
+            compiled = result;
+        }
+        return result;
+    }
+
+    @Override
+    public double evaluate(double x) {
+        return toDoubleFunction().applyAsDouble(x);
+    }
+
+    @Override
+    public void sample(double[] xs, double[] out) {
+        if (out.length < xs.length) {
+            throw new IllegalArgumentException("Output array is shorter than the sample points: " + out.length + " < " + xs.length);
+        }
+
+        DoubleUnaryOperator function = toDoubleFunction();
+        for (int i = 0; i < xs.length; i++) {
+            out[i] = function.applyAsDouble(xs[i]);
+        }
     }
 
     @Override
     public boolean isPointOnSlope(Point point) {
-        return getFunctionValue(point.getX()).equals(point.getY());
+        IExpr value = getFunctionValue(point.getX());
+
+        // Rational points of a polynomial are compared exactly, without Symja
+        if (value instanceof IRational exact && point.getY() instanceof IRational y) {
+            return exact.add(y.negate()).isZero();
+        }
+        return value.equals(point.getY());
     }
 
     public void generateRandomFunction() {
@@ -151,17 +368,17 @@ public class Function implements FunctionInterface {
 
     @Override
     public final Function plus(Function other) {
-        return new Function(F.Plus(symjaExpression, F.Parenthesis(other.symjaExpression)));
+        return new Function(F.Plus(getSymjaExpression(), F.Parenthesis(other.getSymjaExpression())));
     }
 
     @Override
     public final Function minus(Function other) {
-        return new Function(F.Subtract(symjaExpression, F.Parenthesis(other.symjaExpression)));
+        return new Function(F.Subtract(getSymjaExpression(), F.Parenthesis(other.getSymjaExpression())));
     }
 
     @Override
     public final Function times(Function other) {
-        return new Function(F.Times(symjaExpression, other.symjaExpression));
+        return new Function(F.Times(getSymjaExpression(), other.getSymjaExpression()));
     }
 
     @Override
@@ -172,7 +389,7 @@ public class Function implements FunctionInterface {
             }
         }
 
-        return new Function(F.Times(symjaExpression, F.Power(other.symjaExpression, F.CN1)));
+        return new Function(F.Times(getSymjaExpression(), F.Power(other.getSymjaExpression(), F.CN1)));
     }
 
     @Override
@@ -181,12 +398,43 @@ public class Function implements FunctionInterface {
             throw new ServerError(ServerErrorMessages.ILLOGICAL_MATH_OPERATION);
         }
 
-        var rule = F.Rule(evaluator.eval(getVariable() + "_"), evaluator.eval("HoldForm[" + rawExpression + "]"));
-        return new Function(other.symjaExpression.replaceAll(rule));
+        var rule = F.Rule(SymjaGuard.eval(SymjaOperation.EVALUATE, getVariable() + "_"), SymjaGuard.eval(SymjaOperation.EVALUATE, "HoldForm[" + getRawExpression() + "]"));
+        return new Function(other.getSymjaExpression().replaceAll(rule));
+    }
+
+    @Override
+    public IExpr getExpression() {
+        return getSymjaExpression();
+    }
+
+    @Override
+    public TemplatePrefix getTemplatePrefix() {
+        return TemplatePrefix.FUNCTION;
+    }
+
+    /**
+     * Compares two functions of the same variable by their coefficients when both are polynomials with rational
+     * coefficients, e.g. {@code x^2-1} and {@code (x-1)*(x+1)}, and by their canonical expression trees otherwise.
+     *
+     * @param other the other expression
+     * @return true if {@code other} is an equal function
+     */
+    @Override
+    public boolean equals(MathExpression other) {
+        if (this == other) return true;
+        if (!(other instanceof Function function)) return false;
+        if (!variable.equals(function.variable)) return false;
+
+        RationalPolynomial polynomial = getRationalPolynomial();
+        if (polynomial != null) {
+            return polynomial.equals(function.getRationalPolynomial());
+        }
+        return getInternedExpression().equals(function.getInternedExpression());
     }
 
     @Override
     public String toString() {
-        return rawExpression != null && !rawExpression.isBlank() ? rawExpression : F.NIL.toString();
+        String raw = getRawExpression();
+        return raw != null && !raw.isBlank() ? raw : F.NIL.toString();
     }
 }
@@ -0,0 +1,17 @@
+package pl.myc22ka.mathapp.model.function;
+
+import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.ISymbol;
+
+/**
+ * Result of {@link FunctionClassifier}: the detected type, the function variable and the parsed expression.
+ *
+ * @param type       detected function type
+ * @param variable   first variable of the expression, {@code x} if there is none
+ * @param expression parsed Symja expression
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+public record FunctionClassification(FunctionType type, ISymbol variable, IExpr expression) {
+}
@@ -0,0 +1,220 @@
+package pl.myc22ka.mathapp.model.function;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.expression.F;
+import org.matheclipse.core.expression.S;
+import org.matheclipse.core.interfaces.IAST;
+import org.matheclipse.core.interfaces.IBuiltInSymbol;
+import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.ISymbol;
+import pl.myc22ka.mathapp.model.expression.EvaluatorPool;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Utility class classifying function expressions by walking the parsed Symja tree.
+ * <p>
+ * The expression is parsed once and visited twice: once to find the variable and once to collect the
+ * non-polynomial features (trigonometric, logarithmic, square root, exponential, absolute value,
+ * variable in a denominator) and the polynomial degree. No regular expressions are used.
+ * <p>
+ * Rules follow {@link FunctionTypeDetector}: an expression without a variable is {@code CONSTANT};
+ * exactly one non-polynomial feature gives its type; more than one gives {@code FUNCTION};
+ * otherwise the degree decides between {@code LINEAR}, {@code QUADRATIC} and {@code POLYNOMIAL}.
+ *
+ * @author Myc22Ka
+ * @version 1.0.3
+ * @since 18.10.2026
+ */
+@UtilityClass
+public class FunctionClassifier {
+
+    private final Set<ISymbol> TRIGONOMETRIC = Set.of(
+            S.Sin, S.Cos, S.Tan, S.Cot, S.Sec, S.Csc,
+            S.ArcSin, S.ArcCos, S.ArcTan, S.ArcCot,
+            S.Sinh, S.Cosh, S.Tanh, S.Coth
+    );
+
+    private final Set<ISymbol> PERIODIC = Set.of(S.Sin, S.Cos, S.Tan, S.Cot, S.Sec, S.Csc);
+
+    private final Set<ISymbol> LOGARITHMIC = Set.of(S.Log, S.Log10, S.Log2);
+
+    /**
+     * Parses and classifies a raw function expression.
+     *
+     * @param rawExpression the function text, e.g. {@code "x^2-1"}
+     * @return type, variable and parsed expression
+     */
+    public @NotNull FunctionClassification classify(@NotNull String rawExpression) {
+        return classify(EvaluatorPool.parse(rawExpression));
+    }
+
+    /**
+     * Classifies a parsed function expression.
+     *
+     * @param expression the parsed expression
+     * @return type, variable and the same expression
+     */
+    public @NotNull FunctionClassification classify(@NotNull IExpr expression) {
+        ISymbol variable = findVariable(expression);
+
+        if (variable == null) {
+            return new FunctionClassification(FunctionType.CONSTANT, F.x, expression);
+        }
+
+        Set<FunctionType> features = EnumSet.noneOf(FunctionType.class);
+        collectFeatures(expression, variable, features);
+
+        FunctionType type;
+        if (features.size() > 1) {
+            type = FunctionType.FUNCTION;
+        } else if (features.size() == 1) {
+            type = features.iterator().next();
+        } else {
+            type = byDegree(degree(expression, variable));
+        }
+
+        return new FunctionClassification(type, variable, expression);
+    }
+
+    /**
+     * Finds the first variable of an expression in alphabetical order, like {@code Variables(expr)[[1]]}.
+     *
+     * @param expression the parsed expression
+     * @return the variable, or null if the expression has none
+     */
+    public ISymbol findVariable(@NotNull IExpr expression) {
+        if (expression instanceof ISymbol symbol) {
+            return isVariable(symbol) ? symbol : null;
+        }
+        if (!(expression instanceof IAST ast)) {
+            return null;
+        }
+
+        ISymbol first = null;
+        for (int i = 1; i <= ast.argSize(); i++) {
+            ISymbol candidate = findVariable(ast.get(i));
+            if (candidate != null && (first == null || candidate.getSymbolName().compareTo(first.getSymbolName()) < 0)) {
+                first = candidate;
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Checks if the expression contains a periodic function of a variable, in which case {@code Solve}
+     * returns only principal solutions. Constant terms such as {@code Sin(2)} do not count.
+     *
+     * @param expression the parsed expression
+     * @return true if a sine, cosine, tangent, cotangent, secant or cosecant of a variable occurs
+     */
+    public boolean isPeriodic(@NotNull IExpr expression) {
+        if (!(expression instanceof IAST ast)) return false;
+        if (PERIODIC.contains(ast.head()) && findVariable(ast) != null) return true;
+
+        for (int i = 1; i <= ast.argSize(); i++) {
+            if (isPeriodic(ast.get(i))) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a symbol can be a function variable, i.e. it is not a built-in symbol such as {@code Pi} or {@code Sin}.
+     *
+     * @param symbol the symbol
+     * @return true if the symbol is a user variable
+     */
+    public boolean isVariable(@NotNull ISymbol symbol) {
+        return !(symbol instanceof IBuiltInSymbol);
+    }
+
+    private void collectFeatures(@NotNull IExpr expression, @NotNull ISymbol variable, @NotNull Set<FunctionType> features) {
+        if (!(expression instanceof IAST ast) || expression.isFree(variable)) {
+            return;
+        }
+
+        IExpr head = ast.head();
+
+        if (TRIGONOMETRIC.contains(head)) features.add(FunctionType.TRIGONOMETRIC);
+        else if (LOGARITHMIC.contains(head)) features.add(FunctionType.LOGARITHMIC);
+        else if (head.equals(S.Sqrt)) features.add(FunctionType.SQUAREROOT);
+        else if (head.equals(S.Exp)) features.add(FunctionType.EXPONENTIAL);
+        else if (head.equals(S.Abs)) features.add(FunctionType.ABSOLUTE);
+        else if (ast.isPower() && ast.argSize() == 2) {
+            IExpr base = ast.arg1();
+            IExpr exponent = ast.arg2();
+
+            if (!exponent.isFree(variable)) {
+                features.add(FunctionType.EXPONENTIAL);
+            } else if (isHalf(exponent)) {
+                features.add(FunctionType.SQUAREROOT);
+            } else if (!base.isFree(variable) && exponent.isNegative()) {
+                features.add(FunctionType.RATIONAL);
+            }
+        } else if (head.equals(S.Divide) && ast.argSize() == 2 && !ast.arg2().isFree(variable)) {
+            features.add(FunctionType.RATIONAL);
+        }
+
+        for (int i = 1; i <= ast.argSize(); i++) {
+            collectFeatures(ast.get(i), variable, features);
+        }
+    }
+
+    private boolean isHalf(@NotNull IExpr exponent) {
+        return exponent.equals(F.C1D2) || (exponent.isReal() && exponent.evalf() == 0.5);
+    }
+
+    /**
+     * Computes the polynomial degree in the given variable.
+     *
+     * @return the degree, or -1 if the expression is not a polynomial
+     */
+    private int degree(@NotNull IExpr expression, @NotNull ISymbol variable) {
+        if (expression.equals(variable)) return 1;
+        if (expression.isFree(variable)) return 0;
+        if (!(expression instanceof IAST ast)) return -1;
+
+        if (ast.isPlus()) {
+            int max = 0;
+            for (int i = 1; i <= ast.argSize(); i++) {
+                int d = degree(ast.get(i), variable);
+                if (d < 0) return -1;
+                max = Math.max(max, d);
+            }
+            return max;
+        }
+
+        if (ast.isTimes()) {
+            int sum = 0;
+            for (int i = 1; i <= ast.argSize(); i++) {
+                int d = degree(ast.get(i), variable);
+                if (d < 0) return -1;
+                sum += d;
+            }
+            return sum;
+        }
+
+        if (ast.isPower() && ast.argSize() == 2 && ast.arg2().isInteger() && !ast.arg2().isNegative()) {
+            int base = degree(ast.arg1(), variable);
+            int exponent = ast.arg2().toIntDefault();
+            return base < 0 || exponent < 0 ? -1 : base * exponent;
+        }
+
+        if (ast.head().equals(S.Parenthesis) && ast.argSize() == 1) {
+            return degree(ast.arg1(), variable);
+        }
+
+        return -1;
+    }
+
+    private @NotNull FunctionType byDegree(int degree) {
+        return switch (degree) {
+            case -1 -> FunctionType.FUNCTION;
+            case 0, 1 -> FunctionType.LINEAR;
+            case 2 -> FunctionType.QUADRATIC;
+            default -> FunctionType.POLYNOMIAL;
+        };
+    }
+}
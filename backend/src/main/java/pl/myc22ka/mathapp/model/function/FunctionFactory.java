@@ -1,9 +1,15 @@
 package pl.myc22ka.mathapp.model.function;
 
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.ISymbol;
+import pl.myc22ka.mathapp.exceptions.ServerError;
+import pl.myc22ka.mathapp.model.expression.IExpressionParser;
+import pl.myc22ka.mathapp.model.expression.TemplatePrefix;
 import pl.myc22ka.mathapp.model.function.functions.*;
 import pl.myc22ka.mathapp.utils.math.MathUtils;
 
-public class FunctionFactory {
+public class FunctionFactory implements IExpressionParser<Function> {
 
     public static Function create(FunctionType type, String rawExpression) {
         return switch (type) {
@@ -22,7 +28,51 @@ public class FunctionFactory {
     }
 
     public static Function create(String rawExpression) {
-        FunctionType type = FunctionTypeDetector.detect(rawExpression);
-        return create(type, rawExpression);
+        FunctionClassification classification = FunctionClassifier.classify(rawExpression);
+        ISymbol variable = classification.variable();
+        IExpr expression = classification.expression();
+
+        return switch (classification.type()) {
+            case ABSOLUTE -> new Absolute(variable, rawExpression, expression);
+            case CONSTANT -> new Constant(variable, rawExpression, expression);
+            case EXPONENTIAL -> new Exponential(variable, rawExpression, expression);
+            case LINEAR -> new Linear(variable, rawExpression, expression);
+            case LOGARITHMIC -> new Logarithmic(variable, rawExpression, expression);
+            case POLYNOMIAL -> new Polynomial(variable, rawExpression, expression);
+            case QUADRATIC -> new Quadratic(variable, rawExpression, expression);
+            case RATIONAL -> new Rational(variable, rawExpression, expression);
+            case SQUAREROOT -> new SquareRoot(variable, rawExpression, expression);
+            case TRIGONOMETRIC -> new Trigonometric(variable, rawExpression, expression);
+            default -> new Function(classification.type(), variable, rawExpression, expression);
+        };
+    }
+
+    @Override
+    public boolean canHandle(@NotNull String expression) {
+        return !expression.isBlank();
+    }
+
+    @Override
+    public @NotNull Function parse(@NotNull String expression) {
+        try {
+            return create(expression);
+        } catch (ServerError e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Unsupported function expression: " + expression, e);
+        }
+    }
+
+    @Override
+    public TemplatePrefix getPrefix() {
+        return TemplatePrefix.FUNCTION;
+    }
+
+    /**
+     * Functions can be changed through {@link Function#setExpressions(String)}, so every parse returns a new instance.
+     */
+    @Override
+    public boolean isCacheable() {
+        return false;
     }
 }
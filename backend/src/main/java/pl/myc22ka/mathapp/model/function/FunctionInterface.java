@@ -2,15 +2,19 @@ package pl.myc22ka.mathapp.model.function;
 
 import org.matheclipse.core.interfaces.IExpr;
 import org.matheclipse.core.interfaces.ISymbol;
+import pl.myc22ka.mathapp.model.function.roots.RootInterval;
 import pl.myc22ka.mathapp.utils.functions.ConditionRoots;
 import pl.myc22ka.mathapp.utils.functions.Point;
 
 import java.util.List;
+import java.util.function.DoubleUnaryOperator;
 
 public interface FunctionInterface {
     List<IExpr> getRealRoots();
     List<IExpr> getRealRoots(double min, double max);
 
+    List<RootInterval> getNumericRoots(double min, double max);
+
     List<ConditionRoots> getRealConditionRoots(ISymbol symbol);
 
     List<IExpr> getAllRoots();
@@ -31,6 +35,12 @@ public interface FunctionInterface {
 
     IExpr getFunctionValue(String function, IExpr x);
 
+    DoubleUnaryOperator toDoubleFunction();
+
+    double evaluate(double x);
+
+    void sample(double[] xs, double[] out);
+
     boolean isPointOnSlope(Point point);
 
     Function plus(Function other);
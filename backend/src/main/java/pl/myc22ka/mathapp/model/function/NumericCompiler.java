@@ -0,0 +1,186 @@
+package pl.myc22ka.mathapp.model.function;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.expression.F;
+import org.matheclipse.core.expression.S;
+import org.matheclipse.core.interfaces.IAST;
+import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.ISymbol;
+import pl.myc22ka.mathapp.model.expression.SymjaGuard;
+import pl.myc22ka.mathapp.model.expression.SymjaOperation;
+
+import java.util.Map;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Utility class compiling a Symja expression of one variable into a tree of {@link DoubleUnaryOperator} closures.
+ * <p>
+ * The expression is walked once: subtrees free of the variable are folded to constants, arithmetic and
+ * elementary functions become plain {@link Math} calls, and small integer powers are unrolled. Subtrees
+ * with heads not known to the compiler are evaluated through Symja at each point, so every expression
+ * compiles, only slower.
+ *
+ * @author Myc22Ka
+ * @version 1.0.1
+ * @since 18.10.2026
+ */
+@UtilityClass
+public class NumericCompiler {
+
+    private final int MAX_UNROLLED_POWER = 8;
+
+    private final Map<ISymbol, DoubleUnaryOperator> UNARY = Map.ofEntries(
+            Map.entry(S.Sin, Math::sin),
+            Map.entry(S.Cos, Math::cos),
+            Map.entry(S.Tan, Math::tan),
+            Map.entry(S.Cot, x -> 1 / Math.tan(x)),
+            Map.entry(S.Sec, x -> 1 / Math.cos(x)),
+            Map.entry(S.Csc, x -> 1 / Math.sin(x)),
+            Map.entry(S.ArcSin, Math::asin),
+            Map.entry(S.ArcCos, Math::acos),
+            Map.entry(S.ArcTan, Math::atan),
+            Map.entry(S.Sinh, Math::sinh),
+            Map.entry(S.Cosh, Math::cosh),
+            Map.entry(S.Tanh, Math::tanh),
+            Map.entry(S.Exp, Math::exp),
+            Map.entry(S.Log, Math::log),
+            Map.entry(S.Sqrt, Math::sqrt),
+            Map.entry(S.Abs, Math::abs),
+            Map.entry(S.Sign, Math::signum),
+            Map.entry(S.Floor, Math::floor),
+            Map.entry(S.Ceiling, Math::ceil)
+    );
+
+    private final Map<ISymbol, DoubleBinaryOperator> BINARY = Map.of(
+            S.Subtract, (a, b) -> a - b,
+            S.Divide, (a, b) -> a / b,
+            S.Log, (base, x) -> Math.log(x) / Math.log(base)
+    );
+
+    /**
+     * Compiles an expression to a numeric function of the given variable.
+     *
+     * @param expression the Symja expression
+     * @param variable   the free variable
+     * @return compiled function; points outside the real domain give {@code NaN}
+     */
+    public @NotNull DoubleUnaryOperator compile(@NotNull IExpr expression, @NotNull ISymbol variable) {
+        if (expression.equals(variable)) {
+            return x -> x;
+        }
+
+        if (expression.isFree(variable)) {
+            return constant(expression);
+        }
+
+        if (expression instanceof IAST ast && ast.head() instanceof ISymbol head) {
+            if (ast.isPlus()) return sum(ast, variable);
+            if (ast.isTimes()) return product(ast, variable);
+            if (ast.isPower() && ast.argSize() == 2) return power(ast.arg1(), ast.arg2(), variable);
+
+            if (ast.argSize() == 1 && UNARY.containsKey(head)) {
+                DoubleUnaryOperator function = UNARY.get(head);
+                DoubleUnaryOperator argument = compile(ast.arg1(), variable);
+                return x -> function.applyAsDouble(argument.applyAsDouble(x));
+            }
+
+            if (ast.argSize() == 2 && BINARY.containsKey(head)) {
+                DoubleBinaryOperator function = BINARY.get(head);
+                DoubleUnaryOperator first = compile(ast.arg1(), variable);
+                DoubleUnaryOperator second = compile(ast.arg2(), variable);
+                return x -> function.applyAsDouble(first.applyAsDouble(x), second.applyAsDouble(x));
+            }
+        }
+
+        return symbolic(expression, variable);
+    }
+
+    private @NotNull DoubleUnaryOperator constant(@NotNull IExpr expression) {
+        double value = evalf(expression);
+        return x -> value;
+    }
+
+    private @NotNull DoubleUnaryOperator sum(@NotNull IAST ast, @NotNull ISymbol variable) {
+        DoubleUnaryOperator[] terms = compileArguments(ast, variable);
+
+        if (terms.length == 2) {
+            DoubleUnaryOperator a = terms[0];
+            DoubleUnaryOperator b = terms[1];
+            return x -> a.applyAsDouble(x) + b.applyAsDouble(x);
+        }
+
+        return x -> {
+            double result = 0;
+            for (DoubleUnaryOperator term : terms) {
+                result += term.applyAsDouble(x);
+            }
+            return result;
+        };
+    }
+
+    private @NotNull DoubleUnaryOperator product(@NotNull IAST ast, @NotNull ISymbol variable) {
+        DoubleUnaryOperator[] factors = compileArguments(ast, variable);
+
+        if (factors.length == 2) {
+            DoubleUnaryOperator a = factors[0];
+            DoubleUnaryOperator b = factors[1];
+            return x -> a.applyAsDouble(x) * b.applyAsDouble(x);
+        }
+
+        return x -> {
+            double result = 1;
+            for (DoubleUnaryOperator factor : factors) {
+                result *= factor.applyAsDouble(x);
+            }
+            return result;
+        };
+    }
+
+    private @NotNull DoubleUnaryOperator power(@NotNull IExpr base, @NotNull IExpr exponent, @NotNull ISymbol variable) {
+        DoubleUnaryOperator b = compile(base, variable);
+
+        if (exponent.isFree(variable)) {
+            double e = evalf(exponent);
+
+            if (e == 0.5) return x -> Math.sqrt(b.applyAsDouble(x));
+            if (e == Math.rint(e) && Math.abs(e) <= MAX_UNROLLED_POWER) {
+                int n = (int) Math.abs(e);
+                boolean reciprocal = e < 0;
+                return x -> {
+                    double value = b.applyAsDouble(x);
+                    double result = 1;
+                    for (int i = 0; i < n; i++) {
+                        result *= value;
+                    }
+                    return reciprocal ? 1 / result : result;
+                };
+            }
+            return x -> Math.pow(b.applyAsDouble(x), e);
+        }
+
+        DoubleUnaryOperator e = compile(exponent, variable);
+        return x -> Math.pow(b.applyAsDouble(x), e.applyAsDouble(x));
+    }
+
+    private @NotNull DoubleUnaryOperator symbolic(@NotNull IExpr expression, @NotNull ISymbol variable) {
+        return x -> evalf(SymjaGuard.eval(SymjaOperation.EVALUATE, expression.replaceAll(F.Rule(variable, F.num(x))).orElse(expression)));
+    }
+
+    private DoubleUnaryOperator @NotNull [] compileArguments(@NotNull IAST ast, @NotNull ISymbol variable) {
+        DoubleUnaryOperator[] compiled = new DoubleUnaryOperator[ast.argSize()];
+        for (int i = 1; i <= ast.argSize(); i++) {
+            compiled[i - 1] = compile(ast.get(i), variable);
+        }
+        return compiled;
+    }
+
+    private double evalf(@NotNull IExpr expression) {
+        try {
+            return expression.evalf();
+        } catch (RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+}
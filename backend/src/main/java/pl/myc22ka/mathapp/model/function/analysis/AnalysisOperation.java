@@ -0,0 +1,35 @@
+package pl.myc22ka.mathapp.model.function.analysis;
+
+/**
+ * Symbolic operations memoized by {@link FunctionAnalysisCache}.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+public enum AnalysisOperation {
+    /**
+     * {@code Solve(f == 0, x)}, shared by all root queries.
+     */
+    SOLVE,
+    /**
+     * {@code D(f, x)}.
+     */
+    DERIVATIVE,
+    /**
+     * {@code FunctionDomain(f, x)}.
+     */
+    DOMAIN,
+    /**
+     * {@code FunctionRange(f, x, y)}.
+     */
+    RANGE,
+    /**
+     * {@code Integrate(f, x) + C}.
+     */
+    INTEGRAL,
+    /**
+     * {@code Factor(f)}.
+     */
+    FACTOR
+}
@@ -0,0 +1,169 @@
+package pl.myc22ka.mathapp.model.function.analysis;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.expression.F;
+import org.matheclipse.core.interfaces.IExpr;
+import pl.myc22ka.mathapp.model.function.Function;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Utility class running the analysis of several functions at once, e.g. for exercises comparing functions
+ * or chains built with {@link Function#composition(Function)}.
+ * <p>
+ * Every (function, operation) pair is independent, so each runs as its own task on a virtual thread and the
+ * run takes about as long as the slowest operation instead of the sum of all of them. The tasks spend their
+ * time waiting for guarded Symja calls, so the actual CPU work stays bounded by
+ * {@link pl.myc22ka.mathapp.model.expression.SymjaGuard}; the number of tasks in flight is bounded here as well,
+ * so one large request cannot flood the guard queue. Results are joined against a deadline: operations that are
+ * still running when it passes are cancelled and the report is returned with the results finished so far.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@Slf4j
+@UtilityClass
+public class AnalysisPipeline {
+
+    private final int DEFAULT_PARALLELISM = 16;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("function-analysis-", 1).factory());
+
+    private volatile Semaphore permits = new Semaphore(DEFAULT_PARALLELISM);
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder partialRuns = new LongAdder();
+
+    /**
+     * Changes how many operations may run at the same time, across all runs.
+     *
+     * @param parallelism the number of operations in flight
+     * @throws IllegalArgumentException if parallelism is not positive
+     */
+    public void configure(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Analysis pipeline parallelism must be positive: " + parallelism);
+        }
+        permits = new Semaphore(parallelism);
+    }
+
+    /**
+     * Runs every operation for every function in parallel and waits for them at most until the deadline.
+     *
+     * @param functions      the functions
+     * @param operations     the operations, each is run for every function
+     * @param deadlineMillis how long to wait for the results
+     * @return the results, partial if the deadline passed first
+     * @throws IllegalArgumentException if the deadline is not positive
+     * @throws CancellationException    if the calling thread is interrupted
+     */
+    public @NotNull AnalysisReport analyze(@NotNull List<Function> functions, @NotNull List<AnalysisOperation> operations,
+                                           long deadlineMillis) {
+        if (deadlineMillis <= 0) {
+            throw new IllegalArgumentException("Analysis deadline must be positive: " + deadlineMillis);
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        Semaphore semaphore = permits;
+
+        @SuppressWarnings("unchecked")
+        Future<IExpr>[][] futures = new Future[functions.size()][operations.size()];
+        for (int i = 0; i < functions.size(); i++) {
+            Function function = functions.get(i);
+            for (int j = 0; j < operations.size(); j++) {
+                AnalysisOperation operation = operations.get(j);
+                futures[i][j] = executor.submit(() -> run(function, operation, semaphore));
+            }
+        }
+
+        IExpr[][] results = new IExpr[functions.size()][operations.size()];
+        AnalysisStatus[][] statuses = new AnalysisStatus[functions.size()][operations.size()];
+
+        for (int i = 0; i < futures.length; i++) {
+            for (int j = 0; j < futures[i].length; j++) {
+                try {
+                    results[i][j] = futures[i][j].get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    statuses[i][j] = AnalysisStatus.DONE;
+                } catch (TimeoutException e) {
+                    futures[i][j].cancel(true);
+                    statuses[i][j] = AnalysisStatus.TIMED_OUT;
+                } catch (ExecutionException e) {
+                    log.debug("{} of {} failed: {}", operations.get(j), functions.get(i), e.getCause().getMessage());
+                    statuses[i][j] = AnalysisStatus.FAILED;
+                } catch (InterruptedException e) {
+                    cancelAll(futures);
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("Function analysis was interrupted");
+                }
+            }
+        }
+
+        runs.increment();
+        AnalysisReport report = new AnalysisReport(List.copyOf(functions), List.copyOf(operations), results, statuses,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        if (!report.isComplete()) partialRuns.increment();
+
+        return report;
+    }
+
+    /**
+     * Returns the number of runs so far.
+     *
+     * @return total runs
+     */
+    public long runs() {
+        return runs.sum();
+    }
+
+    /**
+     * Returns the number of runs that ended with some operation timed out or failed.
+     *
+     * @return partial runs
+     */
+    public long partialRuns() {
+        return partialRuns.sum();
+    }
+
+    private IExpr run(@NotNull Function function, @NotNull AnalysisOperation operation, @NotNull Semaphore semaphore)
+            throws InterruptedException {
+        semaphore.acquire();
+        try {
+            return compute(function, operation);
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    private IExpr compute(@NotNull Function function, @NotNull AnalysisOperation operation) {
+        return switch (operation) {
+            case SOLVE -> F.List(function.getRealRoots().toArray(new IExpr[0]));
+            case DERIVATIVE -> function.getDerivative();
+            case DOMAIN -> function.getDomain();
+            case RANGE -> function.getRange();
+            case INTEGRAL -> function.getIntegral();
+            case FACTOR -> function.getFactoredForm();
+        };
+    }
+
+    private void cancelAll(Future<IExpr> @NotNull [][] futures) {
+        for (Future<IExpr>[] row : futures) {
+            for (Future<IExpr> future : row) {
+                future.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package pl.myc22ka.mathapp.model.function.analysis;
+
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.interfaces.IExpr;
+import pl.myc22ka.mathapp.model.function.Function;
+
+import java.util.List;
+
+/**
+ * Results of an {@link AnalysisPipeline} run: one cell per function and operation.
+ * <p>
+ * When the deadline passes before every operation finishes the report is partial: finished cells hold
+ * their result and the others are marked {@link AnalysisStatus#TIMED_OUT} or {@link AnalysisStatus#FAILED}.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+public final class AnalysisReport {
+
+    private final List<Function> functions;
+    private final List<AnalysisOperation> operations;
+    private final IExpr[][] results;
+    private final AnalysisStatus[][] statuses;
+    private final long elapsedMillis;
+
+    AnalysisReport(@NotNull List<Function> functions, @NotNull List<AnalysisOperation> operations,
+                   IExpr @NotNull [][] results, AnalysisStatus @NotNull [][] statuses, long elapsedMillis) {
+        this.functions = functions;
+        this.operations = operations;
+        this.results = results;
+        this.statuses = statuses;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Returns the analysed functions in request order.
+     *
+     * @return the functions
+     */
+    public @NotNull List<Function> functions() {
+        return functions;
+    }
+
+    /**
+     * Returns the requested operations in request order.
+     *
+     * @return the operations
+     */
+    public @NotNull List<AnalysisOperation> operations() {
+        return operations;
+    }
+
+    /**
+     * Returns the result of an operation for a function.
+     *
+     * @param function  index of the function
+     * @param operation the operation
+     * @return the result, or null if the operation did not finish
+     * @throws IllegalArgumentException if the operation was not requested
+     */
+    public IExpr result(int function, @NotNull AnalysisOperation operation) {
+        return results[function][column(operation)];
+    }
+
+    /**
+     * Returns the outcome of an operation for a function.
+     *
+     * @param function  index of the function
+     * @param operation the operation
+     * @return the status
+     * @throws IllegalArgumentException if the operation was not requested
+     */
+    public @NotNull AnalysisStatus status(int function, @NotNull AnalysisOperation operation) {
+        return statuses[function][column(operation)];
+    }
+
+    /**
+     * Checks if every operation finished with a result.
+     *
+     * @return true if nothing timed out or failed
+     */
+    public boolean isComplete() {
+        for (AnalysisStatus[] row : statuses) {
+            for (AnalysisStatus status : row) {
+                if (status != AnalysisStatus.DONE) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the wall-clock time of the run.
+     *
+     * @return elapsed time in milliseconds
+     */
+    public long elapsedMillis() {
+        return elapsedMillis;
+    }
+
+    private int column(@NotNull AnalysisOperation operation) {
+        int column = operations.indexOf(operation);
+        if (column < 0) throw new IllegalArgumentException("Operation was not requested: " + operation);
+        return column;
+    }
+}
@@ -0,0 +1,23 @@
+package pl.myc22ka.mathapp.model.function.analysis;
+
+/**
+ * Outcome of one operation run by {@link AnalysisPipeline}.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+public enum AnalysisStatus {
+    /**
+     * The result is available.
+     */
+    DONE,
+    /**
+     * The operation threw, e.g. its own Symja budget ran out.
+     */
+    FAILED,
+    /**
+     * The operation was still running when the deadline of the pipeline passed and was cancelled.
+     */
+    TIMED_OUT
+}
@@ -0,0 +1,75 @@
+package pl.myc22ka.mathapp.model.function.analysis;
+
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.expression.S;
+import org.matheclipse.core.interfaces.IExpr;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Lazily filled results of the symbolic operations for one expression and variable.
+ * <p>
+ * Each operation is computed at most once; concurrent callers of the same operation wait for the first one,
+ * while different operations of the same expression run in parallel. Results aborted by a time limit
+ * ({@code $Aborted}) are returned but not kept, so a later call tries again.
+ *
+ * @author Myc22Ka
+ * @version 1.0.2
+ * @since 18.10.2026
+ */
+public final class FunctionAnalysis {
+    private final AtomicReferenceArray<IExpr> results = new AtomicReferenceArray<>(AnalysisOperation.values().length);
+    private final ReentrantLock[] locks = createLocks();
+
+    FunctionAnalysis() {
+    }
+
+    /**
+     * Returns the result of an operation, computing it on first use.
+     *
+     * @param operation the operation
+     * @param compute   computes the result
+     * @return memoized result
+     */
+    public @NotNull IExpr get(@NotNull AnalysisOperation operation, @NotNull Supplier<IExpr> compute) {
+        int index = operation.ordinal();
+        IExpr cached = results.get(index);
+        if (cached != null) {
+            FunctionAnalysisCache.recordHit(operation);
+            return cached;
+        }
+
+        // A lock rather than a monitor: the computation blocks on a guarded Symja call, which would
+        // pin the carrier of a virtual thread inside a synchronized block
+        ReentrantLock lock = locks[index];
+        lock.lock();
+        try {
+            cached = results.get(index);
+            if (cached != null) {
+                FunctionAnalysisCache.recordHit(operation);
+                return cached;
+            }
+
+            long start = System.nanoTime();
+            IExpr result = compute.get();
+            FunctionAnalysisCache.recordComputation(operation, System.nanoTime() - start);
+
+            if (!result.equals(S.$Aborted)) {
+                results.set(index, result);
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static ReentrantLock @NotNull [] createLocks() {
+        ReentrantLock[] result = new ReentrantLock[AnalysisOperation.values().length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new ReentrantLock();
+        }
+        return result;
+    }
+}
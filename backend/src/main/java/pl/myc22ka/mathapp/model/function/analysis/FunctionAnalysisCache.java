@@ -0,0 +1,162 @@
+package pl.myc22ka.mathapp.model.function.analysis;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.ISymbol;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared LRU cache of {@link FunctionAnalysis} objects keyed by expression and variable.
+ * <p>
+ * Function exercises ask for roots, derivative, domain and range of the same expression several times
+ * per request, so every {@link pl.myc22ka.mathapp.model.function.Function} with an equal expression shares one
+ * analysis and each symbolic operation runs once. Keys compare Symja expressions structurally.
+ * Per-operation counts and timings are kept for {@link #stats()}.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@UtilityClass
+public class FunctionAnalysisCache {
+
+    private volatile int maxSize = 512;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private final Map<AnalysisOperation, Timing> timings = createTimings();
+
+    private final Map<Key, FunctionAnalysis> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, FunctionAnalysis> eldest) {
+            if (size() > maxSize) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * Changes the capacity of the cache.
+     *
+     * @param maxSize the maximum number of analysed expressions
+     * @throws IllegalArgumentException if max size is not positive
+     */
+    public void configure(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Function analysis cache size must be positive: " + maxSize);
+        }
+
+        FunctionAnalysisCache.maxSize = maxSize;
+
+        synchronized (entries) {
+            var iterator = entries.entrySet().iterator();
+            while (entries.size() > maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Returns the analysis of an expression, creating an empty one on a miss.
+     *
+     * @param expression the function expression
+     * @param variable   the function variable
+     * @return shared analysis
+     */
+    public @NotNull FunctionAnalysis get(@NotNull IExpr expression, @NotNull ISymbol variable) {
+        Key key = new Key(expression, variable);
+
+        synchronized (entries) {
+            FunctionAnalysis analysis = entries.get(key);
+            if (analysis != null) {
+                hits.increment();
+                return analysis;
+            }
+
+            misses.increment();
+            analysis = new FunctionAnalysis();
+            entries.put(key, analysis);
+            return analysis;
+        }
+    }
+
+    /**
+     * Removes all cached analyses. Metrics are kept.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns a snapshot of cache metrics.
+     *
+     * @return current cache statistics
+     */
+    public @NotNull FunctionAnalysisStats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+
+        Map<AnalysisOperation, FunctionAnalysisStats.OperationStats> operations = new EnumMap<>(AnalysisOperation.class);
+        timings.forEach((operation, timing) -> operations.put(operation, timing.snapshot()));
+
+        return new FunctionAnalysisStats(maxSize, size, hits.sum(), misses.sum(), evictions.sum(), operations);
+    }
+
+    void recordHit(@NotNull AnalysisOperation operation) {
+        timings.get(operation).reused.increment();
+    }
+
+    void recordComputation(@NotNull AnalysisOperation operation, long nanos) {
+        Timing timing = timings.get(operation);
+        timing.computed.increment();
+        timing.totalNanos.add(nanos);
+        timing.maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private @NotNull Map<AnalysisOperation, Timing> createTimings() {
+        Map<AnalysisOperation, Timing> result = new EnumMap<>(AnalysisOperation.class);
+        for (AnalysisOperation operation : AnalysisOperation.values()) {
+            result.put(operation, new Timing());
+        }
+        return result;
+    }
+
+    private record Key(IExpr expression, ISymbol variable) {
+    }
+
+    private final class Timing {
+        private final LongAdder computed = new LongAdder();
+        private final LongAdder reused = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private FunctionAnalysisStats.OperationStats snapshot() {
+            long count = computed.sum();
+            double total = totalNanos.sum() / 1_000_000.0;
+
+            return new FunctionAnalysisStats.OperationStats(
+                    count,
+                    reused.sum(),
+                    total,
+                    count == 0 ? 0 : total / count,
+                    maxNanos.get() / 1_000_000.0
+            );
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package pl.myc22ka.mathapp.model.function.analysis;
+
+import java.util.Map;
+
+/**
+ * Snapshot of {@link FunctionAnalysisCache} metrics.
+ *
+ * @param maxSize    configured maximum number of analysed expressions
+ * @param size       current number of analysed expressions
+ * @param hits       lookups of an expression already in the cache
+ * @param misses     lookups that created a new analysis
+ * @param evictions  analyses dropped to stay within the maximum size
+ * @param operations per-operation counts and timings
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+public record FunctionAnalysisStats(
+        int maxSize,
+        int size,
+        long hits,
+        long misses,
+        long evictions,
+        Map<AnalysisOperation, OperationStats> operations
+) {
+
+    /**
+     * Counts and timings of one operation.
+     *
+     * @param computed          number of times the operation was computed
+     * @param reused            number of times a memoized result was returned
+     * @param totalMillis       total time spent computing
+     * @param averageMillis     average time of one computation
+     * @param maxMillis         longest single computation
+     */
+    public record OperationStats(
+            long computed,
+            long reused,
+            double totalMillis,
+            double averageMillis,
+            double maxMillis
+    ) {
+    }
+}
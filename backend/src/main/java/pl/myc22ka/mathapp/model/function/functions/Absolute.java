@@ -1,6 +1,8 @@
 package pl.myc22ka.mathapp.model.function.functions;
 
 import org.matheclipse.core.expression.F;
+import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.ISymbol;
 import pl.myc22ka.mathapp.model.function.FunctionType;
 import pl.myc22ka.mathapp.model.function.Function;
 import pl.myc22ka.mathapp.utils.math.MathUtils;
@@ -25,6 +27,10 @@ public class Absolute extends Function {
         super(FunctionType.ABSOLUTE, MathUtils.detectFirstVariable(rawExpression), rawExpression);
     }
 
+    public Absolute(ISymbol variable, String rawExpression, IExpr expression) {
+        super(FunctionType.ABSOLUTE, variable, rawExpression, expression);
+    }
+
     @Override
     public void generateRandomFunction() {
         base = new Function("x+1");
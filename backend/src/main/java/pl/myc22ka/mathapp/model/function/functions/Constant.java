@@ -2,6 +2,7 @@ package pl.myc22ka.mathapp.model.function.functions;
 
 import org.matheclipse.core.expression.F;
 import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.ISymbol;
 
 import pl.myc22ka.mathapp.exceptions.ServerErrorMessages;
 import pl.myc22ka.mathapp.exceptions.ServerError;
@@ -36,6 +37,10 @@ public class Constant extends Function {
         super(FunctionType.CONSTANT, MathUtils.detectFirstVariable(rawExpression), rawExpression);
     }
 
+    public Constant(ISymbol variable, String rawExpression, IExpr expression) {
+        super(FunctionType.CONSTANT, variable, rawExpression, expression);
+    }
+
     @Override
     public void generateRandomFunction() {
         value = F.ZZ(1);
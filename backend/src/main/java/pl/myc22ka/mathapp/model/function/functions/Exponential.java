@@ -2,6 +2,7 @@ package pl.myc22ka.mathapp.model.function.functions;
 
 import org.matheclipse.core.expression.F;
 import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.ISymbol;
 import pl.myc22ka.mathapp.model.function.FunctionType;
 import pl.myc22ka.mathapp.model.function.Function;
 import pl.myc22ka.mathapp.utils.math.MathUtils;
@@ -30,6 +31,10 @@ public class Exponential extends Function {
         super(FunctionType.EXPONENTIAL, MathUtils.detectFirstVariable(rawExpression), rawExpression);
     }
 
+    public Exponential(ISymbol variable, String rawExpression, IExpr expression) {
+        super(FunctionType.EXPONENTIAL, variable, rawExpression, expression);
+    }
+
     @Override
     public void generateRandomFunction() {
         base = new Function(F.e); // Natural base e
@@ -3,9 +3,13 @@ package pl.myc22ka.mathapp.model.function.functions;
 import lombok.Getter;
 import org.matheclipse.core.expression.F;
 import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.ISymbol;
+import org.matheclipse.core.interfaces.IRational;
 import pl.myc22ka.mathapp.exceptions.ServerError;
 import pl.myc22ka.mathapp.model.function.FunctionType;
 import pl.myc22ka.mathapp.model.function.Function;
+import pl.myc22ka.mathapp.model.function.polynomial.PolynomialExtractor;
+import pl.myc22ka.mathapp.model.function.polynomial.RationalPolynomial;
 import pl.myc22ka.mathapp.utils.math.MathUtils;
 
 import java.util.List;
@@ -36,10 +40,23 @@ public class Linear extends Function {
         super(FunctionType.LINEAR, MathUtils.detectFirstVariable(rawExpression), rawExpression);
     }
 
+    // Constructor to reuse the expression and variable found by FunctionClassifier
+    public Linear(ISymbol variable, String rawExpression, IExpr expression) {
+        super(FunctionType.LINEAR, variable, rawExpression, expression);
+    }
+
     protected final void updateExpression() {
         setExpressions(F.Plus(F.Times(coefficient, variable), constant).toString());
     }
 
+    @Override
+    protected RationalPolynomial createRationalPolynomial() {
+        IRational a = PolynomialExtractor.rational(coefficient);
+        IRational b = PolynomialExtractor.rational(constant);
+
+        return a != null && b != null ? RationalPolynomial.of(b, a) : super.createRationalPolynomial();
+    }
+
     @Override
     public void generateFunctionFromAnswers(List<IExpr> answers) {
         if (answers.size() != 1) {
@@ -49,6 +66,4 @@ public class Linear extends Function {
         this.coefficient = F.ZZ(1); // need to be gathered trough generator...
         this.constant = coefficient.negate().multiply(answers.getFirst());
     }
-
-
 }
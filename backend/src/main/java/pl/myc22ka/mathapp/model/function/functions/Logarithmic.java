@@ -2,6 +2,7 @@ package pl.myc22ka.mathapp.model.function.functions;
 
 import org.matheclipse.core.expression.F;
 import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.ISymbol;
 import pl.myc22ka.mathapp.model.function.FunctionType;
 import pl.myc22ka.mathapp.model.function.Function;
 import pl.myc22ka.mathapp.utils.math.MathUtils;
@@ -28,6 +29,10 @@ public class Logarithmic extends Function {
         super(FunctionType.LOGARITHMIC, MathUtils.detectFirstVariable(rawExpression), rawExpression);
     }
 
+    public Logarithmic(ISymbol variable, String rawExpression, IExpr expression) {
+        super(FunctionType.LOGARITHMIC, variable, rawExpression, expression);
+    }
+
     @Override
     public void generateRandomFunction() {
         base = F.ZZ(2);  // Log base 2
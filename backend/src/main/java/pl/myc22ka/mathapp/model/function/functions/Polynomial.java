@@ -2,15 +2,20 @@ package pl.myc22ka.mathapp.model.function.functions;
 
 import org.matheclipse.core.expression.F;
 import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.ISymbol;
+import org.matheclipse.core.interfaces.IInteger;
 
 import pl.myc22ka.mathapp.model.function.FunctionType;
 import pl.myc22ka.mathapp.model.function.Function;
+import pl.myc22ka.mathapp.model.function.polynomial.RationalPolynomial;
 import pl.myc22ka.mathapp.utils.math.MathUtils;
 
 import java.util.*;
 
 public class Polynomial extends Function {
     private List<IExpr> coefficients;
+    // Set when all coefficients are rational; the Symja expression is then built only on demand
+    private RationalPolynomial polynomial;
 
     public Polynomial() {
         super(FunctionType.POLYNOMIAL);
@@ -26,11 +31,34 @@ public class Polynomial extends Function {
         updateExpression();
     }
 
+    public Polynomial(RationalPolynomial polynomial) {
+        super(FunctionType.POLYNOMIAL);
+        this.polynomial = polynomial;
+        this.coefficients = new ArrayList<>(polynomial.coefficients());
+
+        updateExpression();
+    }
+
     public Polynomial(String rawExpression) {
         super(FunctionType.POLYNOMIAL, MathUtils.detectFirstVariable(rawExpression), rawExpression);
     }
 
+    public Polynomial(ISymbol variable, String rawExpression, IExpr expression) {
+        super(FunctionType.POLYNOMIAL, variable, rawExpression, expression);
+    }
+
     protected void updateExpression() {
+        if (coefficients == null) return;
+
+        if (polynomial == null && RationalPolynomial.isRational(coefficients)) {
+            polynomial = RationalPolynomial.of(coefficients);
+        }
+
+        if (polynomial != null) {
+            clearExpressions();
+            return;
+        }
+
         IExpr expr = coefficients.getFirst();
 
         for (int i = 1; i < coefficients.size(); i++) {
@@ -43,13 +71,49 @@ public class Polynomial extends Function {
         setExpressions(expr.toString());
     }
 
+    /**
+     * Returns the exact coefficient representation.
+     *
+     * @return the polynomial, or null if it was parsed from text or has symbolic coefficients
+     */
+    public RationalPolynomial getPolynomial() {
+        return polynomial;
+    }
+
+    @Override
+    public IExpr getSymjaExpression() {
+        if (symjaExpression == null && polynomial != null) {
+            setExpressions(polynomial.toExpr(variable));
+        }
+        return symjaExpression;
+    }
+
+    @Override
+    public String getRawExpression() {
+        if (rawExpression == null && polynomial != null) {
+            getSymjaExpression();
+        }
+        return rawExpression;
+    }
+
+    @Override
+    protected RationalPolynomial createRationalPolynomial() {
+        return polynomial != null ? polynomial : super.createRationalPolynomial();
+    }
+
     @Override
     public void generateFunctionFromAnswers(List<IExpr> answers) {
         if (answers == null || answers.isEmpty()) {
             throw new IllegalArgumentException("Musisz podać przynajmniej jedno miejsce zerowe.");
         }
 
-        IExpr a = F.ZZ(1); // need to be gathered trough generator...
+        IInteger a = F.ZZ(1); // need to be gathered trough generator...
+
+        if (RationalPolynomial.isRational(answers)) {
+            this.polynomial = RationalPolynomial.fromRoots(a, answers);
+            this.coefficients = new ArrayList<>(polynomial.coefficients());
+            return;
+        }
 
         List<IExpr> result = new ArrayList<>(Collections.nCopies(answers.size() + 1, F.C0));
         result.set(0, a);
@@ -61,6 +125,7 @@ public class Polynomial extends Function {
             }
         }
 
-        this.coefficients = result;
+        this.polynomial = null;
+        this.coefficients = new ArrayList<>(result.reversed());
     }
 }
@@ -2,10 +2,13 @@ package pl.myc22ka.mathapp.model.function.functions;
 
 import org.matheclipse.core.expression.F;
 import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.IRational;
 import org.matheclipse.core.interfaces.ISymbol;
 
 import pl.myc22ka.mathapp.model.function.FunctionType;
 import pl.myc22ka.mathapp.model.function.Function;
+import pl.myc22ka.mathapp.model.function.polynomial.PolynomialExtractor;
+import pl.myc22ka.mathapp.model.function.polynomial.RationalPolynomial;
 import pl.myc22ka.mathapp.utils.math.MathUtils;
 import pl.myc22ka.mathapp.utils.functions.Point;
 
@@ -79,10 +82,23 @@ public class Quadratic extends Function {
         super(FunctionType.QUADRATIC, MathUtils.detectFirstVariable(rawExpression), rawExpression);
     }
 
+    public Quadratic(ISymbol variable, String rawExpression, IExpr expression) {
+        super(FunctionType.QUADRATIC, variable, rawExpression, expression);
+    }
+
     protected void updateExpression() {
         setExpressions(F.Plus(F.Times(coefficientA, F.Power(variable, F.C2)), F.Times(coefficientB, variable), constant).toString());
     }
 
+    @Override
+    protected RationalPolynomial createRationalPolynomial() {
+        IRational a = PolynomialExtractor.rational(coefficientA);
+        IRational b = PolynomialExtractor.rational(coefficientB);
+        IRational c = PolynomialExtractor.rational(constant);
+
+        return a != null && b != null && c != null ? RationalPolynomial.of(c, b, a) : super.createRationalPolynomial();
+    }
+
     @Override
     public void generateRandomFunction() {
         coefficientA = F.ZZ(1); // need to be gathered trough generator...
@@ -2,6 +2,7 @@ package pl.myc22ka.mathapp.model.function.functions;
 
 import org.matheclipse.core.expression.F;
 import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.ISymbol;
 import pl.myc22ka.mathapp.model.function.FunctionType;
 import pl.myc22ka.mathapp.model.function.Function;
 import pl.myc22ka.mathapp.utils.math.MathUtils;
@@ -33,6 +34,10 @@ public class Rational extends Function {
         super(FunctionType.RATIONAL, MathUtils.detectFirstVariable(rawExpression), rawExpression);
     }
 
+    public Rational(ISymbol variable, String rawExpression, IExpr expression) {
+        super(FunctionType.RATIONAL, variable, rawExpression, expression);
+    }
+
     @Override
     public void generateRandomFunction() {
         numerator = F.Plus(F.ZZ(2), F.Times(F.ZZ(3), variable));  // Random numerator
@@ -3,6 +3,7 @@ package pl.myc22ka.mathapp.model.function.functions;
 import lombok.Getter;
 import org.matheclipse.core.expression.F;
 import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.ISymbol;
 import pl.myc22ka.mathapp.model.function.FunctionType;
 import pl.myc22ka.mathapp.model.function.Function;
 import pl.myc22ka.mathapp.utils.math.MathUtils;
@@ -32,6 +33,10 @@ public class SquareRoot extends Function {
         super(FunctionType.SQUAREROOT, MathUtils.detectFirstVariable(rawExpression), rawExpression);
     }
 
+    public SquareRoot(ISymbol variable, String rawExpression, IExpr expression) {
+        super(FunctionType.SQUAREROOT, variable, rawExpression, expression);
+    }
+
     @Override
     public void generateRandomFunction() {
         this.degree = 2;
@@ -2,6 +2,7 @@ package pl.myc22ka.mathapp.model.function.functions;
 
 import org.matheclipse.core.expression.F;
 import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.ISymbol;
 import pl.myc22ka.mathapp.model.function.FunctionType;
 import pl.myc22ka.mathapp.utils.math.MathUtils;
 
@@ -35,6 +36,12 @@ public class Trigonometric extends pl.myc22ka.mathapp.model.function.Function {
         updateExpression();
     }
 
+    public Trigonometric(ISymbol variable, String rawExpression, IExpr expression) {
+        super(FunctionType.TRIGONOMETRIC, variable, rawExpression, expression);
+
+        updateExpression();
+    }
+
     protected void updateExpression() {
         IExpr inner = F.Times(angle, variable);
         IExpr trigExpr = trigFunction.apply(inner);
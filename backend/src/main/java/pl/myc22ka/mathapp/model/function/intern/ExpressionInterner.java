@@ -0,0 +1,154 @@
+package pl.myc22ka.mathapp.model.function.intern;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.interfaces.IAST;
+import org.matheclipse.core.interfaces.IASTMutable;
+import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.ISymbol;
+import pl.myc22ka.mathapp.model.function.FunctionClassifier;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Utility class keeping one canonical instance of every function expression tree in use.
+ * <p>
+ * Trees are interned bottom-up: children are interned first and a tree is rebuilt only when some child
+ * was replaced by its canonical instance, so functions built from each other with
+ * {@code plus}, {@code times} or {@code composition} share their common subtrees.
+ * The table is weak: an entry disappears once no function refers to its expression any more.
+ * Every interned tree keeps its interned children, so the entries of the subtrees of a tree in use
+ * stay in the table as long as the tree does.
+ * Atoms (numbers and symbols) are not stored, they are small and Symja already shares symbols.
+ *
+ * @author Myc22Ka
+ * @version 1.0.1
+ * @since 18.10.2026
+ */
+@UtilityClass
+public class ExpressionInterner {
+
+    private final ISymbol[] NO_VARIABLES = new ISymbol[0];
+    private final InternedExpression[] NO_CHILDREN = new InternedExpression[0];
+
+    private final Map<IExpr, WeakReference<InternedExpression>> table = new WeakHashMap<>();
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Returns the canonical instance of an expression.
+     *
+     * @param expression the expression
+     * @return interned expression with precomputed variables
+     */
+    public @NotNull InternedExpression intern(@NotNull IExpr expression) {
+        if (!(expression instanceof IAST ast)) {
+            return atom(expression);
+        }
+
+        lookups.increment();
+        InternedExpression existing = lookup(ast);
+        if (existing != null) {
+            hits.increment();
+            return existing;
+        }
+
+        IASTMutable copy = null;
+        ISymbol[] variables = NO_VARIABLES;
+        InternedExpression[] children = new InternedExpression[ast.argSize()];
+
+        for (int i = 1; i <= ast.argSize(); i++) {
+            InternedExpression child = intern(ast.get(i));
+            children[i - 1] = child;
+
+            if (child.expression() != ast.get(i)) {
+                if (copy == null) copy = ast.copy();
+                copy.set(i, child.expression());
+            }
+            variables = merge(variables, child.variableArray());
+        }
+
+        IExpr canonical = copy != null ? copy : ast;
+
+        synchronized (table) {
+            WeakReference<InternedExpression> reference = table.get(canonical);
+            InternedExpression interned = reference != null ? reference.get() : null;
+
+            if (interned == null) {
+                interned = new InternedExpression(canonical, variables, children);
+                // A cleared entry keeps its old key on put, which may not be the expression of the new instance
+                table.remove(canonical);
+                table.put(canonical, new WeakReference<>(interned));
+            }
+            return interned;
+        }
+    }
+
+    /**
+     * Drops all interned expressions.
+     */
+    public void clear() {
+        synchronized (table) {
+            table.clear();
+        }
+    }
+
+    /**
+     * Returns a snapshot of interner metrics.
+     *
+     * @return current interner statistics
+     */
+    public @NotNull ExpressionInternerStats stats() {
+        int size;
+        synchronized (table) {
+            size = table.size();
+        }
+        return new ExpressionInternerStats(size, lookups.sum(), hits.sum());
+    }
+
+    private InternedExpression lookup(@NotNull IExpr expression) {
+        synchronized (table) {
+            WeakReference<InternedExpression> reference = table.get(expression);
+            return reference != null ? reference.get() : null;
+        }
+    }
+
+    private @NotNull InternedExpression atom(@NotNull IExpr expression) {
+        if (expression instanceof ISymbol symbol && FunctionClassifier.isVariable(symbol)) {
+            return new InternedExpression(expression, new ISymbol[]{symbol}, NO_CHILDREN);
+        }
+        return new InternedExpression(expression, NO_VARIABLES, NO_CHILDREN);
+    }
+
+    /**
+     * Merges two variable arrays sorted by name.
+     */
+    private ISymbol @NotNull [] merge(ISymbol @NotNull [] left, ISymbol @NotNull [] right) {
+        if (right.length == 0) return left;
+        if (left.length == 0) return right;
+
+        ISymbol[] result = new ISymbol[left.length + right.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+
+        while (i < left.length || j < right.length) {
+            int order = i == left.length ? 1 : j == right.length ? -1
+                    : left[i].getSymbolName().compareTo(right[j].getSymbolName());
+
+            if (order <= 0) {
+                if (order == 0) j++;
+                result[count++] = left[i++];
+            } else {
+                result[count++] = right[j++];
+            }
+        }
+
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+}
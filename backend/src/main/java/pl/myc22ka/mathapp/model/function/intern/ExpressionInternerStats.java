@@ -0,0 +1,18 @@
+package pl.myc22ka.mathapp.model.function.intern;
+
+/**
+ * Snapshot of {@link ExpressionInterner} metrics.
+ *
+ * @param size    number of interned trees still referenced
+ * @param lookups lookups of a tree (atoms are not counted)
+ * @param hits    lookups that found an existing canonical tree
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+public record ExpressionInternerStats(
+        int size,
+        long lookups,
+        long hits
+) {
+}
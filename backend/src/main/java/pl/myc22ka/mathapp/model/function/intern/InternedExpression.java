@@ -0,0 +1,110 @@
+package pl.myc22ka.mathapp.model.function.intern;
+
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.ISymbol;
+
+import java.util.List;
+
+/**
+ * Canonical instance of an expression tree, created by {@link ExpressionInterner}.
+ * <p>
+ * Equal trees share one instance, so comparing two interned expressions is a reference check.
+ * The hash and the variables are computed once, the variables from those of the children, and the
+ * text form is computed on first use and kept. The interned children are held strongly, so the weak
+ * interner table cannot drop them while this instance is in use.
+ *
+ * @author Myc22Ka
+ * @version 1.0.1
+ * @since 18.10.2026
+ */
+public final class InternedExpression {
+
+    private final IExpr expression;
+    private final ISymbol[] variables;
+    @SuppressWarnings({"unused", "FieldCanBeLocal"})
+    private final InternedExpression[] children;
+    private final int hash;
+    private volatile String text;
+
+    InternedExpression(@NotNull IExpr expression, ISymbol @NotNull [] variables,
+                       InternedExpression @NotNull [] children) {
+        this.expression = expression;
+        this.variables = variables;
+        this.children = children;
+        this.hash = expression.hashCode();
+    }
+
+    /**
+     * Returns the canonical expression tree. Its subtrees are canonical too.
+     *
+     * @return the expression
+     */
+    public @NotNull IExpr expression() {
+        return expression;
+    }
+
+    /**
+     * Returns the first variable in alphabetical order, like {@code Variables(expr)[[1]]}.
+     *
+     * @return the variable, or null if the expression has none
+     */
+    public ISymbol variable() {
+        return variables.length == 0 ? null : variables[0];
+    }
+
+    /**
+     * Returns all variables in alphabetical order.
+     *
+     * @return the variables
+     */
+    public @NotNull List<ISymbol> variables() {
+        return List.of(variables);
+    }
+
+    /**
+     * Checks if the expression contains the variable.
+     *
+     * @param variable the variable
+     * @return true if contained
+     */
+    public boolean hasVariable(@NotNull ISymbol variable) {
+        for (ISymbol symbol : variables) {
+            if (symbol.equals(variable)) return true;
+        }
+        return false;
+    }
+
+    ISymbol @NotNull [] variableArray() {
+        return variables;
+    }
+
+    /**
+     * Returns the text form of the expression.
+     *
+     * @return {@code expression().toString()}, computed once
+     */
+    public @NotNull String text() {
+        String result = text;
+        if (result == null) {
+            result = expression.toString();
+            text = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof InternedExpression interned && expression.equals(interned.expression);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return text();
+    }
+}
@@ -0,0 +1,125 @@
+package pl.myc22ka.mathapp.model.function.polynomial;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.expression.F;
+import org.matheclipse.core.expression.S;
+import org.matheclipse.core.interfaces.IAST;
+import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.IInteger;
+import org.matheclipse.core.interfaces.IRational;
+import org.matheclipse.core.interfaces.ISymbol;
+
+/**
+ * Utility class reading a {@link RationalPolynomial} from an unevaluated Symja expression, such as
+ * {@code 2*x^2-3*x+1/2} or {@code (x-1)*(x+2)}, without evaluating it.
+ * <p>
+ * Sums, products, non-negative integer powers and integer powers of constants are expanded with
+ * {@link RationalPolynomial} arithmetic. Anything else (decimals, other symbols, functions, roots)
+ * means the expression is not a polynomial with rational coefficients.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@UtilityClass
+public class PolynomialExtractor {
+
+    private final int MAX_DEGREE = 256;
+    // Occurs in no expression, so only expressions free of symbols extract to a constant
+    private final ISymbol CONSTANT_PROBE = F.Dummy("constant");
+
+    /**
+     * Reads the polynomial of an expression.
+     *
+     * @param expression the expression
+     * @param variable   the variable
+     * @return the polynomial, or null if the expression is not a polynomial with rational coefficients
+     */
+    public RationalPolynomial extract(@NotNull IExpr expression, @NotNull ISymbol variable) {
+        if (expression instanceof IRational rational) {
+            return RationalPolynomial.of(rational);
+        }
+        if (expression.equals(variable)) {
+            return RationalPolynomial.of(F.C0, F.C1);
+        }
+        if (!(expression instanceof IAST ast)) {
+            return null;
+        }
+
+        if (ast.isPlus()) {
+            RationalPolynomial sum = RationalPolynomial.zero();
+            for (int i = 1; i <= ast.argSize(); i++) {
+                RationalPolynomial term = extract(ast.get(i), variable);
+                if (term == null) return null;
+                sum = sum.add(term);
+            }
+            return sum;
+        }
+
+        if (ast.isTimes()) {
+            RationalPolynomial product = RationalPolynomial.one();
+            for (int i = 1; i <= ast.argSize(); i++) {
+                RationalPolynomial factor = extract(ast.get(i), variable);
+                if (factor == null || product.degree() + factor.degree() > MAX_DEGREE) return null;
+                product = product.multiply(factor);
+            }
+            return product;
+        }
+
+        if (ast.isPower() && ast.argSize() == 2 && ast.arg2() instanceof IInteger exponent) {
+            return power(ast.arg1(), exponent, variable);
+        }
+
+        if (ast.argSize() == 1 && (ast.head() == S.Parenthesis || ast.head() == S.HoldForm)) {
+            return extract(ast.arg1(), variable);
+        }
+
+        return null;
+    }
+
+    /**
+     * Reads the exact value of a constant expression such as {@code -2*3/4} or {@code (1/2)^2}.
+     *
+     * @param expression the expression, may be null
+     * @return the value, or null if the expression is not built from rational numbers only
+     */
+    public IRational rational(IExpr expression) {
+        if (expression instanceof IRational rational) return rational;
+        if (expression == null) return null;
+
+        RationalPolynomial constant = extract(expression, CONSTANT_PROBE);
+        return constant != null && constant.degree() == 0 ? constant.coefficient(0) : null;
+    }
+
+    private RationalPolynomial power(@NotNull IExpr base, @NotNull IInteger exponent, @NotNull ISymbol variable) {
+        RationalPolynomial polynomial = extract(base, variable);
+        if (polynomial == null) return null;
+
+        int n;
+        try {
+            n = exponent.toInt();
+        } catch (ArithmeticException e) {
+            return null;
+        }
+
+        if (n < 0) {
+            // Only constants may have negative powers
+            if (polynomial.degree() != 0 || polynomial.isZero()) return null;
+            if (!(polynomial.coefficient(0).inverse() instanceof IRational inverse)) return null;
+
+            polynomial = RationalPolynomial.of(inverse);
+            n = -n;
+        }
+
+        if ((long) polynomial.degree() * n > MAX_DEGREE) return null;
+
+        RationalPolynomial result = RationalPolynomial.one();
+        while (n > 0) {
+            if ((n & 1) == 1) result = result.multiply(polynomial);
+            polynomial = polynomial.multiply(polynomial);
+            n >>= 1;
+        }
+        return result;
+    }
+}
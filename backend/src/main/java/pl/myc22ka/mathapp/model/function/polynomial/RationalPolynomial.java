@@ -0,0 +1,401 @@
+package pl.myc22ka.mathapp.model.function.polynomial;
+
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.expression.F;
+import org.matheclipse.core.expression.S;
+import org.matheclipse.core.interfaces.IASTAppendable;
+import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.IRational;
+import org.matheclipse.core.interfaces.ISymbol;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable polynomial of one variable with exact rational coefficients, stored densely in
+ * ascending order of powers, e.g. {@code 2 - 3x + x^2} is kept as {@code [2, -3, 1]}.
+ * <p>
+ * Arithmetic, composition, differentiation and evaluation work on the coefficient array
+ * directly and never build a Symja expression tree. A {@code double} copy of the coefficients is
+ * created on first numeric evaluation. The Symja expression is only built by {@link #toExpr(ISymbol)},
+ * for display and symbolic analysis.
+ *
+ * @author Myc22Ka
+ * @version 1.0.1
+ * @since 18.10.2026
+ */
+public final class RationalPolynomial {
+
+    private static final RationalPolynomial ZERO = new RationalPolynomial(new IRational[]{F.C0});
+    private static final RationalPolynomial ONE = new RationalPolynomial(new IRational[]{F.C1});
+    private static final int ESTRIN_DEGREE = 8;
+
+    private final IRational[] coefficients;
+    private volatile double[] numeric;
+    private int hash;
+
+    private RationalPolynomial(IRational @NotNull [] coefficients) {
+        this.coefficients = coefficients;
+    }
+
+    /**
+     * Returns the zero polynomial.
+     *
+     * @return zero polynomial
+     */
+    public static @NotNull RationalPolynomial zero() {
+        return ZERO;
+    }
+
+    /**
+     * Returns the constant polynomial {@code 1}.
+     *
+     * @return one polynomial
+     */
+    public static @NotNull RationalPolynomial one() {
+        return ONE;
+    }
+
+    /**
+     * Creates a polynomial from coefficients in ascending order of powers.
+     *
+     * @param coefficients the coefficients, {@code coefficients[i]} belongs to {@code x^i}
+     * @return normalized polynomial
+     */
+    public static @NotNull RationalPolynomial of(IRational @NotNull ... coefficients) {
+        return trim(coefficients.clone());
+    }
+
+    /**
+     * Creates a polynomial from coefficients in ascending order of powers.
+     *
+     * @param coefficients the coefficients, every one must be a rational number
+     * @return normalized polynomial
+     * @throws IllegalArgumentException if some coefficient is not rational
+     */
+    public static @NotNull RationalPolynomial of(@NotNull List<? extends IExpr> coefficients) {
+        IRational[] values = new IRational[coefficients.size()];
+
+        for (int i = 0; i < values.length; i++) {
+            if (!(coefficients.get(i) instanceof IRational rational)) {
+                throw new IllegalArgumentException("Coefficient is not a rational number: " + coefficients.get(i));
+            }
+            values[i] = rational;
+        }
+        return trim(values);
+    }
+
+    /**
+     * Checks if every expression is a rational number, so {@link #of(List)} and {@link #fromRoots(IRational, List)} accept it.
+     *
+     * @param values the expressions
+     * @return true if all are rational
+     */
+    public static boolean isRational(@NotNull List<? extends IExpr> values) {
+        for (IExpr value : values) {
+            if (!(value instanceof IRational)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Creates the polynomial {@code leading * (x - r1) * (x - r2) * ... * (x - rn)}.
+     * The product is expanded in place, in {@code O(n^2)} rational operations.
+     *
+     * @param leading the leading coefficient
+     * @param roots   the roots, every one must be a rational number
+     * @return expanded polynomial
+     * @throws IllegalArgumentException if some root is not rational
+     */
+    public static @NotNull RationalPolynomial fromRoots(@NotNull IRational leading, @NotNull List<? extends IExpr> roots) {
+        IRational[] result = new IRational[roots.size() + 1];
+        Arrays.fill(result, F.C0);
+        result[0] = leading;
+
+        // Multiply the product so far by (x - root): every coefficient moves up one power
+        for (int n = 0; n < roots.size(); n++) {
+            if (!(roots.get(n) instanceof IRational root)) {
+                throw new IllegalArgumentException("Root is not a rational number: " + roots.get(n));
+            }
+
+            IRational negated = root.negate();
+            for (int i = n + 1; i > 0; i--) {
+                result[i] = result[i - 1].add(negated.multiply(result[i]));
+            }
+            result[0] = negated.multiply(result[0]);
+        }
+        return trim(result);
+    }
+
+    /**
+     * Returns the degree. The zero polynomial has degree 0.
+     *
+     * @return degree
+     */
+    public int degree() {
+        return coefficients.length - 1;
+    }
+
+    /**
+     * Returns the coefficient of {@code x^power}.
+     *
+     * @param power the power
+     * @return the coefficient, zero above the degree
+     */
+    public @NotNull IRational coefficient(int power) {
+        return power < coefficients.length ? coefficients[power] : F.C0;
+    }
+
+    /**
+     * Returns the coefficients in ascending order of powers.
+     *
+     * @return coefficients
+     */
+    public @NotNull List<IRational> coefficients() {
+        return List.of(coefficients);
+    }
+
+    /**
+     * Checks if this is the zero polynomial.
+     *
+     * @return true if zero
+     */
+    public boolean isZero() {
+        return coefficients.length == 1 && coefficients[0].isZero();
+    }
+
+    /**
+     * Computes {@code this + other}.
+     *
+     * @param other the other polynomial
+     * @return sum
+     */
+    public @NotNull RationalPolynomial add(@NotNull RationalPolynomial other) {
+        IRational[] result = new IRational[Math.max(coefficients.length, other.coefficients.length)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = coefficient(i).add(other.coefficient(i));
+        }
+        return trim(result);
+    }
+
+    /**
+     * Computes {@code this - other}.
+     *
+     * @param other the other polynomial
+     * @return difference
+     */
+    public @NotNull RationalPolynomial subtract(@NotNull RationalPolynomial other) {
+        IRational[] result = new IRational[Math.max(coefficients.length, other.coefficients.length)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = coefficient(i).add(other.coefficient(i).negate());
+        }
+        return trim(result);
+    }
+
+    /**
+     * Computes {@code this * other}.
+     *
+     * @param other the other polynomial
+     * @return product
+     */
+    public @NotNull RationalPolynomial multiply(@NotNull RationalPolynomial other) {
+        if (isZero() || other.isZero()) return ZERO;
+
+        IRational[] result = new IRational[coefficients.length + other.coefficients.length - 1];
+        Arrays.fill(result, F.C0);
+
+        for (int i = 0; i < coefficients.length; i++) {
+            if (coefficients[i].isZero()) continue;
+
+            for (int j = 0; j < other.coefficients.length; j++) {
+                result[i + j] = result[i + j].add(coefficients[i].multiply(other.coefficients[j]));
+            }
+        }
+        return trim(result);
+    }
+
+    /**
+     * Multiplies every coefficient by a number.
+     *
+     * @param factor the factor
+     * @return scaled polynomial
+     */
+    public @NotNull RationalPolynomial scale(@NotNull IRational factor) {
+        if (factor.isZero()) return ZERO;
+
+        IRational[] result = new IRational[coefficients.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = coefficients[i].multiply(factor);
+        }
+        return trim(result);
+    }
+
+    /**
+     * Computes the composition {@code this(inner(x))} with Horner's scheme.
+     *
+     * @param inner the inner polynomial
+     * @return composed polynomial
+     */
+    public @NotNull RationalPolynomial compose(@NotNull RationalPolynomial inner) {
+        RationalPolynomial result = constant(coefficients[coefficients.length - 1]);
+
+        for (int i = coefficients.length - 2; i >= 0; i--) {
+            result = result.multiply(inner).add(constant(coefficients[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Computes the derivative.
+     *
+     * @return derivative
+     */
+    public @NotNull RationalPolynomial derivative() {
+        if (coefficients.length == 1) return ZERO;
+
+        IRational[] result = new IRational[coefficients.length - 1];
+        for (int i = 1; i < coefficients.length; i++) {
+            result[i - 1] = coefficients[i].multiply(F.ZZ(i));
+        }
+        return trim(result);
+    }
+
+    /**
+     * Evaluates the polynomial exactly with Horner's scheme.
+     *
+     * @param x the point
+     * @return exact value
+     */
+    public @NotNull IRational evaluate(@NotNull IRational x) {
+        IRational result = coefficients[coefficients.length - 1];
+
+        for (int i = coefficients.length - 2; i >= 0; i--) {
+            result = result.multiply(x).add(coefficients[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates the polynomial in double precision, with Horner's scheme for low degrees and
+     * Estrin's scheme from degree {@value #ESTRIN_DEGREE} on.
+     *
+     * @param x the point
+     * @return approximate value
+     */
+    public double evaluate(double x) {
+        double[] c = numeric();
+        if (c.length > ESTRIN_DEGREE) return estrin(c, x);
+
+        double result = c[c.length - 1];
+        for (int i = c.length - 2; i >= 0; i--) {
+            result = result * x + c[i];
+        }
+        return result;
+    }
+
+    /**
+     * Estrin's scheme: pairs {@code c[2i] + c[2i+1] * x} are formed independently, then pairs of those
+     * with {@code x^2}, then with {@code x^4} and so on. The multiplications of one level do not depend
+     * on each other, unlike Horner's single chain, so the CPU can overlap them.
+     */
+    private static double estrin(double @NotNull [] c, double x) {
+        double[] level = new double[(c.length + 1) / 2];
+        int size = 0;
+
+        for (int i = 0; i < c.length; i += 2) {
+            level[size++] = i + 1 < c.length ? c[i] + c[i + 1] * x : c[i];
+        }
+
+        double power = x * x;
+        while (size > 1) {
+            int next = 0;
+            for (int i = 0; i < size; i += 2) {
+                level[next++] = i + 1 < size ? level[i] + level[i + 1] * power : level[i];
+            }
+            size = next;
+            power *= power;
+        }
+        return level[0];
+    }
+
+    /**
+     * Returns the coefficients as doubles in ascending order of powers.
+     *
+     * @return copy of the double coefficients
+     */
+    public double @NotNull [] toDoubleArray() {
+        return numeric().clone();
+    }
+
+    private double[] numeric() {
+        double[] result = numeric;
+        if (result == null) {
+            result = new double[coefficients.length];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = coefficients[i].doubleValue();
+            }
+            numeric = result;
+        }
+        return result;
+    }
+
+    /**
+     * Builds the Symja expression, constant term first, e.g. {@code 2-3*x+x^2}.
+     * Zero terms are skipped and unit coefficients and exponents are left out.
+     *
+     * @param variable the variable
+     * @return Symja expression
+     */
+    public @NotNull IExpr toExpr(@NotNull ISymbol variable) {
+        IASTAppendable sum = F.ast(S.Plus, coefficients.length);
+
+        for (int i = 0; i < coefficients.length; i++) {
+            IRational coefficient = coefficients[i];
+            if (coefficient.isZero()) continue;
+
+            if (i == 0) {
+                sum.append(coefficient);
+                continue;
+            }
+
+            IExpr power = i == 1 ? variable : F.Power(variable, F.ZZ(i));
+            sum.append(coefficient.isOne() ? power : F.Times(coefficient, power));
+        }
+
+        if (sum.argSize() == 0) return F.C0;
+        return sum.argSize() == 1 ? sum.arg1() : sum;
+    }
+
+    private static @NotNull RationalPolynomial constant(@NotNull IRational value) {
+        return value.isZero() ? ZERO : new RationalPolynomial(new IRational[]{value});
+    }
+
+    private static @NotNull RationalPolynomial trim(IRational @NotNull [] coefficients) {
+        int length = coefficients.length;
+        while (length > 1 && coefficients[length - 1].isZero()) length--;
+
+        if (length == 0 || (length == 1 && coefficients[0].isZero())) return ZERO;
+        return new RationalPolynomial(length == coefficients.length ? coefficients : Arrays.copyOf(coefficients, length));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof RationalPolynomial polynomial)) return false;
+
+        return Arrays.equals(coefficients, polynomial.coefficients);
+    }
+
+    @Override
+    public int hashCode() {
+        if (hash == 0) {
+            hash = Arrays.hashCode(coefficients);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return toExpr(F.x).toString();
+    }
+}
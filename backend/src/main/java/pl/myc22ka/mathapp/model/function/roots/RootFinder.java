@@ -0,0 +1,265 @@
+package pl.myc22ka.mathapp.model.function.roots;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Utility class finding real roots of a numeric function on a bounded interval.
+ * <p>
+ * The interval is sampled on a uniform grid. Cells with a sign change are refined with Brent's method
+ * and give certified roots. Cells where the function may turn back towards zero (the derivative changes
+ * sign or the midpoint has a different sign) are split in half up to {@link RootFinderOptions#maxDepth()}
+ * times, and roots where the graph only touches the axis are polished with Newton's method.
+ * Jumps across poles are rejected because the function does not approach zero there.
+ * The search stops when its time budget runs out and returns what was found so far.
+ *
+ * @author Myc22Ka
+ * @version 1.0.1
+ * @since 18.10.2026
+ */
+@UtilityClass
+public class RootFinder {
+
+    private final int MAX_ITERATIONS = 100;
+    private final double MACHINE_EPSILON = Math.ulp(1.0);
+    private final double ZERO_TOLERANCE = 1e-9;
+
+    /**
+     * Finds the roots of a function in {@code [min, max]}.
+     *
+     * @param function   the function
+     * @param derivative its derivative, used for Newton refinement and to detect turning points
+     * @param min        lower end of the search interval
+     * @param max        upper end of the search interval
+     * @param options    search settings
+     * @return roots ordered by estimate
+     * @throws IllegalArgumentException if the interval is not finite or min is greater than max
+     */
+    public @NotNull List<RootInterval> find(@NotNull DoubleUnaryOperator function, @NotNull DoubleUnaryOperator derivative,
+                                            double min, double max, @NotNull RootFinderOptions options) {
+        if (!Double.isFinite(min) || !Double.isFinite(max) || min > max) {
+            throw new IllegalArgumentException("Root search interval must be finite and ordered: [" + min + ", " + max + "]");
+        }
+
+        Search search = new Search(function, derivative, options);
+
+        if (min == max) {
+            if (function.applyAsDouble(min) == 0) search.roots.add(new RootInterval(min, max, min, true));
+            return search.roots;
+        }
+
+        int n = options.gridPoints();
+        double step = (max - min) / (n - 1);
+        double a = min;
+        double fa = function.applyAsDouble(a);
+
+        for (int i = 1; i < n && !search.expired(); i++) {
+            double b = i == n - 1 ? max : min + i * step;
+            double fb = function.applyAsDouble(b);
+
+            search.scan(a, fa, b, fb, 0);
+
+            a = b;
+            fa = fb;
+        }
+
+        if (a == max && fa == 0) search.roots.add(new RootInterval(max, max, max, true));
+
+        return deduplicate(search.roots, options.tolerance());
+    }
+
+    private @NotNull List<RootInterval> deduplicate(@NotNull List<RootInterval> roots, double tolerance) {
+        roots.sort(Comparator.comparingDouble(RootInterval::estimate));
+
+        List<RootInterval> result = new ArrayList<>(roots.size());
+        for (RootInterval root : roots) {
+            if (!result.isEmpty()) {
+                RootInterval last = result.getLast();
+                double distance = Math.abs(root.estimate() - last.estimate());
+
+                if (distance <= Math.max(1e3 * tolerance, ZERO_TOLERANCE * (1 + Math.abs(root.estimate())))) {
+                    if (root.certified() && !last.certified()) result.set(result.size() - 1, root);
+                    continue;
+                }
+            }
+            result.add(root);
+        }
+        return result;
+    }
+
+    private final class Search {
+        private final DoubleUnaryOperator function;
+        private final DoubleUnaryOperator derivative;
+        private final RootFinderOptions options;
+        private final long deadline;
+        private final List<RootInterval> roots = new ArrayList<>();
+
+        private Search(DoubleUnaryOperator function, DoubleUnaryOperator derivative, RootFinderOptions options) {
+            this.function = function;
+            this.derivative = derivative;
+            this.options = options;
+            this.deadline = System.nanoTime() + options.budgetMillis() * 1_000_000;
+        }
+
+        private boolean expired() {
+            return System.nanoTime() - deadline > 0;
+        }
+
+        private void scan(double a, double fa, double b, double fb, int depth) {
+            if (expired()) return;
+
+            if (fa == 0) {
+                roots.add(new RootInterval(a, a, a, true));
+                return;
+            }
+
+            double m = 0.5 * (a + b);
+            boolean finite = Double.isFinite(fa) && Double.isFinite(fb);
+
+            if (!finite) {
+                // Part of the cell is outside the domain; narrow it down towards the domain boundary
+                if (depth < options.maxDepth()) {
+                    double fm = function.applyAsDouble(m);
+
+                    // A cell with no finite value at either end or in the middle is taken as outside the domain
+                    if (!Double.isFinite(fa) && !Double.isFinite(fb) && !Double.isFinite(fm)) return;
+
+                    scan(a, fa, m, fm, depth + 1);
+                    scan(m, fm, b, fb, depth + 1);
+                }
+                return;
+            }
+
+            if (fb != 0 && Math.signum(fa) != Math.signum(fb)) {
+                bracket(a, fa, b, fb);
+                return;
+            }
+            if (fb == 0) return;
+
+            double fm = function.applyAsDouble(m);
+            boolean turns = derivative.applyAsDouble(a) * derivative.applyAsDouble(b) <= 0;
+            boolean crosses = Double.isFinite(fm) && Math.signum(fm) != Math.signum(fa);
+
+            if (!turns && !crosses) return;
+
+            if (depth < options.maxDepth()) {
+                scan(a, fa, m, fm, depth + 1);
+                scan(m, fm, b, fb, depth + 1);
+            } else if (turns) {
+                touch(a, b);
+            }
+        }
+
+        private void bracket(double a, double fa, double b, double fb) {
+            double[] result = brent(a, fa, b, fb);
+            double root = result[0];
+            double value = function.applyAsDouble(root);
+
+            // A sign change across a pole does not approach zero
+            double scale = Math.max(1, Math.max(Math.abs(fa), Math.abs(fb)));
+            if (!Double.isFinite(value) || Math.abs(value) > Math.sqrt(ZERO_TOLERANCE) * scale) return;
+
+            roots.add(new RootInterval(Math.min(result[0], result[1]), Math.max(result[0], result[1]), root, true));
+        }
+
+        private void touch(double a, double b) {
+            double x = 0.5 * (a + b);
+
+            for (int i = 0; i < MAX_ITERATIONS; i++) {
+                double fx = function.applyAsDouble(x);
+                double dfx = derivative.applyAsDouble(x);
+
+                if (fx == 0) break;
+                if (!Double.isFinite(fx) || !Double.isFinite(dfx) || dfx == 0) return;
+
+                double next = x - fx / dfx;
+                if (Math.abs(next - x) <= options.tolerance() * (1 + Math.abs(x))) {
+                    x = next;
+                    break;
+                }
+                x = next;
+            }
+
+            if (x < a || x > b) return;
+            if (Math.abs(function.applyAsDouble(x)) <= ZERO_TOLERANCE) {
+                roots.add(new RootInterval(a, b, x, false));
+            }
+        }
+
+        /**
+         * Brent's method on a bracket with a sign change.
+         *
+         * @return the root estimate and the opposite end of the final bracket
+         */
+        private double[] brent(double lower, double fLower, double upper, double fUpper) {
+            double a = lower, fa = fLower;
+            double b = upper, fb = fUpper;
+            double c = b, fc = fb;
+            double d = b - a, e = d;
+
+            for (int i = 0; i < MAX_ITERATIONS; i++) {
+                if (Math.signum(fb) == Math.signum(fc)) {
+                    c = a;
+                    fc = fa;
+                    d = b - a;
+                    e = d;
+                }
+                if (Math.abs(fc) < Math.abs(fb)) {
+                    a = b;
+                    b = c;
+                    c = a;
+                    fa = fb;
+                    fb = fc;
+                    fc = fa;
+                }
+
+                double tol = 2 * MACHINE_EPSILON * Math.abs(b) + 0.5 * options.tolerance();
+                double xm = 0.5 * (c - b);
+
+                if (Math.abs(xm) <= tol || fb == 0) break;
+
+                if (Math.abs(e) >= tol && Math.abs(fa) > Math.abs(fb)) {
+                    double s = fb / fa;
+                    double p;
+                    double q;
+
+                    if (a == c) {
+                        p = 2 * xm * s;
+                        q = 1 - s;
+                    } else {
+                        double r = fb / fc;
+                        q = fa / fc;
+                        p = s * (2 * xm * q * (q - r) - (b - a) * (r - 1));
+                        q = (q - 1) * (r - 1) * (s - 1);
+                    }
+
+                    if (p > 0) q = -q;
+                    p = Math.abs(p);
+
+                    if (2 * p < Math.min(3 * xm * q - Math.abs(tol * q), Math.abs(e * q))) {
+                        e = d;
+                        d = p / q;
+                    } else {
+                        d = xm;
+                        e = d;
+                    }
+                } else {
+                    d = xm;
+                    e = d;
+                }
+
+                a = b;
+                fa = fb;
+                b += Math.abs(d) > tol ? d : Math.copySign(tol, xm);
+                fb = function.applyAsDouble(b);
+            }
+
+            return new double[]{b, c};
+        }
+    }
+}
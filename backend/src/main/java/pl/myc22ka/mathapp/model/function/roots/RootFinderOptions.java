@@ -0,0 +1,32 @@
+package pl.myc22ka.mathapp.model.function.roots;
+
+/**
+ * Settings of {@link RootFinder}.
+ *
+ * @param gridPoints   number of points of the initial sampling grid
+ * @param maxDepth     how many times a suspicious grid cell may be split in half
+ * @param tolerance    absolute tolerance of the refined roots
+ * @param budgetMillis time budget of one search; cells left when it runs out are skipped
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+public record RootFinderOptions(int gridPoints, int maxDepth, double tolerance, long budgetMillis) {
+
+    /**
+     * Defaults used by {@link pl.myc22ka.mathapp.model.function.Function#getNumericRoots(double, double)}.
+     */
+    public static final RootFinderOptions DEFAULT = new RootFinderOptions(256, 12, 1e-12, 250);
+
+    /**
+     * Validates the settings.
+     *
+     * @throws IllegalArgumentException if a value is out of range
+     */
+    public RootFinderOptions {
+        if (gridPoints < 2) throw new IllegalArgumentException("Root finder needs at least 2 grid points: " + gridPoints);
+        if (maxDepth < 0) throw new IllegalArgumentException("Root finder depth must not be negative: " + maxDepth);
+        if (tolerance <= 0) throw new IllegalArgumentException("Root finder tolerance must be positive: " + tolerance);
+        if (budgetMillis <= 0) throw new IllegalArgumentException("Root finder budget must be positive: " + budgetMillis);
+    }
+}
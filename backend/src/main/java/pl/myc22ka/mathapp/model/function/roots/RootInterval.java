@@ -0,0 +1,29 @@
+package pl.myc22ka.mathapp.model.function.roots;
+
+/**
+ * Interval {@code [lower, upper]} containing a root of a function, with the refined estimate.
+ * <p>
+ * A certified interval has endpoints where the function has opposite signs (or is exactly zero),
+ * so for a continuous function it contains a root by the intermediate value theorem.
+ * Roots of even multiplicity (the graph touches the axis) are found by Newton refinement
+ * and are not certified.
+ *
+ * @param lower     lower end of the interval
+ * @param upper     upper end of the interval
+ * @param estimate  refined root estimate inside the interval
+ * @param certified whether a sign change proves the root
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+public record RootInterval(double lower, double upper, double estimate, boolean certified) {
+
+    /**
+     * Returns the width of the interval.
+     *
+     * @return upper minus lower
+     */
+    public double width() {
+        return upper - lower;
+    }
+}
@@ -0,0 +1,197 @@
+package pl.myc22ka.mathapp.model.function.sampling;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import pl.myc22ka.mathapp.model.function.Function;
+
+import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Utility class sampling a function graph on an interval with more points where the graph bends.
+ * <p>
+ * The interval is first sampled on a uniform grid extended with the {@link Breakpoints} of the function,
+ * approached from both sides. Each grid segment is then split in half while its midpoint lies more than
+ * half a pixel away from the straight line between its ends, so flat parts stay coarse and curved parts
+ * get dense. Segments where the function leaves its domain are split towards the domain edge.
+ * Poles, jumps and gaps in the domain are marked with {@code NaN} values in the result.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@UtilityClass
+public class AdaptiveSampler {
+
+    private final int MIN_GRID_POINTS = 16;
+    private final double BREAKPOINT_OFFSET = 1e-9;
+    private final double LOWER_PERCENTILE = 0.05;
+    private final double UPPER_PERCENTILE = 0.95;
+
+    /**
+     * Samples a function on {@code [min, max]}.
+     *
+     * @param function the function
+     * @param min      lower end of the interval
+     * @param max      upper end of the interval
+     * @param options  sampling settings
+     * @return sampled curve
+     * @throws IllegalArgumentException if the interval is not finite or min is not less than max
+     */
+    public @NotNull SampledCurve sample(@NotNull Function function, double min, double max, @NotNull SamplingOptions options) {
+        if (!Double.isFinite(min) || !Double.isFinite(max) || min >= max) {
+            throw new IllegalArgumentException("Sampling interval must be finite and non-empty: [" + min + ", " + max + "]");
+        }
+
+        double[] breakpoints = Breakpoints.find(function.getSymjaExpression(), function.getVariable(), min, max);
+        return sample(function.toDoubleFunction(), breakpoints, min, max, options);
+    }
+
+    /**
+     * Samples a numeric function on {@code [min, max]}.
+     *
+     * @param function    the function
+     * @param breakpoints poles and domain edges to approach from both sides
+     * @param min         lower end of the interval
+     * @param max         upper end of the interval
+     * @param options     sampling settings
+     * @return sampled curve
+     */
+    public @NotNull SampledCurve sample(@NotNull DoubleUnaryOperator function, double @NotNull [] breakpoints,
+                                        double min, double max, @NotNull SamplingOptions options) {
+        double offset = BREAKPOINT_OFFSET * (max - min);
+        double[] grid = grid(breakpoints, min, max, offset, options);
+        double[] values = new double[grid.length];
+
+        for (int i = 0; i < grid.length; i++) {
+            values[i] = function.applyAsDouble(grid[i]);
+        }
+
+        double scale = scale(values);
+        Sampling sampling = new Sampling(function, options, scale / options.height() / 2, (max - min) / options.maxPoints(), scale);
+
+        sampling.emit(grid[0], values[0]);
+        for (int i = 1; i < grid.length; i++) {
+            if (grid[i] - grid[i - 1] <= 2 * offset && containsBreakpoint(grid[i - 1], grid[i], breakpoints)) {
+                sampling.gap();
+            } else {
+                sampling.refine(grid[i - 1], values[i - 1], grid[i], values[i], 0);
+            }
+            sampling.emit(grid[i], values[i]);
+        }
+
+        return sampling.build();
+    }
+
+    private double @NotNull [] grid(double @NotNull [] breakpoints, double min, double max, double offset,
+                                    @NotNull SamplingOptions options) {
+        int n = Math.max(MIN_GRID_POINTS, options.width() / 4);
+
+        double[] grid = new double[n + 2 * breakpoints.length];
+        int count = 0;
+
+        for (int i = 0; i < n; i++) {
+            grid[count++] = i == n - 1 ? max : min + i * (max - min) / (n - 1);
+        }
+        for (double breakpoint : breakpoints) {
+            if (breakpoint - offset > min) grid[count++] = breakpoint - offset;
+            if (breakpoint + offset < max) grid[count++] = breakpoint + offset;
+        }
+
+        return Arrays.stream(grid, 0, count).sorted().distinct().toArray();
+    }
+
+    private boolean containsBreakpoint(double a, double b, double @NotNull [] breakpoints) {
+        int index = Arrays.binarySearch(breakpoints, a);
+        int next = index >= 0 ? index + 1 : -index - 1;
+        return next < breakpoints.length && breakpoints[next] < b;
+    }
+
+    /**
+     * Returns the typical spread of the values, ignoring the extremes near poles.
+     */
+    private double scale(double @NotNull [] values) {
+        double[] finite = Arrays.stream(values).filter(Double::isFinite).sorted().toArray();
+        if (finite.length == 0) return 1;
+
+        double spread = finite[(int) (UPPER_PERCENTILE * (finite.length - 1))] - finite[(int) (LOWER_PERCENTILE * (finite.length - 1))];
+        return spread > 0 ? spread : Math.max(1, Math.abs(finite[0]));
+    }
+
+    private final class Sampling {
+        private final DoubleUnaryOperator function;
+        private final SamplingOptions options;
+        private final double tolerance;
+        private final double minWidth;
+        private final double jump;
+        private final long deadline;
+        private double[] x = new double[256];
+        private double[] y = new double[256];
+        private int count;
+
+        private Sampling(DoubleUnaryOperator function, SamplingOptions options, double tolerance, double minWidth, double scale) {
+            this.function = function;
+            this.options = options;
+            this.tolerance = tolerance;
+            this.minWidth = minWidth;
+            this.jump = scale / 2;
+            this.deadline = System.nanoTime() + options.budgetMillis() * 1_000_000;
+        }
+
+        private boolean exhausted() {
+            return count >= options.maxPoints() || System.nanoTime() - deadline > 0;
+        }
+
+        private void refine(double a, double fa, double b, double fb, int depth) {
+            boolean finiteA = Double.isFinite(fa);
+            boolean finiteB = Double.isFinite(fb);
+            if (!finiteA && !finiteB) return;
+
+            boolean finest = depth >= options.maxDepth() || b - a <= minWidth;
+            if (finest || exhausted()) {
+                // A steep step that did not flatten out at the finest resolution is a jump, not a slope
+                if (finest && finiteA && finiteB && Math.abs(fb - fa) > jump) gap();
+                return;
+            }
+
+            double m = 0.5 * (a + b);
+            double fm = function.applyAsDouble(m);
+
+            if (finiteA && finiteB && Double.isFinite(fm) && Math.abs(fm - 0.5 * (fa + fb)) <= tolerance) return;
+
+            refine(a, fa, m, fm, depth + 1);
+            emit(m, fm);
+            refine(m, fm, b, fb, depth + 1);
+        }
+
+        private void emit(double px, double py) {
+            if (!Double.isFinite(py)) {
+                gap(px);
+                return;
+            }
+            append(px, py);
+        }
+
+        private void gap() {
+            if (count > 0 && !Double.isNaN(y[count - 1])) append(x[count - 1], Double.NaN);
+        }
+
+        private void gap(double px) {
+            if (count == 0 || !Double.isNaN(y[count - 1])) append(px, Double.NaN);
+        }
+
+        private void append(double px, double py) {
+            if (count == x.length) {
+                x = Arrays.copyOf(x, count * 2);
+                y = Arrays.copyOf(y, count * 2);
+            }
+            x[count] = px;
+            y[count] = py;
+            count++;
+        }
+
+        private SampledCurve build() {
+            return new SampledCurve(Arrays.copyOf(x, count), Arrays.copyOf(y, count));
+        }
+    }
+}
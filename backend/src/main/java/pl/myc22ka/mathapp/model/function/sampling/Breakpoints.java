@@ -0,0 +1,113 @@
+package pl.myc22ka.mathapp.model.function.sampling;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.expression.F;
+import org.matheclipse.core.expression.S;
+import org.matheclipse.core.interfaces.IAST;
+import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.ISymbol;
+import pl.myc22ka.mathapp.model.function.NumericCompiler;
+import pl.myc22ka.mathapp.model.function.roots.RootFinder;
+import pl.myc22ka.mathapp.model.function.roots.RootFinderOptions;
+import pl.myc22ka.mathapp.model.function.roots.RootInterval;
+
+import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Utility class locating the points where a function graph may break: poles of denominators
+ * ({@code 1/(x-2)}, {@code Tan(x)}) and domain edges of roots and logarithms ({@code Sqrt(x+1)}, {@code Log(x)}).
+ * <p>
+ * The expression tree is searched for such subexpressions and the roots of their arguments
+ * are found numerically with {@link RootFinder}.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@UtilityClass
+public class Breakpoints {
+
+    private final RootFinderOptions OPTIONS = new RootFinderOptions(128, 8, 1e-12, 5);
+
+    /**
+     * Finds the breakpoints of an expression in {@code [min, max]}.
+     *
+     * @param expression the function expression
+     * @param variable   the variable
+     * @param min        lower end of the interval
+     * @param max        upper end of the interval
+     * @return sorted, distinct breakpoints
+     */
+    public double @NotNull [] find(@NotNull IExpr expression, @NotNull ISymbol variable, double min, double max) {
+        Collector collector = new Collector(variable, min, max);
+        collector.walk(expression);
+
+        return Arrays.stream(collector.points, 0, collector.count).sorted().distinct().toArray();
+    }
+
+    private final class Collector {
+        private final ISymbol variable;
+        private final double min;
+        private final double max;
+        private double[] points = new double[8];
+        private int count;
+
+        private Collector(ISymbol variable, double min, double max) {
+            this.variable = variable;
+            this.min = min;
+            this.max = max;
+        }
+
+        private void walk(@NotNull IExpr expression) {
+            if (!(expression instanceof IAST ast) || expression.isFree(variable)) return;
+
+            if (ast.isPower() && ast.argSize() == 2 && ast.arg2().isFree(variable)) {
+                double exponent = evalf(ast.arg2());
+
+                // Negative exponents have poles, fractional ones end the real domain
+                if (exponent < 0 || exponent != Math.rint(exponent)) addRoots(ast.arg1());
+            } else if (ast.head() == S.Log) {
+                addRoots(ast.argSize() == 2 ? ast.arg2() : ast.arg1());
+            } else if (ast.head() == S.Sqrt) {
+                addRoots(ast.arg1());
+            } else if (ast.argSize() == 1 && (ast.head() == S.Tan || ast.head() == S.Sec)) {
+                addRoots(F.Cos(ast.arg1()));
+            } else if (ast.argSize() == 1 && (ast.head() == S.Cot || ast.head() == S.Csc)) {
+                addRoots(F.Sin(ast.arg1()));
+            }
+
+            for (int i = 1; i <= ast.argSize(); i++) {
+                walk(ast.get(i));
+            }
+        }
+
+        private void addRoots(@NotNull IExpr argument) {
+            if (argument.isFree(variable)) return;
+
+            DoubleUnaryOperator function = NumericCompiler.compile(argument, variable);
+            DoubleUnaryOperator derivative = x -> {
+                double h = 1e-6 * Math.max(1, Math.abs(x));
+                return (function.applyAsDouble(x + h) - function.applyAsDouble(x - h)) / (2 * h);
+            };
+
+            for (RootInterval root : RootFinder.find(function, derivative, min, max, OPTIONS)) {
+                add(root.estimate());
+            }
+        }
+
+        private void add(double point) {
+            if (count == points.length) points = Arrays.copyOf(points, count * 2);
+            points[count++] = point;
+        }
+    }
+
+    private double evalf(@NotNull IExpr expression) {
+        try {
+            return expression.evalf();
+        } catch (RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package pl.myc22ka.mathapp.model.function.sampling;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Utility class downsampling a curve with the Largest-Triangle-Three-Buckets algorithm.
+ * <p>
+ * The points are split into buckets and from each bucket the point forming the largest triangle with
+ * the point kept from the previous bucket and the average of the next bucket is kept. This preserves
+ * peaks and turns that plain decimation would drop. Breaks ({@code NaN} values) are kept, and every
+ * unbroken piece of the curve gets a share of the point budget proportional to its length.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@UtilityClass
+public class Lttb {
+
+    /**
+     * Downsamples a curve to about {@code threshold} points.
+     *
+     * @param curve     the curve
+     * @param threshold the point budget, at least 3
+     * @return the curve itself if it is within budget, otherwise the downsampled curve
+     * @throws IllegalArgumentException if the threshold is less than 3
+     */
+    public @NotNull SampledCurve downsample(@NotNull SampledCurve curve, int threshold) {
+        if (threshold < 3) throw new IllegalArgumentException("LTTB needs a budget of at least 3 points: " + threshold);
+        if (curve.size() <= threshold) return curve;
+
+        double[] x = curve.x();
+        double[] y = curve.y();
+        int finite = (int) Arrays.stream(y).filter(value -> !Double.isNaN(value)).count();
+
+        double[] outX = new double[threshold + curve.size() - finite + 2];
+        double[] outY = new double[outX.length];
+        int count = 0;
+
+        int start = 0;
+        while (start < x.length) {
+            if (Double.isNaN(y[start])) {
+                outX[count] = x[start];
+                outY[count] = Double.NaN;
+                count++;
+                start++;
+                continue;
+            }
+
+            int end = start;
+            while (end < x.length && !Double.isNaN(y[end])) end++;
+
+            int length = end - start;
+            int budget = Math.max(2, (int) ((long) threshold * length / Math.max(1, finite)));
+            if (count + Math.min(budget, length) > outX.length) {
+                outX = Arrays.copyOf(outX, outX.length * 2 + length);
+                outY = Arrays.copyOf(outY, outX.length);
+            }
+
+            count = piece(x, y, start, length, budget, outX, outY, count);
+            start = end;
+        }
+
+        return new SampledCurve(Arrays.copyOf(outX, count), Arrays.copyOf(outY, count));
+    }
+
+    private int piece(double[] x, double[] y, int start, int length, int budget, double[] outX, double[] outY, int count) {
+        if (length <= budget || length < 3) {
+            System.arraycopy(x, start, outX, count, length);
+            System.arraycopy(y, start, outY, count, length);
+            return count + length;
+        }
+
+        double every = (double) (length - 2) / (budget - 2);
+        int kept = start;
+
+        outX[count] = x[start];
+        outY[count] = y[start];
+        count++;
+
+        for (int bucket = 0; bucket < budget - 2; bucket++) {
+            int from = start + 1 + (int) (bucket * every);
+            int to = Math.min(start + 1 + (int) ((bucket + 1) * every), start + length - 1);
+
+            int nextFrom = to;
+            int nextTo = Math.min(start + 1 + (int) ((bucket + 2) * every), start + length);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextFrom; i < nextTo; i++) {
+                averageX += x[i];
+                averageY += y[i];
+            }
+            int nextSize = Math.max(1, nextTo - nextFrom);
+            averageX /= nextSize;
+            averageY /= nextSize;
+
+            double maxArea = -1;
+            int chosen = from;
+            for (int i = from; i < to; i++) {
+                double area = Math.abs((x[kept] - averageX) * (y[i] - y[kept]) - (x[kept] - x[i]) * (averageY - y[kept]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = i;
+                }
+            }
+
+            outX[count] = x[chosen];
+            outY[count] = y[chosen];
+            count++;
+            kept = chosen;
+        }
+
+        outX[count] = x[start + length - 1];
+        outY[count] = y[start + length - 1];
+        return count + 1;
+    }
+}
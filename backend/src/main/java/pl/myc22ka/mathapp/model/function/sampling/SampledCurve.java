@@ -0,0 +1,36 @@
+package pl.myc22ka.mathapp.model.function.sampling;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Points of a sampled function graph in ascending order of {@code x}.
+ * A point with {@code y = NaN} marks a break in the curve: a pole, a jump or a gap in the domain.
+ *
+ * @param x the arguments
+ * @param y the values, {@code NaN} where the curve is broken
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+public record SampledCurve(double @NotNull [] x, double @NotNull [] y) {
+
+    /**
+     * Validates that both arrays have the same length.
+     *
+     * @throws IllegalArgumentException if the lengths differ
+     */
+    public SampledCurve {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("Sampled curve needs as many values as arguments: " + x.length + " != " + y.length);
+        }
+    }
+
+    /**
+     * Returns the number of points, breaks included.
+     *
+     * @return point count
+     */
+    public int size() {
+        return x.length;
+    }
+}
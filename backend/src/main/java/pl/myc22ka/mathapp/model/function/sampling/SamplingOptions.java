@@ -0,0 +1,45 @@
+package pl.myc22ka.mathapp.model.function.sampling;
+
+/**
+ * Settings of {@link AdaptiveSampler}.
+ *
+ * @param width        horizontal resolution of the graph in pixels
+ * @param height       vertical resolution of the graph in pixels; a segment is refined while its midpoint
+ *                     is more than half a pixel away from the straight line between its ends
+ * @param maxPoints    upper bound of sampled points before downsampling
+ * @param maxDepth     how many times a segment of the initial grid may be split in half
+ * @param budgetMillis time budget of one sampling; segments left when it runs out are not refined
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+public record SamplingOptions(int width, int height, int maxPoints, int maxDepth, long budgetMillis) {
+
+    private static final int POINTS_PER_PIXEL = 8;
+    private static final int DEFAULT_MAX_DEPTH = 10;
+    private static final long DEFAULT_BUDGET_MILLIS = 30;
+
+    /**
+     * Validates the settings.
+     *
+     * @throws IllegalArgumentException if a value is out of range
+     */
+    public SamplingOptions {
+        if (width < 2) throw new IllegalArgumentException("Graph width must be at least 2 pixels: " + width);
+        if (height < 1) throw new IllegalArgumentException("Graph height must be positive: " + height);
+        if (maxPoints < width) throw new IllegalArgumentException("Sampler needs at least one point per pixel: " + maxPoints);
+        if (maxDepth < 0) throw new IllegalArgumentException("Sampler depth must not be negative: " + maxDepth);
+        if (budgetMillis <= 0) throw new IllegalArgumentException("Sampler budget must be positive: " + budgetMillis);
+    }
+
+    /**
+     * Returns default settings for a graph of the given size.
+     *
+     * @param width  width in pixels
+     * @param height height in pixels
+     * @return sampling settings
+     */
+    public static SamplingOptions forGraph(int width, int height) {
+        return new SamplingOptions(width, height, width * POINTS_PER_PIXEL, DEFAULT_MAX_DEPTH, DEFAULT_BUDGET_MILLIS);
+    }
+}
@@ -6,6 +6,7 @@ import org.matheclipse.core.interfaces.IExpr;
 import pl.myc22ka.mathapp.model.expression.MathExpression;
 import pl.myc22ka.mathapp.model.expression.TemplatePrefix;
 import pl.myc22ka.mathapp.model.set.sets.Interval;
+import pl.myc22ka.mathapp.model.set.utils.segment.SegmentSet;
 import pl.myc22ka.mathapp.model.set.visitors.SetVisitor;
 
 import static pl.myc22ka.mathapp.model.expression.TemplatePrefix.SET;
@@ -16,7 +17,7 @@ import static pl.myc22ka.mathapp.model.set.sets.BoundType.OPEN;
  * Represents a mathematical set with common set operations.
  *
  * @author Myc22Ka
- * @version 1.0.4
+ * @version 1.0.7
  * @since 2025.06.19
  */
 public interface ISet extends MathExpression {
@@ -55,11 +56,12 @@ public interface ISet extends MathExpression {
     boolean contains(@NotNull String element);
 
     /**
-     * Removes the specified element from the set.
+     * Returns a new set without the specified element. Sets are immutable, so this set is not changed.
      *
      * @param element element to remove
+     * @return set without the element
      */
-    void remove(@NotNull String element);
+    @NotNull ISet remove(@NotNull String element);
 
     /**
      * Returns the size of the set, or null if not applicable.
@@ -93,13 +95,22 @@ public interface ISet extends MathExpression {
     @NotNull ISet intersection(@NotNull ISet other);
 
     /**
-     * Is empty boolean.
+     * Checks if this set has no elements.
      *
-     * @return the boolean
+     * @return true if the set is empty
      */
-    default boolean isEmpty(){
-        return this.toString().equals(EMPTY.toString());
-    }
+    boolean isEmpty();
+
+    /**
+     * Returns the canonical form of this set, used by {@code equals} and {@code hashCode}.
+     * <p>
+     * Empty and real sets map to a {@link SegmentSet}, sets made only of points map to a sorted
+     * list of distinct elements and other intervals to their normalized segments, so equal sets
+     * have equal canonical forms regardless of their type or how they were written.
+     *
+     * @return canonical form of this set
+     */
+    @NotNull Object canonicalForm();
 
     /**
      * Complement set. A' = U \ A
@@ -108,7 +119,7 @@ public interface ISet extends MathExpression {
      * @return the set
      */
     default @NotNull ISet complement(@NotNull ISet universe) {
-        if (universe.toString().equals(REAL.toString())){
+        if (universe.getISetType() == ISetType.FUNDAMENTAL && !universe.isEmpty()){
             return universe.toInterval().difference(this);
         }
 
@@ -139,16 +150,17 @@ public interface ISet extends MathExpression {
      * Checks if this set expression represents a disjoint union.
      *
      * @return true if the set contains a union operation, false otherwise
+     * @throws UnsupportedOperationException if the set type does not support it
      */
     default boolean isDisjoint(){
-        return this.toString().contains(SetSymbols.UNION.toString());
+        throw new UnsupportedOperationException("isDisjoint() not supported for this set");
     }
 
     @Override
     default boolean onlyPositiveElements() {
         var intersection = this.intersection(new Interval(F.ZZ(0), OPEN, OPEN, INFINITY.parse()));
 
-        return intersection.toString().equals(this.toString());
+        return intersection.equals(this);
     }
 
     @Override
@@ -168,9 +180,20 @@ public interface ISet extends MathExpression {
 
     @Override
     default boolean equals(MathExpression other) {
-        if (this == other) return true;
+        return this.equals((Object) other);
+    }
+
+    /**
+     * Compares two sets by their canonical forms.
+     *
+     * @param set   the set
+     * @param other the object to compare with
+     * @return true if {@code other} is a set with the same canonical form
+     */
+    static boolean canonicalEquals(@NotNull ISet set, Object other) {
+        if (set == other) return true;
         if (!(other instanceof ISet otherSet)) return false;
 
-        return this.toString().equals(otherSet.toString());
+        return set.canonicalForm().equals(otherSet.canonicalForm());
     }
 }
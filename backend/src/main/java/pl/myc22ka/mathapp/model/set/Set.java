@@ -4,13 +4,15 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.matheclipse.core.interfaces.IExpr;
+import pl.myc22ka.mathapp.model.expression.ParseCache;
+import pl.myc22ka.mathapp.model.expression.TemplatePrefix;
 import pl.myc22ka.mathapp.model.set.visitors.*;
 
 /**
  * A wrapper implementation of {@link ISet}. Acts as a unified entry point for all set types.
  *
  * @author Myc22Ka
- * @version 1.0.2
+ * @version 1.0.5
  * @since 2025.06.19
  */
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -25,7 +27,7 @@ public class Set implements ISet {
      * @return a new {@link Set} instance
      */
     public static @NotNull Set of(String expr) {
-        ISet set = setFactory.parse(expr);
+        ISet set = ParseCache.get(TemplatePrefix.SET, expr, setFactory::parse);
         return new Set(set);
     }
 
@@ -50,8 +52,8 @@ public class Set implements ISet {
     }
 
     @Override
-    public void remove(@NotNull String element) {
-        delegate.remove(element);
+    public @NotNull ISet remove(@NotNull String element) {
+        return delegate.remove(element);
     }
 
     @Override
@@ -73,5 +75,35 @@ public class Set implements ISet {
     public @NotNull ISet intersection(@NotNull ISet other) {
         return other.accept(new IntersectionVisitor(delegate));
     }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public boolean isDisjoint() {
+        return delegate.isDisjoint();
+    }
+
+    @Override
+    public @NotNull Object canonicalForm() {
+        return delegate.canonicalForm();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return ISet.canonicalEquals(delegate, other);
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
 }
 
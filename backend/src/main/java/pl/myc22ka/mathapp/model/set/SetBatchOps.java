@@ -0,0 +1,330 @@
+package pl.myc22ka.mathapp.model.set;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.expression.F;
+import org.matheclipse.core.expression.S;
+import org.matheclipse.core.interfaces.IASTAppendable;
+import org.matheclipse.core.interfaces.IExpr;
+import pl.myc22ka.mathapp.model.expression.SymjaGuard;
+import pl.myc22ka.mathapp.model.expression.SymjaOperation;
+import pl.myc22ka.mathapp.model.set.sets.Finite;
+import pl.myc22ka.mathapp.model.set.sets.Fundamental;
+import pl.myc22ka.mathapp.model.set.sets.Interval;
+import pl.myc22ka.mathapp.model.set.utils.segment.Segment;
+import pl.myc22ka.mathapp.model.set.utils.segment.SegmentSet;
+import pl.myc22ka.mathapp.model.set.visitors.SegmentVisitor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BinaryOperator;
+import java.util.function.IntFunction;
+
+import static pl.myc22ka.mathapp.model.set.ISetType.FINITE;
+import static pl.myc22ka.mathapp.model.set.SetSymbols.EMPTY;
+import static pl.myc22ka.mathapp.model.set.SetSymbols.REAL;
+
+/**
+ * Utility class for set operations over many operands at once.
+ * <p>
+ * Pairwise operations ({@link #union(List, List)} etc.) normalize every distinct operand to its
+ * {@link SegmentSet} once, so an operand shared by many pairs is converted only once, and then combine
+ * the segments of each pair. Pairs of finite sets use the regular operation. Large batches, e.g. when a
+ * whole exercise is regraded, are split into chunks run on a dedicated bounded pool; when its queue is
+ * full the caller runs the chunk itself, so the common fork-join pool is never blocked on Symja work.
+ * N-ary operations ({@link #unionAll(Collection)}, {@link #intersectAll(Collection)}) normalize every
+ * operand once and then combine them in a single pass: one {@code Union}/{@code Intersection} call for
+ * finite sets, one sort-and-merge of segments otherwise.
+ *
+ * @author Myc22Ka
+ * @version 1.0.2
+ * @since 18.10.2026
+ */
+@UtilityClass
+public class SetBatchOps {
+
+    private final int PARALLEL_THRESHOLD = 64;
+    private final int DEFAULT_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+    private final int DEFAULT_QUEUE_CAPACITY = 64;
+
+    private final SegmentVisitor segmentVisitor = new SegmentVisitor();
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    private volatile ThreadPoolExecutor executor = createExecutor(DEFAULT_THREADS, DEFAULT_QUEUE_CAPACITY);
+
+    /**
+     * Replaces the pool used for large batches. Batches already running on the old one are allowed to finish.
+     *
+     * @param threads       the number of pool threads
+     * @param queueCapacity how many chunks may wait for a thread before they run on the caller
+     * @throws IllegalArgumentException if threads or queue capacity is not positive
+     */
+    public synchronized void configure(int threads, int queueCapacity) {
+        if (threads <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Invalid set batch configuration: threads=" + threads
+                    + ", queueCapacity=" + queueCapacity);
+        }
+
+        ThreadPoolExecutor previous = executor;
+        executor = createExecutor(threads, queueCapacity);
+        previous.shutdown();
+    }
+
+    /**
+     * Computes {@code left[i] ∪ right[i]} for every pair.
+     *
+     * @param left  the left operands
+     * @param right the right operands
+     * @return results in pair order
+     * @throws IllegalArgumentException if the lists have different sizes
+     */
+    public @NotNull List<ISet> union(@NotNull List<? extends ISet> left, @NotNull List<? extends ISet> right) {
+        return pairwise(left, right, ISet::union, SegmentSet::union);
+    }
+
+    /**
+     * Computes {@code left[i] ∩ right[i]} for every pair.
+     *
+     * @param left  the left operands
+     * @param right the right operands
+     * @return results in pair order
+     * @throws IllegalArgumentException if the lists have different sizes
+     */
+    public @NotNull List<ISet> intersection(@NotNull List<? extends ISet> left, @NotNull List<? extends ISet> right) {
+        return pairwise(left, right, ISet::intersection, SegmentSet::intersection);
+    }
+
+    /**
+     * Computes {@code left[i] ∖ right[i]} for every pair.
+     *
+     * @param left  the left operands
+     * @param right the right operands
+     * @return results in pair order
+     * @throws IllegalArgumentException if the lists have different sizes
+     */
+    public @NotNull List<ISet> difference(@NotNull List<? extends ISet> left, @NotNull List<? extends ISet> right) {
+        return pairwise(left, right, ISet::difference, SegmentSet::difference);
+    }
+
+    /**
+     * Applies an operation to every pair. Operands are normalized once up front; pairs of finite sets and
+     * operands without a segment form (e.g. ℤ) use the regular operation instead.
+     *
+     * @param left             the left operands
+     * @param right            the right operands
+     * @param operation        the regular set operation
+     * @param segmentOperation the same operation on segments
+     * @return results in pair order
+     * @throws IllegalArgumentException if the lists have different sizes
+     */
+    private @NotNull List<ISet> pairwise(@NotNull List<? extends ISet> left, @NotNull List<? extends ISet> right,
+                                         @NotNull BinaryOperator<ISet> operation,
+                                         @NotNull BinaryOperator<SegmentSet> segmentOperation) {
+        if (left.size() != right.size()) {
+            throw new IllegalArgumentException("Operand lists differ in size: " + left.size() + " and " + right.size());
+        }
+
+        Map<ISet, SegmentSet> normalized = normalize(left, right);
+
+        return map(left.size(), i -> {
+            ISet a = left.get(i);
+            ISet b = right.get(i);
+            SegmentSet segmentsA = normalized.get(a);
+            SegmentSet segmentsB = normalized.get(b);
+
+            if (segmentsA == null || segmentsB == null) return operation.apply(a, b);
+            return fromSegments(segmentOperation.apply(segmentsA, segmentsB));
+        });
+    }
+
+    /**
+     * Converts every distinct operand of a pair that is not made of two finite sets to segments, once.
+     * Operands without a segment form are left out.
+     */
+    private @NotNull Map<ISet, SegmentSet> normalize(@NotNull List<? extends ISet> left,
+                                                     @NotNull List<? extends ISet> right) {
+        Map<ISet, Boolean> seen = new IdentityHashMap<>();
+        List<ISet> distinct = new ArrayList<>();
+
+        for (int i = 0; i < left.size(); i++) {
+            ISet a = left.get(i);
+            ISet b = right.get(i);
+            if (a.getISetType() == FINITE && b.getISetType() == FINITE) continue;
+
+            if (seen.put(a, Boolean.TRUE) == null) distinct.add(a);
+            if (seen.put(b, Boolean.TRUE) == null) distinct.add(b);
+        }
+
+        List<SegmentSet> segments = map(distinct.size(), i -> {
+            try {
+                return distinct.get(i).accept(segmentVisitor);
+            } catch (UnsupportedOperationException e) {
+                return null;
+            }
+        });
+
+        Map<ISet, SegmentSet> normalized = new IdentityHashMap<>(distinct.size());
+        for (int i = 0; i < distinct.size(); i++) {
+            if (segments.get(i) != null) normalized.put(distinct.get(i), segments.get(i));
+        }
+        return normalized;
+    }
+
+    /**
+     * Computes {@code task(i)} for {@code i < size}. At least {@value #PARALLEL_THRESHOLD} tasks are split
+     * into one chunk per pool thread, fewer run on the calling thread.
+     */
+    private <T> @NotNull List<T> map(int size, @NotNull IntFunction<T> task) {
+        @SuppressWarnings("unchecked")
+        T[] results = (T[]) new Object[size];
+
+        if (size < PARALLEL_THRESHOLD) {
+            for (int i = 0; i < size; i++) results[i] = task.apply(i);
+            return Arrays.asList(results);
+        }
+
+        ThreadPoolExecutor pool = executor;
+        int chunkSize = Math.ceilDiv(size, pool.getMaximumPoolSize());
+        List<Future<?>> chunks = new ArrayList<>();
+
+        for (int from = 0; from < size; from += chunkSize) {
+            int start = from;
+            int end = Math.min(size, from + chunkSize);
+            chunks.add(pool.submit(() -> {
+                for (int i = start; i < end; i++) results[i] = task.apply(i);
+            }));
+        }
+
+        for (Future<?> chunk : chunks) {
+            join(chunk);
+        }
+        return Arrays.asList(results);
+    }
+
+    private void join(@NotNull Future<?> chunk) {
+        try {
+            chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Set batch was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            if (e.getCause() instanceof Error error) throw error;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private @NotNull ThreadPoolExecutor createExecutor(int threads, int queueCapacity) {
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "set-batch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), factory, new ThreadPoolExecutor.CallerRunsPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * Computes the union of all sets.
+     *
+     * @param sets the operands
+     * @return union of all operands, ∅ for no operands
+     */
+    public @NotNull ISet unionAll(@NotNull Collection<? extends ISet> sets) {
+        List<ISet> operands = new ArrayList<>(sets.size());
+
+        for (ISet set : sets) {
+            if (set.isEmpty()) continue;
+            if (isReal(set)) return Fundamental.of(REAL);
+            operands.add(set);
+        }
+
+        if (operands.isEmpty()) return Fundamental.of(EMPTY);
+        if (operands.size() == 1) return operands.getFirst();
+        if (allFinite(operands)) return combineFinite(operands, true);
+
+        List<Segment> segments = new ArrayList<>();
+        for (ISet set : operands) {
+            segments.addAll(set.accept(segmentVisitor).segments());
+        }
+
+        return fromSegments(SegmentSet.of(segments));
+    }
+
+    /**
+     * Computes the intersection of all sets.
+     *
+     * @param sets the operands
+     * @return intersection of all operands, ℝ for no operands
+     */
+    public @NotNull ISet intersectAll(@NotNull Collection<? extends ISet> sets) {
+        List<ISet> operands = new ArrayList<>(sets.size());
+
+        for (ISet set : sets) {
+            if (set.isEmpty()) return Fundamental.of(EMPTY);
+            if (isReal(set)) continue;
+            operands.add(set);
+        }
+
+        if (operands.isEmpty()) return Fundamental.of(REAL);
+        if (operands.size() == 1) return operands.getFirst();
+        if (allFinite(operands)) return combineFinite(operands, false);
+
+        List<SegmentSet> normalized = new ArrayList<>(operands.size());
+        for (ISet set : operands) {
+            normalized.add(set.accept(segmentVisitor));
+        }
+        normalized.sort(Comparator.comparingInt(segmentSet -> segmentSet.segments().size()));
+
+        SegmentSet result = normalized.getFirst();
+        for (int i = 1; i < normalized.size() && !result.isEmpty(); i++) {
+            result = result.intersection(normalized.get(i));
+        }
+
+        return fromSegments(result);
+    }
+
+    private boolean isReal(@NotNull ISet set) {
+        return set.getISetType() == ISetType.FUNDAMENTAL && !set.isEmpty();
+    }
+
+    private boolean allFinite(@NotNull List<ISet> sets) {
+        for (ISet set : sets) {
+            if (set.getISetType() != FINITE) return false;
+        }
+        return true;
+    }
+
+    private @NotNull ISet combineFinite(@NotNull List<ISet> sets, boolean union) {
+        IASTAppendable ast = F.ast(union ? S.Union : S.Intersection, sets.size());
+        for (ISet set : sets) {
+            ast.append(set.getExpression());
+        }
+
+        IExpr result = SymjaGuard.eval(SymjaOperation.EVALUATE, ast);
+        return result.isList() ? Finite.of(result) : Fundamental.of(EMPTY);
+    }
+
+    private @NotNull ISet fromSegments(@NotNull SegmentSet segments) {
+        if (segments.isEmpty()) return Fundamental.of(EMPTY);
+        if (segments.isReal()) return Fundamental.of(REAL);
+
+        return new Interval(segments).shorten();
+    }
+}
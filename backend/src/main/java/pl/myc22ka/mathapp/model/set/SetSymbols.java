@@ -1,9 +1,11 @@
 package pl.myc22ka.mathapp.model.set;
 
 import org.jetbrains.annotations.NotNull;
-import org.matheclipse.core.eval.ExprEvaluator;
 import org.matheclipse.core.expression.F;
 import org.matheclipse.core.interfaces.IExpr;
+import pl.myc22ka.mathapp.model.expression.EvaluatorPool;
+import pl.myc22ka.mathapp.model.expression.SymjaGuard;
+import pl.myc22ka.mathapp.model.expression.SymjaOperation;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -15,7 +17,7 @@ import java.util.stream.Collectors;
  * Enum representing common set symbols with Symja and display forms.
  *
  * @author Myc22Ka
- * @version 1.0.4
+ * @version 1.0.6
  * @since 2025.06.19
  */
 public enum SetSymbols {
@@ -92,7 +94,6 @@ public enum SetSymbols {
 
     private final String symjaSymbol;
     private final String displaySymbol;
-    private final ExprEvaluator evaluator = new ExprEvaluator();
 
     private static final Map<String, SetSymbols> DISPLAY_LOOKUP;
 
@@ -119,14 +120,14 @@ public enum SetSymbols {
         IExpr result;
 
         try {
-            result = evaluator.eval(element);
+            result = SymjaGuard.eval(SymjaOperation.EVALUATE, element);
         } catch (Exception e) {
             return false;
         }
 
         return switch (this) {
             case REAL -> {
-                IExpr imagPart = evaluator.eval(F.Im(result));
+                IExpr imagPart = SymjaGuard.eval(SymjaOperation.EVALUATE, F.Im(result));
                 yield imagPart.isZero() ||
                         (imagPart.isNumericFunction() && imagPart.evalf() == 0);
             }
@@ -144,7 +145,7 @@ public enum SetSymbols {
      * @return parsed Symja expression
      */
     public IExpr parse() {
-        return evaluator.getEvalEngine().parse(symjaSymbol);
+        return EvaluatorPool.parse(symjaSymbol);
     }
 
     /**
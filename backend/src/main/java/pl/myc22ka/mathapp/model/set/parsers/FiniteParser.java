@@ -1,7 +1,8 @@
 package pl.myc22ka.mathapp.model.set.parsers;
 
 import org.jetbrains.annotations.NotNull;
-import org.matheclipse.core.eval.ExprEvaluator;
+import pl.myc22ka.mathapp.model.expression.SymjaGuard;
+import pl.myc22ka.mathapp.model.expression.SymjaOperation;
 import pl.myc22ka.mathapp.model.set.ISet;
 import pl.myc22ka.mathapp.model.set.sets.Finite;
 import pl.myc22ka.mathapp.model.set.utils.ExpressionUtils;
@@ -11,7 +12,7 @@ import pl.myc22ka.mathapp.model.set.utils.ExpressionUtils;
  * It produces a {@link Finite} set representation.
  *
  * @author Myc22Ka
- * @version 1.0.0
+ * @version 1.0.3
  * @since 22.07.2025
  */
 public final class FiniteParser implements ISetParser {
@@ -23,6 +24,6 @@ public final class FiniteParser implements ISetParser {
 
     @Override
     public @NotNull ISet parse(@NotNull String expr) {
-        return new Finite(new ExprEvaluator().eval(expr));
+        return Finite.of(SymjaGuard.eval(SymjaOperation.SET_PARSE, expr));
     }
 }
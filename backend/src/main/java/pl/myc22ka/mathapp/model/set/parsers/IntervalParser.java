@@ -1,7 +1,8 @@
 package pl.myc22ka.mathapp.model.set.parsers;
 
 import org.jetbrains.annotations.NotNull;
-import org.matheclipse.core.eval.ExprEvaluator;
+import pl.myc22ka.mathapp.model.expression.SymjaGuard;
+import pl.myc22ka.mathapp.model.expression.SymjaOperation;
 import pl.myc22ka.mathapp.model.set.ISet;
 import pl.myc22ka.mathapp.model.set.SetSymbols;
 import pl.myc22ka.mathapp.model.set.sets.BoundType;
@@ -18,7 +19,7 @@ import static pl.myc22ka.mathapp.model.set.sets.BoundType.OPEN;
  * It produces a {@link Interval} set representation.
  *
  * @author Myc22Ka
- * @version 1.0.0
+ * @version 1.0.3
  * @since 22.07.2025
  */
 public final class IntervalParser implements ISetParser{
@@ -31,7 +32,7 @@ public final class IntervalParser implements ISetParser{
     @Override
     public @NotNull ISet parse(@NotNull String expr) {
 
-        if(SetSymbols.isReal(expr)) return new Fundamental(REAL);
+        if(SetSymbols.isReal(expr)) return Fundamental.of(REAL);
 
         char left = expr.charAt(0);
         char right = expr.charAt(expr.length() - 1);
@@ -44,8 +45,6 @@ public final class IntervalParser implements ISetParser{
         String start = content.substring(0, comma).trim();
         String end = content.substring(comma + 1).trim();
 
-        ExprEvaluator evaluator = new ExprEvaluator();
-
-        return new Interval(evaluator.eval(start), leftBound, rightBound, evaluator.eval(end));
+        return new Interval(SymjaGuard.eval(SymjaOperation.SET_PARSE, start), leftBound, rightBound, SymjaGuard.eval(SymjaOperation.SET_PARSE, end));
     }
 }
\ No newline at end of file
@@ -20,7 +20,7 @@ import static pl.myc22ka.mathapp.model.set.SetSymbols.REAL;
  * It produces a {@link ReducedFundamental} set representation.
  *
  * @author Myc22Ka
- * @version 1.0.1
+ * @version 1.0.2
  * @since 22.07.2025
  */
 public final class ReducedFundamentalParser implements ISetParser {
@@ -44,7 +44,7 @@ public final class ReducedFundamentalParser implements ISetParser {
     public @NotNull ISet parse(@NotNull String expr) {
         List<SetSymbols> binaryOperations = SetSymbols.getBinaryOperations();
 
-        if (SetSymbols.isReal(expr)) return new Fundamental(REAL);
+        if (SetSymbols.isReal(expr)) return Fundamental.of(REAL);
 
         for (SetSymbols symbol : binaryOperations) {
             String operator = symbol.toString();
@@ -66,6 +66,6 @@ public final class ReducedFundamentalParser implements ISetParser {
             }
         }
 
-        return new Fundamental(EMPTY);
+        return Fundamental.of(EMPTY);
     }
 }
\ No newline at end of file
@@ -1,7 +1,8 @@
 package pl.myc22ka.mathapp.model.set.parsers;
 
 import org.jetbrains.annotations.NotNull;
-import org.matheclipse.core.eval.ExprEvaluator;
+import pl.myc22ka.mathapp.model.expression.SymjaGuard;
+import pl.myc22ka.mathapp.model.expression.SymjaOperation;
 import pl.myc22ka.mathapp.model.set.ISet;
 import pl.myc22ka.mathapp.model.set.sets.Fundamental;
 import pl.myc22ka.mathapp.model.set.sets.Interval;
@@ -16,15 +17,16 @@ import static pl.myc22ka.mathapp.model.set.SetSymbols.*;
 /**
  * Parser for Multiple set exprs, such as "x<-3∨(-3<x∧x<1)".
  * It produces a {@link Fundamental} or {@link Interval} set representation.
+ * Parsing runs through {@link SymjaGuard} within the {@link SymjaOperation#SET_PARSE} budget. Every
+ * evaluation made while parsing is wrapped in {@code TimeConstrained} and the worker is interrupted when
+ * the budget runs out, so a timed-out parse stops instead of running on in the background.
  *
  * @author Myc22Ka
- * @version 1.0.0
+ * @version 1.0.4
  * @since 23.07.2025
  */
 public final class SymjaSetParser implements ISetParser{
 
-    private final ExprEvaluator evaluator = new ExprEvaluator();
-
     private static final Pattern AND_PATTERN = Pattern.compile("(.+)\\s*∧\\s*(.+)");
     private static final Pattern OR_PATTERN = Pattern.compile("(.+)\\s*∨\\s*(.+)");
 
@@ -44,12 +46,16 @@ public final class SymjaSetParser implements ISetParser{
 
     @Override
     public @NotNull ISet parse(@NotNull String expr) {
+        return SymjaGuard.call(SymjaOperation.SET_PARSE, () -> parseExpression(expr));
+    }
+
+    private @NotNull ISet parseExpression(@NotNull String expr) {
         if (expr.equals("True")) {
-            return new Fundamental(REAL);
+            return Fundamental.of(REAL);
         }
 
         if (expr.equals("False")) {
-            return new Fundamental(EMPTY);
+            return Fundamental.of(EMPTY);
         }
 
         expr = ExpressionUtils.stripOuterParentheses(expr);
@@ -62,8 +68,8 @@ public final class SymjaSetParser implements ISetParser{
                 String leftExpr = expr.substring(0, position);
                 String rightExpr = expr.substring(position + 1);
 
-                ISet leftSet = parse(leftExpr);
-                ISet rightSet = parse(rightExpr);
+                ISet leftSet = parseExpression(leftExpr);
+                ISet rightSet = parseExpression(rightExpr);
 
                 return operation.equals(OR) ? leftSet.union(rightSet) : leftSet.intersection(rightSet);
             }
@@ -73,7 +79,7 @@ public final class SymjaSetParser implements ISetParser{
             Matcher matcher = pattern.matcher(expr);
             if (matcher.matches()) {
                 String value = matcher.group(1);
-                return pattern.toInterval(value, evaluator);
+                return pattern.toInterval(value);
             }
         }
 
@@ -2,12 +2,14 @@ package pl.myc22ka.mathapp.model.set.sets;
 
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.expression.S;
+import org.matheclipse.core.interfaces.ISymbol;
 
 /**
  * Enum representing bound types for intervals: open or closed.
  *
  * @author Myc22Ka
- * @version 1.0.1
+ * @version 1.0.2
  * @since 2025.06.19
  */
 @Getter
@@ -58,4 +60,22 @@ public enum BoundType {
                 ? (this == CLOSED ? "[" : "(")
                 : (this == CLOSED ? "]" : ")");
     }
+
+    /**
+     * Returns the opposite bound type. Used when a bound becomes the edge of a complement.
+     *
+     * @return CLOSED for OPEN and OPEN for CLOSED
+     */
+    public @NotNull BoundType opposite() {
+        return this == CLOSED ? OPEN : CLOSED;
+    }
+
+    /**
+     * Returns the Symja symbol used inside {@code IntervalData} for this bound.
+     *
+     * @return {@code LessEqual} for CLOSED, {@code Less} for OPEN
+     */
+    public @NotNull ISymbol toSymbol() {
+        return this == CLOSED ? S.LessEqual : S.Less;
+    }
 }
\ No newline at end of file
@@ -1,34 +1,58 @@
 package pl.myc22ka.mathapp.model.set.sets;
 
 import org.jetbrains.annotations.NotNull;
-import org.matheclipse.core.eval.ExprEvaluator;
 import org.matheclipse.core.expression.F;
 import org.matheclipse.core.interfaces.IAST;
 import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.IInteger;
+import pl.myc22ka.mathapp.model.expression.SymjaGuard;
+import pl.myc22ka.mathapp.model.expression.SymjaOperation;
 import pl.myc22ka.mathapp.model.set.ISet;
 import pl.myc22ka.mathapp.model.set.ISetType;
 import pl.myc22ka.mathapp.model.set.SetSymbols;
+import pl.myc22ka.mathapp.model.set.utils.CanonicalForm;
+import pl.myc22ka.mathapp.model.set.utils.range.IntegerRange;
+import pl.myc22ka.mathapp.model.set.utils.range.IntegerRangeSet;
+import pl.myc22ka.mathapp.model.set.utils.segment.SegmentSet;
 import pl.myc22ka.mathapp.model.set.visitors.SetVisitor;
 import pl.myc22ka.mathapp.model.set.visitors.DifferenceVisitor;
 import pl.myc22ka.mathapp.model.set.visitors.IntersectionVisitor;
 import pl.myc22ka.mathapp.model.set.visitors.UnionVisitor;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * Mathematical finite set {1,2,3,4}.
+ * <p>
+ * Sets whose elements are all integers are additionally backed by an {@link IntegerRangeSet}, which
+ * answers membership, size and the operations between two such sets without Symja. The Symja list is
+ * used for symbolic elements and is built lazily for sets created from integer ranges. A range with a
+ * step above 1, like {@code Range[1, 10^12, 3]}, is kept as a single {@link IntegerRange} until its runs
+ * are needed. Listing or rendering the elements is limited to {@value IntegerRangeSet#EXPANSION_LIMIT}.
  *
  * @author Myc22Ka
- * @version 1.0.1
+ * @version 1.0.13
  * @since 2025.06.19
  */
 public class Finite implements ISet {
-    private final ExprEvaluator evaluator = new ExprEvaluator();
-    private IExpr expression;
+    private static final int INTERN_MAX_ELEMENTS = 8;
+    private static final Map<IExpr, WeakReference<Finite>> INTERNED = new WeakHashMap<>();
+
+    private final IntegerRange progression;
+    private volatile IntegerRangeSet integers;
+    private volatile IExpr expression;
+    private Object canonicalForm;
+    private Interval interval;
+    private String text;
+    private int hash;
 
     /**
      * Creates a new Finite set representing a range of values from start to end with a given step.
+     * Integer ranges with a positive step are built without Symja.
      *
      * @param start the starting expression of the range
      * @param end   the ending expression of the range
@@ -36,11 +60,21 @@ public class Finite implements ISet {
      * @throws IllegalArgumentException if the evaluated range is not a finite list
      */
     public Finite(IExpr start, IExpr end, IExpr step) {
-        expression = evaluator.eval(F.Range(start, end, step));
+        IntegerRange range = integerRange(start, end, step);
+
+        if (range != null) {
+            this.progression = isProgression(range) ? range : null;
+            this.integers = progression == null ? IntegerRangeSet.ofRanges(List.of(range)) : null;
+            return;
+        }
+
+        this.progression = null;
+        this.expression = SymjaGuard.eval(SymjaOperation.EVALUATE, F.Range(start, end, step));
 
         if (!expression.isList()) {
             throw new IllegalArgumentException("Range[start, end] did not produce a finite list.");
         }
+        this.integers = integersOf(expression);
     }
 
     /**
@@ -49,7 +83,9 @@ public class Finite implements ISet {
      * @param expression the Symja expression representing a Finite set
      */
     public Finite(@NotNull IExpr expression) {
+        this.progression = null;
         this.expression = expression;
+        this.integers = integersOf(expression);
     }
 
     /**
@@ -58,7 +94,97 @@ public class Finite implements ISet {
      * @param elements the list of expressions representing elements of the Finite set
      */
     public Finite(@NotNull List<IExpr> elements) {
-        this.expression = F.List(elements.toArray(new IExpr[0]));
+        this(F.List(elements.toArray(new IExpr[0])));
+    }
+
+    private Finite(@NotNull IntegerRangeSet integers) {
+        this.progression = null;
+        this.integers = integers;
+    }
+
+    private Finite(@NotNull IntegerRange progression) {
+        this.progression = progression;
+    }
+
+    /**
+     * Returns a Finite set of all integers in the given ranges. Elements are expanded lazily,
+     * and a single range with a step above 1 is kept as it is.
+     *
+     * @param ranges integer ranges
+     * @return range-backed Finite set
+     */
+    public static @NotNull Finite ofRanges(@NotNull List<IntegerRange> ranges) {
+        if (ranges.size() == 1 && isProgression(ranges.getFirst())) {
+            return new Finite(ranges.getFirst());
+        }
+        return new Finite(IntegerRangeSet.ofRanges(ranges));
+    }
+
+    /**
+     * Returns a Finite set of the given integers. Elements are expanded lazily.
+     *
+     * @param integers the integers
+     * @return range-backed Finite set
+     */
+    public static @NotNull Finite ofIntegers(@NotNull IntegerRangeSet integers) {
+        return new Finite(integers);
+    }
+
+    /**
+     * Returns a Finite set for the given Symja list. Sets with at most
+     * {@value #INTERN_MAX_ELEMENTS} elements are interned and shared. The intern table is weak,
+     * so an entry disappears once no one refers to its set any more.
+     *
+     * @param expression the Symja list of elements
+     * @return a shared or new Finite set
+     */
+    public static @NotNull Finite of(@NotNull IExpr expression) {
+        if (expression.argSize() > INTERN_MAX_ELEMENTS) {
+            return new Finite(expression);
+        }
+
+        synchronized (INTERNED) {
+            WeakReference<Finite> reference = INTERNED.get(expression);
+            Finite interned = reference != null ? reference.get() : null;
+            if (interned != null) return interned;
+
+            Finite finite = new Finite(expression);
+            INTERNED.put(finite.expression, new WeakReference<>(finite));
+            return finite;
+        }
+    }
+
+    /**
+     * Returns a Finite set for the given elements, see {@link #of(IExpr)}.
+     *
+     * @param elements the elements of the set
+     * @return a shared or new Finite set
+     */
+    public static @NotNull Finite of(@NotNull List<IExpr> elements) {
+        return of(F.List(elements.toArray(new IExpr[0])));
+    }
+
+    /**
+     * Returns the integer representation of this set. A range with a step above 1 is split into its runs here.
+     *
+     * @return the integers of this set, or null if some element is not an integer
+     * @throws IllegalArgumentException if a range with a step above 1 has more than {@value IntegerRangeSet#EXPANSION_LIMIT} elements
+     */
+    public IntegerRangeSet getIntegers() {
+        IntegerRangeSet result = integers;
+        if (result == null && progression != null) {
+            result = IntegerRangeSet.ofRanges(List.of(progression));
+            integers = result;
+        }
+        return result;
+    }
+
+    private boolean isIntegers() {
+        return progression != null || integers != null;
+    }
+
+    private static boolean isProgression(@NotNull IntegerRange range) {
+        return range.step() > 1 && range.size() > 1;
     }
 
     /**
@@ -67,6 +193,8 @@ public class Finite implements ISet {
      * @return a list of expressions representing the elements of Finite set
      */
     private @NotNull List<IExpr> exprToList() {
+        if (isIntegers()) return getIntegers().toList();
+
         IAST ast = (IAST) expression;
         List<IExpr> elements = new ArrayList<>();
 
@@ -77,21 +205,53 @@ public class Finite implements ISet {
         return elements;
     }
 
-    @Override
-    public Interval toInterval() {
-        var list = exprToList();
-        List<IExpr> intervals = new ArrayList<>();
+    private static IntegerRangeSet integersOf(@NotNull IExpr expression) {
+        if (!expression.isList()) return null;
+
+        long[] values = new long[expression.argSize()];
+
+        for (int i = 1; i < expression.size(); i++) {
+            IExpr element = ((IAST) expression).get(i);
+            if (!element.isInteger()) return null;
+
+            try {
+                values[i - 1] = ((IInteger) element).toLong();
+            } catch (ArithmeticException e) {
+                return null;
+            }
+        }
+
+        return IntegerRangeSet.of(values);
+    }
+
+    private static IntegerRange integerRange(IExpr start, IExpr end, IExpr step) {
+        if (!start.isInteger() || !end.isInteger() || !step.isInteger()) return null;
 
-        for (var element : list) {
-            IExpr intervalData = evaluator.eval(String.format(
-                    "IntervalData({%s,%s,%s,%s})",
-                    element, BoundType.CLOSED, BoundType.CLOSED, element
-            ));
-            intervals.add(intervalData);
+        try {
+            long by = ((IInteger) step).toLong();
+            if (by <= 0) return null;
+
+            return new IntegerRange(((IInteger) start).toLong(), ((IInteger) end).toLong(), by);
+        } catch (ArithmeticException e) {
+            return null;
         }
+    }
 
-        IExpr unionExpr = F.IntervalUnion(intervals.toArray(new IExpr[0]));
-        return new Interval(unionExpr.toString());
+    /**
+     * Converts this set to an interval of points. Integer sets are converted straight from their runs,
+     * other sets are sorted once; the result is kept, as set operations convert the same operand repeatedly.
+     *
+     * @return interval of the points of this set
+     * @throws IllegalArgumentException if the set has more than {@value IntegerRangeSet#EXPANSION_LIMIT} elements
+     */
+    @Override
+    public Interval toInterval() {
+        Interval result = interval;
+        if (result == null) {
+            result = new Interval(isIntegers() ? SegmentSet.ofIntegers(getIntegers()) : SegmentSet.ofPoints(exprToList()));
+            interval = result;
+        }
+        return result;
     }
 
     @Override
@@ -101,7 +261,12 @@ public class Finite implements ISet {
 
     @Override
     public @NotNull IExpr getExpression() {
-        return expression;
+        IExpr result = expression;
+        if (result == null) {
+            result = F.List(getIntegers().toList().toArray(new IExpr[0]));
+            expression = result;
+        }
+        return result;
     }
 
     @Override
@@ -111,17 +276,52 @@ public class Finite implements ISet {
 
     @Override
     public boolean contains(@NotNull String x) {
-        return evaluator.eval("ContainsAny[" + expression + ", " + F.List(x) + "]").isTrue();
+        if (isIntegers()) {
+            try {
+                long value = Long.parseLong(x.trim());
+                return progression != null ? progression.contains(value) : integers.contains(value);
+            } catch (NumberFormatException ignored) {
+                // Not a plain integer, let Symja decide
+            }
+        }
+
+        return SymjaGuard.eval(SymjaOperation.EVALUATE, "ContainsAny[" + getExpression() + ", " + F.List(x) + "]").isTrue();
     }
 
     @Override
-    public void remove(@NotNull String element) {
-        expression = evaluator.eval("Complement(" + expression + ",{" + element + "})");
+    public @NotNull ISet remove(@NotNull String element) {
+        if (isIntegers()) {
+            try {
+                return ofIntegers(getIntegers().difference(IntegerRangeSet.of(Long.parseLong(element.trim()))));
+            } catch (NumberFormatException ignored) {
+                // Not a plain integer, let Symja decide
+            }
+        }
+
+        return of(SymjaGuard.eval(SymjaOperation.EVALUATE, "Complement(" + getExpression() + ",{" + element + "})"));
     }
 
+    /**
+     * Returns the number of elements.
+     *
+     * @return element count
+     * @throws IllegalStateException if the set has more than {@link Integer#MAX_VALUE} elements
+     */
     @Override
     public Integer size() {
-        return expression.size() - 1;
+        long count = elementCount();
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Set has " + (count == Long.MAX_VALUE ? "at least " : "") + count
+                    + " elements, more than can be counted");
+        }
+        return (int) count;
+    }
+
+    private long elementCount() {
+        if (progression != null) return progression.size();
+
+        IExpr list = expression;
+        return list == null ? integers.size() : list.argSize();
     }
 
     @Override
@@ -139,8 +339,68 @@ public class Finite implements ISet {
         return other.accept(new IntersectionVisitor(this));
     }
 
+    @Override
+    public boolean isEmpty() {
+        return elementCount() == 0;
+    }
+
+    @Override
+    public boolean isDisjoint() {
+        return false;
+    }
+
+    @Override
+    public @NotNull Object canonicalForm() {
+        if (canonicalForm == null) {
+            if (progression != null) canonicalForm = progression;
+            else if (integers != null) canonicalForm = CanonicalForm.ofIntegers(integers);
+            else canonicalForm = CanonicalForm.ofElements(exprToList());
+        }
+        return canonicalForm;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return ISet.canonicalEquals(this, other);
+    }
+
+    @Override
+    public int hashCode() {
+        if (hash == 0) {
+            hash = canonicalForm().hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * Renders the set as a Symja list. Range-backed sets are written straight from their runs,
+     * without building the element list.
+     *
+     * @throws IllegalArgumentException if the set has more than {@value IntegerRangeSet#EXPANSION_LIMIT} elements
+     */
     @Override
     public String toString() {
-        return expression.toString().equals("{}") ? SetSymbols.EMPTY.toString() : expression.toString();
+        String result = text;
+        if (result == null) {
+            if (isEmpty()) result = SetSymbols.EMPTY.toString();
+            else if (expression != null) result = expression.toString();
+            else if (progression != null) result = render(List.of(progression));
+            else result = render(integers.ranges());
+            text = result;
+        }
+        return result;
+    }
+
+    private @NotNull String render(@NotNull List<IntegerRange> ranges) {
+        IntegerRangeSet.requireExpandable(elementCount());
+        StringBuilder builder = new StringBuilder("{");
+
+        for (IntegerRange range : ranges) {
+            for (long k = 0; k < range.size(); k++) {
+                if (builder.length() > 1) builder.append(',');
+                builder.append(range.start() + k * range.step());
+            }
+        }
+        return builder.append('}').toString();
     }
 }
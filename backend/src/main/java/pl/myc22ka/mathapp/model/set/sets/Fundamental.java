@@ -1,7 +1,6 @@
 package pl.myc22ka.mathapp.model.set.sets;
 
 import lombok.Getter;
-import lombok.Setter;
 import org.jetbrains.annotations.NotNull;
 import org.matheclipse.core.expression.F;
 import org.matheclipse.core.interfaces.IExpr;
@@ -10,6 +9,7 @@ import pl.myc22ka.mathapp.exceptions.ServerErrorMessages;
 import pl.myc22ka.mathapp.model.set.ISet;
 import pl.myc22ka.mathapp.model.set.ISetType;
 import pl.myc22ka.mathapp.model.set.SetSymbols;
+import pl.myc22ka.mathapp.model.set.utils.segment.SegmentSet;
 import pl.myc22ka.mathapp.model.set.visitors.SetVisitor;
 import pl.myc22ka.mathapp.model.set.visitors.DifferenceVisitor;
 import pl.myc22ka.mathapp.model.set.visitors.IntersectionVisitor;
@@ -21,33 +21,39 @@ import static pl.myc22ka.mathapp.model.set.SetSymbols.*;
  * Mathematical interval set ℝ.
  *
  * @author Myc22Ka
- * @version 1.0.2
+ * @version 1.0.6
  * @since 2025.06.19
  */
 public class Fundamental implements ISet {
+    private static final Fundamental REAL_SET = new Fundamental(REAL);
+    private static final Fundamental EMPTY_SET = new Fundamental(EMPTY);
+
     private final IExpr expression;
 
     @Getter
-    @Setter
-    private SetSymbols leftSymbol;
+    private final SetSymbols leftSymbol;
+
+    private Fundamental(@NotNull SetSymbols symbol) {
+        this.leftSymbol = symbol;
+        this.expression = leftSymbol.parse();
+    }
 
     /**
-     * Creates a new Fundamental set based on a predefined symbol.
+     * Returns the shared Fundamental set for a predefined symbol.
      *
      * <p>Currently supports only the symbols {@link SetSymbols#REAL} and {@link SetSymbols#EMPTY}.
      * Attempting to use other symbols will result in an error.</p>
      *
      * @param symbol the predefined symbol representing the fundamental set
+     * @return the shared instance for the symbol
      * @throws ServerError if the provided symbol is not supported for construction
      */
-    public Fundamental(@NotNull SetSymbols symbol) {
-
-        if (symbol != REAL && symbol != EMPTY) {
-            throw new ServerError(ServerErrorMessages.UNSUPPORTED_CONSTRUCTION_BUILD);
-        }
-
-        this.leftSymbol = symbol;
-        this.expression = leftSymbol.parse();
+    public static @NotNull Fundamental of(@NotNull SetSymbols symbol) {
+        return switch (symbol) {
+            case REAL -> REAL_SET;
+            case EMPTY -> EMPTY_SET;
+            default -> throw new ServerError(ServerErrorMessages.UNSUPPORTED_CONSTRUCTION_BUILD);
+        };
     }
 
     @Override
@@ -71,7 +77,7 @@ public class Fundamental implements ISet {
     }
 
     @Override
-    public void remove(@NotNull String element) {
+    public @NotNull ISet remove(@NotNull String element) {
         throw new ServerError(ServerErrorMessages.UNSUPPORTED_OPERATION);
     }
 
@@ -98,12 +104,37 @@ public class Fundamental implements ISet {
     @Override
     public Interval toInterval() {
         if(leftSymbol.equals(REAL)){
-            return new Interval(F.Infinity, BoundType.OPEN, BoundType.OPEN, F.CNInfinity);
+            return new Interval(F.CNInfinity, BoundType.OPEN, BoundType.OPEN, F.CInfinity);
         }
 
         return ISet.super.toInterval();
     }
 
+    @Override
+    public boolean isEmpty() {
+        return leftSymbol == EMPTY;
+    }
+
+    @Override
+    public boolean isDisjoint() {
+        return false;
+    }
+
+    @Override
+    public @NotNull Object canonicalForm() {
+        return leftSymbol == EMPTY ? SegmentSet.empty() : toInterval().canonicalForm();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return ISet.canonicalEquals(this, other);
+    }
+
+    @Override
+    public int hashCode() {
+        return canonicalForm().hashCode();
+    }
+
     @Override
     public String toString() {
         return leftSymbol.toString();
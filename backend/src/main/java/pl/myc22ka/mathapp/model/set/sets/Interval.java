@@ -1,31 +1,49 @@
 package pl.myc22ka.mathapp.model.set.sets;
 
 import org.jetbrains.annotations.NotNull;
-import org.matheclipse.core.eval.ExprEvaluator;
 import org.matheclipse.core.expression.F;
 import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.IInteger;
+import pl.myc22ka.mathapp.model.expression.SymjaGuard;
+import pl.myc22ka.mathapp.model.expression.SymjaOperation;
 import pl.myc22ka.mathapp.model.set.ISet;
 import pl.myc22ka.mathapp.model.set.ISetType;
 import pl.myc22ka.mathapp.model.set.Set;
 import pl.myc22ka.mathapp.model.set.SetSymbols;
+import pl.myc22ka.mathapp.model.set.utils.CanonicalForm;
+import pl.myc22ka.mathapp.model.set.utils.range.IntegerRange;
+import pl.myc22ka.mathapp.model.set.utils.range.IntegerRangeSet;
+import pl.myc22ka.mathapp.model.set.utils.segment.EndpointComparator;
+import pl.myc22ka.mathapp.model.set.utils.segment.Segment;
+import pl.myc22ka.mathapp.model.set.utils.segment.SegmentSet;
 import pl.myc22ka.mathapp.model.set.visitors.DifferenceVisitor;
 import pl.myc22ka.mathapp.model.set.visitors.IntersectionVisitor;
 import pl.myc22ka.mathapp.model.set.visitors.SetVisitor;
 import pl.myc22ka.mathapp.model.set.visitors.UnionVisitor;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Mathematical interval set [0, 4].
+ * <p>
+ * Backed by a {@link SegmentSet}, so set operations between intervals run natively.
+ * The Symja {@code IntervalData} expression is built lazily when requested.
  *
  * @author Myc22Ka
- * @version 1.0.3
+ * @version 1.0.11
  * @since 2025.06.19
  */
 public class Interval implements ISet {
-    private final ExprEvaluator evaluator = new ExprEvaluator();
-    private IExpr expression;
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+    private final SegmentSet segments;
+    private volatile IExpr expression;
+    private Object canonicalForm;
+    private String text;
+    private int hash;
 
     /**
      * Creates an Interval with the given start and end points and specified bound types.
@@ -36,7 +54,7 @@ public class Interval implements ISet {
      * @param end   the upper bound of the interval
      */
     public Interval(IExpr start, @NotNull BoundType left, @NotNull BoundType right, IExpr end) {
-        this.expression = evaluator.eval("IntervalData({" + start + "," + left.getInclusive() + "," + right.getInclusive() + "," + end + "})");
+        this.segments = SegmentSet.of(Segment.of(start, left, right, end));
     }
 
     /**
@@ -45,7 +63,25 @@ public class Interval implements ISet {
      * @param expression the Symja expression that evaluates to an IntervalData object
      */
     public Interval(String expression) {
-        this.expression = evaluator.eval(expression);
+        this.segments = SegmentSet.fromIntervalData(SymjaGuard.eval(SymjaOperation.EVALUATE, expression));
+    }
+
+    /**
+     * Creates an interval from already normalized segments.
+     *
+     * @param segments the segments of this interval
+     */
+    public Interval(@NotNull SegmentSet segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Returns the native segment representation of this interval.
+     *
+     * @return sorted, disjoint segments
+     */
+    public @NotNull SegmentSet getSegments() {
+        return segments;
     }
 
     @Override
@@ -58,43 +94,91 @@ public class Interval implements ISet {
         return this;
     }
 
+    /**
+     * Finds all integers of this interval.
+     * <p>
+     * Integer bounds are computed per segment from its endpoints and bound types, so no
+     * membership check is made per candidate. Endpoints are rounded exactly with {@code Ceiling}
+     * and {@code Floor}, so large or rational endpoints like {@code 10^17+1/2} keep their value.
+     * The result is a range-backed {@link Finite} set.
+     *
+     * @return Finite set of integers, or ∅ if there are none
+     * @throws IllegalArgumentException if the interval is unbounded or its integers do not fit in a long
+     */
     public ISet findAllIntegers() {
-        if (expression == null || expression.toString().equals("IntervalData()")) {
-            return new Fundamental(SetSymbols.EMPTY);
+        List<IntegerRange> ranges = new ArrayList<>();
+
+        for (Segment segment : segments.segments()) {
+            if (EndpointComparator.isInfinite(segment.start()) || EndpointComparator.isInfinite(segment.end())) {
+                throw new IllegalArgumentException("Cannot find all integers in an unbounded interval: " + this);
+            }
+
+            BigInteger first = firstInteger(segment);
+            BigInteger last = lastInteger(segment);
+
+            if (first.compareTo(last) <= 0) ranges.add(IntegerRange.of(toLong(first), toLong(last)));
         }
 
-        List<IExpr> integers = new ArrayList<>();
+        if (ranges.isEmpty()) {
+            return Fundamental.of(SetSymbols.EMPTY);
+        }
+        return Finite.ofRanges(ranges);
+    }
 
-        if (expression.getAt(1).isList()) {
-            for (int i = 1; i < expression.size(); i++) {
-                IExpr element = expression.getAt(i);
+    /**
+     * Returns the integers of this interval that fit in a long, one run per segment.
+     * <p>
+     * Unlike {@link #findAllIntegers()} this also accepts unbounded intervals, so integer sets can be
+     * merged with any interval run by run instead of point by point.
+     *
+     * @return integer runs of this interval clamped to the long range
+     */
+    public @NotNull IntegerRangeSet integerRuns() {
+        List<IntegerRange> ranges = new ArrayList<>();
 
-                int first = (int) Math.ceil(element.getAt(1).evalf());
-                int last = (int) Math.floor(element.getAt(4).evalf());
+        for (Segment segment : segments.segments()) {
+            BigInteger first = EndpointComparator.isInfinite(segment.start()) ? LONG_MIN : firstInteger(segment).max(LONG_MIN);
+            BigInteger last = EndpointComparator.isInfinite(segment.end()) ? LONG_MAX : lastInteger(segment).min(LONG_MAX);
 
-                Interval interval = new Interval(
-                        element.getAt(1),
-                        BoundType.fromInclusive(element.getAt(2).toString()),
-                        BoundType.fromInclusive(element.getAt(3).toString()),
-                        element.getAt(4)
-                );
+            if (first.compareTo(last) <= 0) ranges.add(IntegerRange.of(first.longValue(), last.longValue()));
+        }
+        return IntegerRangeSet.ofRanges(ranges);
+    }
 
-                for (int k = first; k <= last; k++) {
-                    IExpr candidate = evaluator.eval(Integer.toString(k));
+    private static @NotNull BigInteger firstInteger(@NotNull Segment segment) {
+        BigInteger first = integerBound(segment.start(), true);
+        return segment.start().isInteger() && segment.left() == BoundType.OPEN ? first.add(BigInteger.ONE) : first;
+    }
 
-                    String boundCheck = "IntervalData({" + candidate + "," + BoundType.CLOSED.getInclusive() + "," + BoundType.CLOSED.getInclusive() + "," + candidate + "})";
+    private static @NotNull BigInteger lastInteger(@NotNull Segment segment) {
+        BigInteger last = integerBound(segment.end(), false);
+        return segment.end().isInteger() && segment.right() == BoundType.OPEN ? last.subtract(BigInteger.ONE) : last;
+    }
 
-                    if (interval.contains(boundCheck)) {
-                        integers.add(candidate);
-                    }
-                }
-            }
+    /**
+     * Rounds an endpoint to an integer without going through floating point.
+     *
+     * @param endpoint the finite endpoint
+     * @param ceiling  true for {@code Ceiling}, false for {@code Floor}
+     * @return the rounded endpoint
+     * @throws IllegalArgumentException if the endpoint is not real
+     */
+    private static @NotNull BigInteger integerBound(@NotNull IExpr endpoint, boolean ceiling) {
+        IExpr rounded = endpoint.isInteger() ? endpoint
+                : SymjaGuard.eval(SymjaOperation.EVALUATE, ceiling ? F.Ceiling(endpoint) : F.Floor(endpoint));
+
+        if (!rounded.isInteger()) {
+            throw new IllegalArgumentException("Cannot round interval endpoint to an integer: " + endpoint);
         }
+        return ((IInteger) rounded).toBigNumerator();
+    }
 
-        if (integers.isEmpty()) {
-            return new Fundamental(SetSymbols.EMPTY);
+    private long toLong(@NotNull BigInteger value) {
+        try {
+            return value.longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Interval integers are out of range: " + this);
         }
-        return new Finite(integers);
     }
 
     /**
@@ -109,7 +193,9 @@ public class Interval implements ISet {
     public ISet shorten() {
         var rFundamental = this.toReducedFundamental();
 
-        if (this.toString().length() > rFundamental.toString().length() && Set.of(rFundamental.getRight().toString()).getISetType() == ISetType.FINITE) {
+        if (this.toString().length() > rFundamental.toString().length()
+                && rFundamental.getRight() instanceof Interval right
+                && right.getSegments().isPointsOnly()) {
             return rFundamental;
         }
 
@@ -123,13 +209,16 @@ public class Interval implements ISet {
      * @return a {@link ReducedFundamental} representing this set in simplified form
      */
     public ReducedFundamental toReducedFundamental() {
-        var universe = new Fundamental(SetSymbols.REAL);
+        var universe = Fundamental.of(SetSymbols.REAL);
 
         return new ReducedFundamental(universe, SetSymbols.DIFFERENCE, this.complement(universe));
     }
 
     @Override
     public @NotNull IExpr getExpression() {
+        if (expression == null) {
+            expression = segments.toIntervalData();
+        }
         return expression;
     }
 
@@ -140,12 +229,12 @@ public class Interval implements ISet {
 
     @Override
     public boolean contains(@NotNull String element) {
-        return evaluator.eval("IntervalMemberQ[" + expression + "," + element + "]").isTrue();
+        return SymjaGuard.eval(SymjaOperation.EVALUATE, "IntervalMemberQ[" + getExpression() + "," + element + "]").isTrue();
     }
 
     @Override
-    public void remove(@NotNull String element) {
-        expression = difference(Set.of(element)).getExpression();
+    public @NotNull ISet remove(@NotNull String element) {
+        return difference(Set.of(element));
     }
 
     @Override
@@ -169,48 +258,64 @@ public class Interval implements ISet {
     }
 
     @Override
-    public String toString() {
-        if (expression == null || expression.toString().equals("IntervalData()")) return SetSymbols.EMPTY.toString();
-
-        List<IExpr> toFiniteList = new ArrayList<>();
-        List<String> intervalList = new ArrayList<>();
-
-        if (expression.getAt(1).isList()) {
-            for (int i = 1; i < expression.size(); i++) {
-                IExpr element = expression.getAt(i);
+    public boolean isEmpty() {
+        return segments.isEmpty();
+    }
 
-                String start = element.getAt(1).toString();
-                String leftSym = element.getAt(2).toString();
-                String rightSym = element.getAt(3).toString();
-                String end = element.getAt(4).toString();
+    @Override
+    public boolean isDisjoint() {
+        return segments.segments().size() > 1;
+    }
 
-                if (start.equals(F.CNInfinity.toString())) {
-                    start = SetSymbols.NEGATIVE_INFINITY.toString();
-                }
+    @Override
+    public @NotNull Object canonicalForm() {
+        if (canonicalForm == null) {
+            canonicalForm = CanonicalForm.ofSegments(segments);
+        }
+        return canonicalForm;
+    }
 
-                if (end.equals(F.Infinity.toString())) {
-                    end = SetSymbols.INFINITY.toString();
-                }
+    @Override
+    public boolean equals(Object other) {
+        return ISet.canonicalEquals(this, other);
+    }
 
-                boolean endpointsEqual = start.equals(end);
+    @Override
+    public int hashCode() {
+        if (hash == 0) {
+            hash = canonicalForm().hashCode();
+        }
+        return hash;
+    }
 
-                boolean bothClosed = leftSym.equals(BoundType.CLOSED.toString())
-                        && rightSym.equals(BoundType.CLOSED.toString());
+    @Override
+    public String toString() {
+        if (text == null) {
+            text = render();
+        }
+        return text;
+    }
 
-                if (endpointsEqual && bothClosed) {
-                    toFiniteList.add(element.getAt(1));
-                    continue;
-                }
+    private @NotNull String render() {
+        if (segments.isEmpty()) return SetSymbols.EMPTY.toString();
 
-                BoundType leftBound = BoundType.fromInclusive(leftSym);
-                BoundType rightBound = BoundType.fromInclusive(rightSym);
+        List<IExpr> toFiniteList = new ArrayList<>();
+        List<String> intervalList = new ArrayList<>();
 
-                String leftBracket = leftBound.toBracket(true);
-                String rightBracket = rightBound.toBracket(false);
+        for (Segment segment : segments.segments()) {
+            if (segment.isPoint()) {
+                toFiniteList.add(segment.start());
+                continue;
+            }
 
-                intervalList.add(leftBracket + start + "," + end + rightBracket);
+            String start = EndpointComparator.infinitySign(segment.start()) < 0
+                    ? SetSymbols.NEGATIVE_INFINITY.toString()
+                    : segment.start().toString();
+            String end = EndpointComparator.infinitySign(segment.end()) > 0
+                    ? SetSymbols.INFINITY.toString()
+                    : segment.end().toString();
 
-            }
+            intervalList.add(segment.left().toBracket(true) + start + "," + end + segment.right().toBracket(false));
         }
 
         String finitePart = "";
@@ -229,4 +334,4 @@ public class Interval implements ISet {
             return finitePart;
         }
     }
-}
\ No newline at end of file
+}
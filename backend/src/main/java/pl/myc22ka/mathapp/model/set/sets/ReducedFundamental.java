@@ -1,7 +1,7 @@
 package pl.myc22ka.mathapp.model.set.sets;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Setter;
 import org.jetbrains.annotations.NotNull;
 import pl.myc22ka.mathapp.exceptions.ServerError;
 import pl.myc22ka.mathapp.exceptions.ServerErrorMessages;
@@ -14,20 +14,24 @@ import pl.myc22ka.mathapp.model.set.visitors.IntersectionVisitor;
 import pl.myc22ka.mathapp.model.set.visitors.SetVisitor;
 import pl.myc22ka.mathapp.model.set.visitors.UnionVisitor;
 
+import java.util.List;
+
 /**
  * Mathematical interval set ℝ/{1/2}.
  *
  * @author Myc22Ka
- * @version 1.0.3
+ * @version 1.0.6
  * @since 2025.06.19
  */
 @Getter
-@Setter
 public class ReducedFundamental implements ISet {
-    private SetSymbols operation;
-    private ISet right;
-    private ISet left;
-    private SetSymbols leftSymbol;
+    private final SetSymbols operation;
+    private final ISet right;
+    private final ISet left;
+    private final SetSymbols leftSymbol;
+
+    @Getter(AccessLevel.NONE)
+    private Object canonicalForm;
 
     /**
      * Creates a new ReducedFundamental set using a {@link SetSymbols} (like ∪, ∩, or ∖)
@@ -77,7 +81,7 @@ public class ReducedFundamental implements ISet {
 
     @Override
     public boolean contains(@NotNull String element) {
-        boolean inLeft = new Fundamental(leftSymbol).contains(element);
+        boolean inLeft = leftSymbol.contains(element);
         if (inLeft) {
             return switch (operation) {
                 case DIFFERENCE -> !right.contains(element);
@@ -95,15 +99,12 @@ public class ReducedFundamental implements ISet {
     }
 
     @Override
-    public void remove(@NotNull String element) {
-        setOperation(SetSymbols.DIFFERENCE);
-        setRight(Set.of(element));
-
+    public @NotNull ISet remove(@NotNull String element) {
         if (leftSymbol.toString().equals(element)) {
-            setLeftSymbol(SetSymbols.EMPTY);
-            setOperation(SetSymbols.NO_OPERATION);
-            setRight(Set.of(""));
+            return Fundamental.of(SetSymbols.EMPTY);
         }
+
+        return difference(Set.of(element));
     }
 
 
@@ -130,11 +131,50 @@ public class ReducedFundamental implements ISet {
     @Override
     public Interval toInterval() {
         var simplified = this.simplify();
-        var f = new Fundamental(SetSymbols.REAL);
+        var f = Fundamental.of(SetSymbols.REAL);
 
         return f.difference(simplified.complement(f)).toInterval();
     }
 
+    @Override
+    public boolean isEmpty() {
+        return leftSymbol == SetSymbols.EMPTY && operation != SetSymbols.UNION;
+    }
+
+    @Override
+    public boolean isDisjoint() {
+        return operation == SetSymbols.UNION || left.isDisjoint() || right.isDisjoint();
+    }
+
+    /**
+     * Returns the canonical form of the evaluated set, so {@code ℝ∖{1}} equals {@code (-∞,1)∪(1,∞)}.
+     * Sets that cannot be evaluated to an interval (e.g. based on ℤ) keep their operation tree.
+     *
+     * @return canonical form of this set
+     */
+    @Override
+    public @NotNull Object canonicalForm() {
+        if (canonicalForm == null) {
+            try {
+                canonicalForm = toInterval().canonicalForm();
+            } catch (UnsupportedOperationException e) {
+                canonicalForm = List.of(left.canonicalForm(), operation, right.canonicalForm());
+            }
+        }
+        return canonicalForm;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return ISet.canonicalEquals(this, other);
+    }
+
+    @Override
+    public int hashCode() {
+        return canonicalForm().hashCode();
+    }
+
+    @Override
     public String toString() {
         return left + operation.toString() + right;
     }
@@ -0,0 +1,94 @@
+package pl.myc22ka.mathapp.model.set.utils;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.IInteger;
+import pl.myc22ka.mathapp.model.set.ISet;
+import pl.myc22ka.mathapp.model.set.utils.range.IntegerRange;
+import pl.myc22ka.mathapp.model.set.utils.range.IntegerRangeSet;
+import pl.myc22ka.mathapp.model.set.utils.segment.Segment;
+import pl.myc22ka.mathapp.model.set.utils.segment.SegmentSet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Utility class building canonical forms of sets for {@link ISet#canonicalForm()}.
+ * <p>
+ * Sets of integers become an {@link IntegerRange} if they are a progression with a step above 1,
+ * otherwise an {@link IntegerRangeSet}; other sets of points a sorted list of distinct elements,
+ * everything else stays a normalized {@link SegmentSet}. An empty set is always
+ * {@link SegmentSet#empty()}. Range-backed sets are compared by their runs, so their elements are
+ * never expanded.
+ *
+ * @author Myc22Ka
+ * @version 1.0.2
+ * @since 18.10.2026
+ */
+@UtilityClass
+public class CanonicalForm {
+
+    /**
+     * Returns the canonical form of a set of elements.
+     *
+     * @param elements the elements, in any order and possibly repeated
+     * @return integer progression or runs, sorted, distinct, unmodifiable list or the empty segment set
+     */
+    public @NotNull Object ofElements(@NotNull Collection<IExpr> elements) {
+        if (elements.isEmpty()) return SegmentSet.empty();
+
+        long[] values = longValues(elements);
+        if (values != null) return ofIntegers(IntegerRangeSet.of(values));
+
+        return List.copyOf(new TreeSet<>(elements));
+    }
+
+    /**
+     * Returns the canonical form of a set of integers.
+     *
+     * @param integers the integers
+     * @return the integer progression, the integers or the empty segment set
+     */
+    public @NotNull Object ofIntegers(@NotNull IntegerRangeSet integers) {
+        if (integers.isEmpty()) return SegmentSet.empty();
+
+        IntegerRange progression = integers.asProgression();
+        return progression != null ? progression : integers;
+    }
+
+    /**
+     * Returns the canonical form of an interval.
+     *
+     * @param segments the normalized segments
+     * @return list of points if the interval contains only points, otherwise the segments
+     */
+    public @NotNull Object ofSegments(@NotNull SegmentSet segments) {
+        if (!segments.isPointsOnly()) return segments;
+
+        List<IExpr> points = new ArrayList<>(segments.segments().size());
+        for (Segment segment : segments.segments()) {
+            points.add(segment.start());
+        }
+
+        return ofElements(points);
+    }
+
+    private long[] longValues(@NotNull Collection<IExpr> elements) {
+        long[] values = new long[elements.size()];
+        int i = 0;
+
+        for (IExpr element : elements) {
+            if (!element.isInteger()) return null;
+
+            try {
+                values[i++] = ((IInteger) element).toLong();
+            } catch (ArithmeticException e) {
+                return null;
+            }
+        }
+        return values;
+    }
+}
@@ -1,8 +1,9 @@
 package pl.myc22ka.mathapp.model.set.utils;
 
 import org.jetbrains.annotations.NotNull;
-import org.matheclipse.core.eval.ExprEvaluator;
 import org.matheclipse.core.interfaces.IExpr;
+import pl.myc22ka.mathapp.model.expression.SymjaGuard;
+import pl.myc22ka.mathapp.model.expression.SymjaOperation;
 import pl.myc22ka.mathapp.model.set.ISet;
 import pl.myc22ka.mathapp.model.set.sets.BoundType;
 import pl.myc22ka.mathapp.model.set.sets.Interval;
@@ -24,7 +25,7 @@ import static pl.myc22ka.mathapp.model.set.sets.BoundType.OPEN;
  * including both ASCII and Unicode inequality symbols.
  *
  * @author Myc22Ka
- * @version 1.0.0
+ * @version 1.0.2
  * @since 23.07.2025
  */
 public enum InequalityPattern {
@@ -142,16 +143,15 @@ public enum InequalityPattern {
     /**
      * Converts the matched inequality value into an Interval representation.
      *
-     * @param value     The numeric part of the inequality (as string).
-     * @param evaluator The Symja evaluator used to parse the value.
+     * @param value The numeric part of the inequality (as string).
      * @return An Interval object representing the inequality.
      */
-    public @NotNull ISet toInterval(String value, ExprEvaluator evaluator) {
+    public @NotNull ISet toInterval(String value) {
         if (isLowerBound) {
-            IExpr start = evaluator.eval(value);
+            IExpr start = SymjaGuard.eval(SymjaOperation.SET_PARSE, value);
             return new Interval(start, leftBound, rightBound, INFINITY.parse());
         } else {
-            return new Interval(INFINITY.parse().negate(), leftBound, rightBound, evaluator.eval(value));
+            return new Interval(INFINITY.parse().negate(), leftBound, rightBound, SymjaGuard.eval(SymjaOperation.SET_PARSE, value));
         }
     }
 }
@@ -0,0 +1,75 @@
+package pl.myc22ka.mathapp.model.set.utils.ast;
+
+import org.jetbrains.annotations.NotNull;
+import pl.myc22ka.mathapp.model.set.ISet;
+import pl.myc22ka.mathapp.model.set.SetSymbols;
+import pl.myc22ka.mathapp.model.set.sets.Fundamental;
+
+/**
+ * Leaf of a compiled set expression holding an already parsed set, e.g. {@code [1,2)} or {@code {3}}.
+ * Two operands are equal when their sets are equal, so {@code {1,2}} and {@code {2,1}} are the same node.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+public final class OperandNode implements SetNode {
+    private final ISet value;
+    private final int hash;
+
+    /**
+     * Creates an operand node.
+     *
+     * @param value the parsed set
+     */
+    public OperandNode(@NotNull ISet value) {
+        this.value = value;
+        this.hash = value.hashCode();
+    }
+
+    @Override
+    public @NotNull ISet evaluate() {
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return 1;
+    }
+
+    /**
+     * Checks if this operand is the empty set.
+     *
+     * @return true if empty
+     */
+    public boolean isEmptySet() {
+        return value.isEmpty();
+    }
+
+    /**
+     * Checks if this operand is the set of real numbers.
+     *
+     * @return true if ℝ
+     */
+    public boolean isRealSet() {
+        return value.equals(Fundamental.of(SetSymbols.REAL));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof OperandNode node)) return false;
+
+        return hash == node.hash && value.equals(node.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
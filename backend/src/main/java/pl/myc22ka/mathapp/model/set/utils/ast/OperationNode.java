@@ -0,0 +1,125 @@
+package pl.myc22ka.mathapp.model.set.utils.ast;
+
+import org.jetbrains.annotations.NotNull;
+import pl.myc22ka.mathapp.model.set.ISet;
+import pl.myc22ka.mathapp.model.set.SetSymbols;
+
+/**
+ * Binary set operation node ({@code ∪}, {@code ∩} or {@code ∖}).
+ * <p>
+ * Union and intersection are commutative, so {@code A∪B} and {@code B∪A} are equal nodes with the same hash.
+ * The result is computed at most once per node; shared subtrees are therefore computed once per expression.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+public final class OperationNode implements SetNode {
+    private final SetSymbols operation;
+    private final SetNode left;
+    private final SetNode right;
+    private final int hash;
+    private final int size;
+    private volatile ISet result;
+
+    /**
+     * Creates an operation node.
+     *
+     * @param operation the set operation (UNION, INTERSECTION or DIFFERENCE)
+     * @param left      the left operand
+     * @param right     the right operand
+     * @throws IllegalArgumentException if the operation is not a binary set operation
+     */
+    public OperationNode(@NotNull SetSymbols operation, @NotNull SetNode left, @NotNull SetNode right) {
+        if (!SetSymbols.getBinaryOperations().contains(operation)) {
+            throw new IllegalArgumentException("Unsupported operator: " + operation);
+        }
+
+        this.operation = operation;
+        this.left = left;
+        this.right = right;
+        this.size = 1 + left.size() + right.size();
+        this.hash = 31 * operation.hashCode() + (isCommutative()
+                ? left.hashCode() + right.hashCode()
+                : 31 * left.hashCode() + right.hashCode());
+    }
+
+    @Override
+    public @NotNull ISet evaluate() {
+        ISet cached = result;
+        if (cached != null) return cached;
+
+        cached = SetNodeCache.get(this, this::compute);
+        result = cached;
+        return cached;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the operation of this node.
+     *
+     * @return set operation
+     */
+    public @NotNull SetSymbols operation() {
+        return operation;
+    }
+
+    /**
+     * Returns the left operand.
+     *
+     * @return left subtree
+     */
+    public @NotNull SetNode left() {
+        return left;
+    }
+
+    /**
+     * Returns the right operand.
+     *
+     * @return right subtree
+     */
+    public @NotNull SetNode right() {
+        return right;
+    }
+
+    private @NotNull ISet compute() {
+        ISet l = left.evaluate();
+        ISet r = right.evaluate();
+
+        return switch (operation) {
+            case UNION -> l.union(r);
+            case INTERSECTION -> l.intersection(r);
+            case DIFFERENCE -> l.difference(r);
+            default -> throw new IllegalStateException("Unsupported operator: " + operation);
+        };
+    }
+
+    private boolean isCommutative() {
+        return operation == SetSymbols.UNION || operation == SetSymbols.INTERSECTION;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof OperationNode node)) return false;
+        if (hash != node.hash || operation != node.operation) return false;
+
+        if (left.equals(node.left) && right.equals(node.right)) return true;
+
+        return isCommutative() && left.equals(node.right) && right.equals(node.left);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + left + operation + right + ")";
+    }
+}
@@ -0,0 +1,119 @@
+package pl.myc22ka.mathapp.model.set.utils.ast;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import pl.myc22ka.mathapp.model.expression.ParseCache;
+import pl.myc22ka.mathapp.model.expression.TemplatePrefix;
+import pl.myc22ka.mathapp.model.set.SetFactory;
+import pl.myc22ka.mathapp.model.set.SetSymbols;
+import pl.myc22ka.mathapp.model.set.sets.Fundamental;
+import pl.myc22ka.mathapp.model.set.utils.postfix.PostfixConverter;
+import pl.myc22ka.mathapp.model.set.utils.token.Token;
+import pl.myc22ka.mathapp.model.set.utils.token.TokenType;
+import pl.myc22ka.mathapp.model.set.utils.token.Tokenizer;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static pl.myc22ka.mathapp.model.set.SetSymbols.*;
+
+/**
+ * Utility class compiling set expressions such as {@code (A∪B)∖(A∩B)} into a {@link SetNode} tree.
+ * <p>
+ * Compilation parses every operand once (through the shared parse cache), shares equal subtrees so
+ * repeated subexpressions are evaluated once, and folds operations with a trivial result:
+ * <ul>
+ *     <li>{@code A∖A = ∅}, {@code A∩∅ = ∅∩A = ∅}</li>
+ *     <li>{@code ∅∪A = A}, {@code ∅∖A = ∅}, {@code A∖∅ = A}</li>
+ *     <li>{@code A∪ℝ = ℝ∪A = ℝ} for a non-empty {@code A}</li>
+ * </ul>
+ * Only identities whose folded result is written exactly like the result of the set operation itself are
+ * folded. {@code A∪A}, {@code A∩A}, {@code A∪∅} and {@code A∩ℝ} are evaluated, as the operation normalises
+ * {@code A}, e.g. {@code {2,1}∪{2,1} = {1,2}}.
+ *
+ * @author Myc22Ka
+ * @version 1.0.1
+ * @since 18.10.2026
+ */
+@UtilityClass
+public class SetExpressionCompiler {
+
+    private final SetFactory setFactory = new SetFactory();
+
+    /**
+     * Compiles a set expression.
+     *
+     * @param expression the set expression
+     * @return root of the compiled tree
+     * @throws IllegalArgumentException if the expression is malformed or contains unknown operators
+     */
+    public @NotNull SetNode compile(@NotNull String expression) {
+        List<Token> postfix = PostfixConverter.toPostfix(Tokenizer.tokenize(expression));
+
+        Deque<SetNode> stack = new ArrayDeque<>();
+        Map<SetNode, SetNode> shared = new HashMap<>();
+
+        for (Token token : postfix) {
+            if (token.type() == TokenType.OPERAND) {
+                stack.push(share(shared, new OperandNode(ParseCache.get(TemplatePrefix.SET, token.value(), setFactory::parse))));
+            } else if (token.type() == TokenType.OPERATOR) {
+                if (stack.size() < 2) throw new IllegalArgumentException("Invalid expression: insufficient operands for " + token.value());
+
+                SetNode right = stack.pop();
+                SetNode left = stack.pop();
+                SetSymbols operation = SetSymbols.fromDisplay(token.value());
+
+                if (!getBinaryOperations().contains(operation)) {
+                    throw new IllegalArgumentException("Unknown operator: " + token.value());
+                }
+
+                stack.push(share(shared, fold(operation, left, right)));
+            }
+        }
+
+        if (stack.size() != 1) throw new IllegalArgumentException("Invalid expression: unbalanced operands and operators");
+        return stack.pop();
+    }
+
+    private @NotNull SetNode share(@NotNull Map<SetNode, SetNode> shared, @NotNull SetNode node) {
+        SetNode existing = shared.putIfAbsent(node, node);
+        return existing != null ? existing : node;
+    }
+
+    private @NotNull SetNode fold(@NotNull SetSymbols operation, @NotNull SetNode left, @NotNull SetNode right) {
+        if (operation == DIFFERENCE && left.equals(right)) return emptyNode();
+
+        boolean leftEmpty = left instanceof OperandNode l && l.isEmptySet();
+        boolean rightEmpty = right instanceof OperandNode r && r.isEmptySet();
+        boolean leftReal = left instanceof OperandNode l && l.isRealSet();
+        boolean rightReal = right instanceof OperandNode r && r.isRealSet();
+
+        switch (operation) {
+            case UNION -> {
+                if (leftEmpty) return right;
+                if (!rightEmpty && (leftReal || rightReal)) return realNode();
+            }
+            case INTERSECTION -> {
+                if (leftEmpty || rightEmpty) return emptyNode();
+            }
+            case DIFFERENCE -> {
+                if (leftEmpty || rightEmpty) return left;
+            }
+            default -> {
+            }
+        }
+
+        return new OperationNode(operation, left, right);
+    }
+
+    private @NotNull SetNode emptyNode() {
+        return new OperandNode(Fundamental.of(EMPTY));
+    }
+
+    private @NotNull SetNode realNode() {
+        return new OperandNode(Fundamental.of(REAL));
+    }
+}
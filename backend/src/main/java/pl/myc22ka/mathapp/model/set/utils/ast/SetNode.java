@@ -0,0 +1,31 @@
+package pl.myc22ka.mathapp.model.set.utils.ast;
+
+import org.jetbrains.annotations.NotNull;
+import pl.myc22ka.mathapp.model.set.ISet;
+
+/**
+ * Node of a compiled set expression.
+ * <p>
+ * Nodes are immutable and compare structurally, with the hash computed once at construction,
+ * so equal subtrees can be shared inside one expression and looked up in {@link SetNodeCache}.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+public sealed interface SetNode permits OperandNode, OperationNode {
+
+    /**
+     * Evaluates this subtree. Results are memoized per node and in {@link SetNodeCache}.
+     *
+     * @return resulting set
+     */
+    @NotNull ISet evaluate();
+
+    /**
+     * Returns the number of nodes in this subtree.
+     *
+     * @return subtree size
+     */
+    int size();
+}
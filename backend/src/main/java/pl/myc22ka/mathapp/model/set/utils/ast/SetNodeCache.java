@@ -0,0 +1,65 @@
+package pl.myc22ka.mathapp.model.set.utils.ast;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import pl.myc22ka.mathapp.model.set.ISet;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Shared LRU cache of evaluated {@link OperationNode} subtrees.
+ * <p>
+ * Keys are compared structurally using the hash precomputed by each node, so the same subexpression
+ * in a later request (e.g. a stored answer checked on every solve attempt) is not computed again.
+ * Values are immutable sets and can be shared freely.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@UtilityClass
+public class SetNodeCache {
+
+    private final int MAX_SIZE = 512;
+
+    private final Map<SetNode, ISet> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<SetNode, ISet> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    /**
+     * Returns the cached result of a subtree, computing it on a miss.
+     * The computation runs outside the lock, so nested subtrees can use the cache as well.
+     *
+     * @param node    the subtree
+     * @param compute computes the result on a miss
+     * @return evaluated set
+     */
+    public @NotNull ISet get(@NotNull SetNode node, @NotNull Supplier<ISet> compute) {
+        ISet cached;
+        synchronized (entries) {
+            cached = entries.get(node);
+        }
+        if (cached != null) return cached;
+
+        ISet result = compute.get();
+
+        synchronized (entries) {
+            entries.put(node, result);
+        }
+        return result;
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+}
@@ -12,7 +12,7 @@ import java.util.*;
  * Utility class for evaluating set expressions written in postfix (Reverse Polish Notation).
  *
  * @author Myc22Ka
- * @version 1.0.1
+ * @version 1.0.2
  * @since 23.07.2025
  */
 @UtilityClass
@@ -40,10 +40,10 @@ public class PostfixEvaluator {
                 if (stack.size() < 2) throw new IllegalArgumentException("Invalid expression: insufficient operands for " + token.value());
                 ISet right = stack.pop();
                 ISet left = stack.pop();
-                SetSymbols op = SetSymbols.getBinaryOperations().stream()
-                        .filter(s -> s.toString().equals(token.value()))
-                        .findFirst()
-                        .orElseThrow(() -> new IllegalArgumentException("Unknown operator: " + token.value()));
+                SetSymbols op = SetSymbols.fromDisplay(token.value());
+                if (!SetSymbols.getBinaryOperations().contains(op)) {
+                    throw new IllegalArgumentException("Unknown operator: " + token.value());
+                }
                 ISet result = switch (op) {
                     case UNION -> left.union(right);
                     case INTERSECTION -> left.intersection(right);
@@ -0,0 +1,91 @@
+package pl.myc22ka.mathapp.model.set.utils.range;
+
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.expression.F;
+import org.matheclipse.core.interfaces.IExpr;
+
+/**
+ * Arithmetic progression of integers {@code start, start + step, ..., end}, e.g. {@code {-3,...,7}}.
+ * <p>
+ * Only the bounds are stored, so a range of any length takes constant space.
+ * A range with {@code start > end} is empty. Distances between elements are computed unsigned,
+ * so a range may span the whole {@code long} range.
+ *
+ * @param start the first element
+ * @param end   the last element (inclusive)
+ * @param step  the positive distance between elements
+ * @author Myc22Ka
+ * @version 1.0.1
+ * @since 18.10.2026
+ */
+public record IntegerRange(long start, long end, long step) {
+
+    /**
+     * Creates a range, normalizing {@code end} to the last element actually reached by the step.
+     *
+     * @param start the first element
+     * @param end   the upper bound (inclusive)
+     * @param step  the positive step
+     * @throws IllegalArgumentException if the step is not positive
+     */
+    public IntegerRange {
+        if (step <= 0) {
+            throw new IllegalArgumentException("Range step must be positive: " + step);
+        }
+        if (start <= end) {
+            end = end - Long.remainderUnsigned(end - start, step);
+        }
+    }
+
+    /**
+     * Creates a range of consecutive integers.
+     *
+     * @param start the first element
+     * @param end   the last element (inclusive)
+     * @return range with step 1
+     */
+    public static @NotNull IntegerRange of(long start, long end) {
+        return new IntegerRange(start, end, 1);
+    }
+
+    /**
+     * Returns the number of elements in this range.
+     *
+     * @return element count, saturated at {@link Long#MAX_VALUE}
+     */
+    public long size() {
+        if (start > end) return 0;
+
+        long steps = Long.divideUnsigned(end - start, step);
+        return steps < 0 || steps == Long.MAX_VALUE ? Long.MAX_VALUE : steps + 1;
+    }
+
+    /**
+     * Checks if this range has no elements.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return start > end;
+    }
+
+    /**
+     * Checks if the value is an element of this range.
+     *
+     * @param value the value to check
+     * @return true if contained
+     */
+    public boolean contains(long value) {
+        return value >= start && value <= end && Long.remainderUnsigned(value - start, step) == 0;
+    }
+
+    /**
+     * Returns the element at the given position.
+     *
+     * @param index position from 0 to {@code size() - 1}
+     * @return element as Symja integer
+     */
+    public @NotNull IExpr get(long index) {
+        return F.ZZ(start + index * step);
+    }
+}
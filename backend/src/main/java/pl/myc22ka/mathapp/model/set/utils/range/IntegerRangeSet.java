@@ -0,0 +1,361 @@
+package pl.myc22ka.mathapp.model.set.utils.range;
+
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.expression.F;
+import org.matheclipse.core.interfaces.IExpr;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable set of integers stored as sorted, disjoint runs of consecutive values,
+ * e.g. {@code {1,2,3,7,8}} is kept as the runs {@code [1,3]} and {@code [7,8]}.
+ * <p>
+ * Membership is a binary search over the runs; union, intersection and difference are
+ * linear merges, so large generated sets like {@code {1..500}} never go through Symja.
+ * Runs may span the whole {@code long} range; only listing the elements one by one is limited
+ * to {@value #EXPANSION_LIMIT} elements.
+ *
+ * @author Myc22Ka
+ * @version 1.0.1
+ * @since 18.10.2026
+ */
+public final class IntegerRangeSet {
+
+    /**
+     * Maximum number of elements a set may be expanded to, e.g. to list or render them.
+     */
+    public static final long EXPANSION_LIMIT = 1_000_000;
+
+    private static final IntegerRangeSet EMPTY = new IntegerRangeSet(new long[0], new long[0]);
+
+    private final long[] starts;
+    private final long[] ends;
+    private final long size;
+    private int hash;
+
+    private IntegerRangeSet(long @NotNull [] starts, long @NotNull [] ends) {
+        this.starts = starts;
+        this.ends = ends;
+
+        long count = 0;
+        for (int i = 0; i < starts.length && count < Long.MAX_VALUE; i++) {
+            count = saturatedAdd(count, saturatedAdd(saturatedSubtract(ends[i], starts[i]), 1));
+        }
+        this.size = count;
+    }
+
+    /**
+     * Returns the empty set.
+     *
+     * @return empty set
+     */
+    public static @NotNull IntegerRangeSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a set from values in any order. Duplicates are ignored.
+     *
+     * @param values the values
+     * @return normalized set
+     */
+    public static @NotNull IntegerRangeSet of(long @NotNull ... values) {
+        if (values.length == 0) return EMPTY;
+
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+
+        Runs runs = new Runs(sorted.length);
+        for (long value : sorted) {
+            runs.add(value, value);
+        }
+        return runs.build();
+    }
+
+    /**
+     * Creates a set from arithmetic ranges in any order. Overlapping ranges are merged.
+     * Ranges with a step above 1 are stored as single values.
+     *
+     * @param ranges the ranges
+     * @return normalized set
+     * @throws IllegalArgumentException if a range with a step above 1 has more than {@value #EXPANSION_LIMIT} elements
+     */
+    public static @NotNull IntegerRangeSet ofRanges(@NotNull Collection<IntegerRange> ranges) {
+        List<long[]> pieces = new ArrayList<>(ranges.size());
+
+        for (IntegerRange range : ranges) {
+            if (range.isEmpty()) continue;
+
+            if (range.step() == 1) {
+                pieces.add(new long[]{range.start(), range.end()});
+            } else {
+                requireExpandable(range.size());
+                for (long k = 0; k < range.size(); k++) {
+                    long value = range.start() + k * range.step();
+                    pieces.add(new long[]{value, value});
+                }
+            }
+        }
+
+        pieces.sort((a, b) -> Long.compare(a[0], b[0]));
+
+        Runs runs = new Runs(pieces.size());
+        for (long[] piece : pieces) {
+            runs.add(piece[0], piece[1]);
+        }
+        return runs.build();
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return element count, saturated at {@link Long#MAX_VALUE}
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Checks if this set has no elements.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks if the value is an element of this set.
+     *
+     * @param value the value to check
+     * @return true if contained
+     */
+    public boolean contains(long value) {
+        int index = Arrays.binarySearch(starts, value);
+        if (index >= 0) return true;
+
+        int run = -index - 2;
+        return run >= 0 && ends[run] >= value;
+    }
+
+    /**
+     * Computes {@code this ∪ other}.
+     *
+     * @param other the other set
+     * @return union
+     */
+    public @NotNull IntegerRangeSet union(@NotNull IntegerRangeSet other) {
+        if (other.isEmpty()) return this;
+        if (isEmpty()) return other;
+
+        Runs runs = new Runs(starts.length + other.starts.length);
+        int i = 0;
+        int j = 0;
+
+        while (i < starts.length || j < other.starts.length) {
+            if (j == other.starts.length || (i < starts.length && starts[i] <= other.starts[j])) {
+                runs.add(starts[i], ends[i]);
+                i++;
+            } else {
+                runs.add(other.starts[j], other.ends[j]);
+                j++;
+            }
+        }
+        return runs.build();
+    }
+
+    /**
+     * Computes {@code this ∩ other}.
+     *
+     * @param other the other set
+     * @return intersection
+     */
+    public @NotNull IntegerRangeSet intersection(@NotNull IntegerRangeSet other) {
+        Runs runs = new Runs(Math.min(starts.length, other.starts.length));
+        int i = 0;
+        int j = 0;
+
+        while (i < starts.length && j < other.starts.length) {
+            long from = Math.max(starts[i], other.starts[j]);
+            long to = Math.min(ends[i], other.ends[j]);
+
+            if (from <= to) runs.add(from, to);
+
+            if (ends[i] < other.ends[j]) i++;
+            else j++;
+        }
+        return runs.build();
+    }
+
+    /**
+     * Computes {@code this ∖ other}.
+     *
+     * @param other the other set
+     * @return difference
+     */
+    public @NotNull IntegerRangeSet difference(@NotNull IntegerRangeSet other) {
+        if (isEmpty() || other.isEmpty()) return this;
+
+        Runs runs = new Runs(starts.length + other.starts.length);
+        int j = 0;
+
+        for (int i = 0; i < starts.length; i++) {
+            long from = starts[i];
+            long to = ends[i];
+            boolean removed = false;
+
+            while (j < other.starts.length && other.ends[j] < from) j++;
+
+            int k = j;
+            while (k < other.starts.length && other.starts[k] <= to) {
+                if (other.starts[k] > from) runs.add(from, other.starts[k] - 1);
+                if (other.ends[k] >= to) {
+                    removed = true;
+                    break;
+                }
+                from = Math.max(from, other.ends[k] + 1);
+                k++;
+            }
+
+            if (!removed) runs.add(from, to);
+        }
+        return runs.build();
+    }
+
+    /**
+     * Returns the runs of this set as ranges with step 1.
+     *
+     * @return sorted, disjoint ranges
+     */
+    public @NotNull List<IntegerRange> ranges() {
+        List<IntegerRange> ranges = new ArrayList<>(starts.length);
+        for (int i = 0; i < starts.length; i++) {
+            ranges.add(IntegerRange.of(starts[i], ends[i]));
+        }
+        return ranges;
+    }
+
+    /**
+     * Returns this set as a single arithmetic progression with a step above 1, e.g. {@code {1,3,5}}.
+     *
+     * @return the progression, or null if the set is not one of at least two separate values
+     */
+    public IntegerRange asProgression() {
+        if (starts.length < 2) return null;
+
+        long step = starts[1] - starts[0];
+        if (step <= 0) return null;
+
+        for (int i = 0; i < starts.length; i++) {
+            if (ends[i] != starts[i]) return null;
+            if (i > 0 && starts[i] - starts[i - 1] != step) return null;
+        }
+        return new IntegerRange(starts[0], starts[starts.length - 1], step);
+    }
+
+    /**
+     * Expands this set into ascending Symja integers.
+     *
+     * @return elements in ascending order
+     * @throws IllegalArgumentException if the set has more than {@value #EXPANSION_LIMIT} elements
+     */
+    public @NotNull List<IExpr> toList() {
+        requireExpandable(size);
+
+        List<IExpr> elements = new ArrayList<>(Math.toIntExact(size));
+        for (int i = 0; i < starts.length; i++) {
+            for (long value = starts[i]; ; value++) {
+                elements.add(F.ZZ(value));
+                if (value == ends[i]) break;
+            }
+        }
+        return elements;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof IntegerRangeSet set)) return false;
+
+        return Arrays.equals(starts, set.starts) && Arrays.equals(ends, set.ends);
+    }
+
+    @Override
+    public int hashCode() {
+        if (hash == 0) {
+            hash = 31 * Arrays.hashCode(starts) + Arrays.hashCode(ends);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < starts.length; i++) {
+            if (i > 0) builder.append(',');
+            builder.append(starts[i]);
+            if (ends[i] != starts[i]) builder.append("..").append(ends[i]);
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Checks that a set of the given size may be expanded element by element.
+     *
+     * @param size the number of elements
+     * @throws IllegalArgumentException if the size is above {@value #EXPANSION_LIMIT}
+     */
+    public static void requireExpandable(long size) {
+        if (size > EXPANSION_LIMIT) {
+            throw new IllegalArgumentException("Set of " + size + " integers is too large to list, the limit is "
+                    + EXPANSION_LIMIT + " elements");
+        }
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long sum = a + b;
+        return ((a ^ sum) & (b ^ sum)) < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static long saturatedSubtract(long a, long b) {
+        long difference = a - b;
+        return ((a ^ b) & (a ^ difference)) < 0 ? Long.MAX_VALUE : difference;
+    }
+
+    /**
+     * Collects runs given in ascending start order, merging overlapping and adjacent ones.
+     */
+    private static final class Runs {
+        private long[] starts;
+        private long[] ends;
+        private int count;
+
+        Runs(int capacity) {
+            this.starts = new long[Math.max(capacity, 1)];
+            this.ends = new long[Math.max(capacity, 1)];
+        }
+
+        void add(long from, long to) {
+            if (count > 0 && (ends[count - 1] == Long.MAX_VALUE || from <= ends[count - 1] + 1)) {
+                ends[count - 1] = Math.max(ends[count - 1], to);
+                return;
+            }
+
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            starts[count] = from;
+            ends[count] = to;
+            count++;
+        }
+
+        IntegerRangeSet build() {
+            if (count == 0) return EMPTY;
+            return new IntegerRangeSet(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count));
+        }
+    }
+}
@@ -4,125 +4,74 @@ import lombok.experimental.UtilityClass;
 import org.jetbrains.annotations.NotNull;
 import pl.myc22ka.mathapp.model.set.SetSymbols;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
 /**
- * Utility class for identifying and working with intervals in set expressions.
+ * Utility class for identifying intervals in set expressions.
+ * <p>
+ * A bracket group is an interval (e.g. {@code [1, 2)}) when it holds exactly one top-level comma
+ * and no top-level set operator. All groups are matched in one pass with a stack.
  *
  * @author Myc22Ka
- * @version 1.0.0
+ * @version 1.1.0
  * @since 23.07.2025
  */
 @UtilityClass
 public class IntervalScanner {
 
+    private final String OPERATORS = SetSymbols.getBinaryOperationsString();
+
     /**
-     * Marks which characters in the input string belong to a valid interval (e.g. [1, 2)).
+     * Finds every interval in the expression in linear time.
      *
      * @param expression the full set expression
-     * @return a boolean array where true indicates the character is part of an interval
+     * @return array where index {@code i} holds the index just after the interval starting at {@code i},
+     * or {@code -1} if no interval starts there
      */
-    public boolean[] markIntervalCharacters(@NotNull String expression) {
-        boolean[] isInterval = new boolean[expression.length()];
+    public int @NotNull [] findIntervalEnds(@NotNull String expression) {
+        int[] ends = new int[expression.length()];
+        Arrays.fill(ends, -1);
+
+        Deque<Frame> open = new ArrayDeque<>();
 
         for (int i = 0; i < expression.length(); i++) {
             char c = expression.charAt(i);
+
             if (c == '[' || c == '(') {
-                IntervalInfo info = analyzeInterval(expression, i);
-                if (info.isInterval()) {
-                    for (int j = info.start(); j < info.end(); j++) {
-                        isInterval[j] = true;
-                    }
+                open.push(new Frame(i));
+            } else if (c == ']' || c == ')') {
+                Frame frame = open.poll();
+                if (frame != null && frame.commas == 1 && !frame.hasSetOperator) {
+                    ends[frame.start] = i + 1;
                 }
+            } else if (!open.isEmpty()) {
+                if (c == ',') open.peek().commas++;
+                else if (isOperator(c)) open.peek().hasSetOperator = true;
             }
         }
 
-        return isInterval;
-    }
-
-    /**
-     * Finds the beginning index of an interval starting at or before the given position.
-     *
-     * @param pos the position to search backwards from
-     * @param isInterval the boolean array marking interval characters
-     * @return the index of the interval start
-     */
-    public int findIntervalStart(int pos, boolean[] isInterval) {
-        int i = pos;
-        while (i >= 0 && isInterval[i]) i--;
-        return i + 1;
-    }
-
-    /**
-     * Finds the ending index of an interval starting at a given position.
-     *
-     * @param expression the full expression
-     * @param start the starting index of the interval
-     * @param isInterval the boolean array marking interval characters
-     * @return the index just after the interval ends
-     */
-    public int findIntervalEnd(@NotNull String expression, int start, boolean[] isInterval) {
-        int i = start;
-        while (i < expression.length() && isInterval[i]) i++;
-        return i;
+        return ends;
     }
 
     /**
-     * Finds the ending index of a complete operand (finite set, interval, or fundamental symbol).
+     * Checks if the character is a binary set operator (∪, ∩, ∖).
      *
-     * @param expression the full expression
-     * @param start the starting index of the operand
-     * @param isInterval the boolean array marking interval characters
-     * @return the index just after the operand ends
+     * @param c the character to check
+     * @return true if it is a set operator
      */
-    public int findOperandEnd(@NotNull String expression, int start, boolean[] isInterval) {
-        int i = start;
-        char startChar = expression.charAt(start);
-
-        if (startChar == '{') {
-            int braceCount = 1;
-            i++;
-            while (i < expression.length() && braceCount > 0) {
-                if (expression.charAt(i) == '{') braceCount++;
-                else if (expression.charAt(i) == '}') braceCount--;
-                i++;
-            }
-            return i;
-        } else if ((startChar == '[' || startChar == '(') && isInterval[start]) {
-            return findIntervalEnd(expression, start, isInterval);
-        } else {
-            while (i < expression.length()) {
-                char c = expression.charAt(i);
-                if (SetSymbols.getBinaryOperationsString().indexOf(c) != -1 ||
-                        ((c == '(' || c == ')') && !isInterval[i])) break;
-                i++;
-            }
-            return i;
-        }
+    public boolean isOperator(char c) {
+        return OPERATORS.indexOf(c) != -1;
     }
 
-    private @NotNull IntervalInfo analyzeInterval(@NotNull String expression, int pos) {
-        char startChar = expression.charAt(pos);
-        if (startChar != '[' && startChar != '(') return new IntervalInfo(false, pos, pos);
-
-        int i = pos + 1;
-        int depth = 1;
-        int commaCount = 0;
-        boolean hasSetOps = false;
+    private static final class Frame {
+        private final int start;
+        private int commas;
+        private boolean hasSetOperator;
 
-        while (i < expression.length() && depth > 0) {
-            char c = expression.charAt(i);
-            if (c == '[' || c == '(') depth++;
-            else if (c == ']' || c == ')') {
-                depth--;
-                if (depth == 0) {
-                    if (commaCount == 1 && !hasSetOps) return new IntervalInfo(true, pos, i + 1);
-                    else return new IntervalInfo(false, pos, pos);
-                }
-            } else if (depth == 1) {
-                if (c == ',') commaCount++;
-                else if (SetSymbols.getBinaryOperationsString().indexOf(c) != -1) hasSetOps = true;
-            }
-            i++;
+        private Frame(int start) {
+            this.start = start;
         }
-        return new IntervalInfo(false, pos, pos);
     }
 }
@@ -0,0 +1,111 @@
+package pl.myc22ka.mathapp.model.set.utils.segment;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.expression.F;
+import org.matheclipse.core.expression.S;
+import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.IRational;
+import pl.myc22ka.mathapp.model.expression.SymjaGuard;
+import pl.myc22ka.mathapp.model.expression.SymjaOperation;
+
+import java.math.BigInteger;
+
+/**
+ * Utility class for ordering interval endpoints on the real line.
+ * <p>
+ * Infinities and exact rationals are compared natively. Algebraic endpoints
+ * (e.g. {@code Sqrt(3)}, {@code Pi}) are compared by their numeric value and
+ * Symja is asked, through {@link SymjaGuard}, only when the two values are too close to decide.
+ *
+ * @author Myc22Ka
+ * @version 1.0.1
+ * @since 18.10.2026
+ */
+@UtilityClass
+public class EndpointComparator {
+
+    private final double EPSILON = 1e-9;
+
+    /**
+     * Compares two endpoints.
+     *
+     * @param a the first endpoint
+     * @param b the second endpoint
+     * @return negative if {@code a < b}, zero if equal, positive if {@code a > b}
+     * @throws IllegalArgumentException if endpoints cannot be ordered
+     */
+    public int compare(@NotNull IExpr a, @NotNull IExpr b) {
+        if (a == b || a.equals(b)) return 0;
+
+        int infinityA = infinitySign(a);
+        int infinityB = infinitySign(b);
+        if (infinityA != 0 || infinityB != 0) {
+            return Integer.compare(infinityA, infinityB);
+        }
+
+        if (a.isRational() && b.isRational()) {
+            return compareRational((IRational) a, (IRational) b);
+        }
+
+        double valueA = toDouble(a);
+        double valueB = toDouble(b);
+
+        if (!Double.isNaN(valueA) && !Double.isNaN(valueB)) {
+            double scale = Math.max(1.0, Math.max(Math.abs(valueA), Math.abs(valueB)));
+            if (Math.abs(valueA - valueB) > EPSILON * scale) {
+                return valueA < valueB ? -1 : 1;
+            }
+        }
+
+        return compareSymbolic(a, b);
+    }
+
+    /**
+     * Checks whether the endpoint is positive or negative infinity.
+     *
+     * @param endpoint the endpoint to check
+     * @return true if the endpoint is infinite
+     */
+    public boolean isInfinite(@NotNull IExpr endpoint) {
+        return infinitySign(endpoint) != 0;
+    }
+
+    /**
+     * Returns {@code 1} for positive infinity, {@code -1} for negative infinity and {@code 0} otherwise.
+     *
+     * @param endpoint the endpoint to check
+     * @return sign of infinity
+     */
+    public int infinitySign(@NotNull IExpr endpoint) {
+        if (endpoint.isInfinity() || endpoint == S.Infinity) return 1;
+        if (endpoint.isNegativeInfinity()) return -1;
+        return 0;
+    }
+
+    private int compareRational(@NotNull IRational a, @NotNull IRational b) {
+        BigInteger left = a.toBigNumerator().multiply(b.toBigDenominator());
+        BigInteger right = b.toBigNumerator().multiply(a.toBigDenominator());
+
+        return left.compareTo(right);
+    }
+
+    private double toDouble(@NotNull IExpr expr) {
+        try {
+            double value = expr.evalf();
+            return Double.isFinite(value) ? value : Double.NaN;
+        } catch (RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+
+    private int compareSymbolic(@NotNull IExpr a, @NotNull IExpr b) {
+        IExpr sign = SymjaGuard.eval(SymjaOperation.EVALUATE, F.Sign(F.Simplify(F.Subtract(a, b))));
+
+        if (sign.isZero()) return 0;
+        if (sign.isOne()) return 1;
+        if (sign.isMinusOne()) return -1;
+
+        throw new IllegalArgumentException("Cannot compare interval endpoints: " + a + " and " + b);
+    }
+}
@@ -0,0 +1,133 @@
+package pl.myc22ka.mathapp.model.set.utils.segment;
+
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.expression.F;
+import org.matheclipse.core.expression.S;
+import org.matheclipse.core.interfaces.IAST;
+import org.matheclipse.core.interfaces.IExpr;
+import pl.myc22ka.mathapp.model.expression.SymjaGuard;
+import pl.myc22ka.mathapp.model.expression.SymjaOperation;
+import pl.myc22ka.mathapp.model.set.sets.BoundType;
+
+import static pl.myc22ka.mathapp.model.set.sets.BoundType.CLOSED;
+import static pl.myc22ka.mathapp.model.set.sets.BoundType.OPEN;
+
+/**
+ * Single connected piece of the real line, e.g. {@code [1, 3)} or {@code {2}}.
+ * <p>
+ * Endpoints are kept as exact Symja expressions, bounds as {@link BoundType}.
+ * Infinite endpoints are always open.
+ *
+ * @param start the lower endpoint
+ * @param left  the bound type of the lower endpoint
+ * @param right the bound type of the upper endpoint
+ * @param end   the upper endpoint
+ * @author Myc22Ka
+ * @version 1.0.1
+ * @since 18.10.2026
+ */
+public record Segment(@NotNull IExpr start, @NotNull BoundType left, @NotNull BoundType right, @NotNull IExpr end) {
+
+    /**
+     * Creates a normalized segment. Endpoints given in reverse order are swapped,
+     * unevaluated infinities are evaluated and infinite endpoints are opened.
+     *
+     * @param start the lower endpoint
+     * @param left  the bound type of the lower endpoint
+     * @param right the bound type of the upper endpoint
+     * @param end   the upper endpoint
+     * @return normalized segment (may be empty)
+     */
+    public static @NotNull Segment of(@NotNull IExpr start, @NotNull BoundType left,
+                                      @NotNull BoundType right, @NotNull IExpr end) {
+        IExpr from = normalize(start);
+        IExpr to = normalize(end);
+
+        if (EndpointComparator.compare(from, to) > 0) {
+            return of(to, right, left, from);
+        }
+
+        return new Segment(
+                from,
+                EndpointComparator.isInfinite(from) ? OPEN : left,
+                EndpointComparator.isInfinite(to) ? OPEN : right,
+                to
+        );
+    }
+
+    /**
+     * Creates a degenerate closed segment {@code [value, value]} representing a single point.
+     *
+     * @param value the point
+     * @return point segment
+     */
+    public static @NotNull Segment point(@NotNull IExpr value) {
+        IExpr point = normalize(value);
+        return new Segment(point, CLOSED, CLOSED, point);
+    }
+
+    /**
+     * Creates a segment from a single Symja {@code IntervalData} entry like {@code {1, LessEqual, Less, 3}}.
+     *
+     * @param entry list with four elements: start, left bound, right bound, end
+     * @return normalized segment
+     */
+    public static @NotNull Segment fromIntervalDataEntry(@NotNull IExpr entry) {
+        return of(
+                entry.getAt(1),
+                BoundType.fromInclusive(entry.getAt(2).toString()),
+                BoundType.fromInclusive(entry.getAt(3).toString()),
+                entry.getAt(4)
+        );
+    }
+
+    /**
+     * Checks if this segment contains no points.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        int order = EndpointComparator.compare(start, end);
+        return order > 0 || (order == 0 && !(left == CLOSED && right == CLOSED));
+    }
+
+    /**
+     * Checks if this segment is a single point {@code [a, a]}.
+     *
+     * @return true if the segment is a point
+     */
+    public boolean isPoint() {
+        return left == CLOSED && right == CLOSED && EndpointComparator.compare(start, end) == 0;
+    }
+
+    /**
+     * Checks if the given value lies in this segment.
+     *
+     * @param value the value to check
+     * @return true if contained
+     */
+    public boolean contains(@NotNull IExpr value) {
+        int fromStart = EndpointComparator.compare(value, start);
+        if (fromStart < 0 || (fromStart == 0 && left == OPEN)) return false;
+
+        int fromEnd = EndpointComparator.compare(value, end);
+        return fromEnd < 0 || (fromEnd == 0 && right == CLOSED);
+    }
+
+    /**
+     * Converts this segment to a Symja {@code IntervalData} entry.
+     *
+     * @return list {@code {start, bound, bound, end}}
+     */
+    public @NotNull IAST toIntervalDataEntry() {
+        return F.List(start, left.toSymbol(), right.toSymbol(), end);
+    }
+
+    private static @NotNull IExpr normalize(@NotNull IExpr endpoint) {
+        if (endpoint.isNumber() || endpoint.isInfinity() || endpoint.isNegativeInfinity()) {
+            return endpoint;
+        }
+
+        return endpoint.isFree(S.Infinity) ? endpoint : SymjaGuard.eval(SymjaOperation.EVALUATE, endpoint);
+    }
+}
@@ -0,0 +1,410 @@
+package pl.myc22ka.mathapp.model.set.utils.segment;
+
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.expression.F;
+import org.matheclipse.core.expression.S;
+import org.matheclipse.core.interfaces.IASTAppendable;
+import org.matheclipse.core.interfaces.IExpr;
+import pl.myc22ka.mathapp.model.set.sets.BoundType;
+import pl.myc22ka.mathapp.model.set.utils.range.IntegerRange;
+import pl.myc22ka.mathapp.model.set.utils.range.IntegerRangeSet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static pl.myc22ka.mathapp.model.set.sets.BoundType.CLOSED;
+import static pl.myc22ka.mathapp.model.set.sets.BoundType.OPEN;
+
+/**
+ * Pure-Java interval union engine.
+ * <p>
+ * Holds sorted, pairwise disjoint and non-touching {@link Segment}s and performs
+ * union, intersection, difference and complement as linear merges over both lists.
+ * Symja is only used by {@link EndpointComparator} for endpoints it cannot order itself.
+ *
+ * @author Myc22Ka
+ * @version 1.0.4
+ * @since 18.10.2026
+ */
+public final class SegmentSet {
+
+    private static final SegmentSet EMPTY = new SegmentSet(List.of());
+
+    private final List<Segment> segments;
+    private int hash;
+
+    private SegmentSet(@NotNull List<Segment> segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Returns the empty segment set.
+     *
+     * @return empty set
+     */
+    public static @NotNull SegmentSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a normalized set from a single segment.
+     *
+     * @param segment the segment
+     * @return normalized segment set
+     */
+    public static @NotNull SegmentSet of(@NotNull Segment segment) {
+        return segment.isEmpty() ? EMPTY : new SegmentSet(List.of(segment));
+    }
+
+    /**
+     * Creates a normalized set from segments in any order. Overlapping or touching segments are merged.
+     *
+     * @param segments the segments
+     * @return normalized segment set
+     */
+    public static @NotNull SegmentSet of(@NotNull Collection<Segment> segments) {
+        List<Segment> sorted = new ArrayList<>(segments.size());
+
+        for (Segment segment : segments) {
+            if (!segment.isEmpty()) sorted.add(segment);
+        }
+
+        sorted.sort(SegmentSet::compareStarts);
+
+        return fromSorted(sorted);
+    }
+
+    /**
+     * Creates a set of single points. The points are sorted once and duplicates are dropped;
+     * distinct points never touch, so no segments are merged.
+     *
+     * @param points the points, in any order
+     * @return normalized segment set
+     */
+    public static @NotNull SegmentSet ofPoints(@NotNull Collection<IExpr> points) {
+        List<Segment> sorted = new ArrayList<>(points.size());
+
+        for (IExpr point : points) {
+            sorted.add(Segment.point(point));
+        }
+
+        sorted.sort(SegmentSet::compareStarts);
+
+        List<Segment> result = new ArrayList<>(sorted.size());
+        for (Segment segment : sorted) {
+            if (result.isEmpty() || EndpointComparator.compare(result.getLast().start(), segment.start()) != 0) {
+                result.add(segment);
+            }
+        }
+
+        return result.isEmpty() ? EMPTY : new SegmentSet(List.copyOf(result));
+    }
+
+    /**
+     * Creates a set of integer points straight from their runs, which are already sorted and distinct,
+     * so no endpoint is compared.
+     *
+     * @param integers the integers
+     * @return normalized segment set
+     * @throws IllegalArgumentException if there are more than {@value IntegerRangeSet#EXPANSION_LIMIT} integers
+     */
+    public static @NotNull SegmentSet ofIntegers(@NotNull IntegerRangeSet integers) {
+        if (integers.isEmpty()) return EMPTY;
+        IntegerRangeSet.requireExpandable(integers.size());
+
+        Segment[] result = new Segment[Math.toIntExact(integers.size())];
+        int i = 0;
+
+        for (IntegerRange range : integers.ranges()) {
+            for (long value = range.start(); ; value++) {
+                IExpr point = F.ZZ(value);
+                result[i++] = new Segment(point, CLOSED, CLOSED, point);
+                if (value == range.end()) break;
+            }
+        }
+
+        return new SegmentSet(List.of(result));
+    }
+
+    /**
+     * Reads a Symja {@code IntervalData(...)} expression.
+     *
+     * @param intervalData evaluated {@code IntervalData} expression
+     * @return normalized segment set
+     */
+    public static @NotNull SegmentSet fromIntervalData(IExpr intervalData) {
+        if (intervalData == null || intervalData.size() < 2 || !intervalData.getAt(1).isList()) {
+            return EMPTY;
+        }
+
+        List<Segment> result = new ArrayList<>(intervalData.size() - 1);
+
+        for (int i = 1; i < intervalData.size(); i++) {
+            result.add(Segment.fromIntervalDataEntry(intervalData.getAt(i)));
+        }
+
+        return of(result);
+    }
+
+    /**
+     * Returns segments in ascending order.
+     *
+     * @return unmodifiable list of segments
+     */
+    public @NotNull List<Segment> segments() {
+        return segments;
+    }
+
+    /**
+     * Checks if this set has no points.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return segments.isEmpty();
+    }
+
+    /**
+     * Checks if this set is the whole real line {@code (-∞, ∞)}.
+     *
+     * @return true if this set is ℝ
+     */
+    public boolean isReal() {
+        if (segments.size() != 1) return false;
+
+        Segment only = segments.getFirst();
+
+        return EndpointComparator.infinitySign(only.start()) < 0 && EndpointComparator.infinitySign(only.end()) > 0;
+    }
+
+    /**
+     * Checks if every segment is a single point, so the set could be written as a finite set.
+     *
+     * @return true if the set is a non-empty list of points
+     */
+    public boolean isPointsOnly() {
+        return !segments.isEmpty() && segments.stream().allMatch(Segment::isPoint);
+    }
+
+    /**
+     * Checks if the given value is in this set. Uses binary search over the segments.
+     *
+     * @param value the value to check
+     * @return true if contained
+     */
+    public boolean contains(@NotNull IExpr value) {
+        int low = 0;
+        int high = segments.size() - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            Segment segment = segments.get(middle);
+
+            if (segment.contains(value)) return true;
+
+            if (EndpointComparator.compare(value, segment.start()) <= 0) {
+                high = middle - 1;
+            } else {
+                low = middle + 1;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Computes {@code this ∪ other} in a single merge pass.
+     *
+     * @param other the other set
+     * @return union of both sets
+     */
+    public @NotNull SegmentSet union(@NotNull SegmentSet other) {
+        if (other.isEmpty()) return this;
+        if (this.isEmpty()) return other;
+
+        List<Segment> merged = new ArrayList<>(segments.size() + other.segments.size());
+        int i = 0;
+        int j = 0;
+
+        while (i < segments.size() && j < other.segments.size()) {
+            if (compareStarts(segments.get(i), other.segments.get(j)) <= 0) {
+                merged.add(segments.get(i++));
+            } else {
+                merged.add(other.segments.get(j++));
+            }
+        }
+
+        while (i < segments.size()) merged.add(segments.get(i++));
+        while (j < other.segments.size()) merged.add(other.segments.get(j++));
+
+        return fromSorted(merged);
+    }
+
+    /**
+     * Computes {@code this ∩ other} with two pointers over both lists.
+     *
+     * @param other the other set
+     * @return intersection of both sets
+     */
+    public @NotNull SegmentSet intersection(@NotNull SegmentSet other) {
+        if (this.isEmpty() || other.isEmpty()) return EMPTY;
+
+        List<Segment> result = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+
+        while (i < segments.size() && j < other.segments.size()) {
+            Segment a = segments.get(i);
+            Segment b = other.segments.get(j);
+
+            int startOrder = EndpointComparator.compare(a.start(), b.start());
+            IExpr start = startOrder >= 0 ? a.start() : b.start();
+            BoundType left = startOrder > 0 ? a.left() : startOrder < 0 ? b.left() : both(a.left(), b.left());
+
+            int endOrder = EndpointComparator.compare(a.end(), b.end());
+            IExpr end = endOrder <= 0 ? a.end() : b.end();
+            BoundType right = endOrder < 0 ? a.right() : endOrder > 0 ? b.right() : both(a.right(), b.right());
+
+            Segment overlap = new Segment(start, left, right, end);
+            if (!overlap.isEmpty()) result.add(overlap);
+
+            if (endOrder <= 0) i++;
+            if (endOrder >= 0) j++;
+        }
+
+        return result.isEmpty() ? EMPTY : new SegmentSet(List.copyOf(result));
+    }
+
+    /**
+     * Computes the complement {@code ℝ ∖ this}.
+     *
+     * @return complement in the real line
+     */
+    public @NotNull SegmentSet complement() {
+        List<Segment> result = new ArrayList<>(segments.size() + 1);
+
+        IExpr start = F.CNInfinity;
+        BoundType left = OPEN;
+
+        for (Segment segment : segments) {
+            Segment gap = new Segment(start, left, segment.left().opposite(), segment.start());
+            if (!gap.isEmpty()) result.add(gap);
+
+            start = segment.end();
+            left = segment.right().opposite();
+        }
+
+        if (EndpointComparator.infinitySign(start) <= 0) {
+            Segment tail = new Segment(start, left, OPEN, F.CInfinity);
+            if (!tail.isEmpty()) result.add(tail);
+        }
+
+        return result.isEmpty() ? EMPTY : new SegmentSet(List.copyOf(result));
+    }
+
+    /**
+     * Computes {@code this ∖ other} as {@code this ∩ (ℝ ∖ other)}.
+     *
+     * @param other the set to remove
+     * @return difference of both sets
+     */
+    public @NotNull SegmentSet difference(@NotNull SegmentSet other) {
+        if (this.isEmpty() || other.isEmpty()) return this;
+
+        return intersection(other.complement());
+    }
+
+    /**
+     * Converts this set to a Symja {@code IntervalData(...)} expression without evaluating it.
+     *
+     * @return {@code IntervalData} expression
+     */
+    public @NotNull IExpr toIntervalData() {
+        IASTAppendable intervalData = F.ast(S.IntervalData);
+
+        for (Segment segment : segments) {
+            intervalData.append(segment.toIntervalDataEntry());
+        }
+
+        return intervalData;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof SegmentSet otherSet)) return false;
+
+        return segments.equals(otherSet.segments);
+    }
+
+    @Override
+    public int hashCode() {
+        if (hash == 0) {
+            hash = segments.hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return segments.toString();
+    }
+
+    private static @NotNull SegmentSet fromSorted(@NotNull List<Segment> sorted) {
+        if (sorted.isEmpty()) return EMPTY;
+
+        List<Segment> result = new ArrayList<>(sorted.size());
+        Segment current = sorted.getFirst();
+
+        for (int i = 1; i < sorted.size(); i++) {
+            Segment next = sorted.get(i);
+
+            if (touches(current, next)) {
+                current = join(current, next);
+            } else {
+                result.add(current);
+                current = next;
+            }
+        }
+
+        result.add(current);
+
+        return new SegmentSet(List.copyOf(result));
+    }
+
+    private static int compareStarts(@NotNull Segment a, @NotNull Segment b) {
+        int order = EndpointComparator.compare(a.start(), b.start());
+        if (order != 0) return order;
+
+        return a.left() == b.left() ? 0 : a.left() == CLOSED ? -1 : 1;
+    }
+
+    private static boolean touches(@NotNull Segment current, @NotNull Segment next) {
+        int order = EndpointComparator.compare(next.start(), current.end());
+        return order < 0 || (order == 0 && (current.right() == CLOSED || next.left() == CLOSED));
+    }
+
+    private static @NotNull Segment join(@NotNull Segment current, @NotNull Segment next) {
+        BoundType left = current.left() == CLOSED
+                || (next.left() == CLOSED && EndpointComparator.compare(current.start(), next.start()) == 0)
+                ? CLOSED : OPEN;
+
+        int endOrder = EndpointComparator.compare(next.end(), current.end());
+
+        if (endOrder > 0) {
+            return new Segment(current.start(), left, next.right(), next.end());
+        }
+
+        BoundType right = endOrder == 0 ? either(current.right(), next.right()) : current.right();
+        return new Segment(current.start(), left, right, current.end());
+    }
+
+    private static @NotNull BoundType both(@NotNull BoundType a, @NotNull BoundType b) {
+        return a == CLOSED && b == CLOSED ? CLOSED : OPEN;
+    }
+
+    private static @NotNull BoundType either(@NotNull BoundType a, @NotNull BoundType b) {
+        return a == CLOSED || b == CLOSED ? CLOSED : OPEN;
+    }
+}
@@ -8,12 +8,25 @@ import org.jetbrains.annotations.NotNull;
  * @param type       the type of the token (e.g., operand, operator, left/right parenthesis)
  * @param value      the string value of the token (e.g., "A", "∪", "{1,2}")
  * @param precedence the precedence of the operator (only applies if the token is an operator)
+ * @param start      the index of the first character of the token in the source expression, or -1 if unknown
+ * @param end        the index just after the last character of the token, or -1 if unknown
  *
  * @author Myc22Ka
- * @version 1.0.0
+ * @version 1.1.0
  * @since 23.07.2025
  */
-public record Token(TokenType type, String value, int precedence) {
+public record Token(TokenType type, String value, int precedence, int start, int end) {
+
+    /**
+     * Creates a token without a source position.
+     *
+     * @param type       the type of the token
+     * @param value      the string value of the token
+     * @param precedence the precedence of the operator
+     */
+    public Token(TokenType type, String value, int precedence) {
+        this(type, value, precedence, -1, -1);
+    }
 
     @Override
     public @NotNull String toString() {
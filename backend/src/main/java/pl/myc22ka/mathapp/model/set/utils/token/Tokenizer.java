@@ -2,7 +2,6 @@ package pl.myc22ka.mathapp.model.set.utils.token;
 
 import lombok.experimental.UtilityClass;
 import org.jetbrains.annotations.NotNull;
-import pl.myc22ka.mathapp.model.set.SetSymbols;
 import pl.myc22ka.mathapp.model.set.utils.scanner.IntervalScanner;
 
 import java.util.ArrayList;
@@ -11,9 +10,12 @@ import java.util.List;
 /**
  * Utility class for converting a raw set expression string into a list of {@link Token} objects.
  * Handles operands (e.g., sets, intervals), operators (∪, ∩, \), and parentheses.
+ * <p>
+ * Intervals are located once by {@link IntervalScanner#findIntervalEnds(String)}, then a single
+ * left-to-right state machine emits tokens with their source offsets, so the whole run is linear.
  *
  * @author Myc22Ka
- * @version 1.0.1
+ * @version 1.1.0
  * @since 23.07.2025
  */
 @UtilityClass
@@ -28,45 +30,67 @@ public class Tokenizer {
      */
     public @NotNull List<Token> tokenize(@NotNull String expression) {
         List<Token> tokens = new ArrayList<>();
-        boolean[] isIntervalChar = IntervalScanner.markIntervalCharacters(expression);
+        int[] intervalEnds = IntervalScanner.findIntervalEnds(expression);
+        int length = expression.length();
 
         int i = 0;
-        while (i < expression.length()) {
+        while (i < length) {
             char c = expression.charAt(i);
+            int start = i;
 
-            if (isIntervalChar[i] && (c == '(' || c == ')')) {
-                int start = IntervalScanner.findIntervalStart(i, isIntervalChar);
-                int end = IntervalScanner.findIntervalEnd(expression, start, isIntervalChar);
-                if (start < i) {
-                    i = end;
-                    continue;
-                } else {
-                    tokens.add(new Token(TokenType.OPERAND, expression.substring(start, end), 0));
-                    i = end;
-                    continue;
-                }
-            }
-
-            if (SetSymbols.getBinaryOperationsString().indexOf(c) != -1) {
-                tokens.add(new Token(TokenType.OPERATOR, String.valueOf(c), 1));
-                i++;
-            } else if (c == '(' && !isIntervalChar[i]) {
-                tokens.add(new Token(TokenType.LEFT_PAREN, "(", 0));
-                i++;
-            } else if (c == ')' && !isIntervalChar[i]) {
-                tokens.add(new Token(TokenType.RIGHT_PAREN, ")", 0));
-                i++;
+            if (intervalEnds[i] != -1) {
+                i = skipIntervals(i, intervalEnds);
+                tokens.add(new Token(TokenType.OPERAND, expression.substring(start, i), 0, start, i));
+            } else if (IntervalScanner.isOperator(c)) {
+                tokens.add(new Token(TokenType.OPERATOR, String.valueOf(c), 1, start, ++i));
+            } else if (c == '(') {
+                tokens.add(new Token(TokenType.LEFT_PAREN, "(", 0, start, ++i));
+            } else if (c == ')') {
+                tokens.add(new Token(TokenType.RIGHT_PAREN, ")", 0, start, ++i));
             } else {
-                int start = i;
-                i = IntervalScanner.findOperandEnd(expression, i, isIntervalChar);
-                if (i > start) {
-                    tokens.add(new Token(TokenType.OPERAND, expression.substring(start, i), 0));
-                } else {
+                i = c == '{' ? skipBraces(expression, i) : scanOperand(expression, i, intervalEnds);
+                if (i == start) {
                     throw new IllegalArgumentException("Unexpected character at position " + i);
                 }
+                tokens.add(new Token(TokenType.OPERAND, expression.substring(start, i), 0, start, i));
             }
         }
         return tokens;
     }
-}
 
+    private int skipIntervals(int start, int @NotNull [] intervalEnds) {
+        int i = start;
+        while (i < intervalEnds.length && intervalEnds[i] != -1) {
+            i = intervalEnds[i];
+        }
+        return i;
+    }
+
+    private int skipBraces(@NotNull String expression, int start) {
+        int depth = 1;
+        int i = start + 1;
+
+        while (i < expression.length() && depth > 0) {
+            char c = expression.charAt(i++);
+            if (c == '{') depth++;
+            else if (c == '}') depth--;
+        }
+        return i;
+    }
+
+    private int scanOperand(@NotNull String expression, int start, int @NotNull [] intervalEnds) {
+        int i = start;
+
+        while (i < expression.length()) {
+            if (intervalEnds[i] != -1) {
+                i = intervalEnds[i];
+                continue;
+            }
+
+            char c = expression.charAt(i);
+            if (IntervalScanner.isOperator(c) || c == '(' || c == ')') break;
+            i++;
+        }
+        return i;
+    }
+}
@@ -1,15 +1,19 @@
 package pl.myc22ka.mathapp.model.set.visitors;
 
 import lombok.RequiredArgsConstructor;
-import org.matheclipse.core.eval.ExprEvaluator;
+import org.jetbrains.annotations.NotNull;
 import org.matheclipse.core.expression.F;
 import org.matheclipse.core.interfaces.IExpr;
+import pl.myc22ka.mathapp.model.expression.SymjaGuard;
+import pl.myc22ka.mathapp.model.expression.SymjaOperation;
 import pl.myc22ka.mathapp.model.set.ISet;
 import pl.myc22ka.mathapp.model.set.SetSymbols;
 import pl.myc22ka.mathapp.model.set.sets.Finite;
 import pl.myc22ka.mathapp.model.set.sets.Fundamental;
 import pl.myc22ka.mathapp.model.set.sets.Interval;
 import pl.myc22ka.mathapp.model.set.sets.ReducedFundamental;
+import pl.myc22ka.mathapp.model.set.utils.range.IntegerRangeSet;
+import pl.myc22ka.mathapp.model.set.utils.segment.SegmentSet;
 
 import static pl.myc22ka.mathapp.model.set.ISetType.FINITE;
 import static pl.myc22ka.mathapp.model.set.ISetType.FUNDAMENTAL;
@@ -18,15 +22,15 @@ import static pl.myc22ka.mathapp.model.set.SetSymbols.EMPTY;
 
 /**
  * Visitor for computing the set difference (A ∖ B).
+ * Integer sets are subtracted from and by intervals run by run, without a point segment per integer.
  *
  * @author Myc22Ka
- * @version 1.0.3
+ * @version 1.0.10
  * @since 2025 -06-19
  */
 @RequiredArgsConstructor
 public class DifferenceVisitor implements SetVisitor<ISet> {
     private final ISet left;
-    private final ExprEvaluator evaluator = new ExprEvaluator();
 
     @Override
     public ISet visitFinite(Finite right) {
@@ -50,33 +54,43 @@ public class DifferenceVisitor implements SetVisitor<ISet> {
 
         // Delegate if not finite
         if (left.getISetType() != FINITE) {
-            return visitInterval(right.toInterval());
+            return right.getIntegers() != null ? withoutIntegers(left.toInterval(), right) : visitInterval(right.toInterval());
         }
 
-        IExpr result = evaluator.eval(F.Complement(left.getExpression(), right.getExpression()));
+        if (left instanceof Finite finiteLeft && finiteLeft.getIntegers() != null && right.getIntegers() != null) {
+            return Finite.ofIntegers(finiteLeft.getIntegers().difference(right.getIntegers()));
+        }
+
+        IExpr result = SymjaGuard.eval(SymjaOperation.EVALUATE, F.Complement(left.getExpression(), right.getExpression()));
 
         // Default case: A \ B
-        return result.isList() ? new Finite(result) : new Fundamental(EMPTY);
+        return result.isList() ? Finite.of(result) : Fundamental.of(EMPTY);
     }
 
     @Override
     public ISet visitInterval(Interval right) {
         if (left.isEmpty() || right.isEmpty()) return left;
 
-        ISet normalizedLeft = left.toInterval();
+        if (left instanceof Finite finiteLeft && finiteLeft.getIntegers() != null) {
+            return Finite.ofIntegers(finiteLeft.getIntegers().difference(right.integerRuns()));
+        }
+
+        Interval normalizedLeft = left.toInterval();
+
+        return new Interval(normalizedLeft.getSegments().difference(right.getSegments()));
+    }
 
-        String difference = evaluator.eval(
-                F.IntervalComplement(normalizedLeft.getExpression(), right.getExpression())
-        ).toString();
+    private static ISet withoutIntegers(@NotNull Interval interval, @NotNull Finite finite) {
+        IntegerRangeSet inside = finite.getIntegers().intersection(interval.integerRuns());
 
-        return new Interval(difference);
+        return new Interval(interval.getSegments().difference(SegmentSet.ofIntegers(inside)));
     }
 
     @Override
     public ISet visitFundamental(Fundamental right) {
         if (left.isEmpty() || right.isEmpty()) return left;
 
-        if (left.toString().equals(right.toString())) return new Fundamental(SetSymbols.EMPTY);
+        if (left.equals(right)) return Fundamental.of(SetSymbols.EMPTY);
 
         return visitInterval(right.toInterval());
     }
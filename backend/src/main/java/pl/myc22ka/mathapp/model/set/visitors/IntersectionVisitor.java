@@ -2,9 +2,10 @@ package pl.myc22ka.mathapp.model.set.visitors;
 
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
-import org.matheclipse.core.eval.ExprEvaluator;
 import org.matheclipse.core.expression.F;
 import org.matheclipse.core.interfaces.IExpr;
+import pl.myc22ka.mathapp.model.expression.SymjaGuard;
+import pl.myc22ka.mathapp.model.expression.SymjaOperation;
 import pl.myc22ka.mathapp.model.set.ISet;
 import pl.myc22ka.mathapp.model.set.ISetType;
 import pl.myc22ka.mathapp.model.set.Set;
@@ -13,6 +14,7 @@ import pl.myc22ka.mathapp.model.set.sets.Finite;
 import pl.myc22ka.mathapp.model.set.sets.Fundamental;
 import pl.myc22ka.mathapp.model.set.sets.Interval;
 import pl.myc22ka.mathapp.model.set.sets.ReducedFundamental;
+import pl.myc22ka.mathapp.model.set.utils.range.IntegerRangeSet;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,42 +25,56 @@ import static pl.myc22ka.mathapp.model.set.SetSymbols.REAL;
 
 /**
  * Visitor for computing the set intersection (A ∩ B).
+ * Integer sets are intersected with intervals run by run, without a point segment per integer.
  *
  * @author Myc22Ka
- * @version 1.0.2
+ * @version 1.0.8
  * @since 2025 -06-24
  */
 @RequiredArgsConstructor
 public class IntersectionVisitor implements SetVisitor<ISet> {
-    private final ExprEvaluator evaluator = new ExprEvaluator();
     private final ISet left;
 
     @Override
     public ISet visitFinite(Finite right) {
-        if (right.isEmpty() || left.isEmpty()) return new Fundamental(SetSymbols.EMPTY);
+        if (right.isEmpty() || left.isEmpty()) return Fundamental.of(SetSymbols.EMPTY);
 
         // Delegate to Interval Case
-        if (left.getISetType() != FINITE) return visitInterval(right.toInterval());
+        if (left.getISetType() != FINITE) {
+            return right.getIntegers() != null ? integersIn(right, left.toInterval()) : visitInterval(right.toInterval());
+        }
+
+        if (left instanceof Finite finiteLeft && finiteLeft.getIntegers() != null && right.getIntegers() != null) {
+            return Finite.ofIntegers(finiteLeft.getIntegers().intersection(right.getIntegers()));
+        }
 
-        IExpr result = evaluator.eval(F.Intersection(left.getExpression(), right.getExpression()));
+        IExpr result = SymjaGuard.eval(SymjaOperation.EVALUATE, F.Intersection(left.getExpression(), right.getExpression()));
 
-        return result.isList() ? new Finite(result) : new Fundamental(EMPTY);
+        return result.isList() ? Finite.of(result) : Fundamental.of(EMPTY);
     }
 
     @Override
     public ISet visitInterval(Interval right) {
-        if (right.isEmpty() || left.isEmpty()) return new Fundamental(SetSymbols.EMPTY);
+        if (right.isEmpty() || left.isEmpty()) return Fundamental.of(SetSymbols.EMPTY);
 
-        String intersection = evaluator.eval(F.IntervalIntersection(left.toInterval().getExpression(), right.getExpression())).toString();
+        if (left instanceof Finite finiteLeft && finiteLeft.getIntegers() != null) {
+            return integersIn(finiteLeft, right);
+        }
+
+        Interval result = new Interval(left.toInterval().getSegments().intersection(right.getSegments()));
+
+        return result.getSegments().isReal() ? Fundamental.of(REAL) : result.shorten();
+    }
 
-        Interval result = new Interval(intersection);
+    private static ISet integersIn(@NotNull Finite finite, @NotNull Interval interval) {
+        IntegerRangeSet inside = finite.getIntegers().intersection(interval.integerRuns());
 
-        return SetSymbols.isReal(result.toString()) ? new Fundamental(REAL) : result.shorten();
+        return inside.isEmpty() ? Fundamental.of(EMPTY) : Finite.ofIntegers(inside);
     }
 
     @Override
     public ISet visitFundamental(Fundamental right) {
-        if (right.isEmpty() || left.isEmpty()) return new Fundamental(SetSymbols.EMPTY);
+        if (right.isEmpty() || left.isEmpty()) return Fundamental.of(SetSymbols.EMPTY);
 
         if (left.getISetType() != FUNDAMENTAL) return right.intersection(left);
 
@@ -75,12 +91,12 @@ public class IntersectionVisitor implements SetVisitor<ISet> {
             return fLeft;
         }
 
-        return new Fundamental(SetSymbols.EMPTY);
+        return Fundamental.of(SetSymbols.EMPTY);
     }
 
     @Override
     public ISet visitReducedFundamental(ReducedFundamental right) {
-        if (left.isEmpty() || right.isEmpty()) return new Fundamental(EMPTY);
+        if (left.isEmpty() || right.isEmpty()) return Fundamental.of(EMPTY);
 
         return visitInterval(right.toInterval());
     }
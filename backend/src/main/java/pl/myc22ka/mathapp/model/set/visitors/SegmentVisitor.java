@@ -0,0 +1,38 @@
+package pl.myc22ka.mathapp.model.set.visitors;
+
+import pl.myc22ka.mathapp.model.set.sets.Finite;
+import pl.myc22ka.mathapp.model.set.sets.Fundamental;
+import pl.myc22ka.mathapp.model.set.sets.Interval;
+import pl.myc22ka.mathapp.model.set.sets.ReducedFundamental;
+import pl.myc22ka.mathapp.model.set.utils.segment.SegmentSet;
+
+/**
+ * Visitor converting any set to its {@link SegmentSet} form, used by bulk operations
+ * to normalize every operand once.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+public class SegmentVisitor implements SetVisitor<SegmentSet> {
+
+    @Override
+    public SegmentSet visitFinite(Finite finite) {
+        return finite.isEmpty() ? SegmentSet.empty() : finite.toInterval().getSegments();
+    }
+
+    @Override
+    public SegmentSet visitInterval(Interval interval) {
+        return interval.getSegments();
+    }
+
+    @Override
+    public SegmentSet visitFundamental(Fundamental fundamental) {
+        return fundamental.isEmpty() ? SegmentSet.empty() : fundamental.toInterval().getSegments();
+    }
+
+    @Override
+    public SegmentSet visitReducedFundamental(ReducedFundamental reducedFundamental) {
+        return reducedFundamental.toInterval().getSegments();
+    }
+}
@@ -1,15 +1,18 @@
 package pl.myc22ka.mathapp.model.set.visitors;
 
 import lombok.RequiredArgsConstructor;
-import org.matheclipse.core.eval.ExprEvaluator;
+import org.jetbrains.annotations.NotNull;
 import org.matheclipse.core.expression.F;
 import org.matheclipse.core.interfaces.IExpr;
+import pl.myc22ka.mathapp.model.expression.SymjaGuard;
+import pl.myc22ka.mathapp.model.expression.SymjaOperation;
 import pl.myc22ka.mathapp.model.set.ISet;
-import pl.myc22ka.mathapp.model.set.SetSymbols;
 import pl.myc22ka.mathapp.model.set.sets.Finite;
 import pl.myc22ka.mathapp.model.set.sets.Fundamental;
 import pl.myc22ka.mathapp.model.set.sets.Interval;
 import pl.myc22ka.mathapp.model.set.sets.ReducedFundamental;
+import pl.myc22ka.mathapp.model.set.utils.range.IntegerRangeSet;
+import pl.myc22ka.mathapp.model.set.utils.segment.SegmentSet;
 
 import static pl.myc22ka.mathapp.model.set.ISetType.FINITE;
 import static pl.myc22ka.mathapp.model.set.ISetType.FUNDAMENTAL;
@@ -18,14 +21,14 @@ import static pl.myc22ka.mathapp.model.set.SetSymbols.REAL;
 
 /**
  * Visitor for computing the set union (A ∪ B).
+ * Only the integers outside an interval are added to it as points, so integer sets are merged run by run.
  *
  * @author Myc22Ka
- * @version 1.0.3
+ * @version 1.0.9
  * @since 2025 -06-29
  */
 @RequiredArgsConstructor
 public class UnionVisitor implements SetVisitor<ISet> {
-    private final ExprEvaluator evaluator = new ExprEvaluator();
     private final ISet left;
 
     @Override
@@ -33,11 +36,19 @@ public class UnionVisitor implements SetVisitor<ISet> {
         if (left.isEmpty()) return right;
 
         // Delegate to if not FINITE
-        if (left.getISetType() != FINITE) return visitInterval(right.toInterval());
+        if (left.getISetType() != FINITE) {
+            return left.getISetType() != FUNDAMENTAL && right.getIntegers() != null
+                    ? withIntegers(left.toInterval(), right.getIntegers())
+                    : visitInterval(right.toInterval());
+        }
+
+        if (left instanceof Finite finiteLeft && finiteLeft.getIntegers() != null && right.getIntegers() != null) {
+            return Finite.ofIntegers(finiteLeft.getIntegers().union(right.getIntegers()));
+        }
 
         // Default case: A ∪ B
-        IExpr result = evaluator.eval(F.Union(left.getExpression(), right.getExpression()));
-        return result.isList() ? new Finite(result) : new Fundamental(EMPTY);
+        IExpr result = SymjaGuard.eval(SymjaOperation.EVALUATE, F.Union(left.getExpression(), right.getExpression()));
+        return result.isList() ? Finite.of(result) : Fundamental.of(EMPTY);
     }
 
     @Override
@@ -48,12 +59,25 @@ public class UnionVisitor implements SetVisitor<ISet> {
             return visitFundamental((Fundamental) left);
         }
 
+        if (left instanceof Finite finiteLeft && finiteLeft.getIntegers() != null) {
+            return withIntegers(right, finiteLeft.getIntegers());
+        }
+
         // General case A ∪ B
-        String union = evaluator.eval(F.IntervalUnion(left.toInterval().getExpression(), right.getExpression())).toString();
+        return normalize(left.toInterval().getSegments().union(right.getSegments()));
+    }
+
+    private static ISet withIntegers(@NotNull Interval interval, @NotNull IntegerRangeSet integers) {
+        IntegerRangeSet outside = integers.difference(interval.integerRuns());
+
+        return normalize(outside.isEmpty() ? interval.getSegments()
+                : interval.getSegments().union(SegmentSet.ofIntegers(outside)));
+    }
 
-        Interval result = new Interval(union);
+    private static ISet normalize(@NotNull SegmentSet segments) {
+        Interval result = new Interval(segments);
 
-        return SetSymbols.isReal(result.toString()) ? new Fundamental(REAL) : result.shorten();
+        return segments.isReal() ? Fundamental.of(REAL) : result.shorten();
     }
 
     @Override
@@ -65,9 +89,9 @@ public class UnionVisitor implements SetVisitor<ISet> {
 
         var fundamentalLeft = (Fundamental) left;
 
-        if (right.getLeftSymbol().equals(REAL) || fundamentalLeft.getLeftSymbol().equals(REAL)) return new Fundamental(REAL);
+        if (right.getLeftSymbol().equals(REAL) || fundamentalLeft.getLeftSymbol().equals(REAL)) return Fundamental.of(REAL);
 
-        return new Fundamental(EMPTY);
+        return Fundamental.of(EMPTY);
     }
 
     @Override
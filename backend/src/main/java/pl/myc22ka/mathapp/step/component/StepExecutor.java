@@ -1,9 +1,9 @@
 package pl.myc22ka.mathapp.step.component;
 
 import org.jetbrains.annotations.NotNull;
-import pl.myc22ka.mathapp.utils.resolver.dto.ContextRecord;
+import pl.myc22ka.mathapp.model.expression.MathExpression;
 import pl.myc22ka.mathapp.step.model.StepType;
-import pl.myc22ka.mathapp.step.model.StepWrapper;
+import pl.myc22ka.mathapp.step.model.StepValue;
 
 import java.util.List;
 
@@ -11,18 +11,18 @@ import java.util.List;
  * Interface defining a contract for executing a step in an exercise workflow.
  * <p>
  * Implementations correspond to specific {@link StepType} operations
- * (e.g., union, intersection, complement) and modify the provided context.
+ * (e.g., union, intersection, complement) and compute a new value from already parsed operands.
  * </p>
  * <p>
  * Each executor is responsible for:
  * <ul>
  *     <li>Specifying its {@link StepType} via {@link #getType()}.</li>
- *     <li>Performing the operation defined by the step and updating the context.</li>
+ *     <li>Performing the operation defined by the step and returning its result.</li>
  * </ul>
  * </p>
  *
  * @author Myc22Ka
- * @version 1.0.0
+ * @version 1.1.0
  * @since 17.10.2025
  */
 public interface StepExecutor {
@@ -35,10 +35,10 @@ public interface StepExecutor {
     StepType getType();
 
     /**
-     * Executes the step, applying its logic to the provided context.
+     * Executes the step on its operands.
      *
-     * @param step    the step wrapper containing configuration and prefixes
-     * @param context the list of context records containing prior results; may be modified
+     * @param operands values of the step prefixes found in the context, in prefix order
+     * @return the result of the step
      */
-    void execute(@NotNull StepWrapper step, List<ContextRecord> context);
+    StepValue execute(@NotNull List<MathExpression> operands);
 }
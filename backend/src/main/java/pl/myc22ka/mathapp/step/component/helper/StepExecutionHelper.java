@@ -3,30 +3,27 @@ package pl.myc22ka.mathapp.step.component.helper;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
-import pl.myc22ka.mathapp.utils.resolver.dto.ContextRecord;
-import pl.myc22ka.mathapp.utils.resolver.dto.TemplateString;
 import pl.myc22ka.mathapp.model.expression.ExpressionFactory;
 import pl.myc22ka.mathapp.model.expression.MathExpression;
+import pl.myc22ka.mathapp.model.function.Function;
 import pl.myc22ka.mathapp.model.set.ISet;
+import pl.myc22ka.mathapp.step.model.StepContext;
 import pl.myc22ka.mathapp.step.model.StepDefinition;
 import pl.myc22ka.mathapp.step.model.StepWrapper;
 import pl.myc22ka.mathapp.step.repository.StepDefinitionRepository;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Utility component responsible for assisting in the execution of template exercise steps.
  * <p>
  * Handles parsing of context records into {@link MathExpression} instances,
- * fetching of {@link StepDefinition}s, and validation of required sets within a step.
+ * fetching of {@link StepDefinition}s, and validation of required sets and functions within a step.
  * </p>
  *
  * @author Myc22Ka
- * @version 1.0.0
+ * @version 1.0.3
  * @since 17.10.2025
  */
 @Component
@@ -50,56 +47,81 @@ public class StepExecutionHelper {
     }
 
     /**
-     * Extracts and parses all sets from the given step’s prefixes within the provided context.
+     * Extracts and parses all expressions from the given step’s prefixes within the provided context.
      * <p>
-     * The method maps context keys to their corresponding records,
-     * filters only those prefixes that exist in the context,
-     * and uses the {@link ExpressionFactory} to parse them into {@link MathExpression} objects.
-     * Only expressions that implement {@link ISet} are included in the result.
+     * Prefixes missing from the context are skipped. Values are looked up by key and parsed
+     * with the {@link ExpressionFactory} on first use, the context keeps the parsed expression.
      * </p>
      *
      * @param step    the step containing the prefixes to look up
-     * @param context the full list of context records available to the step
+     * @param context the context of the current execution
+     * @return parsed expressions in prefix order
+     */
+    public List<MathExpression> getOperandsFromContext(@NotNull StepWrapper step, @NotNull StepContext context) {
+        return context.operands(step, expressionFactory);
+    }
+
+    /**
+     * Extracts and parses all sets from the given step’s prefixes within the provided context.
+     * Only expressions that implement {@link ISet} are included in the result.
+     *
+     * @param step    the step containing the prefixes to look up
+     * @param context the context of the current execution
      * @return list of {@link ISet} instances found in the context
      */
-    public List<ISet> getSetsFromContext(@NotNull StepWrapper step, @NotNull List<ContextRecord> context) {
-        Map<String, ContextRecord> contextMap = context.stream()
-                .collect(Collectors.toMap(c -> c.key().templateString(), Function.identity()));
+    public List<ISet> getSetsFromContext(@NotNull StepWrapper step, @NotNull StepContext context) {
+        return getSets(getOperandsFromContext(step, context));
+    }
 
+    /**
+     * Selects the sets among the operands of a step, keeping their order.
+     *
+     * @param operands the parsed operands
+     * @return list of {@link ISet} operands
+     */
+    public List<ISet> getSets(@NotNull List<MathExpression> operands) {
         List<ISet> sets = new ArrayList<>();
 
-        for (String prefix : step.getPrefixes()) {
-            if (contextMap.containsKey(prefix)) {
-                ContextRecord record = contextMap.get(prefix);
+        for (MathExpression operand : operands) {
+            if (operand instanceof ISet set) {
+                sets.add(set);
+            }
+        }
 
-                MathExpression expr = expressionFactory.parse(record);
+        return sets;
+    }
 
-                if (expr instanceof ISet setExpr) {
-                    sets.add(setExpr);
-                }
+    /**
+     * Selects the functions among the operands of a step, keeping their order.
+     *
+     * @param operands the parsed operands
+     * @return list of {@link Function} operands
+     */
+    public List<Function> getFunctions(@NotNull List<MathExpression> operands) {
+        List<Function> functions = new ArrayList<>();
+
+        for (MathExpression operand : operands) {
+            if (operand instanceof Function function) {
+                functions.add(function);
             }
         }
 
-        return sets;
+        return functions;
     }
 
     /**
-     * Generates the next available context key following the pattern: {@code context1}, {@code context2}, etc.
+     * Ensures that a step operation has the number of functions it needs.
      *
-     * @param context the list of context records
-     * @return the next unique context key (e.g., {@code "context3"})
+     * @param functions the list of functions to validate
+     * @param count     the required number of functions
+     * @throws IllegalArgumentException if the number of functions is different
      */
-    public String nextContextKey(@NotNull List<ContextRecord> context) {
-        int max = context.stream()
-                .map(ContextRecord::key)
-                .map(TemplateString::templateString)
-                .filter(k -> k.startsWith("context"))
-                .map(k -> k.substring(7))
-                .filter(s -> s.matches("\\d+"))
-                .mapToInt(Integer::parseInt)
-                .max()
-                .orElse(0);
-        return "context" + (max + 1);
+    public void ensureFunctions(@NotNull List<Function> functions, int count) {
+        if (functions.size() != count) {
+            throw new IllegalArgumentException(
+                    "Step requires exactly " + count + " function(s). Found: " + functions.size()
+            );
+        }
     }
 
     /**
@@ -0,0 +1,236 @@
+package pl.myc22ka.mathapp.step.component.program;
+
+import org.jetbrains.annotations.NotNull;
+import pl.myc22ka.mathapp.model.expression.ExpressionFactory;
+import pl.myc22ka.mathapp.model.expression.MathExpression;
+import pl.myc22ka.mathapp.step.component.StepExecutor;
+import pl.myc22ka.mathapp.step.model.StepContext;
+import pl.myc22ka.mathapp.step.model.StepValue;
+import pl.myc22ka.mathapp.step.model.StepWrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Step list of a template compiled into an executable program, created by {@link StepProgramCompiler}.
+ * <p>
+ * Every context key a step refers to is resolved to a register index once, at compile time: the first
+ * registers hold the exercise inputs (e.g. {@code s1}), the following ones the result of each step
+ * ({@code context1}, {@code context2}, ...). Registers hold {@link StepValue}s, so a step passes its parsed
+ * result to the next one instead of printing it to a string that is parsed again. Inputs are parsed once,
+ * on first use. A program is immutable and can be run by many threads at once.
+ * <p>
+ * The compiler also records which steps each step reads from, so steps of independent branches
+ * (e.g. {@code s1∪s2} and {@code s3∩s4} combined by a later step) can run concurrently with
+ * {@link #run(StepContext, ExpressionFactory, Executor)}. The result is the same as running the steps in order.
+ *
+ * @author Myc22Ka
+ * @version 1.0.2
+ * @since 18.10.2026
+ */
+public final class StepProgram {
+
+    private final String[] inputKeys;
+    private final Instruction[] instructions;
+    private final Long[] stepIds;
+    private final int depth;
+
+    StepProgram(String @NotNull [] inputKeys, Instruction @NotNull [] instructions, Long @NotNull [] stepIds, int depth) {
+        this.inputKeys = inputKeys;
+        this.instructions = instructions;
+        this.stepIds = stepIds;
+        this.depth = depth;
+    }
+
+    /**
+     * One compiled step.
+     *
+     * @param executor     the executor of the step type
+     * @param operands     registers of the step prefixes, in prefix order
+     * @param output       register receiving the result
+     * @param key          context key of the result, e.g. {@code context1}
+     * @param dependencies indices of the earlier steps whose results this step reads
+     */
+    record Instruction(StepExecutor executor, int[] operands, int output, String key, int[] dependencies) {
+    }
+
+    /**
+     * Returns the number of steps.
+     *
+     * @return step count
+     */
+    public int size() {
+        return instructions.length;
+    }
+
+    /**
+     * Returns the length of the longest chain of dependent steps, the least number of steps that
+     * have to run one after another.
+     *
+     * @return critical path length
+     */
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * Checks if some steps do not depend on each other and can run concurrently.
+     *
+     * @return true if the critical path is shorter than the step list
+     */
+    public boolean isParallel() {
+        return depth < instructions.length;
+    }
+
+    /**
+     * Returns the context keys the program reads from the exercise inputs.
+     *
+     * @return input keys, e.g. {@code [s1, s2]}
+     */
+    public @NotNull List<String> inputKeys() {
+        return List.of(inputKeys);
+    }
+
+    /**
+     * Checks if the program was compiled from these steps, comparing step ids.
+     *
+     * @param steps the current steps of the template
+     * @return true if the program is up to date
+     */
+    public boolean matches(@NotNull List<StepWrapper> steps) {
+        if (steps.size() != stepIds.length) return false;
+
+        for (int i = 0; i < stepIds.length; i++) {
+            Long id = steps.get(i).getId();
+            if (id == null || !id.equals(stepIds[i])) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Runs the program, one step after another.
+     *
+     * @param context the exercise inputs
+     * @param factory parser for the inputs and for results kept only as text
+     * @return result of the last step, or the last value of the context if there are no steps
+     * @throws IllegalArgumentException if a step fails on its operands
+     */
+    public @NotNull StepValue run(@NotNull StepContext context, @NotNull ExpressionFactory factory) {
+        if (instructions.length == 0) {
+            return context.last();
+        }
+
+        AtomicReferenceArray<StepValue> registers = load(context);
+        for (Instruction instruction : instructions) {
+            execute(instruction, registers, factory);
+        }
+
+        return registers.get(registers.length() - 1);
+    }
+
+    /**
+     * Runs the program, starting every step as soon as the steps it reads from are done.
+     * If some step fails, the exception of the first failing step in list order is thrown,
+     * as in {@link #run(StepContext, ExpressionFactory)}.
+     *
+     * @param context  the exercise inputs
+     * @param factory  parser for the inputs and for results kept only as text
+     * @param executor executor running the steps
+     * @return result of the last step, or the last value of the context if there are no steps
+     * @throws IllegalArgumentException if a step fails on its operands
+     */
+    public @NotNull StepValue run(@NotNull StepContext context, @NotNull ExpressionFactory factory,
+                                  @NotNull Executor executor) {
+        if (!isParallel()) {
+            return run(context, factory);
+        }
+
+        AtomicReferenceArray<StepValue> registers = load(context);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[instructions.length];
+
+        for (int n = 0; n < instructions.length; n++) {
+            Instruction instruction = instructions[n];
+            int[] dependencies = instruction.dependencies();
+
+            CompletableFuture<?>[] inputs = new CompletableFuture<?>[dependencies.length];
+            for (int i = 0; i < dependencies.length; i++) {
+                inputs[i] = futures[dependencies[i]];
+            }
+
+            futures[n] = CompletableFuture.allOf(inputs)
+                    .thenRunAsync(() -> execute(instruction, registers, factory), executor);
+        }
+
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            throw firstFailure(futures);
+        }
+
+        return registers.get(registers.length() - 1);
+    }
+
+    private @NotNull AtomicReferenceArray<StepValue> load(@NotNull StepContext context) {
+        AtomicReferenceArray<StepValue> registers = new AtomicReferenceArray<>(inputKeys.length + instructions.length);
+        for (int i = 0; i < inputKeys.length; i++) {
+            // Inputs are copied as they are, parsing them in the registers keeps the context untouched by concurrent steps
+            registers.set(i, context.get(inputKeys[i]));
+        }
+        return registers;
+    }
+
+    private void execute(@NotNull Instruction instruction, @NotNull AtomicReferenceArray<StepValue> registers,
+                         @NotNull ExpressionFactory factory) {
+        registers.set(instruction.output(), instruction.executor().execute(operands(instruction, registers, factory)));
+    }
+
+    private @NotNull List<MathExpression> operands(@NotNull Instruction instruction,
+                                                   @NotNull AtomicReferenceArray<StepValue> registers,
+                                                   @NotNull ExpressionFactory factory) {
+        List<MathExpression> operands = new ArrayList<>(instruction.operands().length);
+
+        for (int register : instruction.operands()) {
+            StepValue value = registers.get(register);
+            // Keys missing from the context are skipped, like in a lookup by key
+            if (value == null) continue;
+
+            if (value.expression() == null) {
+                StepValue parsed = value.withExpression(factory.parse(value.toRecord(registerKey(register))));
+                // Concurrent readers may parse the same register, they all get an equal expression
+                value = registers.compareAndSet(register, value, parsed) ? parsed : registers.get(register);
+            }
+            operands.add(value.expression());
+        }
+
+        return operands;
+    }
+
+    /**
+     * Returns the exception of the first step that failed by itself rather than because a step it reads from failed.
+     */
+    private @NotNull RuntimeException firstFailure(CompletableFuture<?> @NotNull [] futures) {
+        for (int n = 0; n < futures.length; n++) {
+            if (!futures[n].isCompletedExceptionally()) continue;
+
+            boolean dependenciesDone = true;
+            for (int dependency : instructions[n].dependencies()) {
+                dependenciesDone &= !futures[dependency].isCompletedExceptionally();
+            }
+            if (!dependenciesDone) continue;
+
+            Throwable failure = futures[n].exceptionNow();
+            if (failure instanceof RuntimeException runtime) return runtime;
+            if (failure instanceof Error error) throw error;
+            return new IllegalStateException(failure);
+        }
+        return new IllegalStateException("Step program failed without a failing step");
+    }
+
+    private @NotNull String registerKey(int register) {
+        return register < inputKeys.length ? inputKeys[register] : instructions[register - inputKeys.length].key();
+    }
+}
@@ -0,0 +1,90 @@
+package pl.myc22ka.mathapp.step.component.program;
+
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+import pl.myc22ka.mathapp.step.model.StepContext;
+import pl.myc22ka.mathapp.step.model.StepWrapper;
+import pl.myc22ka.mathapp.step.service.StepExecutorRegistry;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Component compiling the step list of a template into a {@link StepProgram}.
+ * <p>
+ * Step {@code n} (counting from 1) stores its result under {@code context<n>}, the key the step would get
+ * from {@link StepContext#add(pl.myc22ka.mathapp.step.model.StepValue)} when run one by one, since exercise inputs never use the {@code context} key. A prefix refers to the result of an
+ * earlier step when one has that key and to an exercise input otherwise. Those references are the edges of
+ * the dependency graph the program uses to run independent steps concurrently.
+ *
+ * @author Myc22Ka
+ * @version 1.0.2
+ * @since 18.10.2026
+ */
+@Component
+@RequiredArgsConstructor
+public class StepProgramCompiler {
+
+    private final StepExecutorRegistry registry;
+
+    /**
+     * Compiles a step list.
+     *
+     * @param steps the steps in execution order
+     * @return the program
+     * @throws IllegalArgumentException if some step type has no executor
+     */
+    public @NotNull StepProgram compile(@NotNull List<StepWrapper> steps) {
+        Map<String, Integer> inputs = new LinkedHashMap<>();
+        Set<String> outputs = new HashSet<>();
+
+        // Inputs take the first registers, so collect them before numbering the outputs
+        for (int n = 0; n < steps.size(); n++) {
+            for (String prefix : steps.get(n).getPrefixes()) {
+                if (!outputs.contains(prefix)) inputs.putIfAbsent(prefix, inputs.size());
+            }
+            outputs.add(StepContext.RESULT_KEY + (n + 1));
+        }
+
+        StepProgram.Instruction[] instructions = new StepProgram.Instruction[steps.size()];
+        Long[] stepIds = new Long[steps.size()];
+        int[] levels = new int[steps.size()];
+        int depth = 0;
+        Map<String, Integer> defined = new HashMap<>();
+
+        for (int n = 0; n < steps.size(); n++) {
+            StepWrapper step = steps.get(n);
+            List<String> prefixes = step.getPrefixes();
+            int[] operands = new int[prefixes.size()];
+
+            for (int i = 0; i < operands.length; i++) {
+                Integer output = defined.get(prefixes.get(i));
+                operands[i] = output != null ? output : inputs.get(prefixes.get(i));
+            }
+
+            // Steps reading only inputs start at level 1, others one level after the latest step they read
+            int[] dependencies = Arrays.stream(operands)
+                    .filter(register -> register >= inputs.size())
+                    .map(register -> register - inputs.size())
+                    .distinct()
+                    .toArray();
+            levels[n] = 1 + Arrays.stream(dependencies).map(dependency -> levels[dependency]).max().orElse(0);
+            depth = Math.max(depth, levels[n]);
+
+            String key = StepContext.RESULT_KEY + (n + 1);
+            int register = inputs.size() + n;
+            instructions[n] = new StepProgram.Instruction(
+                    registry.getExecutor(step.getStepDefinition().getStepType()), operands, register, key, dependencies);
+            defined.put(key, register);
+            stepIds[n] = step.getId();
+        }
+
+        return new StepProgram(inputs.keySet().toArray(new String[0]), instructions, stepIds, depth);
+    }
+}
@@ -0,0 +1,83 @@
+package pl.myc22ka.mathapp.step.component.program;
+
+import jakarta.annotation.PreDestroy;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import pl.myc22ka.mathapp.model.expression.ExpressionFactory;
+import pl.myc22ka.mathapp.step.model.StepContext;
+import pl.myc22ka.mathapp.step.model.StepValue;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Component running {@link StepProgram}s, with the independent steps of a program on a shared bounded pool.
+ * <p>
+ * Programs whose steps form a single chain run on the calling thread, as there is nothing to overlap.
+ * When the pool queue is full, a step runs on the thread that scheduled it instead of being rejected,
+ * so a busy pool slows programs down but never fails them. Steps never wait for each other on a pool thread,
+ * a step is only scheduled once the steps it reads from are done, so the pool cannot deadlock.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@Component
+public class StepScheduler {
+
+    private final ExpressionFactory expressionFactory;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicInteger threadNumber = new AtomicInteger();
+
+    /**
+     * Creates the scheduler.
+     *
+     * @param expressionFactory parser for the step inputs
+     * @param threads           number of pool threads
+     * @param queueCapacity     number of steps waiting for a thread before they run on the caller
+     * @throws IllegalArgumentException if threads or queue capacity is not positive
+     */
+    public StepScheduler(ExpressionFactory expressionFactory,
+                         @Value("${spring.steps.scheduler.threads:4}") int threads,
+                         @Value("${spring.steps.scheduler.queue-capacity:64}") int queueCapacity) {
+        if (threads <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Step scheduler threads and queue capacity must be positive");
+        }
+
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, "step-scheduler-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        this.expressionFactory = expressionFactory;
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), factory, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Runs a program, concurrently if some of its steps are independent.
+     *
+     * @param program the program
+     * @param context the exercise inputs
+     * @return result of the last step
+     * @throws IllegalArgumentException if a step fails on its operands
+     */
+    public @NotNull StepValue run(@NotNull StepProgram program, @NotNull StepContext context) {
+        return program.run(context, expressionFactory, executor);
+    }
+
+    /**
+     * Stops the pool threads when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
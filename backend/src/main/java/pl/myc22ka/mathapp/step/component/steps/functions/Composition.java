@@ -0,0 +1,72 @@
+package pl.myc22ka.mathapp.step.component.steps.functions;
+
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.expression.F;
+import org.matheclipse.core.interfaces.IExpr;
+import org.springframework.stereotype.Component;
+import pl.myc22ka.mathapp.model.expression.MathExpression;
+import pl.myc22ka.mathapp.model.function.Function;
+import pl.myc22ka.mathapp.model.function.FunctionType;
+import pl.myc22ka.mathapp.model.function.polynomial.RationalPolynomial;
+import pl.myc22ka.mathapp.step.component.StepExecutor;
+import pl.myc22ka.mathapp.step.component.helper.StepExecutionHelper;
+import pl.myc22ka.mathapp.step.model.StepType;
+import pl.myc22ka.mathapp.step.model.StepValue;
+
+import java.util.List;
+
+/**
+ * Step executor for composing two functions, {@code f(g(x))} for the operands {@code f} and {@code g}.
+ * <p>
+ * Preconditions:
+ * <ul>
+ *     <li>The step must have exactly two functions in the context, the outer one first.</li>
+ * </ul>
+ * Polynomials with rational coefficients are composed exactly on their coefficients, other functions by
+ * substituting the inner expression for the variable of the outer one.
+ * The result is shared through {@link FunctionStepCache}.
+ * </p>
+ *
+ * <p>This step corresponds to the {@link StepType#FUNCTION_COMPOSITION} type.</p>
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@Component
+@RequiredArgsConstructor
+public class Composition implements StepExecutor {
+
+    private final StepExecutionHelper helper;
+    private final FunctionStepCache cache;
+
+    @Override
+    public StepType getType() {
+        return StepType.FUNCTION_COMPOSITION;
+    }
+
+    @Override
+    public StepValue execute(@NotNull List<MathExpression> operands) {
+        List<Function> functions = helper.getFunctions(operands);
+        helper.ensureFunctions(functions, 2);
+
+        Function outer = functions.get(0);
+        Function inner = functions.get(1);
+
+        return cache.get(getType(), functions, () -> StepValue.of(
+                new Function(FunctionType.FUNCTION, inner.getVariable(), compose(outer, inner))));
+    }
+
+    private static @NotNull IExpr compose(@NotNull Function outer, @NotNull Function inner) {
+        RationalPolynomial outerPolynomial = outer.getRationalPolynomial();
+        RationalPolynomial innerPolynomial = inner.getRationalPolynomial();
+
+        if (outerPolynomial != null && innerPolynomial != null) {
+            return outerPolynomial.compose(innerPolynomial).toExpr(inner.getVariable());
+        }
+
+        IExpr expression = outer.getSymjaExpression();
+        return expression.replaceAll(F.Rule(outer.getVariable(), inner.getSymjaExpression())).orElse(expression);
+    }
+}
@@ -0,0 +1,55 @@
+package pl.myc22ka.mathapp.step.component.steps.functions;
+
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+import pl.myc22ka.mathapp.model.function.FunctionType;
+import pl.myc22ka.mathapp.model.expression.MathExpression;
+import pl.myc22ka.mathapp.model.function.Function;
+import pl.myc22ka.mathapp.step.component.StepExecutor;
+import pl.myc22ka.mathapp.step.component.helper.StepExecutionHelper;
+import pl.myc22ka.mathapp.step.model.StepType;
+import pl.myc22ka.mathapp.step.model.StepValue;
+
+import java.util.List;
+
+/**
+ * Step executor for computing the derivative of a function.
+ * <p>
+ * Preconditions:
+ * <ul>
+ *     <li>The step must have exactly one function in the context.</li>
+ * </ul>
+ * The derivative is a function of the same variable, so later function steps can use it.
+ * The result is shared through {@link FunctionStepCache}.
+ * </p>
+ *
+ * <p>This step corresponds to the {@link StepType#FUNCTION_DERIVATIVE} type.</p>
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@Component
+@RequiredArgsConstructor
+public class Derivative implements StepExecutor {
+
+    private final StepExecutionHelper helper;
+    private final FunctionStepCache cache;
+
+    @Override
+    public StepType getType() {
+        return StepType.FUNCTION_DERIVATIVE;
+    }
+
+    @Override
+    public StepValue execute(@NotNull List<MathExpression> operands) {
+        List<Function> functions = helper.getFunctions(operands);
+        helper.ensureFunctions(functions, 1);
+
+        Function function = functions.getFirst();
+
+        return cache.get(getType(), functions, () -> StepValue.of(
+                new Function(FunctionType.FUNCTION, function.getVariable(), function.getDerivative())));
+    }
+}
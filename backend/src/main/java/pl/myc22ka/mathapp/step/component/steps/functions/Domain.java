@@ -0,0 +1,67 @@
+package pl.myc22ka.mathapp.step.component.steps.functions;
+
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.matheclipse.core.expression.F;
+import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.ISymbol;
+import org.springframework.stereotype.Component;
+import pl.myc22ka.mathapp.model.expression.MathExpression;
+import pl.myc22ka.mathapp.model.expression.TemplatePrefix;
+import pl.myc22ka.mathapp.model.function.Function;
+import pl.myc22ka.mathapp.model.set.SetSymbols;
+import pl.myc22ka.mathapp.step.component.StepExecutor;
+import pl.myc22ka.mathapp.step.component.helper.StepExecutionHelper;
+import pl.myc22ka.mathapp.step.model.StepType;
+import pl.myc22ka.mathapp.step.model.StepValue;
+
+import java.util.List;
+
+/**
+ * Step executor for finding the domain of a function.
+ * <p>
+ * Preconditions:
+ * <ul>
+ *     <li>The step must have exactly one function in the context.</li>
+ * </ul>
+ * The domain is returned as set text, e.g. {@code x>0∧x<1}, parsed as a set by the next step that uses it.
+ * Sets are written in {@code x}, so the domain of a function of another variable is rewritten in {@code x}.
+ * The result is shared through {@link FunctionStepCache}.
+ * </p>
+ *
+ * <p>This step corresponds to the {@link StepType#FUNCTION_DOMAIN} type.</p>
+ *
+ * @author Myc22Ka
+ * @version 1.0.1
+ * @since 18.10.2026
+ */
+@Component
+@RequiredArgsConstructor
+public class Domain implements StepExecutor {
+
+    private final StepExecutionHelper helper;
+    private final FunctionStepCache cache;
+
+    @Override
+    public StepType getType() {
+        return StepType.FUNCTION_DOMAIN;
+    }
+
+    @Override
+    public StepValue execute(@NotNull List<MathExpression> operands) {
+        List<Function> functions = helper.getFunctions(operands);
+        helper.ensureFunctions(functions, 1);
+
+        Function function = functions.getFirst();
+
+        return cache.get(getType(), functions, () -> StepValue.of(TemplatePrefix.SET, toSetText(function.getDomain(), function.getVariable())));
+    }
+
+    private static @NotNull String toSetText(@NotNull IExpr domain, @NotNull ISymbol variable) {
+        IExpr inX = variable.equals(F.x) ? domain : domain.replaceAll(F.Rule(variable, F.x)).orElse(domain);
+
+        return inX.toString()
+                .replace("&&", SetSymbols.AND.toString())
+                .replace("||", SetSymbols.OR.toString());
+    }
+}
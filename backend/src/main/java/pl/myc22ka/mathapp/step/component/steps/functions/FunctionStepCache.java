@@ -0,0 +1,118 @@
+package pl.myc22ka.mathapp.step.component.steps.functions;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import pl.myc22ka.mathapp.model.function.Function;
+import pl.myc22ka.mathapp.model.function.intern.InternedExpression;
+import pl.myc22ka.mathapp.step.model.StepType;
+import pl.myc22ka.mathapp.step.model.StepValue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Shared LRU cache of function step results, keyed by step type and the canonical expressions of the operands.
+ * <p>
+ * Templates that differentiate, integrate or compose the same functions reuse one result instead of
+ * running the step again. Operands are compared by their {@link InternedExpression}, so {@code x^2} parsed
+ * in two exercises is the same key. Results are computed outside the lock; two threads missing the same key
+ * at once may both compute it, the symbolic work itself is still shared through
+ * {@link pl.myc22ka.mathapp.model.function.analysis.FunctionAnalysisCache}.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@Component
+public class FunctionStepCache {
+
+    private final int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private final Map<Key, StepValue> entries;
+
+    /**
+     * Creates the cache.
+     *
+     * @param maxSize the maximum number of results
+     * @throws IllegalArgumentException if max size is not positive
+     */
+    public FunctionStepCache(@Value("${spring.steps.function-cache.max-size:1024}") int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Function step cache size must be positive: " + maxSize);
+        }
+
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, StepValue> eldest) {
+                return size() > FunctionStepCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the result of a step, computing it on a miss.
+     *
+     * @param type     the step type
+     * @param operands the function operands, in prefix order
+     * @param compute  computes the result
+     * @return shared result
+     */
+    public @NotNull StepValue get(@NotNull StepType type, @NotNull List<Function> operands,
+                                  @NotNull Supplier<StepValue> compute) {
+        Key key = new Key(type, operands.stream().map(Function::getInternedExpression).toList());
+
+        synchronized (entries) {
+            StepValue cached = entries.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+
+        misses.increment();
+        StepValue result = compute.get();
+
+        synchronized (entries) {
+            StepValue previous = entries.putIfAbsent(key, result);
+            return previous != null ? previous : result;
+        }
+    }
+
+    /**
+     * Returns the number of results served from the cache.
+     *
+     * @return cache hits
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of results computed.
+     *
+     * @return cache misses
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Removes all cached results. Metrics are kept.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private record Key(StepType type, List<InternedExpression> operands) {
+    }
+}
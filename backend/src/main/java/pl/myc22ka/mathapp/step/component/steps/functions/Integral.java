@@ -0,0 +1,55 @@
+package pl.myc22ka.mathapp.step.component.steps.functions;
+
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+import pl.myc22ka.mathapp.model.function.FunctionType;
+import pl.myc22ka.mathapp.model.expression.MathExpression;
+import pl.myc22ka.mathapp.model.function.Function;
+import pl.myc22ka.mathapp.step.component.StepExecutor;
+import pl.myc22ka.mathapp.step.component.helper.StepExecutionHelper;
+import pl.myc22ka.mathapp.step.model.StepType;
+import pl.myc22ka.mathapp.step.model.StepValue;
+
+import java.util.List;
+
+/**
+ * Step executor for computing the indefinite integral of a function, with the constant {@code C}.
+ * <p>
+ * Preconditions:
+ * <ul>
+ *     <li>The step must have exactly one function in the context.</li>
+ * </ul>
+ * The variable of the function is kept, so {@code C} is never taken for the variable.
+ * The result is shared through {@link FunctionStepCache}.
+ * </p>
+ *
+ * <p>This step corresponds to the {@link StepType#FUNCTION_INTEGRAL} type.</p>
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@Component
+@RequiredArgsConstructor
+public class Integral implements StepExecutor {
+
+    private final StepExecutionHelper helper;
+    private final FunctionStepCache cache;
+
+    @Override
+    public StepType getType() {
+        return StepType.FUNCTION_INTEGRAL;
+    }
+
+    @Override
+    public StepValue execute(@NotNull List<MathExpression> operands) {
+        List<Function> functions = helper.getFunctions(operands);
+        helper.ensureFunctions(functions, 1);
+
+        Function function = functions.getFirst();
+
+        return cache.get(getType(), functions, () -> StepValue.of(
+                new Function(FunctionType.FUNCTION, function.getVariable(), function.getIntegral())));
+    }
+}
@@ -0,0 +1,54 @@
+package pl.myc22ka.mathapp.step.component.steps.functions;
+
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+import pl.myc22ka.mathapp.model.set.sets.Finite;
+import pl.myc22ka.mathapp.model.expression.MathExpression;
+import pl.myc22ka.mathapp.model.function.Function;
+import pl.myc22ka.mathapp.step.component.StepExecutor;
+import pl.myc22ka.mathapp.step.component.helper.StepExecutionHelper;
+import pl.myc22ka.mathapp.step.model.StepType;
+import pl.myc22ka.mathapp.step.model.StepValue;
+
+import java.util.List;
+
+/**
+ * Step executor for finding the real roots of a function.
+ * <p>
+ * Preconditions:
+ * <ul>
+ *     <li>The step must have exactly one function in the context.</li>
+ * </ul>
+ * The roots are returned as a finite set, so set steps can use them.
+ * The result is shared through {@link FunctionStepCache}.
+ * </p>
+ *
+ * <p>This step corresponds to the {@link StepType#FUNCTION_ROOTS} type.</p>
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@Component
+@RequiredArgsConstructor
+public class Roots implements StepExecutor {
+
+    private final StepExecutionHelper helper;
+    private final FunctionStepCache cache;
+
+    @Override
+    public StepType getType() {
+        return StepType.FUNCTION_ROOTS;
+    }
+
+    @Override
+    public StepValue execute(@NotNull List<MathExpression> operands) {
+        List<Function> functions = helper.getFunctions(operands);
+        helper.ensureFunctions(functions, 1);
+
+        Function function = functions.getFirst();
+
+        return cache.get(getType(), functions, () -> StepValue.of(new Finite(function.getRealRoots())));
+    }
+}
@@ -0,0 +1,60 @@
+package pl.myc22ka.mathapp.step.component.steps.functions;
+
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Component;
+import pl.myc22ka.mathapp.model.function.FunctionType;
+import pl.myc22ka.mathapp.model.expression.MathExpression;
+import pl.myc22ka.mathapp.model.function.Function;
+import pl.myc22ka.mathapp.step.component.StepExecutor;
+import pl.myc22ka.mathapp.step.component.helper.StepExecutionHelper;
+import pl.myc22ka.mathapp.step.model.StepType;
+import pl.myc22ka.mathapp.step.model.StepValue;
+
+import java.util.List;
+
+/**
+ * Step executor for computing the value of a function at a point.
+ * <p>
+ * Preconditions:
+ * <ul>
+ *     <li>The step must have exactly two functions in the context: the function and a constant point.</li>
+ * </ul>
+ * The value is a constant function, so later function steps can use it.
+ * The result is shared through {@link FunctionStepCache}.
+ * </p>
+ *
+ * <p>This step corresponds to the {@link StepType#FUNCTION_VALUE_AT_POINT} type.</p>
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@Component
+@RequiredArgsConstructor
+public class ValueAtPoint implements StepExecutor {
+
+    private final StepExecutionHelper helper;
+    private final FunctionStepCache cache;
+
+    @Override
+    public StepType getType() {
+        return StepType.FUNCTION_VALUE_AT_POINT;
+    }
+
+    @Override
+    public StepValue execute(@NotNull List<MathExpression> operands) {
+        List<Function> functions = helper.getFunctions(operands);
+        helper.ensureFunctions(functions, 2);
+
+        Function function = functions.get(0);
+        Function point = functions.get(1);
+
+        if (!point.getInternedExpression().variables().isEmpty()) {
+            throw new IllegalArgumentException("Point must be a constant. Found: " + point);
+        }
+
+        return cache.get(getType(), functions, () -> StepValue.of(
+                new Function(FunctionType.CONSTANT, function.getVariable(), function.getFunctionValue(point.getSymjaExpression()))));
+    }
+}
@@ -3,12 +3,12 @@ package pl.myc22ka.mathapp.step.component.steps.sets;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
+import pl.myc22ka.mathapp.model.expression.MathExpression;
 import pl.myc22ka.mathapp.model.set.ISet;
 import pl.myc22ka.mathapp.step.component.StepExecutor;
 import pl.myc22ka.mathapp.step.component.helper.StepExecutionHelper;
 import pl.myc22ka.mathapp.step.model.StepType;
-import pl.myc22ka.mathapp.step.model.StepWrapper;
-import pl.myc22ka.mathapp.utils.resolver.dto.ContextRecord;
+import pl.myc22ka.mathapp.step.model.StepValue;
 
 import java.util.List;
 
@@ -20,11 +20,11 @@ import java.util.List;
  *     <li>The first set to calculate the complement of.</li>
  *     <li>The universal set in which to calculate the complement.</li>
  * </ol>
- * The result is added to the context with a new context key.
+ * The result is stored under a new context key.
  * </p>
  *
  * @author Myc22Ka
- * @version 1.0.1
+ * @version 1.0.2
  * @since 17.10.2025
  */
 @Component
@@ -39,16 +39,13 @@ public class Complement implements StepExecutor {
     }
 
     @Override
-    public void execute(@NotNull StepWrapper step, List<ContextRecord> context) {
-        List<ISet> sets = helper.getSetsFromContext(step, context);
+    public StepValue execute(@NotNull List<MathExpression> operands) {
+        List<ISet> sets = helper.getSets(operands);
         helper.ensureTwoSets(sets);
 
         ISet first = sets.get(0);
         ISet uniwersum = sets.get(1);
 
-        ISet complement = first.complement(uniwersum);
-
-        String newKey = helper.nextContextKey(context);
-        context.add(new ContextRecord(newKey, complement.getTemplatePrefix(), complement.toString()));
+        return StepValue.of(first.complement(uniwersum));
     }
 }
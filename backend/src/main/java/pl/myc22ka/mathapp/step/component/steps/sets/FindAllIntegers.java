@@ -3,14 +3,14 @@ package pl.myc22ka.mathapp.step.component.steps.sets;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
+import pl.myc22ka.mathapp.model.expression.MathExpression;
 import pl.myc22ka.mathapp.model.set.ISet;
 import pl.myc22ka.mathapp.model.set.SetSymbols;
 import pl.myc22ka.mathapp.model.set.sets.Interval;
 import pl.myc22ka.mathapp.step.component.StepExecutor;
 import pl.myc22ka.mathapp.step.component.helper.StepExecutionHelper;
 import pl.myc22ka.mathapp.step.model.StepType;
-import pl.myc22ka.mathapp.step.model.StepWrapper;
-import pl.myc22ka.mathapp.utils.resolver.dto.ContextRecord;
+import pl.myc22ka.mathapp.step.model.StepValue;
 
 import java.util.List;
 
@@ -28,10 +28,10 @@ import java.util.List;
  *     <li>The set cannot contain infinity.</li>
  * </ul>
  * <p>
- * Result is added to the context with a new generated key.
+ * Result is stored under a new generated context key.
  *
  * @author Myc22Ka
- * @version 1.0.1
+ * @version 1.0.2
  * @since 17.10.2025
  */
 @Component
@@ -46,8 +46,8 @@ public class FindAllIntegers implements StepExecutor {
     }
 
     @Override
-    public void execute(@NotNull StepWrapper step, List<ContextRecord> context) {
-        List<ISet> sets = helper.getSetsFromContext(step, context);
+    public StepValue execute(@NotNull List<MathExpression> operands) {
+        List<ISet> sets = helper.getSets(operands);
 
         ISet first = sets.getFirst();
 
@@ -55,14 +55,9 @@ public class FindAllIntegers implements StepExecutor {
             throw new IllegalArgumentException("Cannot find all integers in a range with infinity: " + first);
         }
 
-        String newKey = helper.nextContextKey(context);
-
         if (first instanceof Interval interval) {
-            var allIntegers = interval.findAllIntegers();
-
-            context.add(new ContextRecord(newKey, allIntegers.getTemplatePrefix(), allIntegers.toString()));
-        } else {
-            context.add(new ContextRecord(newKey, first.getTemplatePrefix(), first.size().toString()));
+            return StepValue.of(interval.findAllIntegers());
         }
+        return StepValue.of(first.getTemplatePrefix(), first.size().toString());
     }
 }
@@ -3,12 +3,12 @@ package pl.myc22ka.mathapp.step.component.steps.sets;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Component;
-import pl.myc22ka.mathapp.utils.resolver.dto.ContextRecord;
+import pl.myc22ka.mathapp.model.expression.MathExpression;
 import pl.myc22ka.mathapp.model.set.ISet;
 import pl.myc22ka.mathapp.step.component.helper.StepExecutionHelper;
 import pl.myc22ka.mathapp.step.model.StepType;
 import pl.myc22ka.mathapp.step.component.StepExecutor;
-import pl.myc22ka.mathapp.step.model.StepWrapper;
+import pl.myc22ka.mathapp.step.model.StepValue;
 
 import java.util.List;
 
@@ -20,13 +20,13 @@ import java.util.List;
  * <ul>
  *     <li>The step must have exactly two sets in the context.</li>
  * </ul>
- * The result of the union is added to the context with a newly generated key.
+ * The result of the union is stored under a newly generated context key.
  * </p>
  *
  * <p>This step corresponds to the {@link StepType#SET_UNION} type.</p>
  *
  * @author Myc22Ka
- * @version 1.0.1
+ * @version 1.0.2
  * @since 14.09.2025
  */
 @Component
@@ -41,16 +41,13 @@ public class Union implements StepExecutor {
     }
 
     @Override
-    public void execute(@NotNull StepWrapper step, List<ContextRecord> context) {
-        List<ISet> sets = helper.getSetsFromContext(step, context);
+    public StepValue execute(@NotNull List<MathExpression> operands) {
+        List<ISet> sets = helper.getSets(operands);
         helper.ensureTwoSets(sets);
 
         ISet first = sets.get(0);
         ISet second = sets.get(1);
 
-        ISet union = first.union(second);
-
-        String newKey = helper.nextContextKey(context);
-        context.add(new ContextRecord(newKey, union.getTemplatePrefix(), union.toString()));
+        return StepValue.of(first.union(second));
     }
 }
\ No newline at end of file
@@ -0,0 +1,174 @@
+package pl.myc22ka.mathapp.step.model;
+
+import org.jetbrains.annotations.NotNull;
+import pl.myc22ka.mathapp.model.expression.ExpressionFactory;
+import pl.myc22ka.mathapp.model.expression.MathExpression;
+import pl.myc22ka.mathapp.utils.resolver.dto.ContextRecord;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Context of one step execution: the exercise inputs and the results of the steps run so far.
+ * <p>
+ * Values are kept in slots indexed by their template key (e.g. {@code s1}, {@code context2}), so a step
+ * looks up its operands directly. Each slot is a {@link StepValue}, typed by its template prefix; an operand
+ * is parsed on first use and the parsed expression is kept in the slot. Step results get the keys
+ * {@code context1}, {@code context2}, ... from a counter, so adding a result does not scan the context.
+ * <p>
+ * A context belongs to a single execution and is passed to whatever runs it, so it does not depend on
+ * the thread the steps run on. It is not thread-safe.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+public final class StepContext {
+
+    /**
+     * Key prefix of step results.
+     */
+    public static final String RESULT_KEY = "context";
+
+    private final Map<String, StepValue> slots = new LinkedHashMap<>();
+    private String lastKey;
+    private int counter;
+
+    private StepContext() {
+    }
+
+    /**
+     * Creates a context of exercise inputs. A later record with the same key replaces an earlier one.
+     *
+     * @param records the records
+     * @return the context
+     */
+    @NotNull
+    public static StepContext of(@NotNull List<ContextRecord> records) {
+        StepContext context = new StepContext();
+        for (ContextRecord record : records) {
+            context.put(record.key().templateString(), StepValue.of(record));
+        }
+        return context;
+    }
+
+    /**
+     * Returns the value under a key.
+     *
+     * @param key the template key, e.g. {@code s1}
+     * @return the value, or null if the context has no such key
+     */
+    public StepValue get(@NotNull String key) {
+        return slots.get(key);
+    }
+
+    /**
+     * Returns the parsed expression under a key, parsing the value on first use.
+     *
+     * @param key     the template key, e.g. {@code s1}
+     * @param factory parser for values held as text
+     * @return the expression, or null if the context has no such key
+     */
+    public MathExpression expression(@NotNull String key, @NotNull ExpressionFactory factory) {
+        StepValue value = slots.get(key);
+        if (value == null) return null;
+
+        if (value.expression() == null) {
+            value = value.withExpression(factory.parse(value.toRecord(key)));
+            slots.put(key, value);
+        }
+        return value.expression();
+    }
+
+    /**
+     * Returns the parsed expressions of the step prefixes found in the context, in prefix order.
+     *
+     * @param step    the step
+     * @param factory parser for values held as text
+     * @return the operands
+     */
+    public @NotNull List<MathExpression> operands(@NotNull StepWrapper step, @NotNull ExpressionFactory factory) {
+        List<MathExpression> operands = new ArrayList<>(step.getPrefixes().size());
+
+        for (String prefix : step.getPrefixes()) {
+            MathExpression operand = expression(prefix, factory);
+            if (operand != null) operands.add(operand);
+        }
+        return operands;
+    }
+
+    /**
+     * Stores a step result under the next result key.
+     *
+     * @param value the result
+     * @return the key, e.g. {@code context3}
+     */
+    @NotNull
+    public String add(@NotNull StepValue value) {
+        String key = RESULT_KEY + (counter + 1);
+        put(key, value);
+        return key;
+    }
+
+    /**
+     * Returns the value stored last.
+     *
+     * @return the value, or null if the context is empty
+     */
+    public StepValue last() {
+        return lastKey == null ? null : slots.get(lastKey);
+    }
+
+    /**
+     * Returns the key of the value stored last.
+     *
+     * @return the key, or null if the context is empty
+     */
+    public String lastKey() {
+        return lastKey;
+    }
+
+    /**
+     * Returns the number of values.
+     *
+     * @return value count
+     */
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * Converts the context into records, in the order the keys were first stored.
+     *
+     * @return the records
+     */
+    public @NotNull List<ContextRecord> toRecords() {
+        List<ContextRecord> records = new ArrayList<>(slots.size());
+        slots.forEach((key, value) -> records.add(value.toRecord(key)));
+        return records;
+    }
+
+    private void put(@NotNull String key, @NotNull StepValue value) {
+        slots.put(key, value);
+        lastKey = key;
+        counter = Math.max(counter, resultNumber(key));
+    }
+
+    /**
+     * Reads {@code n} from a key {@code context<n>}, once per stored key, so the counter stays ahead of
+     * result keys already present in the inputs.
+     */
+    private static int resultNumber(@NotNull String key) {
+        if (!key.startsWith(RESULT_KEY) || key.length() == RESULT_KEY.length()) return 0;
+
+        int number = 0;
+        for (int i = RESULT_KEY.length(); i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < '0' || c > '9' || number > (Integer.MAX_VALUE - 9) / 10) return 0;
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+}
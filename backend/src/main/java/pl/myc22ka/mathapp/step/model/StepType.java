@@ -11,7 +11,7 @@ import static pl.myc22ka.mathapp.model.expression.TemplatePrefix.*;
  * Each step type belongs to a category (set, function, or common).
  *
  * @author Myc22Ka
- * @version 1.0.0
+ * @version 1.0.1
  * @since 17.10.2025
  */
 @Getter
@@ -42,6 +42,26 @@ public enum StepType {
      * Function derivative step type.
      */
     FUNCTION_DERIVATIVE(FUNCTION),
+    /**
+     * Function real roots step type.
+     */
+    FUNCTION_ROOTS(FUNCTION),
+    /**
+     * Function domain step type.
+     */
+    FUNCTION_DOMAIN(FUNCTION),
+    /**
+     * Function value at a point step type.
+     */
+    FUNCTION_VALUE_AT_POINT(FUNCTION),
+    /**
+     * Function composition step type.
+     */
+    FUNCTION_COMPOSITION(FUNCTION),
+    /**
+     * Function indefinite integral step type.
+     */
+    FUNCTION_INTEGRAL(FUNCTION),
 
     /**
      * Rest step type.
@@ -0,0 +1,124 @@
+package pl.myc22ka.mathapp.step.model;
+
+import org.jetbrains.annotations.NotNull;
+import pl.myc22ka.mathapp.model.expression.MathExpression;
+import pl.myc22ka.mathapp.model.expression.TemplatePrefix;
+import pl.myc22ka.mathapp.utils.resolver.dto.ContextRecord;
+
+/**
+ * Value held by a register of a {@link pl.myc22ka.mathapp.step.component.program.StepProgram}.
+ * <p>
+ * Results of steps keep the parsed {@link MathExpression}, so the next step uses it directly instead of
+ * parsing its text again. The text is produced only when it is needed, e.g. for the final answer.
+ * Values without an expression (exercise inputs, plain numbers such as a set size) keep only their text
+ * and are parsed by the program on first use as an operand.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+public final class StepValue {
+
+    private final TemplatePrefix prefix;
+    private final MathExpression expression;
+    private volatile String text;
+
+    private StepValue(@NotNull TemplatePrefix prefix, MathExpression expression, String text) {
+        this.prefix = prefix;
+        this.expression = expression;
+        this.text = text;
+    }
+
+    /**
+     * Creates a value holding a parsed expression.
+     *
+     * @param expression the expression
+     * @return the value, typed by the template prefix of the expression
+     */
+    @NotNull
+    public static StepValue of(@NotNull MathExpression expression) {
+        return new StepValue(expression.getTemplatePrefix(), expression, null);
+    }
+
+    /**
+     * Creates a value holding only text.
+     *
+     * @param prefix the template prefix the text is parsed with
+     * @param text   the text
+     * @return the value
+     */
+    @NotNull
+    public static StepValue of(@NotNull TemplatePrefix prefix, @NotNull String text) {
+        return new StepValue(prefix, null, text);
+    }
+
+    /**
+     * Creates a value from a context record, without parsing it.
+     *
+     * @param record the context record
+     * @return the value
+     */
+    @NotNull
+    public static StepValue of(@NotNull ContextRecord record) {
+        return new StepValue(record.key().prefix(), null, record.value());
+    }
+
+    /**
+     * Returns the same value with its parsed expression attached.
+     *
+     * @param expression the expression parsed from the text of this value
+     * @return the parsed value
+     */
+    @NotNull
+    public StepValue withExpression(@NotNull MathExpression expression) {
+        return new StepValue(prefix, expression, text);
+    }
+
+    /**
+     * Returns the template prefix of the value.
+     *
+     * @return the prefix
+     */
+    public @NotNull TemplatePrefix prefix() {
+        return prefix;
+    }
+
+    /**
+     * Returns the parsed expression.
+     *
+     * @return the expression, or null if the value has not been parsed
+     */
+    public MathExpression expression() {
+        return expression;
+    }
+
+    /**
+     * Returns the text of the value.
+     *
+     * @return the text, created from the expression on first use
+     */
+    public @NotNull String text() {
+        String result = text;
+        if (result == null) {
+            result = expression.toString();
+            text = result;
+        }
+        return result;
+    }
+
+    /**
+     * Converts the value into a context record.
+     *
+     * @param key the context key, e.g. {@code context1}
+     * @return the context record
+     */
+    @NotNull
+    public ContextRecord toRecord(@NotNull String key) {
+        return new ContextRecord(key, prefix, text());
+    }
+
+    @Override
+    public String toString() {
+        return text();
+    }
+}
@@ -2,7 +2,9 @@ package pl.myc22ka.mathapp.step.service;
 
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Service;
-import pl.myc22ka.mathapp.utils.resolver.dto.ContextRecord;
+import pl.myc22ka.mathapp.step.component.helper.StepExecutionHelper;
+import pl.myc22ka.mathapp.step.model.StepContext;
+import pl.myc22ka.mathapp.step.model.StepValue;
 import pl.myc22ka.mathapp.step.component.StepExecutor;
 import pl.myc22ka.mathapp.step.model.StepType;
 import pl.myc22ka.mathapp.step.model.StepWrapper;
@@ -16,37 +18,58 @@ import java.util.Map;
  * Maps each {@link StepType} to its corresponding executor for easy lookup and execution.
  *
  * @author Myc22Ka
- * @version 1.0.0
+ * @version 1.0.2
  * @since 17.10.2025
  */
 @Service
 public class StepExecutorRegistry {
 
     private final Map<StepType, StepExecutor> executors = new EnumMap<>(StepType.class);
+    private final StepExecutionHelper helper;
 
     /**
      * Registers all provided step executors in a map by their {@link StepType}.
      *
-     * @param beans the list of all available {@link StepExecutor} beans
+     * @param beans  the list of all available {@link StepExecutor} beans
+     * @param helper helper used to read operands from a context
      */
-    public StepExecutorRegistry(@NotNull List<StepExecutor> beans) {
+    public StepExecutorRegistry(@NotNull List<StepExecutor> beans, StepExecutionHelper helper) {
+        this.helper = helper;
         for (StepExecutor executor : beans) {
             executors.put(executor.getType(), executor);
         }
     }
 
     /**
-     * Executes the step using the appropriate executor based on its type.
+     * Returns the executor for a step type.
+     *
+     * @param type the step type
+     * @return the executor
+     * @throws IllegalArgumentException if no executor exists for the type
+     */
+    public StepExecutor getExecutor(StepType type) {
+        StepExecutor executor = executors.get(type);
+        if (executor == null) {
+            throw new IllegalArgumentException("Brak implementacji dla kroku: " + type);
+        }
+        return executor;
+    }
+
+    /**
+     * Executes a single step on a context using the appropriate executor based on its type.
+     * The operands are read from the context and the result is stored under the next context key.
+     * Whole step lists are run by a compiled {@link pl.myc22ka.mathapp.step.component.program.StepProgram} instead.
      *
      * @param step    the step to execute
      * @param context the current execution context
+     * @return the result of the step
      * @throws IllegalArgumentException if no executor exists for the step's type
      */
-    public void executeStep(@NotNull StepWrapper step, List<ContextRecord> context) {
-        StepExecutor executor = executors.get(step.getStepDefinition().getStepType());
-        if (executor == null) {
-            throw new IllegalArgumentException("Brak implementacji dla kroku: " + step.getStepDefinition().getStepType());
-        }
-        executor.execute(step, context);
+    public StepValue executeStep(@NotNull StepWrapper step, @NotNull StepContext context) {
+        StepExecutor executor = getExecutor(step.getStepDefinition().getStepType());
+
+        StepValue result = executor.execute(helper.getOperandsFromContext(step, context));
+        context.add(result);
+        return result;
     }
 }
@@ -0,0 +1,81 @@
+package pl.myc22ka.mathapp.step.service;
+
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.stereotype.Service;
+import pl.myc22ka.mathapp.exercise.template.component.TemplateLike;
+import pl.myc22ka.mathapp.exercise.template.model.TemplateExercise;
+import pl.myc22ka.mathapp.exercise.variant.model.TemplateExerciseVariant;
+import pl.myc22ka.mathapp.step.component.program.StepProgram;
+import pl.myc22ka.mathapp.step.component.program.StepProgramCompiler;
+import pl.myc22ka.mathapp.step.model.StepWrapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service keeping the compiled {@link StepProgram} of every template and variant.
+ * <p>
+ * A program is compiled on first use and kept until the template or variant is updated or deleted.
+ * Each lookup also compares the step ids with those the program was compiled from, so steps replaced
+ * without going through the services are picked up too.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@Service
+@RequiredArgsConstructor
+public class StepProgramCache {
+
+    private final StepProgramCompiler compiler;
+
+    private final Map<Long, StepProgram> templates = new ConcurrentHashMap<>();
+    private final Map<Long, StepProgram> variants = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the compiled program of a template or variant.
+     *
+     * @param template the template or variant
+     * @return the program
+     */
+    public @NotNull StepProgram getProgram(@NotNull TemplateLike template) {
+        if (template instanceof TemplateExercise exercise) {
+            return getProgram(templates, exercise.getId(), exercise.getSteps());
+        }
+        if (template instanceof TemplateExerciseVariant variant) {
+            return getProgram(variants, variant.getId(), variant.getSteps());
+        }
+        return compiler.compile(template.getSteps());
+    }
+
+    /**
+     * Drops the program of a template, e.g. after its steps changed.
+     *
+     * @param templateId the template id
+     */
+    public void invalidateTemplate(Long templateId) {
+        if (templateId != null) templates.remove(templateId);
+    }
+
+    /**
+     * Drops the program of a variant, e.g. after its steps changed.
+     *
+     * @param variantId the variant id
+     */
+    public void invalidateVariant(Long variantId) {
+        if (variantId != null) variants.remove(variantId);
+    }
+
+    private @NotNull StepProgram getProgram(@NotNull Map<Long, StepProgram> programs, Long id, @NotNull List<StepWrapper> steps) {
+        if (id == null) return compiler.compile(steps);
+
+        StepProgram program = programs.get(id);
+        if (program == null || !program.matches(steps)) {
+            program = compiler.compile(steps);
+            programs.put(id, program);
+        }
+        return program;
+    }
+}
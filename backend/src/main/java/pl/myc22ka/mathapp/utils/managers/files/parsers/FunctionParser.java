@@ -1,7 +1,7 @@
 package pl.myc22ka.mathapp.utils.managers.files.parsers;
 
-import org.matheclipse.core.eval.ExprEvaluator;
 import org.matheclipse.core.interfaces.IExpr;
+import pl.myc22ka.mathapp.model.expression.EvaluatorPool;
 import pl.myc22ka.mathapp.model.function.FunctionFactory;
 import pl.myc22ka.mathapp.model.function.FunctionType;
 import pl.myc22ka.mathapp.utils.managers.files.CsvRecordParser;
@@ -13,8 +13,6 @@ import java.util.Comparator;
 import java.util.List;
 
 public class FunctionParser implements CsvRecordParser<FunctionRecord> {
-    private static final ExprEvaluator evaluator = new ExprEvaluator();
-
     @Override
     public FunctionRecord parse(String[] record) {
         if(record.length < FunctionRecord.class.getRecordComponents().length) {
@@ -24,12 +22,12 @@ public class FunctionParser implements CsvRecordParser<FunctionRecord> {
         var function = FunctionFactory.create(record[0]);
         var type = FunctionType.parse(record[1]);
         var roots = parseList(record[2]);
-        var derivative = evaluator.parse(record[3]);
+        var derivative = EvaluatorPool.parse(record[3]);
 
         var range = record[4];
         var domain = record[5];
 
-        var integral = evaluator.parse(record[6]);
+        var integral = EvaluatorPool.parse(record[6]);
 
         return new FunctionRecord(function, type, roots, derivative, range, domain, integral);
     }
@@ -42,10 +40,10 @@ public class FunctionParser implements CsvRecordParser<FunctionRecord> {
         if (input.isEmpty()) return result;
 
         for (String s : input.split(",")) {
-            result.add(evaluator.parse(s.trim()));
+            result.add(EvaluatorPool.parse(s.trim()));
         }
 
-        result.sort(Comparator.comparingDouble(evaluator::evalf));
+        result.sort(Comparator.comparingDouble(IExpr::evalf));
 
         return result;
     }
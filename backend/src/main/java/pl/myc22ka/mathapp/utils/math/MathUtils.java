@@ -1,9 +1,10 @@
 package pl.myc22ka.mathapp.utils.math;
 
-import org.matheclipse.core.eval.ExprEvaluator;
 import org.matheclipse.core.expression.F;
 import org.matheclipse.core.interfaces.IExpr;
 import org.matheclipse.core.interfaces.ISymbol;
+import pl.myc22ka.mathapp.model.expression.EvaluatorPool;
+import pl.myc22ka.mathapp.model.function.intern.ExpressionInterner;
 import pl.myc22ka.mathapp.utils.functions.ConditionRoots;
 
 import java.util.ArrayList;
@@ -11,8 +12,6 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 public class MathUtils {
-    private static final ExprEvaluator evaluator = new ExprEvaluator();
-
     /**
      * Extracts numerical roots from a Symja expression returned by the `Solve`
      * function.
@@ -64,22 +63,13 @@ public class MathUtils {
      * @return the first variable found (as ISymbol), or F.x as default
      */
     public static ISymbol detectFirstVariable(IExpr expr) {
-        IExpr result = evaluator.eval(F.Variables(expr));
-
-        if (result.isList() && !result.isEmpty()) {
-            IExpr first = result.getAt(1);
-            if (first instanceof ISymbol symbol) {
-                return symbol;
-            }
-        }
+        ISymbol variable = ExpressionInterner.intern(expr).variable();
 
-        return F.x;
+        return variable != null ? variable : F.x;
     }
 
     public static ISymbol detectFirstVariable(String rawExpression) {
-        ExprEvaluator evaluator = new ExprEvaluator();
-        IExpr expr = evaluator.parse(rawExpression);
-        return detectFirstVariable(expr);
+        return detectFirstVariable(EvaluatorPool.parse(rawExpression));
     }
 
     public static List<ConditionRoots> getConditionsRootsFromExpr(IExpr expr) {
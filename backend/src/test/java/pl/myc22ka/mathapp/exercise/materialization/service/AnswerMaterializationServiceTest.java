@@ -0,0 +1,217 @@
+package pl.myc22ka.mathapp.exercise.materialization.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import pl.myc22ka.mathapp.exercise.exercise.component.helper.ExerciseHelper;
+import pl.myc22ka.mathapp.exercise.exercise.component.helper.ValidationHelper;
+import pl.myc22ka.mathapp.exercise.exercise.model.Exercise;
+import pl.myc22ka.mathapp.exercise.exercise.repository.ExerciseRepository;
+import pl.myc22ka.mathapp.exercise.materialization.model.AnswerMaterialization;
+import pl.myc22ka.mathapp.exercise.materialization.model.MaterializationStatus;
+import pl.myc22ka.mathapp.exercise.materialization.repository.AnswerMaterializationRepository;
+import pl.myc22ka.mathapp.exercise.variant.model.TemplateExerciseVariant;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AnswerMaterializationService}.
+ * Jobs are run by the real worker pool with a batch size of 2; repositories and the transaction template are mocked.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+@ExtendWith(MockitoExtension.class)
+class AnswerMaterializationServiceTest {
+
+    private static final long JOB_ID = 1L;
+    private static final long VARIANT_ID = 7L;
+
+    @Mock
+    private AnswerMaterializationRepository materializationRepository;
+
+    @Mock
+    private ExerciseRepository exerciseRepository;
+
+    @Mock
+    private ExerciseHelper exerciseHelper;
+
+    @Mock
+    private ValidationHelper validationHelper;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final TemplateExerciseVariant variant = new TemplateExerciseVariant();
+
+    private AnswerMaterializationService service;
+
+    /**
+     * Creates the service and makes the transaction template run its callbacks directly.
+     */
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+
+        service = new AnswerMaterializationService(materializationRepository, exerciseRepository, exerciseHelper,
+                validationHelper, transactionTemplate, 1, 4, 2);
+    }
+
+    /**
+     * Stops the worker pool after each test.
+     */
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    /**
+     * Test that each batch stores the last processed exercise and the next batch starts after it.
+     */
+    @Test
+    void shouldCheckpointAfterEachBatch() {
+        AnswerMaterialization job = job(MaterializationStatus.PENDING, 0L, 3);
+        Exercise first = exercise(1L, "{}");
+        Exercise second = exercise(2L, "{}");
+        Exercise third = exercise(3L, "{}");
+
+        givenJob(job);
+        givenAnswers();
+        when(exerciseRepository.findByTemplateExerciseVariantIdAndIdGreaterThanOrderByIdAsc(eq(VARIANT_ID), eq(0L), any()))
+                .thenReturn(List.of(first, second));
+        when(exerciseRepository.findByTemplateExerciseVariantIdAndIdGreaterThanOrderByIdAsc(eq(VARIANT_ID), eq(2L), any()))
+                .thenReturn(List.of(third));
+
+        service.resumeUnfinished();
+        awaitFinished(job);
+
+        assertEquals(MaterializationStatus.DONE, job.getStatus());
+        assertEquals(3, job.getProcessed());
+        assertEquals(0, job.getFailed());
+        assertEquals(3L, job.getLastExerciseId());
+        assertEquals("42", first.getAnswer());
+        assertEquals("42", third.getAnswer());
+        verify(exerciseRepository).saveAll(List.of(first, second));
+        verify(exerciseRepository).saveAll(List.of(third));
+    }
+
+    /**
+     * Test that an exercise whose answer cannot be computed keeps its answer and is counted as failed.
+     */
+    @Test
+    void shouldCountFailedAnswers() {
+        AnswerMaterialization job = job(MaterializationStatus.PENDING, 0L, 2);
+        Exercise valid = exercise(1L, "{}");
+        Exercise broken = exercise(2L, "broken");
+
+        givenJob(job);
+        givenAnswers();
+        doThrow(new IllegalArgumentException("Invalid context")).when(exerciseHelper).deserializeContext("broken");
+        when(exerciseRepository.findByTemplateExerciseVariantIdAndIdGreaterThanOrderByIdAsc(eq(VARIANT_ID), eq(0L), any()))
+                .thenReturn(List.of(valid, broken));
+        when(exerciseRepository.findByTemplateExerciseVariantIdAndIdGreaterThanOrderByIdAsc(eq(VARIANT_ID), eq(2L), any()))
+                .thenReturn(List.of());
+
+        service.resumeUnfinished();
+        awaitFinished(job);
+
+        assertEquals(MaterializationStatus.DONE, job.getStatus());
+        assertEquals(2, job.getProcessed());
+        assertEquals(1, job.getFailed());
+        assertEquals("42", valid.getAnswer());
+        assertEquals("old", broken.getAnswer());
+    }
+
+    /**
+     * Test that a job stops without touching exercises once a newer job exists for the same variant.
+     */
+    @Test
+    void shouldStopWhenSupersededByNewerJob() {
+        AnswerMaterialization job = job(MaterializationStatus.RUNNING, 2L, 4);
+
+        givenJob(job);
+        when(materializationRepository.existsByTemplateExerciseVariantIdAndIdGreaterThan(VARIANT_ID, JOB_ID))
+                .thenReturn(true);
+
+        service.resumeUnfinished();
+        awaitFinished(job);
+
+        assertEquals(MaterializationStatus.SUPERSEDED, job.getStatus());
+        assertEquals(2L, job.getLastExerciseId());
+        verifyNoInteractions(exerciseRepository, exerciseHelper);
+    }
+
+    /**
+     * Test that a resumed job continues from its checkpoint instead of starting over.
+     */
+    @Test
+    void shouldResumeFromCheckpoint() {
+        AnswerMaterialization job = job(MaterializationStatus.RUNNING, 5L, 6);
+        job.setProcessed(5);
+        Exercise last = exercise(6L, "{}");
+
+        givenJob(job);
+        givenAnswers();
+        when(exerciseRepository.findByTemplateExerciseVariantIdAndIdGreaterThanOrderByIdAsc(eq(VARIANT_ID), eq(5L), any()))
+                .thenReturn(List.of(last));
+
+        service.resumeUnfinished();
+        awaitFinished(job);
+
+        assertEquals(MaterializationStatus.DONE, job.getStatus());
+        assertEquals(6, job.getProcessed());
+        assertEquals(6L, job.getLastExerciseId());
+        verify(exerciseRepository, never())
+                .findByTemplateExerciseVariantIdAndIdGreaterThanOrderByIdAsc(eq(VARIANT_ID), eq(0L), any());
+    }
+
+    private AnswerMaterialization job(MaterializationStatus status, long lastExerciseId, long total) {
+        return AnswerMaterialization.builder()
+                .id(JOB_ID)
+                .templateExerciseVariantId(VARIANT_ID)
+                .status(status)
+                .lastExerciseId(lastExerciseId)
+                .total(total)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Exercise exercise(Long id, String contextJson) {
+        return Exercise.builder()
+                .id(id)
+                .answer("old")
+                .contextJson(contextJson)
+                .build();
+    }
+
+    private void givenJob(AnswerMaterialization job) {
+        when(materializationRepository.findByStatusInOrderByIdAsc(any())).thenReturn(List.of(job));
+        when(materializationRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+    }
+
+    private void givenAnswers() {
+        when(exerciseHelper.resolveTemplate(null, VARIANT_ID)).thenReturn(variant);
+        when(exerciseHelper.deserializeContext("{}")).thenReturn(List.of());
+        when(exerciseHelper.calculateAnswer(same(variant), any())).thenReturn("42");
+    }
+
+    private void awaitFinished(AnswerMaterialization job) {
+        verify(materializationRepository, timeout(5000).atLeastOnce())
+                .save(argThat(saved -> saved == job && saved.getStatus().isFinished()));
+    }
+}
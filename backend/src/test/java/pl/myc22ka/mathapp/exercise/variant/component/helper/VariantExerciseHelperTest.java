@@ -0,0 +1,68 @@
+package pl.myc22ka.mathapp.exercise.variant.component.helper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.myc22ka.mathapp.exercise.variant.dto.TemplateExerciseVariantRequest;
+import pl.myc22ka.mathapp.exercise.variant.model.TemplateExerciseVariant;
+import pl.myc22ka.mathapp.step.dto.StepDTO;
+import pl.myc22ka.mathapp.step.model.StepDefinition;
+import pl.myc22ka.mathapp.step.model.StepWrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link VariantExerciseHelper#changesAnswers}.
+ *
+ * @author Myc22Ka
+ * @version 1.0.0
+ * @since 18.10.2026
+ */
+class VariantExerciseHelperTest {
+
+    private final VariantExerciseHelper helper = new VariantExerciseHelper(null, null, null, null);
+
+    private TemplateExerciseVariant variant;
+
+    /**
+     * Creates a variant with a single step using s1 and s2.
+     */
+    @BeforeEach
+    void setUp() {
+        StepWrapper step = StepWrapper.builder()
+                .stepDefinition(StepDefinition.builder().id(5L).build())
+                .prefixes(new ArrayList<>(List.of("s1", "s2")))
+                .build();
+
+        variant = new TemplateExerciseVariant();
+        variant.setTemplateAnswer("${s1}");
+        variant.getSteps().add(step);
+    }
+
+    /**
+     * Test that a request with the same steps and answer keeps the stored answers.
+     */
+    @Test
+    void shouldKeepAnswersWhenOnlyTextChanges() {
+        TemplateExerciseVariantRequest request = request("${s1}", new StepDTO(5L, "Union", List.of("s1", "s2")));
+
+        assertFalse(helper.changesAnswers(variant, request));
+    }
+
+    /**
+     * Test that changed prefixes, definitions or answer require recomputing the answers.
+     */
+    @Test
+    void shouldDetectChangedStepsOrAnswer() {
+        assertTrue(helper.changesAnswers(variant, request("${s1}", new StepDTO(5L, "Union", List.of("s2", "s1")))));
+        assertTrue(helper.changesAnswers(variant, request("${s1}", new StepDTO(6L, "Union", List.of("s1", "s2")))));
+        assertTrue(helper.changesAnswers(variant, request("${s2}", new StepDTO(5L, "Union", List.of("s1", "s2")))));
+        assertTrue(helper.changesAnswers(variant, request("${s1}")));
+    }
+
+    private TemplateExerciseVariantRequest request(String templateAnswer, StepDTO... steps) {
+        return new TemplateExerciseVariantRequest("Solve ${s1}", templateAnswer, "1", List.of(steps));
+    }
+}
@@ -0,0 +1,62 @@
+package pl.myc22ka.mathapp.model.expression;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EvaluatorPoolTest {
+
+    @AfterEach
+    void restoreDefaults() {
+        EvaluatorPool.configure(EvaluatorPool.DEFAULT_SIZE, EvaluatorPool.DEFAULT_BORROW_TIMEOUT_MILLIS);
+    }
+
+    @Test
+    void testEvalReturnsEvaluatedExpression() {
+        assertEquals("5", EvaluatorPool.eval("2+3").toString());
+    }
+
+    @Test
+    void testConcurrentBorrowsStayWithinPoolSize() throws Exception {
+        EvaluatorPool.configure(2, 1000);
+
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 20; i++) {
+                int value = i;
+                results.add(executor.submit(() -> EvaluatorPool.eval(value + "*2").toString()));
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(String.valueOf(i * 2), results.get(i).get());
+            }
+        }
+
+        EvaluatorPoolStats stats = EvaluatorPool.stats();
+        assertTrue(stats.created() <= 2);
+        assertTrue(stats.idle() <= 2);
+    }
+
+    @Test
+    void testShrinkingWhileBorrowedDropsReturnedEvaluators() {
+        EvaluatorPool.configure(4, 1000);
+
+        String result = EvaluatorPool.withEvaluator(outer -> EvaluatorPool.withEvaluator(inner -> {
+            EvaluatorPool.configure(1, 1000);
+            return inner.eval("1+1").toString();
+        }));
+
+        assertEquals("2", result);
+
+        EvaluatorPoolStats stats = EvaluatorPool.stats();
+        assertTrue(stats.created() <= 1);
+        assertTrue(stats.idle() <= 1);
+    }
+}
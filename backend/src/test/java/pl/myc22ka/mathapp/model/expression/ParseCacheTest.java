@@ -0,0 +1,57 @@
+package pl.myc22ka.mathapp.model.expression;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import pl.myc22ka.mathapp.model.set.SetFactory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParseCacheTest {
+
+    private final SetFactory setFactory = new SetFactory();
+
+    @AfterEach
+    void tearDown() {
+        ParseCache.configure(true, 1024);
+    }
+
+    @Test
+    void testSecondLookupIsServedFromCache() {
+        ParseCache.configure(true, 16);
+        ParseCache.clear();
+        AtomicInteger parses = new AtomicInteger();
+
+        var first = ParseCache.get(TemplatePrefix.SET, "{1,2,3}", text -> {
+            parses.incrementAndGet();
+            return setFactory.parse(text);
+        });
+        var second = ParseCache.get(TemplatePrefix.SET, "{1,2,3}", text -> {
+            parses.incrementAndGet();
+            return setFactory.parse(text);
+        });
+
+        assertSame(first, second);
+        assertEquals(1, parses.get());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        ParseCache.configure(true, 2);
+        ParseCache.clear();
+        long evictionsBefore = ParseCache.stats().evictions();
+
+        ParseCache.get(TemplatePrefix.SET, "{1}", setFactory::parse);
+        ParseCache.get(TemplatePrefix.SET, "{2}", setFactory::parse);
+        ParseCache.get(TemplatePrefix.SET, "{3}", setFactory::parse);
+
+        assertEquals(2, ParseCache.stats().size());
+        assertEquals(evictionsBefore + 1, ParseCache.stats().evictions());
+    }
+
+    @Test
+    void testNormalizeRemovesWhitespace() {
+        assertEquals("{1,2}", ParseCache.normalize(" { 1 ,\t2 } "));
+    }
+}
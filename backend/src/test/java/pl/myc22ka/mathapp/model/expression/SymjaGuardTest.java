@@ -0,0 +1,108 @@
+package pl.myc22ka.mathapp.model.expression;
+
+import org.junit.jupiter.api.Test;
+import org.matheclipse.core.expression.F;
+import pl.myc22ka.mathapp.exceptions.ServerError;
+import pl.myc22ka.mathapp.exceptions.ServerErrorMessages;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SymjaGuardTest {
+
+    @Test
+    void testEvalReturnsEvaluatedExpression() {
+        assertEquals("5", SymjaGuard.eval(SymjaOperation.EVALUATE, "2+3").toString());
+    }
+
+    @Test
+    void testEvalOfExpressionIsTimeConstrained() {
+        assertEquals("3", SymjaGuard.eval(SymjaOperation.EVALUATE, F.Plus(F.C1, F.C2)).toString());
+        assertEquals("{1,2}", SymjaGuard.eval(SymjaOperation.EVALUATE, F.Union(F.List(F.C2), F.List(F.C1))).toString());
+    }
+
+    @Test
+    void testTimeoutIsMappedToServerErrorAndCancelsTheCall() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        SymjaGuard.setBudget(SymjaOperation.RANGE, 50);
+
+        try {
+            ServerError error = assertThrows(ServerError.class, () -> SymjaGuard.call(SymjaOperation.RANGE, () -> {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return null;
+            }));
+
+            assertEquals(ServerErrorMessages.EVALUATION_TIMEOUT.toString(), error.getMessage());
+            assertTrue(interrupted.await(1, TimeUnit.SECONDS), "Worker should be interrupted");
+        } finally {
+            SymjaGuard.setBudget(SymjaOperation.RANGE, SymjaOperation.RANGE.getDefaultBudgetMillis());
+        }
+    }
+
+    @Test
+    void testNestedCallsRunInline() {
+        String thread = SymjaGuard.call(SymjaOperation.SET_PARSE,
+                () -> Thread.currentThread().getName() + "|" + SymjaGuard.call(SymjaOperation.EVALUATE, () -> Thread.currentThread().getName()));
+
+        String[] names = thread.split("\\|");
+        assertEquals(names[0], names[1]);
+        assertTrue(names[0].startsWith("symja-guard-"));
+    }
+
+    @Test
+    void testCheapOperationsRunOnTheCaller() {
+        String caller = Thread.currentThread().getName();
+
+        assertEquals(caller, SymjaGuard.call(SymjaOperation.EVALUATE, () -> Thread.currentThread().getName()));
+        assertEquals(caller, SymjaGuard.call(SymjaOperation.DERIVATIVE, () -> Thread.currentThread().getName()));
+    }
+
+    @Test
+    void testSaturatedExecutorRunsCallsOnTheCaller() throws Exception {
+        SymjaGuard.configure(1, 1);
+        long callerRuns = SymjaGuard.stats().callerRuns();
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            try (ExecutorService callers = Executors.newFixedThreadPool(8)) {
+                for (int i = 0; i < 8; i++) {
+                    int value = i;
+                    results.add(callers.submit(() -> SymjaGuard.call(SymjaOperation.SOLVE, () -> {
+                        try {
+                            Thread.sleep(100);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return SymjaGuard.eval(SymjaOperation.EVALUATE, value + "*2").toString();
+                    })));
+                }
+
+                for (int i = 0; i < results.size(); i++) {
+                    assertEquals(String.valueOf(i * 2), results.get(i).get());
+                }
+            }
+
+            assertTrue(SymjaGuard.stats().callerRuns() > callerRuns);
+        } finally {
+            SymjaGuard.configure(SymjaGuard.DEFAULT_THREADS, SymjaGuard.DEFAULT_QUEUE_CAPACITY);
+        }
+    }
+
+    @Test
+    void testExceptionsArePropagated() {
+        assertThrows(IllegalArgumentException.class, () -> SymjaGuard.call(SymjaOperation.EVALUATE, () -> {
+            throw new IllegalArgumentException("bad input");
+        }));
+    }
+}
@@ -0,0 +1,59 @@
+package pl.myc22ka.mathapp.model.function;
+
+import org.matheclipse.core.expression.F;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import pl.myc22ka.mathapp.model.expression.EvaluatorPool;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link FunctionClassifier} with the previous regex detector plus a separate variable lookup.
+ * <p>
+ * Run in its own JVM, so the {@code @Fork} child gets the test classpath:
+ * {@code ./mvnw test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * -Dexec.args="-cp %classpath pl.myc22ka.mathapp.model.function.FunctionClassifierBenchmark"}.
+ * {@code exec:java} runs inside the Maven JVM and its forks start without the project classes.
+ *
+ * @author Myc22Ka
+ * @version 1.0.1
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FunctionClassifierBenchmark {
+
+    private final String[] expressions = {
+            "x^2-1", "3x+9", "sqrt(x+2)", "(x+1)/(x+2)", "sin(x)*cos(x)",
+            "2^x", "log(x)", "abs(x-3)", "x^5-3*x^3+x", "7", "E^x+1", "x^2+sin(x)"
+    };
+
+    @Benchmark
+    public void regexDetector(Blackhole blackhole) {
+        for (String expression : expressions) {
+            blackhole.consume(RegexFunctionTypeDetector.detect(expression));
+            blackhole.consume(EvaluatorPool.eval(F.Variables(EvaluatorPool.parse(expression))));
+        }
+    }
+
+    @Benchmark
+    public void astClassifier(Blackhole blackhole) {
+        for (String expression : expressions) {
+            blackhole.consume(FunctionClassifier.classify(expression));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FunctionClassifierBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,42 @@
+package pl.myc22ka.mathapp.model.function;
+
+import org.junit.jupiter.api.Test;
+import org.matheclipse.core.expression.F;
+import pl.myc22ka.mathapp.model.expression.EvaluatorPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FunctionClassifierTest {
+
+    @Test
+    void testPolynomialDegrees() {
+        assertEquals(FunctionType.CONSTANT, FunctionClassifier.classify("7").type());
+        assertEquals(FunctionType.LINEAR, FunctionClassifier.classify("3x+9").type());
+        assertEquals(FunctionType.QUADRATIC, FunctionClassifier.classify("x*x-1").type());
+        assertEquals(FunctionType.POLYNOMIAL, FunctionClassifier.classify("x^5-3*x^3+x").type());
+    }
+
+    @Test
+    void testNonPolynomialFeatures() {
+        assertEquals(FunctionType.SQUAREROOT, FunctionClassifier.classify("sqrt(x+2)").type());
+        assertEquals(FunctionType.RATIONAL, FunctionClassifier.classify("(x+1)/(x+2)").type());
+        assertEquals(FunctionType.TRIGONOMETRIC, FunctionClassifier.classify("sin(x)+x^2").type());
+        assertEquals(FunctionType.EXPONENTIAL, FunctionClassifier.classify("2^x").type());
+        assertEquals(FunctionType.ABSOLUTE, FunctionClassifier.classify("abs(x-3)").type());
+        assertEquals(FunctionType.FUNCTION, FunctionClassifier.classify("log(x)*sin(x)").type());
+    }
+
+    @Test
+    void testVariableIsDetected() {
+        assertEquals(F.symbol("t"), FunctionClassifier.classify("t^2+1").variable());
+        assertEquals(F.x, FunctionClassifier.classify("5").variable());
+    }
+
+    @Test
+    void testPeriodicRequiresVariableArgument() {
+        assertTrue(FunctionClassifier.isPeriodic(EvaluatorPool.parse("sin(2*x)+1")));
+        assertFalse(FunctionClassifier.isPeriodic(EvaluatorPool.parse("sin(2)*x")));
+    }
+}
@@ -0,0 +1,34 @@
+package pl.myc22ka.mathapp.model.function;
+
+import org.junit.jupiter.api.Test;
+import org.matheclipse.core.expression.F;
+import pl.myc22ka.mathapp.model.expression.EvaluatorPool;
+import pl.myc22ka.mathapp.model.function.functions.Absolute;
+import pl.myc22ka.mathapp.model.function.functions.Constant;
+import pl.myc22ka.mathapp.model.function.functions.Linear;
+import pl.myc22ka.mathapp.model.function.functions.Quadratic;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FunctionFactoryTest {
+
+    @Test
+    void testTypedFunctionsKeepTheClassifiedExpression() {
+        Function quadratic = FunctionFactory.create("t^2+1");
+
+        assertInstanceOf(Quadratic.class, quadratic);
+        assertEquals(FunctionType.QUADRATIC, quadratic.getType());
+        assertEquals(F.symbol("t"), quadratic.getVariable());
+        assertEquals("t^2+1", quadratic.getRawExpression());
+        assertEquals(EvaluatorPool.parse("t^2+1"), quadratic.getSymjaExpression());
+    }
+
+    @Test
+    void testEveryTypeIsCreatedFromOneClassification() {
+        assertInstanceOf(Linear.class, FunctionFactory.create("3x+9"));
+        assertInstanceOf(Absolute.class, FunctionFactory.create("abs(x-3)"));
+        assertInstanceOf(Constant.class, FunctionFactory.create("7"));
+        assertEquals(F.x, FunctionFactory.create("7").getVariable());
+        assertEquals(FunctionType.FUNCTION, FunctionFactory.create("log(x)*sin(x)").getType());
+    }
+}
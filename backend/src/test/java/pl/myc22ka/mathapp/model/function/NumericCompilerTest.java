@@ -0,0 +1,42 @@
+package pl.myc22ka.mathapp.model.function;
+
+import org.junit.jupiter.api.Test;
+import org.matheclipse.core.expression.F;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NumericCompilerTest {
+
+    @Test
+    void testCompiledPolynomialMatchesSymja() {
+        Function function = new Function("x^3-2*x^2+x/4-7");
+
+        for (double x = -5; x <= 5; x += 0.5) {
+            assertEquals(function.getFunctionValue(F.num(x)).evalf(), function.evaluate(x), 1e-9);
+        }
+    }
+
+    @Test
+    void testElementaryFunctions() {
+        Function function = new Function("Sin(x)*E^x+Sqrt(x)-Log(x)");
+
+        double x = 1.7;
+        assertEquals(Math.sin(x) * Math.exp(x) + Math.sqrt(x) - Math.log(x), function.evaluate(x), 1e-9);
+    }
+
+    @Test
+    void testSampleFillsOutput() {
+        Function function = new Function("2*x+1");
+        double[] xs = {-1, 0, 1, 2};
+        double[] out = new double[xs.length];
+
+        function.sample(xs, out);
+
+        assertArrayEquals(new double[]{-1, 1, 3, 5}, out, 1e-12);
+    }
+
+    @Test
+    void testOutsideDomainGivesNaN() {
+        assertTrue(Double.isNaN(new Function("Sqrt(x)").evaluate(-4)));
+    }
+}
@@ -0,0 +1,63 @@
+package pl.myc22ka.mathapp.model.function.analysis;
+
+import org.junit.jupiter.api.Test;
+import org.matheclipse.core.expression.F;
+import org.matheclipse.core.interfaces.IExpr;
+import pl.myc22ka.mathapp.model.function.Function;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisPipelineTest {
+
+    @Test
+    void testAnalysesEveryFunction() {
+        List<Function> functions = List.of(new Function("x^2-4"), new Function("2*x+1"));
+
+        AnalysisReport report = AnalysisPipeline.analyze(functions,
+                List.of(AnalysisOperation.SOLVE, AnalysisOperation.DERIVATIVE), 10_000);
+
+        assertTrue(report.isComplete());
+        assertEquals(F.List(F.CN2, F.C2), report.result(0, AnalysisOperation.SOLVE));
+        assertEquals(F.C2, report.result(1, AnalysisOperation.DERIVATIVE));
+    }
+
+    @Test
+    void testSlowOperationsRunInParallel() {
+        List<Function> functions = IntStream.range(0, 4).mapToObj(i -> slow("x+" + i, 300)).toList();
+
+        AnalysisReport report = AnalysisPipeline.analyze(functions, List.of(AnalysisOperation.DERIVATIVE), 10_000);
+
+        assertTrue(report.isComplete());
+        assertTrue(report.elapsedMillis() < 4 * 300, "Took " + report.elapsedMillis() + " ms");
+    }
+
+    @Test
+    void testDeadlineGivesPartialResults() {
+        List<Function> functions = List.of(new Function("x^2+x"), slow("x^3", 5_000));
+
+        AnalysisReport report = AnalysisPipeline.analyze(functions, List.of(AnalysisOperation.DERIVATIVE), 1_000);
+
+        assertFalse(report.isComplete());
+        assertEquals(AnalysisStatus.DONE, report.status(0, AnalysisOperation.DERIVATIVE));
+        assertEquals(AnalysisStatus.TIMED_OUT, report.status(1, AnalysisOperation.DERIVATIVE));
+        assertNull(report.result(1, AnalysisOperation.DERIVATIVE));
+        assertTrue(report.elapsedMillis() < 5_000);
+    }
+
+    private static Function slow(String expression, long millis) {
+        return new Function(expression) {
+            @Override
+            public IExpr getDerivative() {
+                try {
+                    Thread.sleep(millis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getDerivative();
+            }
+        };
+    }
+}
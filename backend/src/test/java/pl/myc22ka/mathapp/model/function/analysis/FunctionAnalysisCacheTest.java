@@ -0,0 +1,39 @@
+package pl.myc22ka.mathapp.model.function.analysis;
+
+import org.junit.jupiter.api.Test;
+import pl.myc22ka.mathapp.model.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FunctionAnalysisCacheTest {
+
+    @Test
+    void testRootQueriesShareOneSolve() {
+        Function function = new Function("x^2-7*x+11");
+        long before = FunctionAnalysisCache.stats().operations().get(AnalysisOperation.SOLVE).computed();
+
+        function.getRealRoots();
+        function.getAllRoots();
+        function.getRealRoots(0, 10);
+        new Function("x^2-7*x+11").getRealRoots();
+
+        assertEquals(before + 1, FunctionAnalysisCache.stats().operations().get(AnalysisOperation.SOLVE).computed());
+    }
+
+    @Test
+    void testDerivativeIsMemoized() {
+        Function function = new Function("x^3+x");
+
+        assertSame(function.getDerivative(), function.getDerivative());
+    }
+
+    @Test
+    void testChangedExpressionIsAnalysedAgain() {
+        Function function = new Function("2*x+4");
+        var roots = function.getRealRoots();
+
+        function.setExpressions("3*x-9");
+
+        assertNotEquals(roots, function.getRealRoots());
+    }
+}
@@ -0,0 +1,64 @@
+package pl.myc22ka.mathapp.model.function.intern;
+
+import org.junit.jupiter.api.Test;
+import org.matheclipse.core.expression.F;
+import org.matheclipse.core.interfaces.IAST;
+import org.matheclipse.core.interfaces.IExpr;
+import pl.myc22ka.mathapp.model.expression.EvaluatorPool;
+import pl.myc22ka.mathapp.model.function.Function;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpressionInternerTest {
+
+    @Test
+    void testEqualTreesShareOneInstance() {
+        InternedExpression first = ExpressionInterner.intern(EvaluatorPool.parse("Sin(x)^2+y"));
+        InternedExpression second = ExpressionInterner.intern(EvaluatorPool.parse("Sin(x)^2+y"));
+
+        assertSame(first, second);
+        assertSame(first.expression(), second.expression());
+    }
+
+    @Test
+    void testComposedTreesShareSubtrees() {
+        IExpr square = ExpressionInterner.intern(EvaluatorPool.parse("(x-3)^2")).expression();
+        IExpr sum = ExpressionInterner.intern(F.Plus(EvaluatorPool.parse("(x-3)^2"), F.C1)).expression();
+
+        assertSame(square, ((IAST) sum).arg1());
+    }
+
+    @Test
+    void testVariablesArePrecomputedInOrder() {
+        InternedExpression interned = ExpressionInterner.intern(EvaluatorPool.parse("b*Sin(a)+Pi*c+b"));
+
+        assertEquals(List.of(F.a, F.b, F.c), interned.variables());
+        assertEquals(F.a, interned.variable());
+        assertNull(ExpressionInterner.intern(EvaluatorPool.parse("2*Pi+E")).variable());
+    }
+
+    @Test
+    void testFunctionArithmeticReusesOperands() {
+        Function f = new Function("x^2+1");
+        Function g = new Function("Sin(t)");
+
+        Function sum = f.plus(g);
+
+        assertSame(f.getSymjaExpression(), ((IAST) sum.getSymjaExpression()).arg1());
+        assertEquals(F.t, sum.getVariable());
+    }
+
+    @Test
+    void testSubtreesStaySharedAfterGarbageCollection() {
+        Function first = new Function("(x-3)^2").plus(new Function("Sin(x)"));
+        IExpr square = ((IAST) first.getSymjaExpression()).arg1();
+
+        System.gc();
+        Function second = new Function(EvaluatorPool.parse("(x-3)^2")).times(new Function("Cos(x)"));
+
+        assertInstanceOf(IAST.class, square);
+        assertSame(square, ((IAST) second.getSymjaExpression()).arg1());
+    }
+}
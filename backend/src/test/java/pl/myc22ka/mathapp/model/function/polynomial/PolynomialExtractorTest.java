@@ -0,0 +1,52 @@
+package pl.myc22ka.mathapp.model.function.polynomial;
+
+import org.junit.jupiter.api.Test;
+import org.matheclipse.core.expression.F;
+import pl.myc22ka.mathapp.model.expression.EvaluatorPool;
+import pl.myc22ka.mathapp.model.function.Function;
+import pl.myc22ka.mathapp.model.function.functions.Linear;
+import pl.myc22ka.mathapp.model.function.functions.Quadratic;
+import pl.myc22ka.mathapp.utils.functions.Point;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialExtractorTest {
+
+    @Test
+    void testExtractsExpandedAndFactoredForms() {
+        RationalPolynomial expected = RationalPolynomial.of(F.CN2, F.C1, F.C1); // -2 + x + x^2
+
+        assertEquals(expected, PolynomialExtractor.extract(EvaluatorPool.parse("x^2+x-2"), F.x));
+        assertEquals(expected, PolynomialExtractor.extract(EvaluatorPool.parse("(x-1)*(x+2)"), F.x));
+        assertEquals(RationalPolynomial.of(F.QQ(1, 4), F.C0, F.QQ(1, 2)),
+                PolynomialExtractor.extract(EvaluatorPool.parse("x^2/2+1/4"), F.x));
+    }
+
+    @Test
+    void testRejectsNonPolynomials() {
+        assertNull(PolynomialExtractor.extract(EvaluatorPool.parse("Sin(x)+1"), F.x));
+        assertNull(PolynomialExtractor.extract(EvaluatorPool.parse("1/x"), F.x));
+        assertNull(PolynomialExtractor.extract(EvaluatorPool.parse("x^2+a"), F.x));
+        assertNull(PolynomialExtractor.extract(EvaluatorPool.parse("0.5*x"), F.x));
+    }
+
+    @Test
+    void testFunctionValueIsExact() {
+        Function function = new Function("x^3-x/3");
+
+        assertEquals(F.QQ(-1, 24), function.getFunctionValue(F.QQ(1, 2)));
+        assertTrue(function.isPointOnSlope(new Point(F.C3, F.ZZ(26))));
+        assertFalse(function.isPointOnSlope(new Point(F.C3, F.ZZ(27))));
+    }
+
+    @Test
+    void testLinearAndQuadraticUseTheirCoefficients() {
+        Linear linear = new Linear(F.QQ(3, 2), F.CN1);
+        Quadratic quadratic = new Quadratic(F.C1, F.Times(F.CN2, F.C3), F.C5);
+
+        assertEquals(RationalPolynomial.of(F.CN1, F.QQ(3, 2)), linear.getRationalPolynomial());
+        assertEquals(RationalPolynomial.of(F.C5, F.ZZ(-6), F.C1), quadratic.getRationalPolynomial());
+        assertTrue(quadratic.isPointOnSlope(new Point(F.C3, F.CN4)));
+        assertEquals(-4.0, quadratic.evaluate(3.0), 1e-12);
+    }
+}
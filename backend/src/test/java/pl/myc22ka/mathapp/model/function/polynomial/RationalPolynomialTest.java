@@ -0,0 +1,92 @@
+package pl.myc22ka.mathapp.model.function.polynomial;
+
+import org.junit.jupiter.api.Test;
+import org.matheclipse.core.expression.F;
+import org.matheclipse.core.interfaces.IExpr;
+import org.matheclipse.core.interfaces.IRational;
+import pl.myc22ka.mathapp.model.function.functions.Polynomial;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RationalPolynomialTest {
+
+    @Test
+    void testFromRootsExpandsProduct() {
+        // (x - 1)(x - 2)(x + 3) = x^3 - 7x + 6
+        RationalPolynomial polynomial = RationalPolynomial.fromRoots(F.C1, List.of(F.C1, F.C2, F.ZZ(-3)));
+
+        assertEquals(RationalPolynomial.of(F.ZZ(6), F.ZZ(-7), F.C0, F.C1), polynomial);
+        assertEquals(3, polynomial.degree());
+    }
+
+    @Test
+    void testFromEightRootsVanishesAtEveryRoot() {
+        List<IExpr> roots = List.of(F.C1, F.CN1, F.C2, F.CN2, F.C3, F.CN3, F.QQ(1, 2), F.QQ(-5, 3));
+        RationalPolynomial polynomial = RationalPolynomial.fromRoots(F.C2, roots);
+
+        assertEquals(8, polynomial.degree());
+        assertEquals(F.C2, polynomial.coefficient(8));
+        for (IExpr root : roots) {
+            assertTrue(polynomial.evaluate((IRational) root).isZero(), "Should vanish at " + root);
+        }
+    }
+
+    @Test
+    void testArithmetic() {
+        RationalPolynomial p = RationalPolynomial.of(F.C1, F.C1);          // 1 + x
+        RationalPolynomial q = RationalPolynomial.of(F.CN1, F.C1);         // -1 + x
+
+        assertEquals(RationalPolynomial.of(F.C0, F.C2), p.add(q));
+        assertEquals(RationalPolynomial.of(F.C2), p.subtract(q));
+        assertEquals(RationalPolynomial.of(F.CN1, F.C0, F.C1), p.multiply(q));
+        assertTrue(p.subtract(p).isZero());
+    }
+
+    @Test
+    void testComposeAndDerivative() {
+        RationalPolynomial square = RationalPolynomial.of(F.C0, F.C0, F.C1);  // x^2
+        RationalPolynomial shift = RationalPolynomial.of(F.C1, F.C1);         // x + 1
+
+        assertEquals(RationalPolynomial.of(F.C1, F.C2, F.C1), square.compose(shift));
+        assertEquals(RationalPolynomial.of(F.C0, F.C2), square.derivative());
+        assertTrue(shift.derivative().derivative().isZero());
+    }
+
+    @Test
+    void testHornerEvaluation() {
+        RationalPolynomial polynomial = RationalPolynomial.of(F.QQ(1, 2), F.CN3, F.C2); // 1/2 - 3x + 2x^2
+
+        assertEquals(F.QQ(3, 2), polynomial.evaluate(F.C2));
+        assertEquals(1.5, polynomial.evaluate(2.0), 1e-15);
+    }
+
+    @Test
+    void testEstrinEvaluationMatchesHorner() {
+        List<IExpr> roots = List.of(F.C1, F.CN1, F.C2, F.CN2, F.C3, F.CN3, F.QQ(1, 2), F.QQ(-5, 3), F.C0, F.ZZ(4));
+        RationalPolynomial polynomial = RationalPolynomial.fromRoots(F.C1, roots);
+
+        for (double x = -4; x <= 4; x += 0.25) {
+            double horner = polynomial.evaluate(F.QQ((long) (x * 4), 4)).doubleValue();
+            assertEquals(horner, polynomial.evaluate(x), 1e-9 * Math.max(1, Math.abs(horner)), "At " + x);
+        }
+    }
+
+    @Test
+    void testToExprSkipsZeroTerms() {
+        RationalPolynomial polynomial = RationalPolynomial.of(F.ZZ(6), F.ZZ(-7), F.C0, F.C1);
+
+        assertEquals(F.Plus(F.ZZ(6), F.Times(F.ZZ(-7), F.x), F.Power(F.x, F.C3)), polynomial.toExpr(F.x));
+        assertEquals(F.C0, RationalPolynomial.zero().toExpr(F.x));
+    }
+
+    @Test
+    void testPolynomialEvaluatesWithoutBuildingExpression() {
+        Polynomial polynomial = new Polynomial(RationalPolynomial.fromRoots(F.C1, List.of(F.C1, F.C2, F.ZZ(-3))));
+
+        assertEquals(0.0, polynomial.evaluate(2.0), 1e-12);
+        assertEquals(6.0, polynomial.evaluate(0.0), 1e-12);
+        assertEquals("6-7*x+x^3", polynomial.getRawExpression());
+    }
+}
@@ -0,0 +1,54 @@
+package pl.myc22ka.mathapp.model.function.roots;
+
+import org.junit.jupiter.api.Test;
+import pl.myc22ka.mathapp.model.function.Function;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RootFinderTest {
+
+    @Test
+    void testSineRootsOnBoundedDomain() {
+        List<RootInterval> roots = RootFinder.find(Math::sin, Math::cos, -1, 10, RootFinderOptions.DEFAULT);
+
+        assertEquals(4, roots.size());
+        assertEquals(Math.PI, roots.get(1).estimate(), 1e-10);
+        assertTrue(roots.stream().allMatch(RootInterval::certified));
+    }
+
+    @Test
+    void testTouchingRootIsFound() {
+        List<RootInterval> roots = RootFinder.find(x -> (x - 1.3) * (x - 1.3), x -> 2 * (x - 1.3), -5, 5, RootFinderOptions.DEFAULT);
+
+        assertEquals(1, roots.size());
+        assertEquals(1.3, roots.getFirst().estimate(), 1e-6);
+        assertFalse(roots.getFirst().certified());
+    }
+
+    @Test
+    void testRootAfterLongStretchOutsideDomain() {
+        List<RootInterval> roots = RootFinder.find(x -> Math.sqrt(x - 900) - 1, x -> 0.5 / Math.sqrt(x - 900), -1000, 1000, RootFinderOptions.DEFAULT);
+
+        assertEquals(1, roots.size());
+        assertEquals(901, roots.getFirst().estimate(), 1e-9);
+    }
+
+    @Test
+    void testPoleIsNotARoot() {
+        List<RootInterval> roots = RootFinder.find(x -> 1 / (x - 0.5), x -> -1 / ((x - 0.5) * (x - 0.5)), -2, 2, RootFinderOptions.DEFAULT);
+
+        assertTrue(roots.isEmpty());
+    }
+
+    @Test
+    void testFunctionFallsBackToNumericRootsForPeriodicSolutions() {
+        Function function = new Function("Sin(x)");
+
+        var roots = function.getRealRoots(-1, 7);
+
+        assertEquals(3, roots.size());
+        assertEquals(0, roots.getFirst().evalf(), 1e-10);
+    }
+}
@@ -0,0 +1,57 @@
+package pl.myc22ka.mathapp.model.function.sampling;
+
+import org.junit.jupiter.api.Test;
+import pl.myc22ka.mathapp.model.function.Function;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveSamplerTest {
+
+    @Test
+    void testPoleOfRationalFunctionBreaksTheCurve() {
+        SampledCurve curve = AdaptiveSampler.sample(new Function("1/(x-2)"), -10, 10, SamplingOptions.forGraph(400, 300));
+
+        int pole = breakAt(curve, 2);
+        assertTrue(pole > 0, "Curve should break at the pole");
+        assertTrue(curve.y()[pole - 1] < -1e3, "Left side should go to -Infinity");
+        assertTrue(curve.y()[pole + 1] > 1e3, "Right side should go to +Infinity");
+    }
+
+    @Test
+    void testSquareRootStartsAtDomainEdge() {
+        SampledCurve curve = AdaptiveSampler.sample(new Function("Sqrt(x-1)"), -5, 5, SamplingOptions.forGraph(400, 300));
+
+        int first = 0;
+        while (Double.isNaN(curve.y()[first])) first++;
+
+        assertEquals(1, curve.x()[first], 1e-6);
+    }
+
+    @Test
+    void testCurvedPartsGetMorePoints() {
+        SampledCurve curve = AdaptiveSampler.sample(x -> Math.exp(x), new double[0], -5, 5, SamplingOptions.forGraph(400, 300));
+
+        long left = Arrays.stream(curve.x()).filter(x -> x < 0).count();
+        long right = Arrays.stream(curve.x()).filter(x -> x > 0).count();
+        assertTrue(right > left, "The steeper right half should be sampled more densely");
+    }
+
+    @Test
+    void testSamplingAndDownsamplingFitThePixelBudget() {
+        SampledCurve curve = AdaptiveSampler.sample(new Function("Sin(5*x)*x^2"), -10, 10, SamplingOptions.forGraph(800, 400));
+        SampledCurve reduced = Lttb.downsample(curve, 800);
+
+        assertTrue(reduced.size() <= 810);
+        assertEquals(curve.x()[0], reduced.x()[0]);
+        assertEquals(curve.x()[curve.size() - 1], reduced.x()[reduced.size() - 1]);
+    }
+
+    private int breakAt(SampledCurve curve, double x) {
+        for (int i = 1; i < curve.size() - 1; i++) {
+            if (Double.isNaN(curve.y()[i]) && curve.x()[i] <= x && curve.x()[i + 1] >= x) return i;
+        }
+        return -1;
+    }
+}
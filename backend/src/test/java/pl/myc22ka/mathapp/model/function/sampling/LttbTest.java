@@ -0,0 +1,47 @@
+package pl.myc22ka.mathapp.model.function.sampling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LttbTest {
+
+    @Test
+    void testPeakIsKept() {
+        double[] x = new double[1000];
+        double[] y = new double[1000];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i;
+            y[i] = i == 537 ? 100 : 0;
+        }
+
+        SampledCurve reduced = Lttb.downsample(new SampledCurve(x, y), 50);
+
+        assertEquals(50, reduced.size());
+        assertTrue(Arrays.stream(reduced.y()).anyMatch(value -> value == 100));
+    }
+
+    @Test
+    void testBreaksArePreserved() {
+        double[] x = new double[101];
+        double[] y = new double[101];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i;
+            y[i] = i == 50 ? Double.NaN : Math.sin(i);
+        }
+
+        SampledCurve reduced = Lttb.downsample(new SampledCurve(x, y), 20);
+
+        assertEquals(1, Arrays.stream(reduced.y()).filter(Double::isNaN).count());
+        assertTrue(reduced.size() <= 23);
+    }
+
+    @Test
+    void testSmallCurveIsReturnedUnchanged() {
+        SampledCurve curve = new SampledCurve(new double[]{0, 1, 2}, new double[]{0, 1, 4});
+
+        assertSame(curve, Lttb.downsample(curve, 10));
+    }
+}
@@ -4,9 +4,10 @@ import org.junit.jupiter.api.Test;
 import org.matheclipse.core.eval.ExprEvaluator;
 import org.matheclipse.core.expression.F;
 import org.matheclipse.core.interfaces.IExpr;
+import pl.myc22ka.mathapp.model.set.sets.Finite;
 import pl.myc22ka.mathapp.model.set.sets.Interval;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static pl.myc22ka.mathapp.model.set.sets.BoundType.CLOSED;
 import static pl.myc22ka.mathapp.model.set.sets.BoundType.OPEN;
 
@@ -23,6 +24,26 @@ class IntervalTest {
         assertEquals("{1,2,3,4}", result.toString());
     }
 
+    @Test
+    void testLargeRationalEndpointsAreRoundedExactly() {
+        IExpr start = evaluator.eval("10^17+1/2");
+        IExpr end = evaluator.eval("10^17+3");
+        Interval interval = new Interval(start, CLOSED, OPEN, end);
+
+        var result = interval.findAllIntegers();
+
+        assertEquals("{100000000000000001,100000000000000002}", result.toString());
+    }
+
+    @Test
+    void testIntegersEqualFiniteSetWithoutExpansion() {
+        var integers = new Interval(F.ZZ(-2), CLOSED, CLOSED, F.ZZ(2)).findAllIntegers();
+        var finite = new Finite(F.List(F.ZZ(2), F.ZZ(1), F.ZZ(0), F.ZZ(-1), F.ZZ(-2)));
+
+        assertEquals(finite, integers);
+        assertEquals(finite.hashCode(), integers.hashCode());
+    }
+
     @Test
     void testDisjointSets() {
         Interval interval = new Interval("IntervalData({-1,LessEqual,Less,3}, {4,LessEqual,Less,7})"); // [-1,3) ∪ [4,7)
@@ -86,5 +107,40 @@ class IntervalTest {
 
         assertEquals("{-3,-2,-1,0,1,2}", result.toString());
     }
-}
 
+    @Test
+    void testLargeRangeIsCountedWithoutExpansion() {
+        Interval interval = new Interval(F.ZZ(-10000), CLOSED, OPEN, F.ZZ(10000));
+
+        var result = interval.findAllIntegers();
+
+        assertEquals(20000, result.size());
+        assertTrue(result.contains("-10000"));
+        assertFalse(result.contains("10000"));
+    }
+
+    @Test
+    void testRangeAboveIntLimitIsNotCounted() {
+        Interval interval = new Interval(evaluator.eval("-10^10"), CLOSED, CLOSED, evaluator.eval("10^10"));
+
+        var result = interval.findAllIntegers();
+
+        assertFalse(result.isEmpty());
+        assertTrue(result.contains("9999999999"));
+        assertThrows(IllegalStateException.class, result::size);
+        assertThrows(IllegalArgumentException.class, result::toString);
+    }
+
+    @Test
+    void testLargeRangeIsMergedWithIntervalsRunByRun() {
+        var integers = new Interval(evaluator.eval("-10^10"), CLOSED, CLOSED, evaluator.eval("10^10")).findAllIntegers();
+
+        var inside = integers.intersection(new Interval(evaluator.eval("1/2"), CLOSED, CLOSED, evaluator.eval("7/2")));
+        var outside = integers.difference(new Interval(evaluator.eval("-10^10"), CLOSED, OPEN, evaluator.eval("10^10-1")));
+        var union = new Interval(F.CNInfinity, OPEN, OPEN, evaluator.eval("10^10-1")).union(integers);
+
+        assertEquals("{1,2,3}", inside.toString());
+        assertEquals("{9999999999,10000000000}", outside.toString());
+        assertEquals("(-∞,9999999999]∪{10000000000}", union.toString());
+    }
+}
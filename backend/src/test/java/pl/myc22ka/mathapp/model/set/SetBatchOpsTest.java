@@ -0,0 +1,74 @@
+package pl.myc22ka.mathapp.model.set;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SetBatchOpsTest {
+
+    @Test
+    void testUnionAllMergesIntervalsInOnePass() {
+        List<ISet> sets = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            sets.add(Set.of("[" + i + "," + (i + 1) + ")"));
+        }
+
+        assertEquals(Set.of("[0,50)"), SetBatchOps.unionAll(sets));
+    }
+
+    @Test
+    void testUnionAllOfFiniteSets() {
+        assertEquals(Set.of("{1,2,3,5}"), SetBatchOps.unionAll(List.of(Set.of("{1,2}"), Set.of("{2,3}"), Set.of("{5}"))));
+    }
+
+    @Test
+    void testIntersectAllMatchesPairwiseFold() {
+        List<ISet> sets = List.of(Set.of("(-∞,5]"), Set.of("[0,10)"), Set.of("{1,2,7}"));
+
+        ISet expected = sets.get(0).intersection(sets.get(1)).intersection(sets.get(2));
+        assertEquals(expected, SetBatchOps.intersectAll(sets));
+    }
+
+    @Test
+    void testPairwiseUnionKeepsOrder() {
+        List<ISet> left = new ArrayList<>();
+        List<ISet> right = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            left.add(Set.of("[0," + i + "]"));
+            right.add(Set.of("{" + (i + 10) + "}"));
+        }
+
+        List<ISet> results = SetBatchOps.union(left, right);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(left.get(i).union(right.get(i)), results.get(i));
+        }
+    }
+
+    @Test
+    void testPairwiseDifferenceWithSharedOperandMatchesRegularOperation() {
+        ISet shared = Set.of("[0,100]");
+        List<ISet> left = new ArrayList<>();
+        List<ISet> right = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            left.add(shared);
+            right.add(i % 2 == 0 ? Set.of("(" + i + "," + (i + 5) + ")") : Set.of("{" + i + "}"));
+        }
+        left.add(Set.of("{1,2,3}"));
+        right.add(Set.of("{2}"));
+
+        List<ISet> results = SetBatchOps.difference(left, right);
+
+        for (int i = 0; i < left.size(); i++) {
+            assertEquals(left.get(i).difference(right.get(i)), results.get(i));
+        }
+    }
+
+    @Test
+    void testPairwiseRejectsDifferentSizes() {
+        assertThrows(IllegalArgumentException.class, () -> SetBatchOps.union(List.of(Set.of("{1}")), List.of()));
+    }
+}
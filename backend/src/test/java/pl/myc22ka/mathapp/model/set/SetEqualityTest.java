@@ -0,0 +1,83 @@
+package pl.myc22ka.mathapp.model.set;
+
+import org.junit.jupiter.api.Test;
+import org.matheclipse.core.expression.F;
+import pl.myc22ka.mathapp.model.set.sets.Finite;
+import pl.myc22ka.mathapp.model.set.sets.Fundamental;
+import pl.myc22ka.mathapp.model.set.sets.Interval;
+import pl.myc22ka.mathapp.model.set.sets.ReducedFundamental;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static pl.myc22ka.mathapp.model.set.sets.BoundType.CLOSED;
+import static pl.myc22ka.mathapp.model.set.sets.BoundType.OPEN;
+
+class SetEqualityTest {
+
+    @Test
+    void testFiniteEqualityIgnoresOrderAndDuplicates() {
+        var a = new Finite(List.of(F.ZZ(3), F.ZZ(1), F.ZZ(2)));
+        var b = new Finite(List.of(F.ZZ(1), F.ZZ(2), F.ZZ(3), F.ZZ(1)));
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+    }
+
+    @Test
+    void testPointIntervalEqualsFinite() {
+        var finite = new Finite(List.of(F.ZZ(2), F.ZZ(5)));
+
+        assertEquals(finite.toInterval(), finite);
+        assertEquals(finite.hashCode(), finite.toInterval().hashCode());
+    }
+
+    @Test
+    void testEmptySetsAreEqualAcrossTypes() {
+        var empty = Fundamental.of(SetSymbols.EMPTY);
+        var interval = new Interval(F.ZZ(1), OPEN, OPEN, F.ZZ(1));
+        var finite = new Finite(List.of());
+
+        assertTrue(interval.isEmpty());
+        assertTrue(finite.isEmpty());
+        assertEquals(empty, interval);
+        assertEquals(empty, finite);
+    }
+
+    @Test
+    void testRealEqualsUnboundedInterval() {
+        var real = Fundamental.of(SetSymbols.REAL);
+        var interval = new Interval(F.CNInfinity, OPEN, OPEN, F.CInfinity);
+
+        assertEquals(real, interval);
+        assertNotEquals(real, new Interval(F.ZZ(0), CLOSED, OPEN, F.CInfinity));
+    }
+
+    @Test
+    void testReducedFundamentalEqualsEvaluatedInterval() {
+        var reduced = new ReducedFundamental(Fundamental.of(SetSymbols.REAL), SetSymbols.DIFFERENCE,
+                new Finite(List.of(F.ZZ(1))));
+        var interval = new Interval(F.CNInfinity, OPEN, OPEN, F.ZZ(1))
+                .union(new Interval(F.ZZ(1), OPEN, OPEN, F.CInfinity));
+
+        assertEquals(reduced, interval);
+        assertEquals(interval, reduced);
+        assertEquals(reduced.hashCode(), interval.hashCode());
+    }
+
+    @Test
+    void testRemoveReturnsNewSetAndKeepsOriginal() {
+        var finite = Finite.of(List.of(F.ZZ(1), F.ZZ(2), F.ZZ(3)));
+
+        var removed = finite.remove("2");
+
+        assertEquals("{1,2,3}", finite.toString());
+        assertEquals(Finite.of(List.of(F.ZZ(1), F.ZZ(3))), removed);
+    }
+
+    @Test
+    void testSmallFiniteSetsAndFundamentalsAreShared() {
+        assertSame(Finite.of(List.of(F.ZZ(1), F.ZZ(2))), Finite.of(List.of(F.ZZ(1), F.ZZ(2))));
+        assertSame(Fundamental.of(SetSymbols.REAL), Fundamental.of(SetSymbols.REAL));
+    }
+}
@@ -0,0 +1,75 @@
+package pl.myc22ka.mathapp.model.set.utils.ast;
+
+import org.junit.jupiter.api.Test;
+import pl.myc22ka.mathapp.model.set.ISet;
+import pl.myc22ka.mathapp.model.set.Set;
+import pl.myc22ka.mathapp.model.set.SetSymbols;
+import pl.myc22ka.mathapp.model.set.parsers.SetParser;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static pl.myc22ka.mathapp.model.set.SetSymbols.*;
+
+class SetExpressionCompilerTest {
+
+    @Test
+    void testRepeatedSubtreeIsShared() {
+        SetNode root = SetExpressionCompiler.compile("([1,2)∪{5})∩(({5}∪[1,2))∪[7,8])");
+
+        OperationNode node = assertInstanceOf(OperationNode.class, root);
+        OperationNode right = assertInstanceOf(OperationNode.class, node.right());
+        assertSame(node.left(), right.left());
+    }
+
+    @Test
+    void testDifferenceOfEqualSubtreesFoldsToEmpty() {
+        SetNode root = SetExpressionCompiler.compile("([1,2)∪{5})∖([1,2)∪{5})");
+
+        assertInstanceOf(OperandNode.class, root);
+        assertTrue(root.evaluate().isEmpty());
+    }
+
+    @Test
+    void testCompiledResultMatchesDirectEvaluation() {
+        SetNode root = SetExpressionCompiler.compile("((-∞,5]∪[10,∞))∖{0}");
+
+        assertEquals(Set.of("(-∞,5]").union(Set.of("[10,∞)")).difference(Set.of("{0}")), root.evaluate());
+    }
+
+    @Test
+    void testMalformedExpressionThrows() {
+        assertThrows(IllegalArgumentException.class, () -> SetExpressionCompiler.compile("[1,2)∪"));
+    }
+
+    @Test
+    void testFoldedIdentitiesMatchTheSetOperations() {
+        assertSameText("{2,1}", UNION, "{2,1}");
+        assertSameText("{2,1}", INTERSECTION, "{1,2}");
+        assertSameText("[1,2]∪{5}", UNION, "[1,2]∪{5}");
+        assertSameText("{2,1}", UNION, "∅");
+        assertSameText("∅", UNION, "{2,1}");
+        assertSameText("{2,1}", INTERSECTION, "∅");
+        assertSameText("[1,3)", INTERSECTION, "(-∞,∞)");
+        assertSameText("{2,1}", INTERSECTION, "(-∞,∞)");
+        assertSameText("[1,2]", UNION, "(-∞,∞)");
+        assertSameText("{2,1}", DIFFERENCE, "∅");
+        assertSameText("∅", DIFFERENCE, "{2,1}");
+        assertSameText("[0,1]", DIFFERENCE, "[0,1]");
+    }
+
+    private void assertSameText(String left, SetSymbols operation, String right) {
+        ISet a = Set.of(left);
+        ISet b = Set.of(right);
+        ISet expected = switch (operation) {
+            case UNION -> a.union(b);
+            case INTERSECTION -> a.intersection(b);
+            default -> a.difference(b);
+        };
+        String expression = group(left) + operation + group(right);
+
+        assertEquals(expected.toString(), new SetParser().parse(expression).toString(), expression);
+    }
+
+    private String group(String operand) {
+        return operand.contains(UNION.toString()) ? "(" + operand + ")" : operand;
+    }
+}
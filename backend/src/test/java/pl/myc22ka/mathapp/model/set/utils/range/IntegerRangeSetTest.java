@@ -0,0 +1,81 @@
+package pl.myc22ka.mathapp.model.set.utils.range;
+
+import org.junit.jupiter.api.Test;
+import org.matheclipse.core.expression.F;
+import pl.myc22ka.mathapp.model.set.Set;
+import pl.myc22ka.mathapp.model.set.sets.Finite;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntegerRangeSetTest {
+
+    @Test
+    void testValuesAreCompressedIntoRuns() {
+        IntegerRangeSet set = IntegerRangeSet.of(8, 1, 3, 2, 7, 2);
+
+        assertEquals(List.of(IntegerRange.of(1, 3), IntegerRange.of(7, 8)), set.ranges());
+        assertEquals(5, set.size());
+        assertTrue(set.contains(2));
+        assertFalse(set.contains(5));
+    }
+
+    @Test
+    void testMergeOperations() {
+        IntegerRangeSet a = IntegerRangeSet.ofRanges(List.of(IntegerRange.of(1, 10)));
+        IntegerRangeSet b = IntegerRangeSet.of(0, 3, 4, 6, 7, 12);
+
+        assertEquals(IntegerRangeSet.ofRanges(List.of(IntegerRange.of(0, 10))).union(IntegerRangeSet.of(12)), a.union(b));
+        assertEquals(IntegerRangeSet.of(3, 4, 6, 7), a.intersection(b));
+        assertEquals(IntegerRangeSet.of(1, 2, 5, 8, 9, 10), a.difference(b));
+    }
+
+    @Test
+    void testSteppedRangeIsExpanded() {
+        IntegerRangeSet set = IntegerRangeSet.ofRanges(List.of(new IntegerRange(0, 9, 3)));
+
+        assertEquals(IntegerRangeSet.of(0, 3, 6, 9), set);
+    }
+
+    @Test
+    void testLargeFiniteSetsOperateWithoutSymja() {
+        var all = Set.of("{" + String.join(",", IntStream.rangeClosed(1, 500).mapToObj(Integer::toString).toList()) + "}");
+        var even = Set.of("{" + String.join(",", IntStream.rangeClosed(1, 250).mapToObj(i -> Integer.toString(2 * i)).toList()) + "}");
+
+        assertEquals(250, all.difference(even).size());
+        assertTrue(all.contains("499"));
+        assertFalse(all.difference(even).contains("250"));
+    }
+
+    @Test
+    void testRunsAtLongLimitsDoNotOverflow() {
+        IntegerRangeSet all = IntegerRangeSet.ofRanges(List.of(IntegerRange.of(Long.MIN_VALUE, Long.MAX_VALUE)));
+
+        assertEquals(Long.MAX_VALUE, all.size());
+        assertEquals(all, all.union(IntegerRangeSet.of(Long.MAX_VALUE)));
+        assertEquals(IntegerRangeSet.of(Long.MAX_VALUE), all.difference(IntegerRangeSet.ofRanges(List.of(IntegerRange.of(Long.MIN_VALUE, Long.MAX_VALUE - 1)))));
+        assertFalse(all.difference(IntegerRangeSet.of(0)).contains(0));
+        assertTrue(all.difference(IntegerRangeSet.of(0)).contains(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testListingIsLimited() {
+        IntegerRangeSet set = IntegerRangeSet.ofRanges(List.of(IntegerRange.of(0, IntegerRangeSet.EXPANSION_LIMIT)));
+
+        assertThrows(IllegalArgumentException.class, set::toList);
+    }
+
+    @Test
+    void testSteppedFiniteStaysCompact() {
+        Finite stepped = new Finite(F.ZZ(1), F.ZZ(1_000_000_000_000L), F.ZZ(3));
+
+        assertFalse(stepped.isEmpty());
+        assertTrue(stepped.contains("999999999997"));
+        assertFalse(stepped.contains("999999999998"));
+        assertThrows(IllegalStateException.class, stepped::size);
+        assertEquals(Set.of("{1,4,7}"), new Finite(F.ZZ(1), F.ZZ(8), F.ZZ(3)));
+        assertEquals("{1,4,7}", new Finite(F.ZZ(1), F.ZZ(8), F.ZZ(3)).toString());
+    }
+}
@@ -0,0 +1,100 @@
+package pl.myc22ka.mathapp.model.set.utils.segment;
+
+import org.junit.jupiter.api.Test;
+import org.matheclipse.core.expression.F;
+import pl.myc22ka.mathapp.model.set.sets.Interval;
+import pl.myc22ka.mathapp.model.set.utils.range.IntegerRangeSet;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static pl.myc22ka.mathapp.model.set.sets.BoundType.CLOSED;
+import static pl.myc22ka.mathapp.model.set.sets.BoundType.OPEN;
+
+class SegmentSetTest {
+
+    private SegmentSet segment(int start, boolean leftClosed, boolean rightClosed, int end) {
+        return SegmentSet.of(Segment.of(F.ZZ(start), leftClosed ? CLOSED : OPEN, rightClosed ? CLOSED : OPEN, F.ZZ(end)));
+    }
+
+    @Test
+    void testUnionMergesTouchingSegments() {
+        var result = segment(0, true, false, 2).union(segment(2, true, true, 5));
+
+        assertEquals("[0,5]", new Interval(result).toString());
+    }
+
+    @Test
+    void testUnionKeepsGapBetweenOpenBounds() {
+        var result = segment(0, true, false, 2).union(segment(2, false, true, 5));
+
+        assertEquals("[0,2)∪(2,5]", new Interval(result).toString());
+    }
+
+    @Test
+    void testIntersectionOfOverlappingSegments() {
+        var result = segment(0, true, true, 4).intersection(segment(2, false, true, 6));
+
+        assertEquals("(2,4]", new Interval(result).toString());
+    }
+
+    @Test
+    void testIntersectionOfClosedEndpointsIsPoint() {
+        var result = segment(0, true, true, 2).intersection(segment(2, true, true, 4));
+
+        assertTrue(result.isPointsOnly());
+        assertEquals("{2}", new Interval(result).toString());
+    }
+
+    @Test
+    void testDifferenceSplitsSegment() {
+        var result = segment(0, true, true, 10).difference(segment(3, true, false, 5));
+
+        assertEquals("[0,3)∪[5,10]", new Interval(result).toString());
+    }
+
+    @Test
+    void testComplementOfEmptyIsReal() {
+        assertTrue(SegmentSet.empty().complement().isReal());
+        assertEquals(SegmentSet.of(Segment.of(F.CNInfinity, OPEN, OPEN, F.CInfinity)), SegmentSet.empty().complement());
+        assertTrue(SegmentSet.empty().complement().complement().isEmpty());
+    }
+
+    @Test
+    void testPointsAreSortedAndDeduplicated() {
+        var points = SegmentSet.ofPoints(List.of(F.ZZ(3), F.QQ(1, 2), F.ZZ(3), F.ZZ(-1)));
+
+        assertEquals(SegmentSet.of(List.of(Segment.point(F.ZZ(-1)), Segment.point(F.QQ(1, 2)), Segment.point(F.ZZ(3)))), points);
+    }
+
+    @Test
+    void testIntegerPointsMatchSortedPoints() {
+        var integers = SegmentSet.ofIntegers(IntegerRangeSet.of(5, 1, 2, 3));
+
+        assertEquals(SegmentSet.ofPoints(List.of(F.ZZ(1), F.ZZ(2), F.ZZ(3), F.ZZ(5))), integers);
+    }
+
+    @Test
+    void testContainsUsesBounds() {
+        var set = SegmentSet.of(List.of(
+                Segment.of(F.ZZ(4), CLOSED, OPEN, F.ZZ(7)),
+                Segment.of(F.ZZ(-1), CLOSED, OPEN, F.ZZ(3))
+        ));
+
+        assertTrue(set.contains(F.ZZ(-1)));
+        assertFalse(set.contains(F.ZZ(3)));
+        assertFalse(set.contains(F.QQ(7, 2)));
+        assertTrue(set.contains(F.ZZ(4)));
+        assertFalse(set.contains(F.ZZ(7)));
+    }
+
+    @Test
+    void testIrrationalEndpointsAreOrdered() {
+        var result = SegmentSet.of(Segment.of(F.Sqrt(F.C2), CLOSED, CLOSED, F.ZZ(3)))
+                .union(segment(0, true, false, 1));
+
+        assertEquals(2, result.segments().size());
+        assertTrue(result.contains(F.ZZ(2)));
+        assertFalse(result.contains(F.ZZ(1)));
+    }
+}
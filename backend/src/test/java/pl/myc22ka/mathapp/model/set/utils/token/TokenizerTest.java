@@ -0,0 +1,41 @@
+package pl.myc22ka.mathapp.model.set.utils.token;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TokenizerTest {
+
+    @Test
+    void testIntervalsAndParenthesesAreSeparated() {
+        List<Token> tokens = Tokenizer.tokenize("([1,2)∪(3,4])∖{5}");
+
+        assertEquals(List.of("(", "[1,2)", "∪", "(3,4]", ")", "∖", "{5}"),
+                tokens.stream().map(Token::value).toList());
+        assertEquals(List.of(TokenType.LEFT_PAREN, TokenType.OPERAND, TokenType.OPERATOR, TokenType.OPERAND,
+                        TokenType.RIGHT_PAREN, TokenType.OPERATOR, TokenType.OPERAND),
+                tokens.stream().map(Token::type).toList());
+    }
+
+    @Test
+    void testTokensCarrySourceOffsets() {
+        String expression = "(1,2)∩{3}";
+        List<Token> tokens = Tokenizer.tokenize(expression);
+
+        for (Token token : tokens) {
+            assertEquals(token.value(), expression.substring(token.start(), token.end()));
+        }
+    }
+
+    @Test
+    void testManyIntervalsAreTokenized() {
+        StringBuilder expression = new StringBuilder("[0,1]");
+        for (int i = 1; i < 200; i++) {
+            expression.append("∪[").append(2 * i).append(",").append(2 * i + 1).append(")");
+        }
+
+        assertEquals(399, Tokenizer.tokenize(expression.toString()).size());
+    }
+}
@@ -10,6 +10,7 @@ import pl.myc22ka.mathapp.utils.resolver.dto.TemplateString;
 import pl.myc22ka.mathapp.model.expression.ExpressionFactory;
 import pl.myc22ka.mathapp.model.expression.TemplatePrefix;
 import pl.myc22ka.mathapp.model.set.ISet;
+import pl.myc22ka.mathapp.step.model.StepContext;
 import pl.myc22ka.mathapp.step.model.StepWrapper;
 import pl.myc22ka.mathapp.step.repository.StepDefinitionRepository;
 
@@ -43,7 +44,7 @@ class StepExecutionHelperTest {
         ContextRecord rec = new ContextRecord(new TemplateString("s1", TemplatePrefix.SET), "{1,2}");
         List<ContextRecord> context = List.of(rec);
 
-        List<ISet> result = helper.getSetsFromContext(step, context);
+        List<ISet> result = helper.getSetsFromContext(step, StepContext.of(context));
 
         assertThat(result).isEmpty();
         verifyNoInteractions(expressionFactory);
@@ -65,7 +66,7 @@ class StepExecutionHelperTest {
         when(expressionFactory.parse(rec2)).thenReturn(set2);
 
         // when
-        List<ISet> result = helper.getSetsFromContext(step, context);
+        List<ISet> result = helper.getSetsFromContext(step, StepContext.of(context));
 
         // then
         assertThat(result).containsExactlyInAnyOrder(set1, set2);
@@ -0,0 +1,133 @@
+package pl.myc22ka.mathapp.step.component.program;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import pl.myc22ka.mathapp.model.expression.ExpressionFactory;
+import pl.myc22ka.mathapp.model.expression.TemplatePrefix;
+import pl.myc22ka.mathapp.step.component.helper.StepExecutionHelper;
+import pl.myc22ka.mathapp.step.component.steps.sets.Difference;
+import pl.myc22ka.mathapp.step.component.steps.sets.Intersection;
+import pl.myc22ka.mathapp.step.component.steps.sets.Union;
+import pl.myc22ka.mathapp.step.model.StepContext;
+import pl.myc22ka.mathapp.step.model.StepDefinition;
+import pl.myc22ka.mathapp.step.model.StepType;
+import pl.myc22ka.mathapp.step.model.StepWrapper;
+import pl.myc22ka.mathapp.step.service.StepExecutorRegistry;
+import pl.myc22ka.mathapp.utils.resolver.dto.ContextRecord;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class StepProgramCompilerTest {
+
+    private final ExpressionFactory expressionFactory = new ExpressionFactory();
+    private StepExecutorRegistry registry;
+    private StepProgramCompiler compiler;
+
+    @BeforeEach
+    void setUp() {
+        StepExecutionHelper helper = new StepExecutionHelper(expressionFactory, null);
+        registry = new StepExecutorRegistry(List.of(new Union(helper), new Intersection(helper), new Difference(helper)), helper);
+        compiler = new StepProgramCompiler(registry);
+    }
+
+    @Test
+    void shouldMatchStepByStepExecution() {
+        List<StepWrapper> steps = List.of(
+                step(1L, StepType.SET_UNION, "s1", "s2"),
+                step(2L, StepType.SET_INTERSECTION, "context1", "s3"),
+                step(3L, StepType.SET_DIFFERENCE, "context2", "s1")
+        );
+        List<ContextRecord> context = List.of(
+                record("s1", "{1,2,3}"),
+                record("s2", "{3,4}"),
+                record("s3", "{2,3,4,5}")
+        );
+
+        StepContext sequential = StepContext.of(context);
+        for (StepWrapper step : steps) {
+            registry.executeStep(step, sequential);
+        }
+
+        StepProgram program = compiler.compile(steps);
+
+        assertThat(program.inputKeys()).containsExactly("s1", "s2", "s3");
+        assertThat(program.run(StepContext.of(context), expressionFactory).text()).isEqualTo(sequential.last().text());
+        assertThat(sequential.lastKey()).isEqualTo("context3");
+    }
+
+    @Test
+    void shouldRunIndependentStepsConcurrently() {
+        List<StepWrapper> steps = List.of(
+                step(1L, StepType.SET_UNION, "s1", "s2"),
+                step(2L, StepType.SET_INTERSECTION, "s3", "s4"),
+                step(3L, StepType.SET_DIFFERENCE, "context1", "context2")
+        );
+        StepContext context = StepContext.of(List.of(
+                record("s1", "{1,2,3}"),
+                record("s2", "{3,4}"),
+                record("s3", "{2,3,4,5}"),
+                record("s4", "{4,5,6}")
+        ));
+
+        StepProgram program = compiler.compile(steps);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            assertThat(program.depth()).isEqualTo(2);
+            assertThat(program.isParallel()).isTrue();
+            assertThat(program.run(context, expressionFactory, executor).text())
+                    .isEqualTo(program.run(context, expressionFactory).text());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldThrowFailureOfFirstStepWhenRunConcurrently() {
+        List<StepWrapper> steps = List.of(
+                step(1L, StepType.SET_UNION, "s1"),
+                step(2L, StepType.SET_INTERSECTION, "s1", "s2", "s1"),
+                step(3L, StepType.SET_DIFFERENCE, "context1", "context2")
+        );
+        StepContext context = StepContext.of(List.of(record("s1", "{1}"), record("s2", "{2}")));
+
+        StepProgram program = compiler.compile(steps);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            String expected = catchThrowable(() -> program.run(context, expressionFactory)).getMessage();
+
+            assertThatThrownBy(() -> program.run(context, expressionFactory, executor))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage(expected)
+                    .hasMessageEndingWith("Found: 1");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldDetectChangedSteps() {
+        StepProgram program = compiler.compile(List.of(step(1L, StepType.SET_UNION, "s1", "s2")));
+
+        assertThat(program.matches(List.of(step(1L, StepType.SET_UNION, "s1", "s2")))).isTrue();
+        assertThat(program.matches(List.of(step(2L, StepType.SET_UNION, "s1", "s2")))).isFalse();
+        assertThat(program.matches(List.of())).isFalse();
+    }
+
+    private static StepWrapper step(Long id, StepType type, String... prefixes) {
+        return StepWrapper.builder()
+                .id(id)
+                .stepDefinition(StepDefinition.builder().stepType(type).stepText(type.name()).build())
+                .prefixes(List.of(prefixes))
+                .build();
+    }
+
+    private static ContextRecord record(String key, String value) {
+        return new ContextRecord(key, TemplatePrefix.SET, value);
+    }
+}
@@ -0,0 +1,164 @@
+package pl.myc22ka.mathapp.step.component.steps.functions;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.matheclipse.core.expression.F;
+import pl.myc22ka.mathapp.model.expression.ExpressionFactory;
+import pl.myc22ka.mathapp.model.expression.MathExpression;
+import pl.myc22ka.mathapp.model.expression.TemplatePrefix;
+import pl.myc22ka.mathapp.model.function.Function;
+import pl.myc22ka.mathapp.model.set.sets.Finite;
+import pl.myc22ka.mathapp.step.component.helper.StepExecutionHelper;
+import pl.myc22ka.mathapp.step.model.StepValue;
+import pl.myc22ka.mathapp.utils.resolver.dto.ContextRecord;
+import pl.myc22ka.mathapp.utils.resolver.dto.TemplateString;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the function steps and {@link FunctionStepCache}.
+ *
+ * @author Myc22Ka
+ * @version 1.0.1
+ * @since 18.10.2026
+ */
+class FunctionStepsTest {
+
+    private StepExecutionHelper helper;
+    private FunctionStepCache cache;
+
+    /**
+     * Initializes the helper and an empty cache before each test.
+     */
+    @BeforeEach
+    void setUp() {
+        helper = new StepExecutionHelper(new ExpressionFactory(), null);
+        cache = new FunctionStepCache(16);
+    }
+
+    /**
+     * Test that the derivative of the same function parsed twice is computed once.
+     */
+    @Test
+    void shouldReuseDerivativeOfSameFunction() {
+        Derivative derivative = new Derivative(helper, cache);
+
+        StepValue first = derivative.execute(List.of(new Function("x^2")));
+        StepValue second = derivative.execute(List.of(new Function("x^2")));
+
+        assertSame(first, second);
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+        assertEquals(TemplatePrefix.FUNCTION, first.prefix());
+        assertTrue(first.expression().equals(new Function("2*x")));
+    }
+
+    /**
+     * Test composing two polynomials.
+     */
+    @Test
+    void shouldComposePolynomials() {
+        StepValue result = new Composition(helper, cache)
+                .execute(List.of(new Function("x^2"), new Function("x+1")));
+
+        assertTrue(result.expression().equals(new Function("x^2+2*x+1")));
+    }
+
+    /**
+     * Test computing the value of a function at a constant point.
+     */
+    @Test
+    void shouldComputeValueAtPoint() {
+        StepValue result = new ValueAtPoint(helper, cache)
+                .execute(List.of(new Function("x^2+1"), new Function("3")));
+
+        assertTrue(result.expression().equals(new Function("10")));
+    }
+
+    /**
+     * Test rejecting a point that is not a constant.
+     */
+    @Test
+    void shouldRejectNonConstantPoint() {
+        ValueAtPoint valueAtPoint = new ValueAtPoint(helper, cache);
+        List<MathExpression> operands = List.of(new Function("x^2"), new Function("x"));
+
+        assertThrows(IllegalArgumentException.class, () -> valueAtPoint.execute(operands));
+    }
+
+    /**
+     * Test rejecting a step with a wrong number of functions.
+     */
+    @Test
+    void shouldRejectWrongNumberOfFunctions() {
+        Composition composition = new Composition(helper, cache);
+        List<MathExpression> operands = List.of(new Function("x^2"));
+
+        assertThrows(IllegalArgumentException.class, () -> composition.execute(operands));
+    }
+
+    /**
+     * Test that the real roots are returned as a finite set.
+     */
+    @Test
+    void shouldReturnRootsAsFiniteSet() {
+        StepValue result = new Roots(helper, cache).execute(List.of(new Function("x^2-1")));
+
+        assertEquals(TemplatePrefix.SET, result.prefix());
+        assertEquals(Finite.of(List.of(F.CN1, F.C1)), result.expression());
+    }
+
+    /**
+     * Test that the domain of a function of another variable is written in x.
+     */
+    @Test
+    void shouldWriteDomainInX() {
+        Domain domain = new Domain(helper, cache);
+
+        StepValue inX = domain.execute(List.of(new Function("1/x")));
+        StepValue inY = domain.execute(List.of(new Function("1/y")));
+
+        assertEquals(TemplatePrefix.SET, inY.prefix());
+        assertEquals(inX.text(), inY.text());
+        assertFalse(inY.text().contains("y"));
+    }
+
+    /**
+     * Test that the derivative of the integral is the integrated function and the variable is kept.
+     */
+    @Test
+    void shouldIntegrateInTheFunctionVariable() {
+        StepValue result = new Integral(helper, cache).execute(List.of(new Function("2*y")));
+        Function integral = (Function) result.expression();
+
+        assertEquals("y", integral.getVariable().toString());
+        assertTrue(new Function(integral.getDerivative()).equals(new Function("2*y")));
+    }
+
+    /**
+     * Test that functions of different variables are not equal.
+     */
+    @Test
+    void shouldNotEqualSameExpressionInOtherVariable() {
+        assertFalse(new Function("x^2").equals(new Function("y^2")));
+        assertTrue(new Function("y^2").equals(new Function("y^2")));
+    }
+
+    /**
+     * Test that function values are parsed through the expression factory without sharing instances.
+     */
+    @Test
+    void shouldParseFunctionsWithoutSharingInstances() {
+        ExpressionFactory factory = new ExpressionFactory();
+        ContextRecord record = new ContextRecord(new TemplateString("f1", TemplatePrefix.FUNCTION), "x^2 + 1");
+
+        MathExpression first = factory.parse(record);
+        MathExpression second = factory.parse(record);
+
+        assertInstanceOf(Function.class, first);
+        assertNotSame(first, second);
+        assertTrue(first.equals(new Function("x^2+1")));
+    }
+}
@@ -6,17 +6,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import pl.myc22ka.mathapp.utils.resolver.dto.ContextRecord;
+import pl.myc22ka.mathapp.model.expression.MathExpression;
+import pl.myc22ka.mathapp.model.expression.TemplatePrefix;
 import pl.myc22ka.mathapp.model.set.ISet;
 import pl.myc22ka.mathapp.model.set.sets.Interval;
 import pl.myc22ka.mathapp.step.component.helper.StepExecutionHelper;
-import pl.myc22ka.mathapp.step.model.StepWrapper;
+import pl.myc22ka.mathapp.step.model.StepValue;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 /**
@@ -24,7 +23,7 @@ import static org.mockito.Mockito.when;
  * Tests execution of the step for finding all integers in an interval.
  *
  * @author Myc22Ka
- * @version 1.0.0
+ * @version 1.0.2
  * @see FindAllIntegers
  * @since 30.09.2025
  */
@@ -37,16 +36,14 @@ class FindAllIntegersTest {
     @InjectMocks
     private FindAllIntegers findAllIntegers;
 
-    private StepWrapper step;
-    private List<ContextRecord> context;
+    private List<MathExpression> operands;
 
     /**
      * Initializes test data before each test.
      */
     @BeforeEach
     void setUp() {
-        step = mock(StepWrapper.class);
-        context = new ArrayList<>();
+        operands = List.of();
     }
 
     /**
@@ -57,14 +54,12 @@ class FindAllIntegersTest {
         Interval interval = new Interval("IntervalData({1,LessEqual,Less,5})"); // [1,5)
         List<ISet> sets = List.of(interval);
 
-        when(helper.getSetsFromContext(step, context)).thenReturn(sets);
-        when(helper.nextContextKey(context)).thenReturn("result");
+        when(helper.getSets(operands)).thenReturn(sets);
 
-        findAllIntegers.execute(step, context);
+        StepValue result = findAllIntegers.execute(operands);
 
-        assertFalse(context.isEmpty());
-        assertEquals("result", context.getFirst().key().templateString());
-        assertEquals("{1,2,3,4}", context.getFirst().value());
+        assertNotNull(result.expression());
+        assertEquals("{1,2,3,4}", result.text());
     }
 
     /**
@@ -76,29 +71,28 @@ class FindAllIntegersTest {
         Interval interval = new Interval("IntervalData({1,LessEqual,Less,Infinity})"); // [1, ∞)
         List<ISet> sets = List.of(interval);
 
-        when(helper.getSetsFromContext(step, context)).thenReturn(sets);
+        when(helper.getSets(operands)).thenReturn(sets);
 
         IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
-                () -> findAllIntegers.execute(step, context));
+                () -> findAllIntegers.execute(operands));
 
         assertTrue(ex.getMessage().contains("Cannot find all integers in a range with infinity"));
     }
 
     /**
-     * Test that executing adds a new prefix value with all integers in the interval.
+     * Test that executing returns a set value with all integers in the interval.
      */
     @Test
-    void testExecuteAddsNewPrefixValue() {
+    void testExecuteReturnsSetValue() {
         Interval interval = new Interval("IntervalData({3,LessEqual,LessEqual,7})"); // [3,7]
         List<ISet> sets = List.of(interval);
 
-        when(helper.getSetsFromContext(step, context)).thenReturn(sets);
-        when(helper.nextContextKey(context)).thenReturn("ints");
+        when(helper.getSets(operands)).thenReturn(sets);
 
-        findAllIntegers.execute(step, context);
+        StepValue result = findAllIntegers.execute(operands);
 
-        assertEquals(1, context.size());
-        assertEquals("ints", context.getFirst().key().templateString());
-        assertEquals("{3,4,5,6,7}", context.getFirst().value());
+        assertEquals(TemplatePrefix.SET, result.prefix());
+        assertEquals("{3,4,5,6,7}", result.text());
+        assertEquals("{3,4,5,6,7}", result.toRecord("ints").value());
     }
 }
@@ -0,0 +1,41 @@
+package pl.myc22ka.mathapp.step.model;
+
+import org.junit.jupiter.api.Test;
+import pl.myc22ka.mathapp.model.expression.ExpressionFactory;
+import pl.myc22ka.mathapp.model.expression.MathExpression;
+import pl.myc22ka.mathapp.model.expression.TemplatePrefix;
+import pl.myc22ka.mathapp.utils.resolver.dto.ContextRecord;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StepContextTest {
+
+    @Test
+    void shouldContinueResultKeysAfterExistingOnes() {
+        StepContext context = StepContext.of(List.of(
+                new ContextRecord("s1", TemplatePrefix.SET, "{1}"),
+                new ContextRecord("context7", TemplatePrefix.SET, "{2}"),
+                new ContextRecord("contextX", TemplatePrefix.SET, "{3}")
+        ));
+
+        assertThat(context.add(StepValue.of(TemplatePrefix.SET, "{4}"))).isEqualTo("context8");
+        assertThat(context.add(StepValue.of(TemplatePrefix.SET, "{5}"))).isEqualTo("context9");
+        assertThat(context.lastKey()).isEqualTo("context9");
+        assertThat(context.size()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldParseValueOnce() {
+        StepContext context = StepContext.of(List.of(new ContextRecord("s1", TemplatePrefix.SET, "{1,2}")));
+        ExpressionFactory factory = new ExpressionFactory();
+
+        MathExpression first = context.expression("s1", factory);
+
+        assertThat(first).isNotNull();
+        assertThat(context.expression("s1", factory)).isSameAs(first);
+        assertThat(context.expression("s2", factory)).isNull();
+        assertThat(context.toRecords()).extracting(ContextRecord::value).containsExactly("{1,2}");
+    }
+}